@@ -0,0 +1,36 @@
+package com.example.myaccountsystem;
+
+import com.example.myaccountsystem.support.InProcessRedisServer;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+/**
+ * 벤치마크용 애플리케이션 컨텍스트. 웹 서버 없이 H2 와 인프로세스 Redis 대역으로 기동한다.
+ */
+public final class BenchmarkApplication {
+
+    private BenchmarkApplication() {
+    }
+
+    public static ConfigurableApplicationContext start(
+            InProcessRedisServer redisServer,
+            String databaseName,
+            String... properties
+    ) {
+        return new SpringApplicationBuilder(MyAccountSystemApplication.class)
+                .web(WebApplicationType.NONE)
+                .logStartupInfo(false)
+                .properties(
+                        "spring.datasource.url=jdbc:h2:mem:" + databaseName + ";LOCK_TIMEOUT=10000",
+                        "spring.jpa.show-sql=false",
+                        "spring.jpa.properties.hibernate.format_sql=false",
+                        "spring.data.redis.host=" + redisServer.getHost(),
+                        "spring.data.redis.port=" + redisServer.getPort(),
+                        "account.outbox.relay.enabled=false",
+                        "logging.level.root=WARN"
+                )
+                .properties(properties)
+                .run();
+    }
+}
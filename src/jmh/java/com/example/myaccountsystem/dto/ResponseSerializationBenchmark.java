@@ -0,0 +1,99 @@
+package com.example.myaccountsystem.dto;
+
+import com.example.myaccountsystem.type.ErrorCode;
+import com.example.myaccountsystem.type.TransactionResultType;
+import com.example.myaccountsystem.type.TransactionType;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+/**
+ * 응답 DTO 의 JSON 직렬화 비용을 측정한다. ObjectMapper 는 Spring MVC 와 같은 빌더로 만든다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ResponseSerializationBenchmark {
+    private ObjectMapper objectMapper;
+    private UseBalanceResponse useBalanceResponse;
+    private CancelBalanceResponse cancelBalanceResponse;
+    private GetTransactionResponse getTransactionResponse;
+    private GetAccountsResponse getAccountsResponse;
+    private ErrorResponse errorResponse;
+
+    @Setup
+    public void setUp() {
+        objectMapper = Jackson2ObjectMapperBuilder.json().build();
+        LocalDateTime now = LocalDateTime.now();
+
+        useBalanceResponse = UseBalanceResponse.builder()
+                .accountNumber("1234567890")
+                .transactionResult(TransactionResultType.SUCCESS)
+                .transactionId(1L)
+                .amount(1000L)
+                .transactedAt(now)
+                .build();
+        cancelBalanceResponse = CancelBalanceResponse.builder()
+                .accountNumber("1234567890")
+                .transactionResult(TransactionResultType.SUCCESS)
+                .transactionId(2L)
+                .amount(1000L)
+                .transactedAt(now)
+                .build();
+        getTransactionResponse = GetTransactionResponse.builder()
+                .accountNumber("1234567890")
+                .transactionType(TransactionType.USE)
+                .transactionResult(TransactionResultType.SUCCESS)
+                .transactionId(1L)
+                .amount(1000L)
+                .transactedAt(now)
+                .build();
+        getAccountsResponse = GetAccountsResponse.builder()
+                .userId("user1")
+                .accounts(IntStream.range(0, 10)
+                        .mapToObj(i -> GetAccountsResponse.AccountDto.builder()
+                                .accountNumber(String.format("%010d", i))
+                                .balance(1000L * i)
+                                .build())
+                        .toList())
+                .build();
+        errorResponse = ErrorResponse.builder()
+                .errorCode(ErrorCode.AMOUNT_EXCEED_BALANCE.name())
+                .errorMessage(ErrorCode.AMOUNT_EXCEED_BALANCE.getDescription())
+                .build();
+    }
+
+    @Benchmark
+    public byte[] useBalanceResponse() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(useBalanceResponse);
+    }
+
+    @Benchmark
+    public byte[] cancelBalanceResponse() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(cancelBalanceResponse);
+    }
+
+    @Benchmark
+    public byte[] getTransactionResponse() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(getTransactionResponse);
+    }
+
+    @Benchmark
+    public byte[] getAccountsResponse() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(getAccountsResponse);
+    }
+
+    @Benchmark
+    public byte[] errorResponse() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(errorResponse);
+    }
+}
@@ -0,0 +1,73 @@
+package com.example.myaccountsystem.exception;
+
+import com.example.myaccountsystem.dto.ErrorResponse;
+import com.example.myaccountsystem.type.ErrorCode;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 잔액 부족 거절 경로(예외 생성 → 처리 → 응답 생성)의 처리량을 측정한다.
+ * legacy 는 스택 트레이스 수집, 매번 응답 생성, 매 건 로그 메시지 포맷팅을 하던 이전 방식을 재현한다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RejectionPathBenchmark {
+
+    @Param({"legacy", "optimized"})
+    private String mode;
+
+    // 컨트롤러 → 서비스 → 리포지토리 호출 깊이를 흉내 낸다.
+    @Param({"64"})
+    private int callDepth;
+
+    private GlobalExceptionHandler handler;
+
+    @Setup
+    public void setUp() {
+        handler = new GlobalExceptionHandler(false, Long.MAX_VALUE);
+        AccountException.setStackTraceEnabled("legacy".equals(mode));
+    }
+
+    @TearDown
+    public void tearDown() {
+        AccountException.setStackTraceEnabled(false);
+    }
+
+    @Benchmark
+    public void reject(Blackhole blackhole) {
+        try {
+            throwAt(callDepth);
+        } catch (AccountException e) {
+            if ("legacy".equals(mode)) {
+                blackhole.consume(String.format("Failed to use balance: %s", e.getMessage()));
+                blackhole.consume(legacyHandle(e));
+            } else {
+                blackhole.consume(handler.handleAccountException(e));
+            }
+        }
+    }
+
+    private static ResponseEntity<ErrorResponse> legacyHandle(AccountException e) {
+        ErrorResponse errorResponse = ErrorResponse.builder()
+                .errorCode(e.getErrorCode().name())
+                .errorMessage(e.getErrorCode().getDescription())
+                .build();
+
+        return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(errorResponse);
+    }
+
+    private static void throwAt(int depth) {
+        if (depth == 0) {
+            throw new AccountException(ErrorCode.AMOUNT_EXCEED_BALANCE);
+        }
+        throwAt(depth - 1);
+    }
+}
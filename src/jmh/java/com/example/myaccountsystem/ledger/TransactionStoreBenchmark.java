@@ -0,0 +1,100 @@
+package com.example.myaccountsystem.ledger;
+
+import com.example.myaccountsystem.BenchmarkApplication;
+import com.example.myaccountsystem.dto.CreateAccountRequest;
+import com.example.myaccountsystem.entity.Account;
+import com.example.myaccountsystem.entity.Transaction;
+import com.example.myaccountsystem.repository.AccountRepository;
+import com.example.myaccountsystem.repository.TransactionStore;
+import com.example.myaccountsystem.service.AccountService;
+import com.example.myaccountsystem.sharding.TransactionIdAllocator;
+import com.example.myaccountsystem.support.InProcessRedisServer;
+import com.example.myaccountsystem.type.TransactionResultType;
+import com.example.myaccountsystem.type.TransactionType;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.util.FileSystemUtils;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 거래 저장소 백엔드별 저장·단건 조회 처리량. jpa 는 H2 에 건마다 커밋하고, mapped 는 메모리 매핑 원장에 덧붙인다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TransactionStoreBenchmark {
+    private static final String USER_ID = "user1";
+    private static final int PRELOADED_TRANSACTIONS = 10_000;
+    private static final long AMOUNT = 10L;
+
+    @Param({"jpa", "mapped"})
+    public String backend;
+
+    private InProcessRedisServer redisServer;
+    private Path ledgerDirectory;
+    private ConfigurableApplicationContext context;
+    private TransactionStore transactionStore;
+    private TransactionIdAllocator transactionIdAllocator;
+    private Account account;
+    private long[] preloadedIds;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        redisServer = InProcessRedisServer.start();
+        ledgerDirectory = Files.createTempDirectory("jmh-ledger");
+        context = BenchmarkApplication.start(
+                redisServer, "jmh-store-" + backend,
+                "account.ledger.backend=" + backend,
+                "account.ledger.directory=" + ledgerDirectory
+        );
+        transactionStore = context.getBean(TransactionStore.class);
+        transactionIdAllocator = context.getBean(TransactionIdAllocator.class);
+
+        String accountNumber = context.getBean(AccountService.class)
+                .createAccount(new CreateAccountRequest(USER_ID, 1_000_000L))
+                .getAccountNumber();
+        account = context.getBean(AccountRepository.class).findById(accountNumber).orElseThrow();
+
+        preloadedIds = new long[PRELOADED_TRANSACTIONS];
+        for (int i = 0; i < PRELOADED_TRANSACTIONS; i++) {
+            preloadedIds[i] = insert().getTransactionId();
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        context.close();
+        redisServer.close();
+        FileSystemUtils.deleteRecursively(ledgerDirectory);
+    }
+
+    @Benchmark
+    public Transaction insert() {
+        LocalDateTime transactedAt = LocalDateTime.now();
+        return transactionStore.save(Transaction.builder()
+                .transactionId(transactionIdAllocator.next(account.getAccountNumber(), transactedAt))
+                .account(account)
+                .transactionType(TransactionType.USE)
+                .transactionResultType(TransactionResultType.SUCCESS)
+                .amount(AMOUNT)
+                .balanceSnapshot(account.getBalance())
+                .transactedAt(transactedAt)
+                .build());
+    }
+
+    @Benchmark
+    public Optional<Transaction> lookup() {
+        long transactionId = preloadedIds[ThreadLocalRandom.current().nextInt(PRELOADED_TRANSACTIONS)];
+        return transactionStore.findByTransactionId(transactionId);
+    }
+}
@@ -0,0 +1,66 @@
+package com.example.myaccountsystem.service;
+
+import com.example.myaccountsystem.BenchmarkApplication;
+import com.example.myaccountsystem.dto.CreateAccountRequest;
+import com.example.myaccountsystem.dto.CreateAccountResponse;
+import com.example.myaccountsystem.entity.User;
+import com.example.myaccountsystem.repository.UserRepository;
+import com.example.myaccountsystem.support.InProcessRedisServer;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class AccountServiceBenchmark {
+    private static final int MAX_ACCOUNTS_PER_USER = 10;
+
+    private InProcessRedisServer redisServer;
+    private ConfigurableApplicationContext context;
+    private AccountService accountService;
+    private UserRepository userRepository;
+
+    private long createdAccounts;
+    private String currentUserId;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        redisServer = InProcessRedisServer.start();
+        context = BenchmarkApplication.start(redisServer, "jmh-account");
+        accountService = context.getBean(AccountService.class);
+        userRepository = context.getBean(UserRepository.class);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        context.close();
+        redisServer.close();
+    }
+
+    @Benchmark
+    public String generateUniqueAccountNumber() {
+        return accountService.generateUniqueAccountNumber();
+    }
+
+    @Benchmark
+    public CreateAccountResponse createAccount() {
+        // 사용자당 계좌 수 제한이 있어 10건마다 새 사용자를 만든다. (사용자 저장 비용은 1/10 로 섞인다)
+        if (createdAccounts++ % MAX_ACCOUNTS_PER_USER == 0) {
+            currentUserId = "jmh-user-" + createdAccounts;
+            userRepository.save(User.builder()
+                    .userId(currentUserId)
+                    .name("벤치마크")
+                    .createdAt(LocalDateTime.now())
+                    .build());
+        }
+
+        return accountService.createAccount(new CreateAccountRequest(currentUserId, 0L));
+    }
+}
@@ -0,0 +1,78 @@
+package com.example.myaccountsystem.service;
+
+import com.example.myaccountsystem.config.LatencyProperties;
+import com.example.myaccountsystem.config.RedisConfig;
+import com.example.myaccountsystem.monitoring.LatencyRecorders;
+import com.example.myaccountsystem.monitoring.LockMetrics;
+import com.example.myaccountsystem.support.InProcessRedisServer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.RedisTemplate;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * RedisLockService 의 명령 왕복 비용을 인프로세스 Redis 대역 기준으로 측정한다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RedisLockServiceBenchmark {
+    private static final long LOCK_TIMEOUT = 3000;
+
+    private InProcessRedisServer redisServer;
+    private LettuceConnectionFactory connectionFactory;
+    private RedisLockService redisLockService;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        redisServer = InProcessRedisServer.start();
+        connectionFactory = new LettuceConnectionFactory(
+                new RedisStandaloneConfiguration(redisServer.getHost(), redisServer.getPort())
+        );
+        connectionFactory.afterPropertiesSet();
+        connectionFactory.start();
+
+        RedisTemplate<String, Object> redisTemplate = new RedisConfig().redisTemplate(connectionFactory);
+        redisTemplate.afterPropertiesSet();
+        redisLockService = new RedisLockService(
+                redisTemplate,
+                new LockMetrics(new SimpleMeterRegistry(), new LatencyRecorders(new LatencyProperties()))
+        );
+        redisLockService.acquireLock("held", TimeUnit.HOURS.toMillis(1));
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        connectionFactory.destroy();
+        redisServer.close();
+    }
+
+    @State(Scope.Thread)
+    public static class ThreadKey {
+        private final String key = "bench-" + Thread.currentThread().getId();
+    }
+
+    @Benchmark
+    public boolean acquireAndRelease(ThreadKey threadKey) {
+        boolean acquired = redisLockService.acquireLock(threadKey.key, LOCK_TIMEOUT);
+        redisLockService.releaseLock(threadKey.key);
+        return acquired;
+    }
+
+    @Benchmark
+    public boolean acquireContended() {
+        return redisLockService.acquireLock("held", LOCK_TIMEOUT);
+    }
+
+    @Benchmark
+    public boolean isLocked() {
+        return redisLockService.isLocked("held");
+    }
+}
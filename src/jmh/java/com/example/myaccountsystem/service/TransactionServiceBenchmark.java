@@ -0,0 +1,63 @@
+package com.example.myaccountsystem.service;
+
+import com.example.myaccountsystem.BenchmarkApplication;
+import com.example.myaccountsystem.dto.CancelBalanceRequest;
+import com.example.myaccountsystem.dto.CancelBalanceResponse;
+import com.example.myaccountsystem.dto.CreateAccountRequest;
+import com.example.myaccountsystem.dto.UseBalanceRequest;
+import com.example.myaccountsystem.dto.UseBalanceResponse;
+import com.example.myaccountsystem.support.InProcessRedisServer;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 잔액 사용/취소 경로(분산 락 → 비관적 락 조회 → 거래 저장 → 아웃박스)의 처리량을 H2 기준으로 측정한다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TransactionServiceBenchmark {
+    private static final String USER_ID = "user1";
+    private static final long INITIAL_BALANCE = 1_000_000_000_000L;
+    private static final long AMOUNT = 10L;
+
+    private InProcessRedisServer redisServer;
+    private ConfigurableApplicationContext context;
+    private TransactionService transactionService;
+    private String accountNumber;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        redisServer = InProcessRedisServer.start();
+        context = BenchmarkApplication.start(redisServer, "jmh-transaction");
+        transactionService = context.getBean(TransactionService.class);
+        accountNumber = context.getBean(AccountService.class)
+                .createAccount(new CreateAccountRequest(USER_ID, INITIAL_BALANCE))
+                .getAccountNumber();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        context.close();
+        redisServer.close();
+    }
+
+    @Benchmark
+    public UseBalanceResponse useBalance() {
+        return transactionService.useBalance(new UseBalanceRequest(USER_ID, accountNumber, AMOUNT));
+    }
+
+    @Benchmark
+    public CancelBalanceResponse useThenCancel() {
+        UseBalanceResponse used = useBalance();
+        return transactionService.cancelBalance(
+                new CancelBalanceRequest(used.getTransactionId(), accountNumber, AMOUNT)
+        );
+    }
+}
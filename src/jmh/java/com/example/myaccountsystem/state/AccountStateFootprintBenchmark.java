@@ -0,0 +1,83 @@
+package com.example.myaccountsystem.state;
+
+import com.example.myaccountsystem.entity.Account;
+import com.example.myaccountsystem.entity.User;
+import com.example.myaccountsystem.type.AccountStatus;
+import org.openjdk.jmh.annotations.*;
+
+import java.lang.management.ManagementFactory;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 계좌 상태를 엔티티 맵과 힙 밖 테이블에 올렸을 때의 힙 사용량과 조회 처리량.
+ * 적재 후 힙 사용량을 출력하며, GC 영향은 -prof gc 나 GC 로그로 함께 본다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xmx4g", "-XX:+UseG1GC"})
+public class AccountStateFootprintBenchmark {
+    private static final long FIRST_ACCOUNT_NUMBER = 1_000_000_000L;
+    private static final int USERS = 100_000;
+
+    @Param({"off-heap", "entity"})
+    public String storage;
+
+    @Param({"10000000"})
+    public int accounts;
+
+    private AccountStateStore store;
+    private Map<String, Account> entities;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        long before = usedHeap();
+        if ("off-heap".equals(storage)) {
+            store = new AccountStateStore(accounts);
+            for (int i = 0; i < accounts; i++) {
+                store.put(FIRST_ACCOUNT_NUMBER + i, i % USERS, AccountStatus.IN_USE);
+            }
+        } else {
+            User[] users = new User[USERS];
+            for (int i = 0; i < USERS; i++) {
+                users[i] = User.builder().userId("user" + i).build();
+            }
+            LocalDateTime createdAt = LocalDateTime.now();
+            entities = new HashMap<>(accounts * 2);
+            for (int i = 0; i < accounts; i++) {
+                String accountNumber = String.valueOf(FIRST_ACCOUNT_NUMBER + i);
+                entities.put(accountNumber, Account.builder()
+                        .accountNumber(accountNumber)
+                        .user(users[i % USERS])
+                        .balance(1_000L)
+                        .accountStatus(AccountStatus.IN_USE)
+                        .createdAt(createdAt.plusSeconds(i))
+                        .build());
+            }
+        }
+        System.out.printf("%n%s: %d accounts, heap %d MB, off-heap %d MB%n", storage, accounts,
+                (usedHeap() - before) >> 20, store != null ? store.offHeapBytes() >> 20 : 0);
+    }
+
+    @Benchmark
+    public AccountStatus statusLookup() {
+        String accountNumber = String.valueOf(FIRST_ACCOUNT_NUMBER + ThreadLocalRandom.current().nextInt(accounts));
+        if (store != null) {
+            return store.status(store.find(AccountStateStore.keyOf(accountNumber)));
+        }
+        return entities.get(accountNumber).getAccountStatus();
+    }
+
+    private static long usedHeap() {
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+        }
+        return ManagementFactory.getMemoryMXBean().getHeapMemoryUsage().getUsed();
+    }
+}
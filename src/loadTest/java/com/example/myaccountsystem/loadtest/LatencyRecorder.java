@@ -0,0 +1,61 @@
+package com.example.myaccountsystem.loadtest;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 워커 스레드 하나가 쓰는 지연시간/결과 기록. 스레드 간 공유하지 않고 실행이 끝난 뒤 합친다.
+ */
+class LatencyRecorder {
+    private long[] latenciesMicros = new long[1024];
+    private int size;
+    private final Map<String, Long> outcomes = new HashMap<>();
+
+    void record(long elapsedNanos, String outcome) {
+        if (size == latenciesMicros.length) {
+            latenciesMicros = Arrays.copyOf(latenciesMicros, size * 2);
+        }
+        latenciesMicros[size++] = elapsedNanos / 1_000;
+        outcomes.merge(outcome, 1L, Long::sum);
+    }
+
+    void merge(LatencyRecorder other) {
+        if (size + other.size > latenciesMicros.length) {
+            latenciesMicros = Arrays.copyOf(latenciesMicros, Math.max(size + other.size, latenciesMicros.length * 2));
+        }
+        System.arraycopy(other.latenciesMicros, 0, latenciesMicros, size, other.size);
+        size += other.size;
+        other.outcomes.forEach((outcome, count) -> outcomes.merge(outcome, count, Long::sum));
+    }
+
+    int count() {
+        return size;
+    }
+
+    long outcome(String outcome) {
+        return outcomes.getOrDefault(outcome, 0L);
+    }
+
+    Map<String, Long> outcomes() {
+        return outcomes;
+    }
+
+    /**
+     * 정렬된 지연시간 배열에서 백분위 값을 마이크로초 단위로 돌려준다. 합친 뒤 한 번만 호출한다.
+     */
+    long[] percentiles(double... quantiles) {
+        long[] sorted = Arrays.copyOf(latenciesMicros, size);
+        Arrays.sort(sorted);
+
+        long[] values = new long[quantiles.length];
+        for (int i = 0; i < quantiles.length; i++) {
+            if (sorted.length == 0) {
+                continue;
+            }
+            int index = (int) Math.ceil(quantiles[i] * sorted.length) - 1;
+            values[i] = sorted[Math.min(Math.max(index, 0), sorted.length - 1)];
+        }
+        return values;
+    }
+}
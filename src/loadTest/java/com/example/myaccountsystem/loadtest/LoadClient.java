@@ -0,0 +1,103 @@
+package com.example.myaccountsystem.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+class LoadClient {
+    static final String IO_ERROR = "IO_ERROR";
+
+    private final HttpClient httpClient;
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final String baseUrl;
+
+    LoadClient(int port) {
+        this.baseUrl = "http://localhost:" + port;
+        this.httpClient = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(5))
+                .build();
+    }
+
+    Response createAccount(String userId, long initialBalance) {
+        ObjectNode body = objectMapper.createObjectNode()
+                .put("userId", userId)
+                .put("initialBalance", initialBalance);
+        return post("/api/account", body);
+    }
+
+    Response useBalance(String userId, String accountNumber, long amount) {
+        ObjectNode body = objectMapper.createObjectNode()
+                .put("userId", userId)
+                .put("accountNumber", accountNumber)
+                .put("amount", amount);
+        return post("/api/transaction/use", body);
+    }
+
+    Response cancelBalance(long transactionId, String accountNumber, long amount) {
+        ObjectNode body = objectMapper.createObjectNode()
+                .put("transactionId", transactionId)
+                .put("accountNumber", accountNumber)
+                .put("amount", amount);
+        return post("/api/transaction/cancel", body);
+    }
+
+    Response getAccounts(String userId) {
+        return send(HttpRequest.newBuilder(URI.create(baseUrl + "/api/account/" + userId)).GET().build());
+    }
+
+    List<Long> balances(String userId) {
+        Response response = getAccounts(userId);
+        List<Long> balances = new ArrayList<>();
+        if (response.body() != null) {
+            response.body().path("accounts").forEach(account -> balances.add(account.path("balance").asLong()));
+        }
+        return balances;
+    }
+
+    private Response post(String path, ObjectNode body) {
+        return send(HttpRequest.newBuilder(URI.create(baseUrl + path))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(body.toString()))
+                .build());
+    }
+
+    private Response send(HttpRequest request) {
+        try {
+            HttpResponse<byte[]> response = httpClient.send(request, HttpResponse.BodyHandlers.ofByteArray());
+            JsonNode body = response.body().length == 0 ? null : objectMapper.readTree(response.body());
+            String outcome = response.statusCode() == 200
+                    ? "SUCCESS"
+                    : body == null ? "HTTP_" + response.statusCode() : body.path("errorCode").asText("HTTP_" + response.statusCode());
+            return new Response(response.statusCode(), outcome, body);
+        } catch (IOException e) {
+            return new Response(-1, IO_ERROR, null);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return new Response(-1, IO_ERROR, null);
+        }
+    }
+
+    record Response(int status, String outcome, JsonNode body) {
+        boolean isSuccess() {
+            return status == 200;
+        }
+
+        String text(String field) {
+            return body.path(field).asText();
+        }
+
+        long number(String field) {
+            return body.path(field).asLong();
+        }
+    }
+}
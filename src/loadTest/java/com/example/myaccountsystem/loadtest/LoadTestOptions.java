@@ -0,0 +1,51 @@
+package com.example.myaccountsystem.loadtest;
+
+import org.springframework.boot.convert.DurationStyle;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * 부하 테스트 옵션. {@code ./gradlew loadTest --args="--scenarios=zipf --concurrency=128"} 형태로 넘긴다.
+ */
+record LoadTestOptions(
+        List<Scenario> scenarios,
+        Duration duration,
+        Duration warmup,
+        int concurrency,
+        int accounts,
+        double zipfExponent,
+        long amount,
+        boolean rateLimitEnabled
+) {
+
+    static LoadTestOptions parse(String[] args) {
+        Map<String, String> values = new HashMap<>();
+        for (String arg : args) {
+            if (!arg.startsWith("--") || !arg.contains("=")) {
+                throw new IllegalArgumentException("Arguments must look like --name=value: " + arg);
+            }
+            int separator = arg.indexOf('=');
+            values.put(arg.substring(2, separator), arg.substring(separator + 1));
+        }
+
+        List<Scenario> scenarios = Arrays.stream(values.getOrDefault("scenarios", "uniform,zipf,mixed").split(","))
+                .map(name -> Scenario.valueOf(name.trim().toUpperCase(Locale.ROOT)))
+                .toList();
+
+        return new LoadTestOptions(
+                scenarios,
+                DurationStyle.detectAndParse(values.getOrDefault("duration", "20s")),
+                DurationStyle.detectAndParse(values.getOrDefault("warmup", "5s")),
+                Integer.parseInt(values.getOrDefault("concurrency", "64")),
+                Integer.parseInt(values.getOrDefault("accounts", "100")),
+                Double.parseDouble(values.getOrDefault("zipf-exponent", "1.1")),
+                Long.parseLong(values.getOrDefault("amount", "100")),
+                Boolean.parseBoolean(values.getOrDefault("rate-limit", "false"))
+        );
+    }
+}
@@ -0,0 +1,60 @@
+package com.example.myaccountsystem.loadtest;
+
+import com.example.myaccountsystem.MyAccountSystemApplication;
+import com.example.myaccountsystem.repository.UserRepository;
+import com.example.myaccountsystem.support.InProcessRedisServer;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+/**
+ * 애플리케이션을 H2 와 인프로세스 Redis 대역으로 띄우고 HTTP 로 부하 시나리오를 돌린다.
+ * 시나리오마다 새 계좌를 만들고, 끝나면 잔액과 원장을 대조해 정합성을 확인한다.
+ */
+public class LoadTestRunner {
+
+    public static void main(String[] args) throws Exception {
+        LoadTestOptions options = LoadTestOptions.parse(args);
+        boolean integrityOk = true;
+
+        try (InProcessRedisServer redisServer = InProcessRedisServer.start();
+             ConfigurableApplicationContext context = startApplication(redisServer, options)) {
+            int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+            LoadClient client = new LoadClient(port);
+
+            for (Scenario scenario : options.scenarios()) {
+                ScenarioRunner runner = new ScenarioRunner(
+                        client,
+                        context.getBean(UserRepository.class),
+                        context.getBean(JdbcTemplate.class),
+                        options,
+                        scenario
+                );
+                integrityOk &= runner.run(System.out);
+            }
+        }
+
+        System.exit(integrityOk ? 0 : 1);
+    }
+
+    private static ConfigurableApplicationContext startApplication(
+            InProcessRedisServer redisServer,
+            LoadTestOptions options
+    ) {
+        return new SpringApplicationBuilder(MyAccountSystemApplication.class)
+                .logStartupInfo(false)
+                .properties(
+                        "server.port=0",
+                        "spring.datasource.url=jdbc:h2:mem:load-test;LOCK_TIMEOUT=10000",
+                        "spring.jpa.show-sql=false",
+                        "spring.jpa.properties.hibernate.format_sql=false",
+                        "spring.data.redis.host=" + redisServer.getHost(),
+                        "spring.data.redis.port=" + redisServer.getPort(),
+                        "account.outbox.relay.enabled=false",
+                        "account.rate-limit.enabled=" + options.rateLimitEnabled(),
+                        "logging.level.root=WARN"
+                )
+                .run();
+    }
+}
@@ -0,0 +1,81 @@
+package com.example.myaccountsystem.loadtest;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+enum Scenario {
+    // 모든 계좌에 고르게 사용/취소
+    UNIFORM(0.0, 0.7, false),
+    // 소수의 인기 계좌에 몰리는 사용/취소
+    ZIPF(0.0, 0.7, true),
+    // 계좌 목록 조회와 사용/취소 혼합
+    MIXED(0.5, 0.35, false);
+
+    private final double readRatio;
+    private final double useRatio;
+    private final boolean skewed;
+
+    Scenario(double readRatio, double useRatio, boolean skewed) {
+        this.readRatio = readRatio;
+        this.useRatio = useRatio;
+        this.skewed = skewed;
+    }
+
+    Operation nextOperation(ThreadLocalRandom random) {
+        double value = random.nextDouble();
+        if (value < readRatio) {
+            return Operation.READ;
+        }
+        return value < readRatio + useRatio ? Operation.USE : Operation.CANCEL;
+    }
+
+    AccountSelector selector(int accounts, double zipfExponent) {
+        return skewed ? new ZipfSelector(accounts, zipfExponent) : new UniformSelector(accounts);
+    }
+
+    enum Operation {
+        USE, CANCEL, READ
+    }
+
+    interface AccountSelector {
+        int next(ThreadLocalRandom random);
+    }
+
+    record UniformSelector(int accounts) implements AccountSelector {
+        @Override
+        public int next(ThreadLocalRandom random) {
+            return random.nextInt(accounts);
+        }
+    }
+
+    static final class ZipfSelector implements AccountSelector {
+        private final double[] cumulative;
+
+        ZipfSelector(int accounts, double exponent) {
+            cumulative = new double[accounts];
+            double sum = 0;
+            for (int rank = 1; rank <= accounts; rank++) {
+                sum += 1.0 / Math.pow(rank, exponent);
+                cumulative[rank - 1] = sum;
+            }
+            for (int i = 0; i < accounts; i++) {
+                cumulative[i] /= sum;
+            }
+        }
+
+        @Override
+        public int next(ThreadLocalRandom random) {
+            double value = random.nextDouble();
+            int low = 0;
+            int high = cumulative.length - 1;
+            while (low < high) {
+                int mid = (low + high) >>> 1;
+                if (cumulative[mid] < value) {
+                    low = mid + 1;
+                } else {
+                    high = mid;
+                }
+            }
+            return low;
+        }
+    }
+}
@@ -0,0 +1,209 @@
+package com.example.myaccountsystem.loadtest;
+
+import com.example.myaccountsystem.entity.User;
+import com.example.myaccountsystem.loadtest.Scenario.AccountSelector;
+import com.example.myaccountsystem.loadtest.Scenario.Operation;
+import com.example.myaccountsystem.repository.UserRepository;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.io.PrintStream;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicLong;
+
+class ScenarioRunner {
+    private static final long INITIAL_BALANCE = 1_000_000_000L;
+    private static final int ACCOUNTS_PER_USER = 10;
+    private static final String LOCK_REJECTION = "ACCOUNT_TRANSACTION_LOCK";
+    private static final Set<String> RETRYABLE_OUTCOMES = Set.of(
+            LOCK_REJECTION, "ACCOUNT_QUEUE_FULL", "SERVER_OVERLOADED", "TOO_MANY_REQUESTS"
+    );
+
+    private static final String LEDGER_DELTA_SQL = "select coalesce(sum(case "
+            + "when transaction_type = 'USE' then -amount "
+            + "when transaction_type = 'CANCEL' then amount else 0 end), 0) "
+            + "from transaction where account_account_number = ? and transaction_result_type = 'SUCCESS'";
+
+    private final LoadClient client;
+    private final UserRepository userRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final LoadTestOptions options;
+    private final Scenario scenario;
+
+    ScenarioRunner(
+            LoadClient client,
+            UserRepository userRepository,
+            JdbcTemplate jdbcTemplate,
+            LoadTestOptions options,
+            Scenario scenario
+    ) {
+        this.client = client;
+        this.userRepository = userRepository;
+        this.jdbcTemplate = jdbcTemplate;
+        this.options = options;
+        this.scenario = scenario;
+    }
+
+    boolean run(PrintStream out) throws InterruptedException, ExecutionException {
+        List<LoadAccount> accounts = prepareAccounts();
+        AccountSelector selector = scenario.selector(accounts.size(), options.zipfExponent());
+
+        long start = System.nanoTime();
+        long measureFrom = start + options.warmup().toNanos();
+        long deadline = measureFrom + options.duration().toNanos();
+
+        // JDK 17 에는 가상 스레드가 없으므로 동시 사용자 수만큼 플랫폼 스레드를 둔다.
+        ExecutorService workers = Executors.newFixedThreadPool(options.concurrency());
+        List<Future<Map<Operation, LatencyRecorder>>> futures = new ArrayList<>();
+        for (int i = 0; i < options.concurrency(); i++) {
+            futures.add(workers.submit(() -> drive(accounts, selector, measureFrom, deadline)));
+        }
+
+        Map<Operation, LatencyRecorder> merged = new EnumMap<>(Operation.class);
+        for (Future<Map<Operation, LatencyRecorder>> future : futures) {
+            future.get().forEach((operation, recorder) ->
+                    merged.computeIfAbsent(operation, key -> new LatencyRecorder()).merge(recorder));
+        }
+        workers.shutdown();
+
+        report(out, merged);
+        return checkIntegrity(out, accounts);
+    }
+
+    private List<LoadAccount> prepareAccounts() {
+        List<LoadAccount> accounts = new ArrayList<>();
+        int users = (options.accounts() + ACCOUNTS_PER_USER - 1) / ACCOUNTS_PER_USER;
+
+        for (int u = 0; u < users; u++) {
+            String userId = "load-" + scenario.name().toLowerCase(Locale.ROOT) + "-" + u;
+            userRepository.save(User.builder()
+                    .userId(userId)
+                    .name("부하 테스트")
+                    .createdAt(LocalDateTime.now())
+                    .build());
+
+            for (int a = 0; a < ACCOUNTS_PER_USER && accounts.size() < options.accounts(); a++) {
+                LoadClient.Response response = client.createAccount(userId, INITIAL_BALANCE);
+                if (!response.isSuccess()) {
+                    throw new IllegalStateException("Failed to create account: " + response.outcome());
+                }
+                accounts.add(new LoadAccount(userId, response.text("accountNumber")));
+            }
+        }
+        return accounts;
+    }
+
+    private Map<Operation, LatencyRecorder> drive(
+            List<LoadAccount> accounts,
+            AccountSelector selector,
+            long measureFrom,
+            long deadline
+    ) {
+        Map<Operation, LatencyRecorder> recorders = new EnumMap<>(Operation.class);
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        long amount = options.amount();
+
+        long now;
+        while ((now = System.nanoTime()) < deadline) {
+            LoadAccount account = accounts.get(selector.next(random));
+            Operation operation = scenario.nextOperation(random);
+            Long cancelTarget = operation == Operation.CANCEL ? account.cancelable.poll() : null;
+            if (operation == Operation.CANCEL && cancelTarget == null) {
+                operation = Operation.USE;
+            }
+
+            LoadClient.Response response = switch (operation) {
+                case USE -> client.useBalance(account.userId, account.accountNumber, amount);
+                case CANCEL -> client.cancelBalance(cancelTarget, account.accountNumber, amount);
+                case READ -> client.getAccounts(account.userId);
+            };
+            long elapsed = System.nanoTime() - now;
+
+            if (operation == Operation.USE && response.isSuccess()) {
+                account.expectedBalance.addAndGet(-amount);
+                account.cancelable.add(response.number("transactionId"));
+            } else if (operation == Operation.CANCEL) {
+                if (response.isSuccess()) {
+                    account.expectedBalance.addAndGet(amount);
+                } else if (RETRYABLE_OUTCOMES.contains(response.outcome())) {
+                    account.cancelable.add(cancelTarget);
+                }
+            }
+
+            if (now >= measureFrom) {
+                recorders.computeIfAbsent(operation, key -> new LatencyRecorder()).record(elapsed, response.outcome());
+            }
+        }
+        return recorders;
+    }
+
+    private void report(PrintStream out, Map<Operation, LatencyRecorder> recorders) {
+        double seconds = options.duration().toMillis() / 1000.0;
+
+        out.printf("%n== %s (accounts=%d, concurrency=%d, duration=%s) ==%n",
+                scenario, options.accounts(), options.concurrency(), options.duration());
+        out.printf("%-8s %10s %12s %9s %9s %9s %9s %9s%n",
+                "op", "count", "ops/s", "p50(ms)", "p90(ms)", "p99(ms)", "p99.9(ms)", "max(ms)");
+
+        long writes = 0;
+        long lockRejections = 0;
+        for (Map.Entry<Operation, LatencyRecorder> entry : recorders.entrySet()) {
+            LatencyRecorder recorder = entry.getValue();
+            long[] p = recorder.percentiles(0.5, 0.9, 0.99, 0.999, 1.0);
+            out.printf("%-8s %10d %12.1f %9.2f %9.2f %9.2f %9.2f %9.2f%n",
+                    entry.getKey(), recorder.count(), recorder.count() / seconds,
+                    p[0] / 1000.0, p[1] / 1000.0, p[2] / 1000.0, p[3] / 1000.0, p[4] / 1000.0);
+            out.printf("         outcomes: %s%n", new TreeMap<>(recorder.outcomes()));
+
+            if (entry.getKey() != Operation.READ) {
+                writes += recorder.count();
+                lockRejections += recorder.outcome(LOCK_REJECTION);
+            }
+        }
+
+        out.printf("lock rejection rate: %.2f%% of writes (%d/%d)%n",
+                writes == 0 ? 0.0 : lockRejections * 100.0 / writes, lockRejections, writes);
+    }
+
+    private boolean checkIntegrity(PrintStream out, List<LoadAccount> accounts) {
+        Map<String, List<Long>> balancesByUser = new HashMap<>();
+        int mismatches = 0;
+
+        for (LoadAccount account : accounts) {
+            Long actual = jdbcTemplate.queryForObject(
+                    "select balance from account where account_number = ?", Long.class, account.accountNumber);
+            Long ledgerDelta = jdbcTemplate.queryForObject(LEDGER_DELTA_SQL, Long.class, account.accountNumber);
+            long expected = account.expectedBalance.get();
+
+            if (actual == null || actual != expected || actual != INITIAL_BALANCE + ledgerDelta) {
+                mismatches++;
+                out.printf("  balance mismatch %s: balance=%d, client expected=%d, ledger=%d%n",
+                        account.accountNumber, actual, expected, INITIAL_BALANCE + ledgerDelta);
+            }
+            balancesByUser.computeIfAbsent(account.userId, client::balances);
+        }
+
+        long apiTotal = balancesByUser.values().stream().flatMap(List::stream).mapToLong(Long::longValue).sum();
+        long expectedTotal = accounts.stream().mapToLong(account -> account.expectedBalance.get()).sum();
+        if (apiTotal != expectedTotal) {
+            mismatches++;
+            out.printf("  API total %d does not match expected total %d%n", apiTotal, expectedTotal);
+        }
+
+        out.printf("balance integrity: %s (%d accounts)%n", mismatches == 0 ? "OK" : "FAILED", accounts.size());
+        return mismatches == 0;
+    }
+
+    private static final class LoadAccount {
+        private final String userId;
+        private final String accountNumber;
+        private final AtomicLong expectedBalance = new AtomicLong(INITIAL_BALANCE);
+        private final Queue<Long> cancelable = new ConcurrentLinkedQueue<>();
+
+        private LoadAccount(String userId, String accountNumber) {
+            this.userId = userId;
+            this.accountNumber = accountNumber;
+        }
+    }
+}
@@ -0,0 +1,110 @@
+package com.example.myaccountsystem.admission;
+
+import com.example.myaccountsystem.config.AdmissionProperties;
+import com.example.myaccountsystem.exception.AccountException;
+import com.example.myaccountsystem.type.ErrorCode;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+@Service
+public class AdmissionControlService {
+    private final Map<String, Integer> accountInFlight = new ConcurrentHashMap<>();
+    private final AimdConcurrencyLimit globalLimit;
+    private final AdmissionProperties properties;
+    private final MeterRegistry meterRegistry;
+
+    public AdmissionControlService(AdmissionProperties properties, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.meterRegistry = meterRegistry;
+        this.globalLimit = new AimdConcurrencyLimit(
+                properties.getInitialLimit(),
+                properties.getMinLimit(),
+                properties.getMaxLimit(),
+                properties.getLatencyThreshold().toNanos(),
+                properties.getBackoffRatio()
+        );
+
+        meterRegistry.gauge("account.admission.limit", globalLimit, AimdConcurrencyLimit::getLimit);
+        meterRegistry.gauge("account.admission.in-flight", globalLimit, AimdConcurrencyLimit::getInFlight);
+        meterRegistry.gaugeMapSize("account.admission.hot-accounts", Tags.empty(), accountInFlight);
+    }
+
+    public <T> T execute(String accountNumber, Supplier<T> operation) {
+        return execute(List.of(accountNumber), operation);
+    }
+
+    public <T> T execute(List<String> accountNumbers, Supplier<T> operation) {
+        if (!properties.isEnabled()) {
+            return operation.get();
+        }
+
+        List<String> admittedAccounts = new ArrayList<>(accountNumbers.size());
+        try {
+            for (String accountNumber : accountNumbers) {
+                enterAccount(accountNumber);
+                admittedAccounts.add(accountNumber);
+            }
+
+            int inFlightAtStart = globalLimit.getInFlight();
+            if (!globalLimit.tryAcquire()) {
+                reject("global_limit");
+                throw new AccountException(ErrorCode.SERVER_OVERLOADED);
+            }
+
+            long startedAt = System.nanoTime();
+            // Error 를 포함해 어떤 예외로 끝나도 허가를 돌려주도록 완료 여부만 기록하고 반납은 finally 에서 한다.
+            boolean completed = false;
+            try {
+                T result = operation.get();
+                globalLimit.onSuccess(System.nanoTime() - startedAt, inFlightAtStart);
+                completed = true;
+                return result;
+            } catch (AccountException e) {
+                if (e.getErrorCode() != ErrorCode.ACCOUNT_TRANSACTION_LOCK) {
+                    globalLimit.onSuccess(System.nanoTime() - startedAt, inFlightAtStart);
+                    completed = true;
+                }
+                throw e;
+            } finally {
+                if (!completed) {
+                    globalLimit.onDropped();
+                }
+            }
+        } finally {
+            admittedAccounts.forEach(this::leaveAccount);
+        }
+    }
+
+    public int inFlight(String accountNumber) {
+        return accountInFlight.getOrDefault(accountNumber, 0);
+    }
+
+    public int currentLimit() {
+        return globalLimit.getLimit();
+    }
+
+    private void enterAccount(String accountNumber) {
+        // 처리 중인 1건을 제외한 나머지가 대기열 깊이이다.
+        int inFlight = accountInFlight.merge(accountNumber, 1, Integer::sum);
+        if (inFlight > properties.getMaxQueueDepthPerAccount() + 1) {
+            leaveAccount(accountNumber);
+            reject("account_queue");
+            throw new AccountException(ErrorCode.ACCOUNT_QUEUE_FULL);
+        }
+    }
+
+    private void leaveAccount(String accountNumber) {
+        accountInFlight.computeIfPresent(accountNumber, (key, inFlight) -> inFlight == 1 ? null : inFlight - 1);
+    }
+
+    private void reject(String reason) {
+        meterRegistry.counter("account.admission.rejected", "reason", reason).increment();
+    }
+}
@@ -0,0 +1,65 @@
+package com.example.myaccountsystem.admission;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 지연 시간에 따라 전역 동시 처리 한도를 조절하는 AIMD 리미터.
+ * 임계 지연 이내로 처리되면 한도를 1씩 늘리고, 초과하거나 처리되지 못하면 비율만큼 줄인다.
+ */
+public class AimdConcurrencyLimit {
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final AtomicInteger limit;
+    private final int minLimit;
+    private final int maxLimit;
+    private final long latencyThresholdNanos;
+    private final double backoffRatio;
+
+    public AimdConcurrencyLimit(int initialLimit, int minLimit, int maxLimit,
+                                long latencyThresholdNanos, double backoffRatio) {
+        this.limit = new AtomicInteger(initialLimit);
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.latencyThresholdNanos = latencyThresholdNanos;
+        this.backoffRatio = backoffRatio;
+    }
+
+    public boolean tryAcquire() {
+        while (true) {
+            int current = inFlight.get();
+            if (current >= limit.get()) {
+                return false;
+            }
+            if (inFlight.compareAndSet(current, current + 1)) {
+                return true;
+            }
+        }
+    }
+
+    public void onSuccess(long latencyNanos, int inFlightAtStart) {
+        inFlight.decrementAndGet();
+
+        if (latencyNanos > latencyThresholdNanos) {
+            backoff();
+        } else if (inFlightAtStart * 2 >= limit.get()) {
+            // 한도의 절반 이상을 쓰고 있을 때만 늘려서 유휴 상태에서 한도가 무한히 커지지 않게 한다.
+            limit.updateAndGet(current -> Math.min(maxLimit, current + 1));
+        }
+    }
+
+    public void onDropped() {
+        inFlight.decrementAndGet();
+        backoff();
+    }
+
+    public int getLimit() {
+        return limit.get();
+    }
+
+    public int getInFlight() {
+        return inFlight.get();
+    }
+
+    private void backoff() {
+        limit.updateAndGet(current -> Math.max(minLimit, (int) (current * backoffRatio)));
+    }
+}
@@ -0,0 +1,129 @@
+package com.example.myaccountsystem.archive;
+
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.Deflater;
+
+/**
+ * 세그먼트 파일을 쓴다. 거래는 (계좌번호, 거래 시각, 거래 ID) 순서로 넘겨야 한다.
+ *
+ * <pre>
+ * [header: MAGIC, VERSION]
+ * [block 0 (deflate)] [block 1] ...
+ * [index: 블록 수, 블록마다 첫/마지막 (계좌번호, 거래 시각), 오프셋, 길이, 건수]
+ * [footer: index 오프셋, MAGIC]
+ * </pre>
+ */
+final class SegmentWriter implements Closeable {
+    private final FileChannel channel;
+    private final int blockSize;
+    private final List<TransactionSegment.BlockIndex> index = new ArrayList<>();
+    private final Deflater deflater = new Deflater(Deflater.BEST_SPEED);
+
+    private final ByteArrayOutputStream blockBytes = new ByteArrayOutputStream();
+    private final DataOutputStream block = new DataOutputStream(blockBytes);
+    private int blockRows;
+    private TransactionRecord firstInBlock;
+    private TransactionRecord lastInBlock;
+    private long rowCount;
+
+    SegmentWriter(Path file, int blockSize) throws IOException {
+        this.channel = FileChannel.open(file, StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE);
+        this.blockSize = blockSize;
+
+        ByteBuffer header = ByteBuffer.allocate(Integer.BYTES * 2)
+                .putInt(TransactionSegment.MAGIC)
+                .putInt(TransactionSegment.VERSION)
+                .flip();
+        writeFully(header);
+    }
+
+    void append(TransactionRecord record) throws IOException {
+        if (lastInBlock != null && TransactionSegment.compare(record, lastInBlock) < 0) {
+            throw new IllegalArgumentException("Records must be appended in (account, time) order");
+        }
+
+        TransactionSegment.writeRecord(block, record);
+        if (blockRows == 0) {
+            firstInBlock = record;
+        }
+        lastInBlock = record;
+        blockRows++;
+        rowCount++;
+
+        if (blockRows == blockSize) {
+            flushBlock();
+        }
+    }
+
+    /**
+     * 남은 블록과 인덱스, 푸터를 쓰고 디스크에 반영한다.
+     */
+    long finish() throws IOException {
+        flushBlock();
+
+        long indexOffset = channel.position();
+        ByteArrayOutputStream indexBytes = new ByteArrayOutputStream();
+        DataOutputStream out = new DataOutputStream(indexBytes);
+        out.writeInt(index.size());
+        for (TransactionSegment.BlockIndex entry : index) {
+            entry.writeTo(out);
+        }
+        out.writeLong(indexOffset);
+        out.writeInt(TransactionSegment.MAGIC);
+        writeFully(ByteBuffer.wrap(indexBytes.toByteArray()));
+
+        channel.force(true);
+        return rowCount;
+    }
+
+    @Override
+    public void close() throws IOException {
+        deflater.end();
+        channel.close();
+    }
+
+    private void flushBlock() throws IOException {
+        if (blockRows == 0) {
+            return;
+        }
+
+        byte[] raw = blockBytes.toByteArray();
+        deflater.reset();
+        deflater.setInput(raw);
+        deflater.finish();
+        ByteArrayOutputStream compressed = new ByteArrayOutputStream(raw.length / 2 + 64);
+        byte[] buffer = new byte[8192];
+        while (!deflater.finished()) {
+            int length = deflater.deflate(buffer);
+            compressed.write(buffer, 0, length);
+        }
+
+        long offset = channel.position();
+        byte[] bytes = compressed.toByteArray();
+        writeFully(ByteBuffer.wrap(bytes));
+        index.add(new TransactionSegment.BlockIndex(
+                firstInBlock.accountNumber(), TransactionSegment.toMicros(firstInBlock.transactedAt()),
+                lastInBlock.accountNumber(), TransactionSegment.toMicros(lastInBlock.transactedAt()),
+                offset, bytes.length, raw.length, blockRows
+        ));
+
+        blockBytes.reset();
+        blockRows = 0;
+        firstInBlock = null;
+    }
+
+    private void writeFully(ByteBuffer buffer) throws IOException {
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+    }
+}
@@ -0,0 +1,185 @@
+package com.example.myaccountsystem.archive;
+
+import com.example.myaccountsystem.config.ArchiveProperties;
+import com.example.myaccountsystem.sharding.TransactionIds;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+
+/**
+ * 보존 기간이 지난 월 파티션을 담은 세그먼트 파일 모음. 파일은 샤드별 디렉터리에 월 단위로 하나씩 두고,
+ * 한 번 쓰면 바꾸지 않는다. 거래 ID 에 월 파티션이 들어 있으므로 단건 조회도 세그먼트 하나만 본다.
+ */
+@Slf4j
+@Component
+public class TransactionArchive {
+    private static final String SEGMENT_SUFFIX = ".seg";
+
+    private final ArchiveProperties properties;
+    private final Path directory;
+    private final Map<Integer, NavigableSet<Integer>> archivedPartitions = new ConcurrentHashMap<>();
+    private final Map<Path, TransactionSegment> openSegments = new ConcurrentHashMap<>();
+
+    public TransactionArchive(ArchiveProperties properties) {
+        this.properties = properties;
+        this.directory = Path.of(properties.getDirectory());
+    }
+
+    @PostConstruct
+    public void loadCatalog() throws IOException {
+        if (!Files.isDirectory(directory)) {
+            return;
+        }
+
+        try (DirectoryStream<Path> shards = Files.newDirectoryStream(directory, "shard-*")) {
+            for (Path shardDirectory : shards) {
+                int shard = Integer.parseInt(shardDirectory.getFileName().toString().substring("shard-".length()));
+                try (DirectoryStream<Path> segments = Files.newDirectoryStream(shardDirectory, "*" + SEGMENT_SUFFIX)) {
+                    for (Path segment : segments) {
+                        String name = segment.getFileName().toString();
+                        YearMonth month = YearMonth.parse(name.substring(0, name.length() - SEGMENT_SUFFIX.length()));
+                        partitionsOf(shard).add(TransactionIds.partitionOf(month.atDay(1).atStartOfDay()));
+                    }
+                }
+            }
+        }
+        log.info("Loaded transaction archive catalog: {}", archivedPartitions);
+    }
+
+    @PreDestroy
+    public void close() {
+        openSegments.values().forEach(segment -> {
+            try {
+                segment.close();
+            } catch (IOException e) {
+                log.warn("Failed to close segment {}", segment.getFile(), e);
+            }
+        });
+        openSegments.clear();
+    }
+
+    public boolean isArchived(int shard, int partition) {
+        return partitionsOf(shard).contains(partition);
+    }
+
+    public long rowCount(int shard, int partition) {
+        return segment(shard, partition).getRowCount();
+    }
+
+    public Optional<TransactionRecord> findById(long transactionId) {
+        int shard = TransactionIds.shardOf(transactionId);
+        int partition = TransactionIds.partitionOf(transactionId);
+        if (!isArchived(shard, partition)) {
+            return Optional.empty();
+        }
+        return segment(shard, partition).findById(transactionId);
+    }
+
+    /**
+     * 계좌의 [from, to] 구간과 겹치는 월 세그먼트만 열어 거래를 모은다.
+     */
+    public List<TransactionRecord> findByAccount(
+            int shard,
+            String accountNumber,
+            LocalDateTime from,
+            LocalDateTime to
+    ) {
+        List<TransactionRecord> records = new ArrayList<>();
+        NavigableSet<Integer> partitions = partitionsOf(shard)
+                .subSet(TransactionIds.partitionOf(from), true, TransactionIds.partitionOf(to), true);
+        for (int partition : partitions) {
+            records.addAll(segment(shard, partition).findByAccount(accountNumber, from, to));
+        }
+        return records;
+    }
+
+    /**
+     * 계좌의 asOf 이전 마지막 성공 거래를 찾는다. asOf 가 속한 달부터 거꾸로 세그먼트를 열고, 찾으면 멈춘다.
+     */
+    public Optional<TransactionRecord> findLatestByAccount(int shard, String accountNumber, LocalDateTime asOf) {
+        for (int partition : partitionsOf(shard).headSet(TransactionIds.partitionOf(asOf), true).descendingSet()) {
+            LocalDateTime monthStart = TransactionIds.monthOf(partition).atDay(1).atStartOfDay();
+            Optional<TransactionRecord> latest = segment(shard, partition).findByAccount(accountNumber, monthStart, asOf)
+                    .stream()
+                    .filter(record -> record.balanceSnapshot() != null)
+                    .max(Comparator.comparing(TransactionRecord::transactedAt)
+                            .thenComparing(TransactionRecord::transactionId));
+            if (latest.isPresent()) {
+                return latest;
+            }
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * 임시 파일에 세그먼트를 쓴 뒤 원자적으로 옮겨, 반쯤 쓰인 세그먼트가 보이지 않게 한다.
+     */
+    public long write(int shard, int partition, SegmentSource source) throws IOException {
+        Path target = segmentPath(shard, partition);
+        Files.createDirectories(target.getParent());
+        Path temp = target.resolveSibling(target.getFileName() + ".tmp");
+        Files.deleteIfExists(temp);
+
+        long rows;
+        try (SegmentWriter writer = new SegmentWriter(temp, properties.getBlockSize())) {
+            source.writeTo(writer::append);
+            rows = writer.finish();
+        } catch (IOException | RuntimeException e) {
+            Files.deleteIfExists(temp);
+            throw e;
+        }
+
+        Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE);
+        if (!target.toFile().setReadOnly()) {
+            log.warn("Could not mark segment {} read-only", target);
+        }
+        partitionsOf(shard).add(partition);
+        return rows;
+    }
+
+    private TransactionSegment segment(int shard, int partition) {
+        return openSegments.computeIfAbsent(segmentPath(shard, partition), path -> {
+            try {
+                return TransactionSegment.open(path);
+            } catch (IOException e) {
+                throw new UncheckedIOException("Failed to open segment " + path, e);
+            }
+        });
+    }
+
+    private NavigableSet<Integer> partitionsOf(int shard) {
+        return archivedPartitions.computeIfAbsent(shard, key -> new ConcurrentSkipListSet<>());
+    }
+
+    private Path segmentPath(int shard, int partition) {
+        return directory.resolve("shard-" + shard).resolve(TransactionIds.monthOf(partition) + SEGMENT_SUFFIX);
+    }
+
+    @FunctionalInterface
+    public interface SegmentSource {
+        void writeTo(RecordSink sink) throws IOException;
+    }
+
+    @FunctionalInterface
+    public interface RecordSink {
+        void append(TransactionRecord record) throws IOException;
+    }
+}
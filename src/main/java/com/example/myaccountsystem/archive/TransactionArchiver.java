@@ -0,0 +1,173 @@
+package com.example.myaccountsystem.archive;
+
+import com.example.myaccountsystem.config.ArchiveProperties;
+import com.example.myaccountsystem.eventsourcing.EventSourcedBalances;
+import com.example.myaccountsystem.service.RedisLockService;
+import com.example.myaccountsystem.sharding.ShardRouter;
+import com.example.myaccountsystem.sharding.TransactionIds;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 보존 기간이 지난 월 파티션을 세그먼트 파일로 옮기고 테이블에서 지운다.
+ * 거래 ID 에 월 파티션이 들어 있으므로 한 달치 행은 PK 범위 하나로 읽고 지울 수 있다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "account.archive.enabled", havingValue = "true")
+public class TransactionArchiver {
+    private static final String ARCHIVE_LOCK_KEY = "TRANSACTION_ARCHIVER";
+
+    private static final String SELECT_PARTITION_SQL = "select transaction_id, account_account_number, "
+            + "transaction_type, transaction_result_type, amount, balance_snapshot, transacted_at, "
+            + "linked_transaction_id, cancel_transaction_id, error_code "
+            + "from transaction where transaction_id between ? and ? "
+            + "order by coalesce(account_account_number, ''), transacted_at, transaction_id";
+    private static final String SELECT_OLDEST_SQL = "select min(transaction_id) from transaction";
+    private static final String COUNT_PARTITION_SQL =
+            "select count(*) from transaction where transaction_id between ? and ?";
+    private static final String SELECT_EVENT_ACCOUNTS_SQL = "select distinct account_account_number from transaction "
+            + "where transaction_id between ? and ? and event_sequence is not null";
+    private static final String DELETE_PARTITION_SQL =
+            "delete from transaction where transaction_id between ? and ?";
+
+    private final ArchiveProperties properties;
+    private final TransactionArchive transactionArchive;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final ShardRouter shardRouter;
+    private final RedisLockService redisLockService;
+    private final MeterRegistry meterRegistry;
+    private final EventSourcedBalances eventSourcedBalances;
+
+    @Scheduled(fixedDelayString = "${account.archive.interval-ms:3600000}")
+    public void archiveExpiredPartitions() {
+        // 여러 노드가 같은 파티션을 동시에 옮기지 않도록 한 노드만 실행한다.
+        String token = redisLockService.acquireOwnedLock(ARCHIVE_LOCK_KEY, properties.getLockTimeout());
+        if (token == null) {
+            return;
+        }
+
+        try {
+            LockLease lease = new LockLease(token);
+            int cutoff = TransactionIds.partitionOf(LocalDateTime.now()) - properties.getRetentionMonths() + 1;
+            shardRouter.forEachShard(shard -> archiveShard(shard, cutoff, lease));
+        } catch (ArchiveLockLostException e) {
+            log.warn("Transaction archive lock expired while archiving; stopping until the next run");
+        } catch (Exception e) {
+            log.error("Failed to archive transactions", e);
+        } finally {
+            redisLockService.releaseOwnedLock(ARCHIVE_LOCK_KEY, token);
+        }
+    }
+
+    void archiveShard(int shard, int cutoff, LockLease lease) {
+        Long oldest;
+        while ((oldest = jdbcTemplate.queryForObject(SELECT_OLDEST_SQL, Long.class)) != null) {
+            int partition = TransactionIds.partitionOf(oldest);
+            if (partition >= cutoff) {
+                return;
+            }
+            lease.renewIfDue();
+            if (!archivePartition(shard, partition, lease)) {
+                return;
+            }
+        }
+    }
+
+    private boolean archivePartition(int shard, int partition, LockLease lease) {
+        long firstId = TransactionIds.compose(shard, partition, 0);
+        long lastId = TransactionIds.compose(shard, partition, TransactionIds.MAX_SEQUENCE);
+        long rowsInTable = jdbcTemplate.queryForObject(COUNT_PARTITION_SQL, Long.class, firstId, lastId);
+
+        long archivedRows;
+        try {
+            // 이전 실행이 세그먼트를 쓴 뒤 삭제 전에 멈췄다면 세그먼트를 다시 쓰지 않는다.
+            archivedRows = transactionArchive.isArchived(shard, partition)
+                    ? transactionArchive.rowCount(shard, partition)
+                    : transactionArchive.write(shard, partition, sink -> jdbcTemplate.query(
+                            SELECT_PARTITION_SQL,
+                            resultSet -> {
+                                try {
+                                    sink.append(TransactionRecord.from(resultSet));
+                                } catch (IOException e) {
+                                    throw new UncheckedIOException(e);
+                                }
+                            },
+                            firstId, lastId
+                    ));
+        } catch (IOException | UncheckedIOException e) {
+            log.error("Failed to write segment for shard {} month {}", shard, TransactionIds.monthOf(partition), e);
+            return false;
+        }
+
+        // 세그먼트에 모두 담긴 것이 확인된 경우에만 행을 지운다.
+        if (archivedRows != rowsInTable) {
+            log.error("Segment for shard {} month {} has {} rows but table has {}, keeping rows",
+                    shard, TransactionIds.monthOf(partition), archivedRows, rowsInTable);
+            return false;
+        }
+
+        // 이벤트 소싱 모드에서는 지울 이벤트가 잔액 스냅샷에 모두 반영된 뒤에 지운다.
+        if (eventSourcedBalances.isEnabled()) {
+            jdbcTemplate.queryForList(SELECT_EVENT_ACCOUNTS_SQL, String.class, firstId, lastId)
+                    .forEach(eventSourcedBalances::snapshot);
+        }
+
+        // 세그먼트를 쓰는 동안 락을 잃었다면 다른 노드가 같은 파티션을 옮기고 있을 수 있으므로 지우지 않는다.
+        lease.renew();
+        Integer deleted = transactionTemplate.execute(status ->
+                jdbcTemplate.update(DELETE_PARTITION_SQL, firstId, lastId));
+        meterRegistry.counter("account.archive.rows").increment(deleted != null ? deleted : 0);
+        log.info("Archived {} transactions of shard {} month {}", archivedRows, shard, TransactionIds.monthOf(partition));
+        return true;
+    }
+
+    /**
+     * 소유 토큰으로 잡은 아카이브 락. 만료 시간의 절반이 지날 때마다 연장하고, 연장에 실패하면 멈춘다.
+     */
+    final class LockLease {
+        private final String token;
+        private long renewAt;
+
+        LockLease(String token) {
+            this.token = token;
+            this.renewAt = nextRenewal();
+        }
+
+        void renewIfDue() {
+            if (System.nanoTime() - renewAt >= 0) {
+                renew();
+            }
+        }
+
+        void renew() {
+            if (!redisLockService.extendOwnedLock(ARCHIVE_LOCK_KEY, token, properties.getLockTimeout())) {
+                throw new ArchiveLockLostException();
+            }
+            renewAt = nextRenewal();
+        }
+
+        private long nextRenewal() {
+            return System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(properties.getLockTimeout() / 2);
+        }
+    }
+
+    private static class ArchiveLockLostException extends RuntimeException {
+        ArchiveLockLostException() {
+            super(null, null, false, false);
+        }
+    }
+}
@@ -0,0 +1,45 @@
+package com.example.myaccountsystem.archive;
+
+import com.example.myaccountsystem.type.ErrorCode;
+import com.example.myaccountsystem.type.TransactionResultType;
+import com.example.myaccountsystem.type.TransactionType;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDateTime;
+
+/**
+ * 계좌·사용자 엔티티 없이 읽는 거래 한 건. 테이블 조회 결과와 아카이브 세그먼트가 같은 형태를 쓴다.
+ */
+public record TransactionRecord(
+        Long transactionId,
+        String accountNumber,
+        TransactionType transactionType,
+        TransactionResultType transactionResultType,
+        Long amount,
+        Long balanceSnapshot,
+        LocalDateTime transactedAt,
+        Long linkedTransactionId,
+        Long cancelTransactionId,
+        ErrorCode errorCode
+) {
+    // transaction 테이블 컬럼 이름으로 읽는다.
+    public static TransactionRecord from(ResultSet resultSet) throws SQLException {
+        String transactionType = resultSet.getString("transaction_type");
+        String transactionResultType = resultSet.getString("transaction_result_type");
+        String errorCode = resultSet.getString("error_code");
+
+        return new TransactionRecord(
+                resultSet.getLong("transaction_id"),
+                resultSet.getString("account_account_number"),
+                transactionType != null ? TransactionType.valueOf(transactionType) : null,
+                transactionResultType != null ? TransactionResultType.valueOf(transactionResultType) : null,
+                resultSet.getObject("amount", Long.class),
+                resultSet.getObject("balance_snapshot", Long.class),
+                resultSet.getTimestamp("transacted_at").toLocalDateTime(),
+                resultSet.getObject("linked_transaction_id", Long.class),
+                resultSet.getObject("cancel_transaction_id", Long.class),
+                errorCode != null ? ErrorCode.valueOf(errorCode) : null
+        );
+    }
+}
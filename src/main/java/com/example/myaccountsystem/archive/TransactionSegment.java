@@ -0,0 +1,299 @@
+package com.example.myaccountsystem.archive;
+
+import com.example.myaccountsystem.type.ErrorCode;
+import com.example.myaccountsystem.type.TransactionResultType;
+import com.example.myaccountsystem.type.TransactionType;
+
+import java.io.ByteArrayInputStream;
+import java.io.Closeable;
+import java.io.DataInput;
+import java.io.DataInputStream;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+import java.util.zip.DataFormatException;
+import java.util.zip.Inflater;
+
+/**
+ * 읽기 전용 세그먼트 파일. 희소 인덱스(블록마다 첫/마지막 키)만 메모리에 두고,
+ * 조회 범위에 걸치는 블록만 읽어 압축을 푼다. 읽기는 위치 지정 read 라 여러 스레드가 함께 쓸 수 있다.
+ */
+final class TransactionSegment implements Closeable {
+    static final int MAGIC = 0x54585347;
+    static final int VERSION = 1;
+
+    private static final int FOOTER_BYTES = Long.BYTES + Integer.BYTES;
+    private static final Comparator<TransactionRecord> ORDER = Comparator
+            .comparing((TransactionRecord record) -> keyOf(record.accountNumber()))
+            .thenComparing(TransactionRecord::transactedAt)
+            .thenComparing(TransactionRecord::transactionId);
+
+    private final Path file;
+    private final FileChannel channel;
+    private final List<BlockIndex> index;
+
+    private TransactionSegment(Path file, FileChannel channel, List<BlockIndex> index) {
+        this.file = file;
+        this.channel = channel;
+        this.index = index;
+    }
+
+    static TransactionSegment open(Path file) throws IOException {
+        FileChannel channel = FileChannel.open(file, StandardOpenOption.READ);
+        try {
+            long size = channel.size();
+            ByteBuffer footer = read(channel, size - FOOTER_BYTES, FOOTER_BYTES);
+            long indexOffset = footer.getLong();
+            if (footer.getInt() != MAGIC) {
+                throw new IOException("Not a transaction segment: " + file);
+            }
+
+            DataInputStream in = new DataInputStream(new ByteArrayInputStream(
+                    read(channel, indexOffset, (int) (size - FOOTER_BYTES - indexOffset)).array()
+            ));
+            int blocks = in.readInt();
+            List<BlockIndex> index = new ArrayList<>(blocks);
+            for (int i = 0; i < blocks; i++) {
+                index.add(BlockIndex.readFrom(in));
+            }
+            return new TransactionSegment(file, channel, List.copyOf(index));
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    Path getFile() {
+        return file;
+    }
+
+    int getBlockCount() {
+        return index.size();
+    }
+
+    long getRowCount() {
+        return index.stream().mapToLong(BlockIndex::rows).sum();
+    }
+
+    /**
+     * 계좌의 [from, to] 구간 거래를 시각 순으로 돌려준다.
+     */
+    List<TransactionRecord> findByAccount(String accountNumber, LocalDateTime from, LocalDateTime to) {
+        String key = keyOf(accountNumber);
+        long fromMicros = toMicros(from);
+        long toMicros = toMicros(to);
+
+        List<TransactionRecord> result = new ArrayList<>();
+        for (int i = firstBlockEndingAtOrAfter(key, fromMicros); i < index.size(); i++) {
+            BlockIndex block = index.get(i);
+            if (compareKey(block.firstAccount(), block.firstMicros(), key, toMicros) > 0) {
+                break;
+            }
+            for (TransactionRecord record : readBlock(block)) {
+                long micros = toMicros(record.transactedAt());
+                if (key.equals(keyOf(record.accountNumber())) && micros >= fromMicros && micros <= toMicros) {
+                    result.add(record);
+                }
+            }
+        }
+        return result;
+    }
+
+    // 세그먼트는 계좌 순으로 정렬되어 있으므로 ID 조회는 블록을 차례로 푼다. 오래된 거래의 단건 조회에만 쓴다.
+    Optional<TransactionRecord> findById(long transactionId) {
+        for (BlockIndex block : index) {
+            for (TransactionRecord record : readBlock(block)) {
+                if (record.transactionId() == transactionId) {
+                    return Optional.of(record);
+                }
+            }
+        }
+        return Optional.empty();
+    }
+
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+
+    private int firstBlockEndingAtOrAfter(String key, long micros) {
+        int low = 0;
+        int high = index.size();
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            BlockIndex block = index.get(mid);
+            if (compareKey(block.lastAccount(), block.lastMicros(), key, micros) < 0) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    private List<TransactionRecord> readBlock(BlockIndex block) {
+        try {
+            byte[] compressed = read(channel, block.offset(), block.length()).array();
+            byte[] raw = new byte[block.rawLength()];
+            Inflater inflater = new Inflater();
+            try {
+                inflater.setInput(compressed);
+                int inflated = 0;
+                while (inflated < raw.length && !inflater.finished()) {
+                    inflated += inflater.inflate(raw, inflated, raw.length - inflated);
+                }
+            } finally {
+                inflater.end();
+            }
+
+            DataInputStream in = new DataInputStream(new ByteArrayInputStream(raw));
+            List<TransactionRecord> records = new ArrayList<>(block.rows());
+            for (int i = 0; i < block.rows(); i++) {
+                records.add(readRecord(in));
+            }
+            return records;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to read block of " + file, e);
+        } catch (DataFormatException e) {
+            throw new IllegalStateException("Corrupted block in " + file, e);
+        }
+    }
+
+    private static ByteBuffer read(FileChannel channel, long position, int length) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate(length);
+        while (buffer.hasRemaining()) {
+            if (channel.read(buffer, position + buffer.position()) < 0) {
+                throw new IOException("Unexpected end of segment");
+            }
+        }
+        return buffer.flip();
+    }
+
+    static int compare(TransactionRecord left, TransactionRecord right) {
+        return ORDER.compare(left, right);
+    }
+
+    private static int compareKey(String account, long micros, String otherAccount, long otherMicros) {
+        int byAccount = account.compareTo(otherAccount);
+        return byAccount != 0 ? byAccount : Long.compare(micros, otherMicros);
+    }
+
+    // 존재하지 않는 계좌로 기록된 실패 거래는 계좌번호가 없으므로 빈 문자열로 정렬한다.
+    static String keyOf(String accountNumber) {
+        return accountNumber == null ? "" : accountNumber;
+    }
+
+    static long toMicros(LocalDateTime time) {
+        return time.toEpochSecond(ZoneOffset.UTC) * 1_000_000L + time.getNano() / 1_000;
+    }
+
+    static void writeRecord(DataOutput out, TransactionRecord record) throws IOException {
+        out.writeLong(record.transactionId());
+        writeNullableString(out, record.accountNumber());
+        writeNullableString(out, nameOf(record.transactionType()));
+        writeNullableString(out, nameOf(record.transactionResultType()));
+        writeNullableLong(out, record.amount());
+        writeNullableLong(out, record.balanceSnapshot());
+        out.writeLong(record.transactedAt().toEpochSecond(ZoneOffset.UTC));
+        out.writeInt(record.transactedAt().getNano());
+        writeNullableLong(out, record.linkedTransactionId());
+        writeNullableLong(out, record.cancelTransactionId());
+        writeNullableString(out, nameOf(record.errorCode()));
+    }
+
+    private static TransactionRecord readRecord(DataInput in) throws IOException {
+        long transactionId = in.readLong();
+        String accountNumber = readNullableString(in);
+        String transactionType = readNullableString(in);
+        String transactionResultType = readNullableString(in);
+        Long amount = readNullableLong(in);
+        Long balanceSnapshot = readNullableLong(in);
+        LocalDateTime transactedAt = LocalDateTime.ofEpochSecond(in.readLong(), in.readInt(), ZoneOffset.UTC);
+        Long linkedTransactionId = readNullableLong(in);
+        Long cancelTransactionId = readNullableLong(in);
+        String errorCode = readNullableString(in);
+
+        return new TransactionRecord(
+                transactionId,
+                accountNumber,
+                transactionType != null ? TransactionType.valueOf(transactionType) : null,
+                transactionResultType != null ? TransactionResultType.valueOf(transactionResultType) : null,
+                amount,
+                balanceSnapshot,
+                transactedAt,
+                linkedTransactionId,
+                cancelTransactionId,
+                errorCode != null ? ErrorCode.valueOf(errorCode) : null
+        );
+    }
+
+    private static String nameOf(Enum<?> value) {
+        return value != null ? value.name() : null;
+    }
+
+    private static void writeNullableString(DataOutput out, String value) throws IOException {
+        out.writeBoolean(value != null);
+        if (value != null) {
+            out.writeUTF(value);
+        }
+    }
+
+    private static String readNullableString(DataInput in) throws IOException {
+        return in.readBoolean() ? in.readUTF() : null;
+    }
+
+    private static void writeNullableLong(DataOutput out, Long value) throws IOException {
+        out.writeBoolean(value != null);
+        if (value != null) {
+            out.writeLong(value);
+        }
+    }
+
+    private static Long readNullableLong(DataInput in) throws IOException {
+        return in.readBoolean() ? in.readLong() : null;
+    }
+
+    record BlockIndex(
+            String firstAccount,
+            long firstMicros,
+            String lastAccount,
+            long lastMicros,
+            long offset,
+            int length,
+            int rawLength,
+            int rows
+    ) {
+        BlockIndex {
+            firstAccount = keyOf(firstAccount);
+            lastAccount = keyOf(lastAccount);
+        }
+
+        void writeTo(DataOutput out) throws IOException {
+            out.writeUTF(firstAccount);
+            out.writeLong(firstMicros);
+            out.writeUTF(lastAccount);
+            out.writeLong(lastMicros);
+            out.writeLong(offset);
+            out.writeInt(length);
+            out.writeInt(rawLength);
+            out.writeInt(rows);
+        }
+
+        static BlockIndex readFrom(DataInput in) throws IOException {
+            return new BlockIndex(
+                    in.readUTF(), in.readLong(), in.readUTF(), in.readLong(),
+                    in.readLong(), in.readInt(), in.readInt(), in.readInt()
+            );
+        }
+    }
+}
@@ -0,0 +1,14 @@
+package com.example.myaccountsystem.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "account.account-state")
+public class AccountStateProperties {
+    private boolean enabled = false;
+    // 힙 밖 테이블 크기는 시작할 때 이 값으로 정해지고 늘어나지 않는다.
+    private int expectedAccounts = 1_000_000;
+}
@@ -0,0 +1,20 @@
+package com.example.myaccountsystem.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "account.admission")
+public class AdmissionProperties {
+    private boolean enabled = true;
+    private int maxQueueDepthPerAccount = 4;
+    private int initialLimit = 20;
+    private int minLimit = 4;
+    private int maxLimit = 200;
+    private Duration latencyThreshold = Duration.ofMillis(200);
+    private double backoffRatio = 0.9;
+}
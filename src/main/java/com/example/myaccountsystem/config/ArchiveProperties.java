@@ -0,0 +1,18 @@
+package com.example.myaccountsystem.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "account.archive")
+public class ArchiveProperties {
+    private boolean enabled = false;
+    private String directory = "data/archive";
+    // 이번 달을 포함해 이 개월 수만큼은 테이블에 남긴다.
+    private int retentionMonths = 12;
+    private int blockSize = 256;
+    private long intervalMs = 3_600_000;
+    private long lockTimeout = 600_000;
+}
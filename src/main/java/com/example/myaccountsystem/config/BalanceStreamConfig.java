@@ -0,0 +1,26 @@
+package com.example.myaccountsystem.config;
+
+import com.example.myaccountsystem.event.RedisBalanceEventBroadcaster;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+@Configuration
+@ConditionalOnProperty(name = "account.balance-stream.broadcaster", havingValue = "redis")
+public class BalanceStreamConfig {
+
+    @Bean
+    public RedisMessageListenerContainer balanceEventListenerContainer(
+            RedisConnectionFactory connectionFactory,
+            RedisBalanceEventBroadcaster broadcaster,
+            BalanceStreamProperties properties
+    ) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(connectionFactory);
+        container.addMessageListener(broadcaster, new ChannelTopic(properties.getRedisChannel()));
+        return container;
+    }
+}
@@ -0,0 +1,18 @@
+package com.example.myaccountsystem.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "account.balance-stream")
+public class BalanceStreamProperties {
+    private String broadcaster = "local";
+    private String redisChannel = "balance-events";
+    private int bufferSize = 64;
+    private int dispatchThreads = 2;
+    private Duration emitterTimeout = Duration.ofMinutes(30);
+}
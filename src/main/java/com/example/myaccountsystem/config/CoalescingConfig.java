@@ -0,0 +1,18 @@
+package com.example.myaccountsystem.config;
+
+import com.example.myaccountsystem.entity.Account;
+import com.example.myaccountsystem.support.SingleFlight;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.List;
+
+@Configuration
+public class CoalescingConfig {
+
+    @Bean
+    public SingleFlight<String, List<Account>> accountListSingleFlight(MeterRegistry meterRegistry) {
+        return new SingleFlight<>(meterRegistry, "account.list");
+    }
+}
@@ -2,6 +2,7 @@ package com.example.myaccountsystem.config;
 
 import com.example.myaccountsystem.entity.User;
 import com.example.myaccountsystem.repository.UserRepository;
+import com.example.myaccountsystem.sharding.ShardRouter;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.boot.CommandLineRunner;
@@ -18,36 +19,42 @@ import java.util.List;
 public class DataInitializer {
 
     private final UserRepository userRepository;
+    private final ShardRouter shardRouter;
 
     @Bean
     public CommandLineRunner initializeData() {
         return args -> {
             log.info("Starting data initialization...");
 
-            if (userRepository.count() == 0) {
-                List<User> users = Arrays.asList(
-                        User.builder()
-                                .userId("user1")
-                                .name("사용자1")
-                                .createdAt(LocalDateTime.now())
-                                .build(),
-                        User.builder()
-                                .userId("user2")
-                                .name("사용자2")
-                                .createdAt(LocalDateTime.now())
-                                .build(),
-                        User.builder()
-                                .userId("user3")
-                                .name("사용자3")
-                                .createdAt(LocalDateTime.now())
-                                .build()
-                );
-
-                userRepository.saveAll(users);
-                log.info("Sample users created: {}", users.size());
-            } else {
-                log.info("Users already exist, skipping initialization...");
-            }
+            // 사용자는 계좌가 참조하는 기준 데이터이므로 모든 샤드에 같은 내용으로 둔다.
+            shardRouter.forEachShard(shard -> initializeUsers());
         };
     }
+
+    private void initializeUsers() {
+        if (userRepository.count() == 0) {
+            List<User> users = Arrays.asList(
+                    User.builder()
+                            .userId("user1")
+                            .name("사용자1")
+                            .createdAt(LocalDateTime.now())
+                            .build(),
+                    User.builder()
+                            .userId("user2")
+                            .name("사용자2")
+                            .createdAt(LocalDateTime.now())
+                            .build(),
+                    User.builder()
+                            .userId("user3")
+                            .name("사용자3")
+                            .createdAt(LocalDateTime.now())
+                            .build()
+            );
+
+            userRepository.saveAll(users);
+            log.info("Sample users created: {}", users.size());
+        } else {
+            log.info("Users already exist, skipping initialization...");
+        }
+    }
 }
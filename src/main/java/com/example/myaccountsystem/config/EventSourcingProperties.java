@@ -0,0 +1,15 @@
+package com.example.myaccountsystem.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "account.event-sourcing")
+public class EventSourcingProperties {
+    private boolean enabled = false;
+    // 이벤트 순번이 이 값의 배수가 될 때마다 스냅샷을 남긴다. 잔액 계산 시 읽는 이벤트는 이보다 적다.
+    private int snapshotInterval = 100;
+    private int recoveryThreads = 4;
+}
@@ -0,0 +1,23 @@
+package com.example.myaccountsystem.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "account.failed-transaction")
+public class FailedTransactionProperties {
+    private boolean enabled = true;
+    private int queueCapacity = 10_000;
+    private int batchSize = 200;
+    private Duration flushInterval = Duration.ofMillis(200);
+    private OverflowPolicy overflowPolicy = OverflowPolicy.DROP;
+    private Duration blockTimeout = Duration.ofMillis(50);
+
+    public enum OverflowPolicy {
+        DROP, BLOCK
+    }
+}
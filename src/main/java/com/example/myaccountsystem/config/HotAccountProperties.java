@@ -0,0 +1,17 @@
+package com.example.myaccountsystem.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "account.hot-account")
+public class HotAccountProperties {
+    private boolean enabled = true;
+    private int width = 4096;
+    private int depth = 4;
+    private int capacity = 100;
+    private double decayFactor = 0.5;
+    private long decayIntervalMs = 60_000;
+}
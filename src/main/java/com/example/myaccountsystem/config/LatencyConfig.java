@@ -0,0 +1,19 @@
+package com.example.myaccountsystem.config;
+
+import com.example.myaccountsystem.monitoring.ControllerLatencyFilter;
+import com.example.myaccountsystem.monitoring.LatencyRecorders;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class LatencyConfig {
+
+    @Bean
+    public FilterRegistrationBean<ControllerLatencyFilter> controllerLatencyFilter(LatencyRecorders latencyRecorders) {
+        FilterRegistrationBean<ControllerLatencyFilter> registration =
+                new FilterRegistrationBean<>(new ControllerLatencyFilter(latencyRecorders));
+        registration.addUrlPatterns("/api/*");
+        return registration;
+    }
+}
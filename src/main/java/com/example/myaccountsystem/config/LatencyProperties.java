@@ -0,0 +1,24 @@
+package com.example.myaccountsystem.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.List;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "account.latency")
+public class LatencyProperties {
+    private long intervalMs = 10_000;
+    private List<Duration> windows = List.of(Duration.ofMinutes(1), Duration.ofMinutes(5));
+    private Duration highestTrackableValue = Duration.ofSeconds(60);
+    private int significantDigits = 3;
+    private String logFile;
+
+    public int intervalsToKeep() {
+        long longest = windows.stream().mapToLong(Duration::toMillis).max().orElse(intervalMs);
+        return (int) Math.max(1, (longest + intervalMs - 1) / intervalMs);
+    }
+}
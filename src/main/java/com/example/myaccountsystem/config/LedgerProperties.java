@@ -0,0 +1,20 @@
+package com.example.myaccountsystem.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.util.unit.DataSize;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "account.ledger")
+public class LedgerProperties {
+    // jpa | mapped
+    private String backend = "jpa";
+    private String directory = "data/ledger";
+    private DataSize segmentSize = DataSize.ofMegabytes(64);
+    // 커밋마다 매핑된 페이지를 디스크에 내린다. 끄면 프로세스 장애는 견디지만 OS 장애 시 최근 기록을 잃을 수 있다.
+    private boolean forceOnCommit = false;
+    // 커밋 여부를 모르는 대기 레코드를 DB 와 맞춰 보는 주기
+    private long reconcileIntervalMs = 10_000;
+}
@@ -0,0 +1,15 @@
+package com.example.myaccountsystem.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "account.outbox")
+public class OutboxProperties {
+    private String publisher = "redis-stream";
+    private String streamKey = "ledger-events";
+    private int batchSize = 100;
+    private long relayLockTimeout = 10000;
+}
@@ -0,0 +1,35 @@
+package com.example.myaccountsystem.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.util.HashMap;
+import java.util.Map;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "account.rate-limit")
+public class RateLimitProperties {
+    private boolean enabled = true;
+    private String backend = "in-memory";
+    private Map<String, EndpointPolicy> endpoints = new HashMap<>();
+
+    @Getter
+    @Setter
+    public static class EndpointPolicy {
+        private BucketPolicy user;
+        private BucketPolicy account;
+    }
+
+    @Getter
+    @Setter
+    public static class BucketPolicy {
+        private int capacity;
+        private double refillPerSecond;
+
+        public long emissionIntervalNanos() {
+            return (long) (1_000_000_000L / refillPerSecond);
+        }
+    }
+}
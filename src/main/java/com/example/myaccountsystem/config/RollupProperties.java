@@ -0,0 +1,18 @@
+package com.example.myaccountsystem.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "account.rollup")
+public class RollupProperties {
+    private boolean enabled = true;
+    // 한 번에 모아 반영할 거래 수. 같은 계좌·사용자·구간의 거래는 행 하나의 증분으로 합쳐진다.
+    private int batchSize = 1_000;
+    private long intervalMs = 1_000;
+    private long lockTimeout = 10_000;
+    // 다른 반영기와 겹친 배치를 한 번의 실행 안에서 다시 시도하는 횟수. 넘기면 다음 실행으로 미룬다.
+    private int conflictRetries = 3;
+}
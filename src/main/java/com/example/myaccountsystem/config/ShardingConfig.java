@@ -0,0 +1,56 @@
+package com.example.myaccountsystem.config;
+
+import com.example.myaccountsystem.sharding.ShardRouter;
+import com.example.myaccountsystem.sharding.ShardRoutingDataSource;
+import com.example.myaccountsystem.sharding.ShardSchemaInitializer;
+import com.zaxxer.hikari.HikariDataSource;
+import jakarta.persistence.EntityManagerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.jdbc.DataSourceBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.util.List;
+
+/**
+ * account.sharding.enabled=true 이면 account.sharding.shards 의 데이터소스를 계좌번호 해시로 나눠 쓴다.
+ */
+@Configuration
+@ConditionalOnProperty(name = "account.sharding.enabled", havingValue = "true")
+public class ShardingConfig {
+
+    @Bean
+    public DataSource shardRoutingDataSource(ShardingProperties properties) {
+        List<HikariDataSource> shards = properties.getShards().stream()
+                .map(shard -> DataSourceBuilder.create()
+                        .type(HikariDataSource.class)
+                        .url(shard.getUrl())
+                        .username(shard.getUsername())
+                        .password(shard.getPassword())
+                        .build())
+                .toList();
+
+        ShardRoutingDataSource routingDataSource = new ShardRoutingDataSource(shards);
+        routingDataSource.afterPropertiesSet();
+        return routingDataSource;
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(@Qualifier("shardRoutingDataSource") DataSource shardRoutingDataSource) {
+        return new LazyConnectionDataSourceProxy(shardRoutingDataSource);
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "account.sharding.initialize-schema", havingValue = "true", matchIfMissing = true)
+    public ShardSchemaInitializer shardSchemaInitializer(
+            EntityManagerFactory entityManagerFactory,
+            ShardRouter shardRouter
+    ) {
+        return new ShardSchemaInitializer(entityManagerFactory, shardRouter);
+    }
+}
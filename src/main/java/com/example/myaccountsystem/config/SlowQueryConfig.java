@@ -0,0 +1,41 @@
+package com.example.myaccountsystem.config;
+
+import com.example.myaccountsystem.monitoring.SlowQueryListener;
+import com.example.myaccountsystem.monitoring.SlowQueryLog;
+import net.ttddyy.dsproxy.support.ProxyDataSource;
+import net.ttddyy.dsproxy.support.ProxyDataSourceBuilder;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+
+/**
+ * show-sql 대신 DataSource 를 프록시로 감싸 임계값을 넘는 문장만 기록한다.
+ */
+@Configuration
+@ConditionalOnProperty(name = "account.slow-query.enabled", havingValue = "true", matchIfMissing = true)
+public class SlowQueryConfig {
+
+    @Bean
+    public static BeanPostProcessor slowQueryDataSourcePostProcessor(ObjectProvider<SlowQueryLog> slowQueryLog) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                // 라우팅/지연 프록시는 감싸지 않고 실제 풀만 감싸서 문장이 두 번 기록되지 않게 한다.
+                if (bean instanceof DataSource dataSource
+                        && !(bean instanceof ProxyDataSource)
+                        && !(bean instanceof DelegatingDataSource)) {
+                    return ProxyDataSourceBuilder.create(dataSource)
+                            .name(beanName)
+                            .listener(new SlowQueryListener(slowQueryLog, dataSource))
+                            .build();
+                }
+                return bean;
+            }
+        };
+    }
+}
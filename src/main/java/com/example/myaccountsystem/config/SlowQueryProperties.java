@@ -0,0 +1,18 @@
+package com.example.myaccountsystem.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "account.slow-query")
+public class SlowQueryProperties {
+    private boolean enabled = true;
+    private Duration threshold = Duration.ofMillis(200);
+    private Duration lockWaitThreshold = Duration.ofMillis(50);
+    private double explainSampleRate = 0.0;
+    private int maxStatements = 200;
+}
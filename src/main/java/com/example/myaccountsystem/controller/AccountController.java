@@ -2,14 +2,19 @@ package com.example.myaccountsystem.controller;
 
 import com.example.myaccountsystem.dto.*;
 import com.example.myaccountsystem.entity.Account;
-import com.example.myaccountsystem.exception.AccountException;
 import com.example.myaccountsystem.service.AccountService;
+import com.example.myaccountsystem.service.AccountVersion;
+import com.example.myaccountsystem.service.AccountVersionService;
+import com.example.myaccountsystem.service.TransactionService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
-import org.springframework.http.HttpStatus;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.CacheControl;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
+import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.stream.Collectors;
@@ -19,6 +24,8 @@ import java.util.stream.Collectors;
 @RequestMapping("/api/account")
 public class AccountController {
     private final AccountService accountService;
+    private final AccountVersionService accountVersionService;
+    private final TransactionService transactionService;
 
     @PostMapping
     public ResponseEntity<CreateAccountResponse> createAccount(
@@ -36,9 +43,17 @@ public class AccountController {
 
     @GetMapping("/{userId}")
     public ResponseEntity<GetAccountsResponse> getAccounts(
-            @PathVariable String userId
+            @PathVariable String userId,
+            WebRequest webRequest
     ) {
-        List<Account> accounts = accountService.getAccountsByUserId(userId);
+        // 버전을 먼저 읽어야 조회 도중 커밋된 변경이 이전 ETag 로 캐시되지 않는다.
+        AccountVersion version = accountVersionService.currentVersion(userId);
+        if (version != null && webRequest.checkNotModified(version.eTag())) {
+            return null;
+        }
+
+        // 본문은 이 버전 이후에 시작한 조회에서만 가져와, 이전 목록이 새 ETag 로 나가지 않게 한다.
+        List<Account> accounts = accountService.getAccountsByUserId(userId, version);
 
         List<GetAccountsResponse.AccountDto> accountDtos = accounts.stream()
                 .map(account -> GetAccountsResponse.AccountDto.builder()
@@ -52,16 +67,27 @@ public class AccountController {
                 .accounts(accountDtos)
                 .build();
 
-        return ResponseEntity.ok(response);
+        ResponseEntity.BodyBuilder responseBuilder = ResponseEntity.ok()
+                .cacheControl(CacheControl.noCache());
+        if (version != null) {
+            responseBuilder.eTag(version.eTag());
+        }
+
+        return responseBuilder.body(response);
     }
 
-    @ExceptionHandler(AccountException.class)
-    public ResponseEntity<ErrorResponse> handleAccountException(AccountException e) {
-        ErrorResponse errorResponse = ErrorResponse.builder()
-                .errorCode(e.getErrorCode().name())
-                .errorMessage(e.getErrorCode().getDescription())
-                .build();
+    @GetMapping("/{accountNumber}/balance")
+    public ResponseEntity<GetBalanceAsOfResponse> getBalanceAsOf(
+            @PathVariable String accountNumber,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime asOf
+    ) {
+        return ResponseEntity.ok(transactionService.getBalanceAsOf(accountNumber, asOf));
+    }
 
-        return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(errorResponse);
+    @PostMapping("/balances")
+    public ResponseEntity<GetBalancesAsOfResponse> getBalancesAsOf(
+            @RequestBody @Valid GetBalancesAsOfRequest request
+    ) {
+        return ResponseEntity.ok(transactionService.getBalancesAsOf(request));
     }
 }
@@ -0,0 +1,38 @@
+package com.example.myaccountsystem.controller;
+
+import com.example.myaccountsystem.dto.GetAggregatesResponse;
+import com.example.myaccountsystem.service.AggregateService;
+import com.example.myaccountsystem.type.RollupGranularity;
+import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.LocalDateTime;
+
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/aggregates")
+public class AggregateController {
+    private final AggregateService aggregateService;
+
+    @GetMapping("/accounts/{accountNumber}")
+    public ResponseEntity<GetAggregatesResponse> getAccountAggregates(
+            @PathVariable String accountNumber,
+            @RequestParam(defaultValue = "DAY") RollupGranularity granularity,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to
+    ) {
+        return ResponseEntity.ok(aggregateService.getAccountAggregates(accountNumber, granularity, from, to));
+    }
+
+    @GetMapping("/users/{userId}")
+    public ResponseEntity<GetAggregatesResponse> getUserAggregates(
+            @PathVariable String userId,
+            @RequestParam(defaultValue = "DAY") RollupGranularity granularity,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to
+    ) {
+        return ResponseEntity.ok(aggregateService.getUserAggregates(userId, granularity, from, to));
+    }
+}
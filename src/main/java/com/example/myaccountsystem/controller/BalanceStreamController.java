@@ -0,0 +1,22 @@
+package com.example.myaccountsystem.controller;
+
+import com.example.myaccountsystem.event.BalanceEventHub;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/account")
+public class BalanceStreamController {
+    private final BalanceEventHub balanceEventHub;
+
+    @GetMapping(path = "/{userId}/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamBalances(@PathVariable String userId) {
+        return balanceEventHub.subscribe(userId);
+    }
+}
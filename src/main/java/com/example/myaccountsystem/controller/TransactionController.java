@@ -1,48 +1,89 @@
 package com.example.myaccountsystem.controller;
 
+import com.example.myaccountsystem.admission.AdmissionControlService;
 import com.example.myaccountsystem.dto.*;
-import com.example.myaccountsystem.exception.AccountException;
+import com.example.myaccountsystem.ratelimit.RateLimitService;
 import com.example.myaccountsystem.service.TransactionService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
-import org.springframework.http.HttpStatus;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.CacheControl;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
 
 @RestController
 @RequiredArgsConstructor
 @RequestMapping("/api/transaction")
 public class TransactionController {
     private final TransactionService transactionService;
+    private final RateLimitService rateLimitService;
+    private final AdmissionControlService admissionControlService;
+
+    private static final CacheControl TRANSACTION_CACHE_CONTROL =
+            CacheControl.maxAge(Duration.ofDays(365)).cachePrivate().immutable();
 
     @PostMapping("/use")
     public ResponseEntity<UseBalanceResponse> useBalance(
             @RequestBody @Valid UseBalanceRequest request
     ) {
-        return ResponseEntity.ok(transactionService.useBalance(request));
+        rateLimitService.checkLimit("use", request.getUserId(), request.getAccountNumber());
+        return ResponseEntity.ok(admissionControlService.execute(
+                request.getAccountNumber(),
+                () -> transactionService.useBalance(request)
+        ));
     }
 
     @PostMapping("/cancel")
     public ResponseEntity<CancelBalanceResponse> cancelBalance(
             @RequestBody @Valid CancelBalanceRequest request
     ) {
-        return ResponseEntity.ok(transactionService.cancelBalance(request));
+        rateLimitService.checkLimit("cancel", null, request.getAccountNumber());
+        return ResponseEntity.ok(admissionControlService.execute(
+                request.getAccountNumber(),
+                () -> transactionService.cancelBalance(request)
+        ));
     }
 
-    @GetMapping("/{transactionId}")
-    public ResponseEntity<GetTransactionResponse> getTransaction(
-            @PathVariable Long transactionId
+    @PostMapping("/transfer")
+    public ResponseEntity<TransferBalanceResponse> transferBalance(
+            @RequestBody @Valid TransferBalanceRequest request
+    ) {
+        rateLimitService.checkLimit("transfer", request.getUserId(), request.getFromAccountNumber());
+        return ResponseEntity.ok(admissionControlService.execute(
+                List.of(request.getFromAccountNumber(), request.getToAccountNumber()),
+                () -> transactionService.transferBalance(request)
+        ));
+    }
+
+    @GetMapping("/history")
+    public ResponseEntity<GetTransactionHistoryResponse> getTransactionHistory(
+            @RequestParam String accountNumber,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to,
+            @RequestParam(defaultValue = "100") int limit
     ) {
-        return ResponseEntity.ok(transactionService.getTransaction(transactionId));
+        return ResponseEntity.ok(transactionService.getTransactionHistory(accountNumber, from, to, limit));
     }
 
-    @ExceptionHandler(AccountException.class)
-    public ResponseEntity<ErrorResponse> handleAccountException(AccountException e) {
-        ErrorResponse errorResponse = ErrorResponse.builder()
-                .errorCode(e.getErrorCode().name())
-                .errorMessage(e.getErrorCode().getDescription())
-                .build();
+    @GetMapping("/{transactionId}")
+    public ResponseEntity<GetTransactionResponse> getTransaction(
+            @PathVariable Long transactionId,
+            WebRequest webRequest
+    ) {
+        // 거래는 생성 후 변경되지 않으므로 거래 ID 만으로 조회 없이 304 를 응답할 수 있다.
+        String eTag = String.valueOf(transactionId);
+        if (webRequest.checkNotModified(eTag)) {
+            return null;
+        }
 
-        return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(errorResponse);
+        return ResponseEntity.ok()
+                .cacheControl(TRANSACTION_CACHE_CONTROL)
+                .eTag(eTag)
+                .body(transactionService.getTransaction(transactionId));
     }
 }
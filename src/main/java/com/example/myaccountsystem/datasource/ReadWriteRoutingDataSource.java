@@ -0,0 +1,68 @@
+package com.example.myaccountsystem.datasource;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.util.Map;
+
+/**
+ * 읽기 전용 트랜잭션을 레플리카로 보낸다.
+ * 복제 지연이 크거나, 요청이 레플리카에 아직 반영되지 않은 쓰기를 요구하면 프라이머리를 쓴다.
+ * 트랜잭션의 readOnly 여부가 정해진 뒤 커넥션을 얻도록 LazyConnectionDataSourceProxy 로 감싸서 사용한다.
+ */
+public class ReadWriteRoutingDataSource extends AbstractRoutingDataSource {
+    private final ReplicaLagMonitor replicaLagMonitor;
+    private final Counter primaryWrites;
+    private final Counter replicaReads;
+    private final Counter lagFallbacks;
+    private final Counter readYourWritesFallbacks;
+
+    public ReadWriteRoutingDataSource(
+            DataSource primary,
+            DataSource replica,
+            ReplicaLagMonitor replicaLagMonitor,
+            MeterRegistry meterRegistry
+    ) {
+        this.replicaLagMonitor = replicaLagMonitor;
+        this.primaryWrites = meterRegistry.counter("account.db.routing", "target", "primary", "reason", "write");
+        this.replicaReads = meterRegistry.counter("account.db.routing", "target", "replica", "reason", "read");
+        this.lagFallbacks = meterRegistry.counter("account.db.routing", "target", "primary", "reason", "replica_lag");
+        this.readYourWritesFallbacks =
+                meterRegistry.counter("account.db.routing", "target", "primary", "reason", "read_your_writes");
+
+        setTargetDataSources(Map.of(Target.PRIMARY, primary, Target.REPLICA, replica));
+        setDefaultTargetDataSource(primary);
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            if (TransactionSynchronizationManager.isSynchronizationActive()) {
+                primaryWrites.increment();
+                TransactionSynchronizationManager.registerSynchronization(ReadYourWritesContext.WRITE_TRACKER);
+            }
+            return Target.PRIMARY;
+        }
+
+        if (!replicaLagMonitor.isReplicaUsable()) {
+            lagFallbacks.increment();
+            return Target.PRIMARY;
+        }
+
+        Long requiredTimestamp = ReadYourWritesContext.requiredTimestamp();
+        if (requiredTimestamp != null && !replicaLagMonitor.hasReplicated(requiredTimestamp)) {
+            readYourWritesFallbacks.increment();
+            return Target.PRIMARY;
+        }
+
+        replicaReads.increment();
+        return Target.REPLICA;
+    }
+
+    public enum Target {
+        PRIMARY, REPLICA
+    }
+}
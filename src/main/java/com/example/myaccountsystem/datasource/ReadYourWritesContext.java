@@ -0,0 +1,55 @@
+package com.example.myaccountsystem.datasource;
+
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+/**
+ * 요청 단위 read-your-writes 토큰.
+ * 쓰기 트랜잭션이 커밋되면 커밋 시각을 응답 헤더로 내려주고, 클라이언트가 다음 요청에 같은 헤더를 보내면
+ * 레플리카가 그 시각까지 따라잡기 전에는 읽기도 프라이머리로 보낸다.
+ */
+public final class ReadYourWritesContext {
+    public static final String HEADER = "X-Read-Your-Writes";
+
+    private static final ThreadLocal<Long> REQUIRED_TIMESTAMP = new ThreadLocal<>();
+
+    static final TransactionSynchronization WRITE_TRACKER = new TransactionSynchronization() {
+        @Override
+        public void afterCommit() {
+            writeCommitted(System.currentTimeMillis());
+        }
+    };
+
+    private ReadYourWritesContext() {
+    }
+
+    public static void require(long timestamp) {
+        Long current = REQUIRED_TIMESTAMP.get();
+        if (current == null || timestamp > current) {
+            REQUIRED_TIMESTAMP.set(timestamp);
+        }
+    }
+
+    public static Long requiredTimestamp() {
+        return REQUIRED_TIMESTAMP.get();
+    }
+
+    public static void clear() {
+        REQUIRED_TIMESTAMP.remove();
+    }
+
+    // 요청 스레드에서 커밋된 쓰기만 토큰으로 남긴다. (스케줄러 등 백그라운드 쓰기는 제외)
+    static void writeCommitted(long committedAt) {
+        if (!(RequestContextHolder.getRequestAttributes() instanceof ServletRequestAttributes attributes)) {
+            return;
+        }
+
+        require(committedAt);
+        HttpServletResponse response = attributes.getResponse();
+        if (response != null && !response.isCommitted()) {
+            response.setHeader(HEADER, String.valueOf(requiredTimestamp()));
+        }
+    }
+}
@@ -0,0 +1,37 @@
+package com.example.myaccountsystem.datasource;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+
+/**
+ * 요청의 read-your-writes 헤더를 ReadYourWritesContext 에 옮기고, 요청이 끝나면 비운다.
+ */
+public class ReadYourWritesFilter extends OncePerRequestFilter {
+
+    @Override
+    protected void doFilterInternal(
+            HttpServletRequest request,
+            HttpServletResponse response,
+            FilterChain filterChain
+    ) throws ServletException, IOException {
+        String token = request.getHeader(ReadYourWritesContext.HEADER);
+        if (token != null) {
+            try {
+                ReadYourWritesContext.require(Long.parseLong(token.trim()));
+            } catch (NumberFormatException ignored) {
+                // 잘못된 토큰은 무시하고 일반 라우팅을 따른다.
+            }
+        }
+
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            ReadYourWritesContext.clear();
+        }
+    }
+}
@@ -0,0 +1,92 @@
+package com.example.myaccountsystem.datasource;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import java.time.Duration;
+import java.util.function.LongSupplier;
+
+/**
+ * 프라이머리에 주기적으로 하트비트 시각을 쓰고 레플리카에서 읽어 복제 지연을 추정한다.
+ * 레플리카에 보이는 하트비트 시각 이전에 커밋된 쓰기는 레플리카에도 반영되어 있다고 본다.
+ */
+@Slf4j
+public class ReplicaLagMonitor {
+    private static final String CREATE_TABLE_SQL =
+            "create table if not exists replica_heartbeat (id int primary key, beat_at bigint not null)";
+    private static final String UPDATE_SQL = "update replica_heartbeat set beat_at = ? where id = 1";
+    private static final String SELECT_SQL = "select beat_at from replica_heartbeat where id = 1";
+    private static final long UNKNOWN = -1;
+
+    private final JdbcTemplate primary;
+    private final JdbcTemplate replica;
+    private final long maxLagMillis;
+    private final LongSupplier clock;
+
+    private volatile long replicatedAt = UNKNOWN;
+
+    public ReplicaLagMonitor(JdbcTemplate primary, JdbcTemplate replica, Duration maxLag, MeterRegistry meterRegistry) {
+        this(primary, replica, maxLag, meterRegistry, System::currentTimeMillis);
+    }
+
+    ReplicaLagMonitor(
+            JdbcTemplate primary,
+            JdbcTemplate replica,
+            Duration maxLag,
+            MeterRegistry meterRegistry,
+            LongSupplier clock
+    ) {
+        this.primary = primary;
+        this.replica = replica;
+        this.maxLagMillis = maxLag.toMillis();
+        this.clock = clock;
+        meterRegistry.gauge("account.db.replica.lag", this, ReplicaLagMonitor::lagMillis);
+    }
+
+    @PostConstruct
+    public void createHeartbeatTable() {
+        try {
+            primary.execute(CREATE_TABLE_SQL);
+            if (primary.update(UPDATE_SQL, clock.getAsLong()) == 0) {
+                primary.update("insert into replica_heartbeat (id, beat_at) values (1, ?)", clock.getAsLong());
+            }
+        } catch (DataAccessException e) {
+            log.warn("Replica heartbeat table unavailable, reads stay on primary", e);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${account.replica.heartbeat-interval-ms:500}")
+    public void heartbeat() {
+        try {
+            primary.update(UPDATE_SQL, clock.getAsLong());
+        } catch (DataAccessException e) {
+            log.debug("Failed to write replica heartbeat", e);
+        }
+
+        try {
+            Long beatAt = replica.queryForObject(SELECT_SQL, Long.class);
+            replicatedAt = beatAt == null ? UNKNOWN : beatAt;
+        } catch (DataAccessException e) {
+            replicatedAt = UNKNOWN;
+            log.debug("Failed to read replica heartbeat", e);
+        }
+    }
+
+    public boolean isReplicaUsable() {
+        long at = replicatedAt;
+        return at != UNKNOWN && clock.getAsLong() - at <= maxLagMillis;
+    }
+
+    public boolean hasReplicated(long committedAt) {
+        return replicatedAt >= committedAt;
+    }
+
+    public double lagMillis() {
+        long at = replicatedAt;
+        return at == UNKNOWN ? Double.NaN : clock.getAsLong() - at;
+    }
+}
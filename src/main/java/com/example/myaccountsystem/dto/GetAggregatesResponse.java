@@ -0,0 +1,43 @@
+package com.example.myaccountsystem.dto;
+
+import com.example.myaccountsystem.type.RollupGranularity;
+import com.example.myaccountsystem.type.RollupScope;
+import lombok.*;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class GetAggregatesResponse {
+    private RollupScope scope;
+    // 계좌번호 또는 사용자 ID
+    private String key;
+    private RollupGranularity granularity;
+    // 거래가 없는 구간은 빠진다.
+    private List<BucketDto> buckets;
+
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    public static class BucketDto {
+        private LocalDateTime bucketStart;
+        private long useCount;
+        private long useAmount;
+        private long cancelCount;
+        private long cancelAmount;
+        private long transferOutCount;
+        private long transferOutAmount;
+        private long transferInCount;
+        private long transferInAmount;
+        // 사용 + 이체 출금
+        private long debitAmount;
+        // 취소 건수 / 사용 건수. 사용이 없으면 0
+        private double cancelRate;
+    }
+}
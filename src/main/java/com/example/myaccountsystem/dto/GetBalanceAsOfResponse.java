@@ -0,0 +1,23 @@
+package com.example.myaccountsystem.dto;
+
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class GetBalanceAsOfResponse {
+    private String accountNumber;
+    private LocalDateTime asOf;
+    // asOf 이전 마지막 성공 거래 직후의 잔액. 그때까지 거래가 없었으면 개설 잔액이다.
+    private Long balance;
+    // asOf 에 계좌가 개설되어 있었는지. 개설 전 시점이거나 없는 계좌면 false 이고 잔액은 비어 있다.
+    private boolean accountExisted;
+    // balance 가 실제 잔액인지. 개설 잔액이 기록되기 전에 만든 계좌의 첫 거래 전 시점이면 계좌는 있었어도 false 이다.
+    private boolean balanceKnown;
+    private Long transactionId;
+    private LocalDateTime transactedAt;
+}
@@ -0,0 +1,35 @@
+package com.example.myaccountsystem.dto;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.*;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class GetBalancesAsOfRequest {
+    @NotEmpty
+    @Size(max = 1000)
+    private List<@Valid Query> queries;
+
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    public static class Query {
+        @NotBlank
+        private String accountNumber;
+
+        @NotNull
+        private LocalDateTime asOf;
+    }
+}
@@ -0,0 +1,15 @@
+package com.example.myaccountsystem.dto;
+
+import lombok.*;
+
+import java.util.List;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class GetBalancesAsOfResponse {
+    // 요청한 순서대로
+    private List<GetBalanceAsOfResponse> balances;
+}
@@ -0,0 +1,15 @@
+package com.example.myaccountsystem.dto;
+
+import lombok.*;
+
+import java.util.List;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class GetTransactionHistoryResponse {
+    private String accountNumber;
+    private List<GetTransactionResponse> transactions;
+}
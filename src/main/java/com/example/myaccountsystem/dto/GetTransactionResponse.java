@@ -1,5 +1,6 @@
 package com.example.myaccountsystem.dto;
 
+import com.example.myaccountsystem.type.ErrorCode;
 import com.example.myaccountsystem.type.TransactionResultType;
 import com.example.myaccountsystem.type.TransactionType;
 import lombok.*;
@@ -18,4 +19,5 @@ public class GetTransactionResponse {
     private Long transactionId;
     private Long amount;
     private LocalDateTime transactedAt;
+    private ErrorCode errorCode;
 }
@@ -0,0 +1,26 @@
+package com.example.myaccountsystem.dto;
+
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import lombok.*;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class TransferBalanceRequest {
+    @NotBlank
+    private String userId;
+
+    @NotBlank
+    private String fromAccountNumber;
+
+    @NotBlank
+    private String toAccountNumber;
+
+    @NotNull
+    @Min(10)
+    private Long amount;
+}
@@ -0,0 +1,21 @@
+package com.example.myaccountsystem.dto;
+
+import com.example.myaccountsystem.type.TransactionResultType;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class TransferBalanceResponse {
+    private String fromAccountNumber;
+    private String toAccountNumber;
+    private TransactionResultType transactionResult;
+    private Long withdrawTransactionId;
+    private Long depositTransactionId;
+    private Long amount;
+    private LocalDateTime transactedAt;
+}
@@ -21,10 +21,17 @@ public class Account {
 
     private Long balance;
 
+    // 개설할 때의 잔액. 시점 잔액 조회에서 첫 거래 전 시점의 잔액으로 쓴다.
+    private Long openingBalance;
+
     @Enumerated(EnumType.STRING)
     private AccountStatus accountStatus;
 
     private LocalDateTime createdAt;
 
     private LocalDateTime unregisteredAt;
+
+    // 이벤트 소싱 모드에서 잠근 계좌에 마지막으로 반영한 거래 이벤트 순번. 저장하지 않는다.
+    @Transient
+    private Long eventSequence;
 }
@@ -0,0 +1,28 @@
+package com.example.myaccountsystem.entity;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * 이벤트 소싱 모드에서 계좌 잔액을 다시 계산할 때 출발점이 되는 스냅샷. 계좌마다 가장 최근 것 하나만 둔다.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Entity
+public class BalanceSnapshot {
+    @Id
+    private String accountNumber;
+
+    private Long balance;
+
+    // 이 잔액에 반영된 마지막 거래 이벤트 순번
+    private Long eventSequence;
+
+    private LocalDateTime snapshotAt;
+}
@@ -0,0 +1,43 @@
+package com.example.myaccountsystem.entity;
+
+import com.example.myaccountsystem.type.TransactionType;
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Entity
+@Table(indexes = {
+        @Index(name = "idx_outbox_event_unpublished", columnList = "published_at, id"),
+        @Index(name = "idx_outbox_event_not_rolled_up", columnList = "rolled_up_at, id")
+})
+public class OutboxEvent {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    private Long transactionId;
+
+    private String accountNumber;
+
+    @Enumerated(EnumType.STRING)
+    private TransactionType transactionType;
+
+    private Long amount;
+
+    private Long balanceSnapshot;
+
+    private LocalDateTime transactedAt;
+
+    private LocalDateTime createdAt;
+
+    private LocalDateTime publishedAt;
+
+    // TransactionRollupApplier 가 집계에 더한 시각. 집계와 같은 트랜잭션에서 기록한다.
+    private LocalDateTime rolledUpAt;
+}
@@ -1,9 +1,11 @@
 package com.example.myaccountsystem.entity;
 
+import com.example.myaccountsystem.type.ErrorCode;
 import com.example.myaccountsystem.type.TransactionResultType;
 import com.example.myaccountsystem.type.TransactionType;
 import jakarta.persistence.*;
 import lombok.*;
+import org.springframework.data.domain.Persistable;
 
 import java.time.LocalDateTime;
 
@@ -13,9 +15,18 @@ import java.time.LocalDateTime;
 @AllArgsConstructor
 @Builder
 @Entity
-public class Transaction {
+@Table(indexes = {
+        // 취소 검증에 필요한 컬럼만 담아 테이블 행을 읽지 않고 인덱스에서 끝낸다.
+        @Index(name = "idx_transaction_cancel_lookup", columnList = "transaction_id, account_account_number, amount, "
+                + "transaction_type, transaction_result_type, cancel_transaction_id"),
+        @Index(name = "idx_transaction_account_time", columnList = "account_account_number, transacted_at"),
+        // 같은 순번의 이벤트가 두 번 쓰이지 않게 하고, 스냅샷 이후 이벤트를 순번 범위로 읽는다.
+        @Index(name = "uk_transaction_account_event", columnList = "account_account_number, event_sequence",
+                unique = true)
+})
+public class Transaction implements Persistable<Long> {
+    // 샤드와 월 파티션을 담은 ID 를 저장 전에 발급한다. (TransactionIdAllocator)
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long transactionId;
 
     @ManyToOne
@@ -32,4 +43,38 @@ public class Transaction {
     private Long balanceSnapshot;
 
     private LocalDateTime transactedAt;
+
+    private Long linkedTransactionId;
+
+    // 이벤트 소싱 모드에서 계좌별로 1부터 매기는 성공 거래 순번. 그 밖의 거래는 비어 있다.
+    private Long eventSequence;
+
+    // 이 거래를 취소한 거래의 ID. 값이 있으면 이미 취소된 거래다.
+    private Long cancelTransactionId;
+
+    @Enumerated(EnumType.STRING)
+    private ErrorCode errorCode;
+
+    @Transient
+    @Builder.Default
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    private boolean newEntity = true;
+
+    @Override
+    public Long getId() {
+        return transactionId;
+    }
+
+    // ID 를 직접 발급하므로 save() 가 merge 를 위한 조회 없이 바로 insert 하도록 새 엔티티임을 알려 준다.
+    @Override
+    public boolean isNew() {
+        return newEntity;
+    }
+
+    @PostLoad
+    @PostPersist
+    void markNotNew() {
+        newEntity = false;
+    }
 }
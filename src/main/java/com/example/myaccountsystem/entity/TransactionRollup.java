@@ -0,0 +1,65 @@
+package com.example.myaccountsystem.entity;
+
+import com.example.myaccountsystem.type.RollupGranularity;
+import com.example.myaccountsystem.type.RollupScope;
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.io.Serializable;
+import java.time.LocalDateTime;
+
+/**
+ * 계좌 또는 사용자의 시간·일 단위 거래 집계 한 행. 행은 TransactionRollupApplier 가 증분으로만 더한다.
+ * 사용자 집계는 거래가 일어난 계좌의 샤드에 나뉘어 쌓이므로 읽을 때 샤드별 행을 합친다.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Entity
+@IdClass(TransactionRollup.Key.class)
+public class TransactionRollup {
+    @Id
+    @Enumerated(EnumType.STRING)
+    private RollupScope scope;
+
+    // 계좌번호 또는 사용자 ID
+    @Id
+    private String ownerKey;
+
+    @Id
+    @Enumerated(EnumType.STRING)
+    private RollupGranularity granularity;
+
+    @Id
+    private LocalDateTime bucketStart;
+
+    private long useCount;
+
+    private long useAmount;
+
+    private long cancelCount;
+
+    private long cancelAmount;
+
+    private long transferOutCount;
+
+    private long transferOutAmount;
+
+    private long transferInCount;
+
+    private long transferInAmount;
+
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @EqualsAndHashCode
+    public static class Key implements Serializable {
+        private RollupScope scope;
+        private String ownerKey;
+        private RollupGranularity granularity;
+        private LocalDateTime bucketStart;
+    }
+}
@@ -0,0 +1,19 @@
+package com.example.myaccountsystem.event;
+
+import com.example.myaccountsystem.type.AccountStatus;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class AccountStatusChangedEvent {
+    private String userId;
+    private String accountNumber;
+    private AccountStatus accountStatus;
+    private Long balance;
+    private LocalDateTime changedAt;
+}
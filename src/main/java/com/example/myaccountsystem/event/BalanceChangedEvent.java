@@ -0,0 +1,21 @@
+package com.example.myaccountsystem.event;
+
+import com.example.myaccountsystem.type.TransactionType;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class BalanceChangedEvent {
+    private String userId;
+    private String accountNumber;
+    private Long balance;
+    private TransactionType transactionType;
+    private Long transactionId;
+    private Long amount;
+    private LocalDateTime changedAt;
+}
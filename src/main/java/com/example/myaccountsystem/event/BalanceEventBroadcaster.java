@@ -0,0 +1,5 @@
+package com.example.myaccountsystem.event;
+
+public interface BalanceEventBroadcaster {
+    void broadcast(BalanceChangedEvent event);
+}
@@ -0,0 +1,17 @@
+package com.example.myaccountsystem.event;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+@Component
+@RequiredArgsConstructor
+public class BalanceEventForwarder {
+    private final BalanceEventBroadcaster balanceEventBroadcaster;
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onBalanceChanged(BalanceChangedEvent event) {
+        balanceEventBroadcaster.broadcast(event);
+    }
+}
@@ -0,0 +1,154 @@
+package com.example.myaccountsystem.event;
+
+import com.example.myaccountsystem.config.BalanceStreamProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+@Slf4j
+@Component
+public class BalanceEventHub {
+    private final Map<String, Set<Subscriber>> subscribers = new ConcurrentHashMap<>();
+    private final ExecutorService dispatchExecutor;
+    private final BalanceStreamProperties properties;
+    private final Counter droppedEvents;
+
+    public BalanceEventHub(BalanceStreamProperties properties, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.droppedEvents = meterRegistry.counter("account.balance-stream.dropped");
+        this.dispatchExecutor = Executors.newFixedThreadPool(properties.getDispatchThreads(), new ThreadFactory() {
+            private final AtomicInteger sequence = new AtomicInteger();
+
+            @Override
+            public Thread newThread(Runnable runnable) {
+                Thread thread = new Thread(runnable, "balance-stream-" + sequence.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            }
+        });
+        meterRegistry.gaugeMapSize("account.balance-stream.users", Tags.empty(), subscribers);
+    }
+
+    public SseEmitter subscribe(String userId) {
+        return subscribe(userId, new SseEmitter(properties.getEmitterTimeout().toMillis()));
+    }
+
+    SseEmitter subscribe(String userId, SseEmitter emitter) {
+        Subscriber subscriber = new Subscriber(userId, emitter);
+
+        subscribers.computeIfAbsent(userId, key -> new CopyOnWriteArraySet<>()).add(subscriber);
+        emitter.onCompletion(() -> unsubscribe(subscriber));
+        emitter.onTimeout(() -> unsubscribe(subscriber));
+        emitter.onError(e -> unsubscribe(subscriber));
+
+        return emitter;
+    }
+
+    public void dispatch(BalanceChangedEvent event) {
+        Set<Subscriber> userSubscribers = subscribers.get(event.getUserId());
+        if (userSubscribers == null) {
+            return;
+        }
+
+        for (Subscriber subscriber : userSubscribers) {
+            subscriber.offer(event);
+        }
+    }
+
+    public int subscriberCount(String userId) {
+        Set<Subscriber> userSubscribers = subscribers.get(userId);
+        return userSubscribers == null ? 0 : userSubscribers.size();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        dispatchExecutor.shutdownNow();
+    }
+
+    private void unsubscribe(Subscriber subscriber) {
+        subscribers.computeIfPresent(subscriber.userId, (key, userSubscribers) -> {
+            userSubscribers.remove(subscriber);
+            return userSubscribers.isEmpty() ? null : userSubscribers;
+        });
+    }
+
+    private class Subscriber {
+        private final String userId;
+        private final SseEmitter emitter;
+        private final ArrayDeque<BalanceChangedEvent> buffer = new ArrayDeque<>();
+        private final AtomicBoolean draining = new AtomicBoolean();
+
+        private Subscriber(String userId, SseEmitter emitter) {
+            this.userId = userId;
+            this.emitter = emitter;
+        }
+
+        private void offer(BalanceChangedEvent event) {
+            synchronized (buffer) {
+                // 느린 구독자가 발행 경로를 막지 않도록 버퍼가 가득 차면 가장 오래된 이벤트를 버린다.
+                if (buffer.size() >= properties.getBufferSize()) {
+                    buffer.pollFirst();
+                    droppedEvents.increment();
+                }
+                buffer.addLast(event);
+            }
+            scheduleDrain();
+        }
+
+        private void scheduleDrain() {
+            if (draining.compareAndSet(false, true)) {
+                try {
+                    dispatchExecutor.execute(this::drain);
+                } catch (RejectedExecutionException e) {
+                    draining.set(false);
+                }
+            }
+        }
+
+        private void drain() {
+            try {
+                BalanceChangedEvent event;
+                while ((event = poll()) != null) {
+                    emitter.send(SseEmitter.event()
+                            .name("balance")
+                            .id(String.valueOf(event.getTransactionId()))
+                            .data(event));
+                }
+            } catch (IOException | IllegalStateException e) {
+                log.debug("Balance stream subscriber disconnected: {}", userId);
+                unsubscribe(this);
+                return;
+            } finally {
+                draining.set(false);
+            }
+
+            if (hasPending()) {
+                scheduleDrain();
+            }
+        }
+
+        private BalanceChangedEvent poll() {
+            synchronized (buffer) {
+                return buffer.pollFirst();
+            }
+        }
+
+        private boolean hasPending() {
+            synchronized (buffer) {
+                return !buffer.isEmpty();
+            }
+        }
+    }
+}
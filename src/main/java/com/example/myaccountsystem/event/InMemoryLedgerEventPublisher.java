@@ -0,0 +1,27 @@
+package com.example.myaccountsystem.event;
+
+import com.example.myaccountsystem.entity.OutboxEvent;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@Component
+@ConditionalOnProperty(name = "account.outbox.publisher", havingValue = "in-memory")
+public class InMemoryLedgerEventPublisher implements LedgerEventPublisher {
+    private final List<OutboxEvent> publishedEvents = new ArrayList<>();
+
+    @Override
+    public synchronized void publish(List<OutboxEvent> events) {
+        publishedEvents.addAll(events);
+    }
+
+    public synchronized List<OutboxEvent> getPublishedEvents() {
+        return new ArrayList<>(publishedEvents);
+    }
+
+    public synchronized void clear() {
+        publishedEvents.clear();
+    }
+}
@@ -0,0 +1,9 @@
+package com.example.myaccountsystem.event;
+
+import com.example.myaccountsystem.entity.OutboxEvent;
+
+import java.util.List;
+
+public interface LedgerEventPublisher {
+    void publish(List<OutboxEvent> events);
+}
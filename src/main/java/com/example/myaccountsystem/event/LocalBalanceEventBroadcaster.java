@@ -0,0 +1,17 @@
+package com.example.myaccountsystem.event;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "account.balance-stream.broadcaster", havingValue = "local", matchIfMissing = true)
+public class LocalBalanceEventBroadcaster implements BalanceEventBroadcaster {
+    private final BalanceEventHub balanceEventHub;
+
+    @Override
+    public void broadcast(BalanceChangedEvent event) {
+        balanceEventHub.dispatch(event);
+    }
+}
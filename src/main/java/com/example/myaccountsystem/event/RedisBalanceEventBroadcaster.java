@@ -0,0 +1,50 @@
+package com.example.myaccountsystem.event;
+
+import com.example.myaccountsystem.config.BalanceStreamProperties;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "account.balance-stream.broadcaster", havingValue = "redis")
+public class RedisBalanceEventBroadcaster implements BalanceEventBroadcaster, MessageListener {
+    private final StringRedisTemplate stringRedisTemplate;
+    private final ObjectMapper objectMapper;
+    private final BalanceEventHub balanceEventHub;
+    private final BalanceStreamProperties properties;
+
+    @Override
+    public void broadcast(BalanceChangedEvent event) {
+        try {
+            stringRedisTemplate.convertAndSend(
+                    properties.getRedisChannel(),
+                    objectMapper.writeValueAsString(event)
+            );
+        } catch (JsonProcessingException e) {
+            log.error("Failed to serialize balance event for account: {}", event.getAccountNumber(), e);
+        } catch (Exception e) {
+            // 브리지 장애 시에도 현재 노드의 구독자는 이벤트를 받도록 한다.
+            log.error("Failed to publish balance event to Redis, dispatching locally", e);
+            balanceEventHub.dispatch(event);
+        }
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        try {
+            balanceEventHub.dispatch(objectMapper.readValue(message.getBody(), BalanceChangedEvent.class));
+        } catch (IOException e) {
+            log.error("Failed to deserialize balance event from Redis", e);
+        }
+    }
+}
@@ -0,0 +1,58 @@
+package com.example.myaccountsystem.event;
+
+import com.example.myaccountsystem.config.OutboxProperties;
+import com.example.myaccountsystem.entity.OutboxEvent;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.connection.stream.MapRecord;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "account.outbox.publisher", havingValue = "redis-stream", matchIfMissing = true)
+public class RedisStreamLedgerEventPublisher implements LedgerEventPublisher {
+    private final StringRedisTemplate stringRedisTemplate;
+    private final OutboxProperties outboxProperties;
+
+    @Override
+    public void publish(List<OutboxEvent> events) {
+        byte[] streamKey = outboxProperties.getStreamKey().getBytes(StandardCharsets.UTF_8);
+
+        stringRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            for (OutboxEvent event : events) {
+                xAdd(connection, streamKey, event);
+            }
+            return null;
+        });
+    }
+
+    private void xAdd(RedisConnection connection, byte[] streamKey, OutboxEvent event) {
+        Map<byte[], byte[]> body = new LinkedHashMap<>();
+        put(body, "outboxId", event.getId());
+        put(body, "transactionId", event.getTransactionId());
+        put(body, "accountNumber", event.getAccountNumber());
+        put(body, "transactionType", event.getTransactionType());
+        put(body, "amount", event.getAmount());
+        put(body, "balanceSnapshot", event.getBalanceSnapshot());
+        put(body, "transactedAt", event.getTransactedAt());
+
+        connection.streamCommands().xAdd(MapRecord.create(streamKey, body));
+    }
+
+    private void put(Map<byte[], byte[]> body, String field, Object value) {
+        if (value != null) {
+            body.put(
+                    field.getBytes(StandardCharsets.UTF_8),
+                    value.toString().getBytes(StandardCharsets.UTF_8)
+            );
+        }
+    }
+}
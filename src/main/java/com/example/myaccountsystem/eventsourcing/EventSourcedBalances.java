@@ -0,0 +1,282 @@
+package com.example.myaccountsystem.eventsourcing;
+
+import com.example.myaccountsystem.config.EventSourcingProperties;
+import com.example.myaccountsystem.config.LedgerProperties;
+import com.example.myaccountsystem.entity.Account;
+import com.example.myaccountsystem.entity.BalanceSnapshot;
+import com.example.myaccountsystem.entity.Transaction;
+import com.example.myaccountsystem.repository.AccountBalanceEvent;
+import com.example.myaccountsystem.repository.BalanceEvent;
+import com.example.myaccountsystem.repository.BalanceSnapshotRepository;
+import com.example.myaccountsystem.repository.TransactionRepository;
+import com.example.myaccountsystem.sharding.ShardRouter;
+import com.example.myaccountsystem.sharding.ShardScope;
+import jakarta.persistence.EntityManager;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.Session;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 이벤트 소싱 모드의 계좌 잔액. 거래 테이블의 성공 거래 이벤트가 원본이고, 잔액은 최근 스냅샷에 그 뒤 이벤트를 더해 만든다.
+ * 계좌 행의 balance 는 스냅샷이 없을 때의 출발 잔액으로만 읽고 고치지 않으므로, 잔액 변경은 이벤트 추가만으로 끝난다.
+ */
+@Slf4j
+@Component
+public class EventSourcedBalances implements SmartInitializingSingleton {
+    private static final String SELECT_ACCOUNTS_SQL = "select account_number, balance from account";
+    private static final String SELECT_OPENING_BALANCE_SQL = "select balance from account where account_number = ?";
+    private static final int RECOVERY_BATCH_SIZE = 1000;
+
+    private final EventSourcingProperties properties;
+    private final BalanceSnapshotRepository balanceSnapshotRepository;
+    private final TransactionRepository transactionRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final ShardRouter shardRouter;
+    private final EntityManager entityManager;
+
+    public EventSourcedBalances(
+            EventSourcingProperties properties,
+            LedgerProperties ledgerProperties,
+            BalanceSnapshotRepository balanceSnapshotRepository,
+            TransactionRepository transactionRepository,
+            JdbcTemplate jdbcTemplate,
+            ShardRouter shardRouter,
+            EntityManager entityManager
+    ) {
+        // 잔액을 거래 테이블에서 다시 읽으므로 원장을 파일에 쓰는 배포와는 함께 쓸 수 없다.
+        if (properties.isEnabled() && !"jpa".equals(ledgerProperties.getBackend())) {
+            throw new IllegalStateException("account.event-sourcing requires account.ledger.backend=jpa");
+        }
+        this.properties = properties;
+        this.balanceSnapshotRepository = balanceSnapshotRepository;
+        this.transactionRepository = transactionRepository;
+        this.jdbcTemplate = jdbcTemplate;
+        this.shardRouter = shardRouter;
+        this.entityManager = entityManager;
+    }
+
+    public boolean isEnabled() {
+        return properties.isEnabled();
+    }
+
+    /**
+     * 잠근 계좌의 잔액과 마지막 이벤트 순번을 다시 계산해 엔티티에 채운다.
+     * 엔티티는 읽기 전용으로 바꿔, 이후 잔액을 바꿔도 계좌 행 UPDATE 가 나가지 않게 한다.
+     */
+    public void materialize(Account account) {
+        if (!properties.isEnabled()) {
+            return;
+        }
+
+        Replay replay = replay(account.getAccountNumber(), account.getBalance());
+        entityManager.unwrap(Session.class).setReadOnly(account, true);
+        account.setBalance(replay.balance());
+        account.setEventSequence(replay.eventSequence());
+    }
+
+    // 엔티티를 건드리지 않고 현재 잔액만 계산한다.
+    public long balanceOf(Account account) {
+        return replay(account.getAccountNumber(), account.getBalance()).balance();
+    }
+
+    /**
+     * 같은 샤드에 있는 여러 계좌의 현재 잔액을 이벤트 조회 한 번과 스냅샷 조회 한 번으로 계산한다.
+     * 이벤트를 먼저 읽으므로 그 사이 스냅샷이 새로 찍혀도 스냅샷 뒤 이벤트는 모두 손에 있다.
+     */
+    public Map<String, Long> balancesOf(List<Account> accounts) {
+        if (accounts.isEmpty()) {
+            return Map.of();
+        }
+
+        List<String> accountNumbers = accounts.stream().map(Account::getAccountNumber).toList();
+        Map<String, List<BalanceEvent>> tails = new HashMap<>();
+        for (AccountBalanceEvent event : transactionRepository.findEventsAfterSnapshots(accountNumbers)) {
+            tails.computeIfAbsent(event.accountNumber(), key -> new ArrayList<>()).add(event.event());
+        }
+        Map<String, BalanceSnapshot> snapshots = new HashMap<>();
+        balanceSnapshotRepository.findAllById(accountNumbers)
+                .forEach(snapshot -> snapshots.put(snapshot.getAccountNumber(), snapshot));
+
+        Map<String, Long> balances = new HashMap<>();
+        for (Account account : accounts) {
+            String accountNumber = account.getAccountNumber();
+            Replay replay = replay(accountNumber, snapshots.get(accountNumber), account.getBalance(),
+                    tails.getOrDefault(accountNumber, List.of()));
+            balances.put(accountNumber, replay.balance());
+        }
+        return balances;
+    }
+
+    // materialize 한 계좌에 쓸 다음 이벤트 순번. 꺼져 있으면 null.
+    public Long nextSequence(Account account) {
+        if (!properties.isEnabled()) {
+            return null;
+        }
+
+        long next = account.getEventSequence() + 1;
+        account.setEventSequence(next);
+        return next;
+    }
+
+    // 이벤트를 저장한 뒤 호출한다. 순번이 간격의 배수면 반영 후 잔액을 스냅샷으로 남긴다.
+    public void appended(Transaction transaction) {
+        Long eventSequence = transaction.getEventSequence();
+        if (eventSequence != null && eventSequence % properties.getSnapshotInterval() == 0) {
+            saveSnapshot(transaction.getAccount().getAccountNumber(), transaction.getBalanceSnapshot(), eventSequence);
+        }
+    }
+
+    /**
+     * 계좌 잠금 없이 지금까지 커밋된 이벤트로 스냅샷을 남긴다. 순번은 계좌 잠금 아래에서 매겨지고 커밋되므로
+     * 커밋된 이벤트는 빈틈없이 이어져 있다. 거래 보관이 이벤트를 테이블에서 지우기 전에 부른다.
+     */
+    public void snapshot(String accountNumber) {
+        Long openingBalance = jdbcTemplate.queryForObject(SELECT_OPENING_BALANCE_SQL, Long.class, accountNumber);
+        Replay replay = replay(accountNumber, openingBalance);
+        if (replay.tailLength() > 0) {
+            saveSnapshot(accountNumber, replay.balance(), replay.eventSequence());
+        }
+    }
+
+    // 요청을 받기 전에 모든 계좌의 잔액을 다시 계산해 보고, 스냅샷 뒤 이벤트가 있으면 새 스냅샷으로 줄여 둔다.
+    @Override
+    public void afterSingletonsInstantiated() {
+        if (!properties.isEnabled()) {
+            return;
+        }
+
+        long started = System.nanoTime();
+        LongAdder recovered = new LongAdder();
+        LongAdder snapshots = new LongAdder();
+        LongAdder mismatches = new LongAdder();
+        ExecutorService executor = newRecoveryExecutor(properties.getRecoveryThreads());
+
+        try {
+            List<CompletableFuture<Void>> batches = new ArrayList<>();
+            shardRouter.forEachShard(shard -> {
+                List<Opening> batch = new ArrayList<>(RECOVERY_BATCH_SIZE);
+                jdbcTemplate.query(SELECT_ACCOUNTS_SQL, resultSet -> {
+                    batch.add(new Opening(resultSet.getString("account_number"), resultSet.getLong("balance")));
+                    if (batch.size() == RECOVERY_BATCH_SIZE) {
+                        batches.add(recoverAsync(shard, List.copyOf(batch), executor, recovered, snapshots, mismatches));
+                        batch.clear();
+                    }
+                });
+                if (!batch.isEmpty()) {
+                    batches.add(recoverAsync(shard, List.copyOf(batch), executor, recovered, snapshots, mismatches));
+                }
+            });
+            batches.forEach(CompletableFuture::join);
+        } finally {
+            executor.shutdown();
+        }
+
+        log.info("Recovered {} account balances from events in {} ms ({} snapshots written, {} mismatches)",
+                recovered.sum(), (System.nanoTime() - started) / 1_000_000, snapshots.sum(), mismatches.sum());
+    }
+
+    private CompletableFuture<Void> recoverAsync(
+            int shard,
+            List<Opening> accounts,
+            ExecutorService executor,
+            LongAdder recovered,
+            LongAdder snapshots,
+            LongAdder mismatches
+    ) {
+        return CompletableFuture.runAsync(() -> {
+            try (ShardScope shardScope = shardRouter.enter(shard)) {
+                for (Opening account : accounts) {
+                    Replay replay = replay(account.accountNumber(), account.balance());
+                    if (replay.tailLength() > 0) {
+                        saveSnapshot(account.accountNumber(), replay.balance(), replay.eventSequence());
+                        snapshots.increment();
+                    }
+                    mismatches.add(replay.mismatches());
+                    recovered.increment();
+                }
+            }
+        }, executor);
+    }
+
+    private Replay replay(String accountNumber, Long openingBalance) {
+        BalanceSnapshot snapshot = balanceSnapshotRepository.findById(accountNumber).orElse(null);
+        long afterSequence = snapshot != null ? snapshot.getEventSequence() : 0L;
+        return replay(accountNumber, snapshot, openingBalance,
+                transactionRepository.findEventsAfter(accountNumber, afterSequence));
+    }
+
+    // snapshot 이 없으면 openingBalance 에서 시작한다.
+    private Replay replay(
+            String accountNumber,
+            BalanceSnapshot snapshot,
+            Long openingBalance,
+            List<BalanceEvent> events
+    ) {
+        long balance = snapshot != null ? snapshot.getBalance() : openingBalance;
+        long eventSequence = snapshot != null ? snapshot.getEventSequence() : 0L;
+
+        int tailLength = 0;
+        int mismatches = 0;
+        for (BalanceEvent event : events) {
+            // 스냅샷에 이미 반영된 이벤트는 건너뛴다.
+            if (event.eventSequence() <= eventSequence) {
+                continue;
+            }
+            tailLength++;
+            balance += event.balanceDelta();
+            eventSequence = event.eventSequence();
+            // 이벤트마다 기록한 반영 후 잔액과 다시 계산한 잔액이 다르면 이벤트 쪽을 따르되 남겨 둔다.
+            // 그 잔액이 거래 응답으로 나간 값이므로, 이후 이벤트는 거기서부터 이어 더한다.
+            if (event.balanceSnapshot() != null && event.balanceSnapshot() != balance) {
+                log.warn("Replayed balance {} of account {} differs from event {} snapshot {}, using the snapshot",
+                        balance, accountNumber, eventSequence, event.balanceSnapshot());
+                balance = event.balanceSnapshot();
+                mismatches++;
+            }
+        }
+        return new Replay(balance, eventSequence, tailLength, mismatches);
+    }
+
+    private void saveSnapshot(String accountNumber, long balance, long eventSequence) {
+        BalanceSnapshot snapshot = balanceSnapshotRepository.findById(accountNumber)
+                .orElseGet(() -> BalanceSnapshot.builder().accountNumber(accountNumber).build());
+
+        // 잠금 없이 찍은 스냅샷이 더 최근 스냅샷을 덮지 않도록 순번이 앞설 때만 바꾼다.
+        if (snapshot.getEventSequence() != null && snapshot.getEventSequence() >= eventSequence) {
+            return;
+        }
+
+        snapshot.setBalance(balance);
+        snapshot.setEventSequence(eventSequence);
+        snapshot.setSnapshotAt(LocalDateTime.now());
+        balanceSnapshotRepository.save(snapshot);
+    }
+
+    private static ExecutorService newRecoveryExecutor(int threads) {
+        AtomicInteger sequence = new AtomicInteger();
+        return Executors.newFixedThreadPool(Math.max(1, threads), runnable -> {
+            Thread thread = new Thread(runnable, "balance-recovery-" + sequence.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    private record Opening(String accountNumber, long balance) {
+    }
+
+    private record Replay(long balance, long eventSequence, int tailLength, int mismatches) {
+    }
+}
@@ -5,10 +5,21 @@ import lombok.Getter;
 
 @Getter
 public class AccountException extends RuntimeException {
+    // 업무 예외는 에러 코드만으로 원인을 알 수 있으므로 기본적으로 스택 트레이스를 수집하지 않는다.
+    private static volatile boolean stackTraceEnabled = false;
+
     private final ErrorCode errorCode;
 
     public AccountException(ErrorCode errorCode) {
-        super(errorCode.getDescription());
+        super(errorCode.getDescription(), null, false, stackTraceEnabled);
         this.errorCode = errorCode;
     }
+
+    public static void setStackTraceEnabled(boolean enabled) {
+        stackTraceEnabled = enabled;
+    }
+
+    public static boolean isStackTraceEnabled() {
+        return stackTraceEnabled;
+    }
 }
@@ -0,0 +1,57 @@
+package com.example.myaccountsystem.exception;
+
+import com.example.myaccountsystem.dto.ErrorResponse;
+import com.example.myaccountsystem.type.ErrorCode;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+@Slf4j
+@RestControllerAdvice
+public class GlobalExceptionHandler {
+    private final Map<ErrorCode, ResponseEntity<ErrorResponse>> errorResponses = new EnumMap<>(ErrorCode.class);
+    private final Map<ErrorCode, AtomicLong> occurrences = new EnumMap<>(ErrorCode.class);
+    private final boolean stackTraceEnabled;
+    private final long logSampleInterval;
+
+    public GlobalExceptionHandler(
+            @Value("${account.error-handling.stack-trace-enabled:false}") boolean stackTraceEnabled,
+            @Value("${account.error-handling.log-sample-interval:100}") long logSampleInterval
+    ) {
+        this.stackTraceEnabled = stackTraceEnabled;
+        this.logSampleInterval = Math.max(1, logSampleInterval);
+        AccountException.setStackTraceEnabled(stackTraceEnabled);
+
+        for (ErrorCode errorCode : ErrorCode.values()) {
+            ErrorResponse errorResponse = ErrorResponse.builder()
+                    .errorCode(errorCode.name())
+                    .errorMessage(errorCode.getDescription())
+                    .build();
+
+            errorResponses.put(errorCode, ResponseEntity.status(HttpStatus.BAD_REQUEST).body(errorResponse));
+            occurrences.put(errorCode, new AtomicLong());
+        }
+    }
+
+    @ExceptionHandler(AccountException.class)
+    public ResponseEntity<ErrorResponse> handleAccountException(AccountException e) {
+        ErrorCode errorCode = e.getErrorCode();
+        long count = occurrences.get(errorCode).incrementAndGet();
+
+        if (stackTraceEnabled) {
+            log.warn("Request rejected: {}", errorCode, e);
+        } else if ((count - 1) % logSampleInterval == 0) {
+            // 거절이 몰릴 때 로그 비용이 커지지 않도록 에러 코드별로 N건마다 한 번만 남긴다.
+            log.warn("Request rejected: {} (total: {})", errorCode, count);
+        }
+
+        return errorResponses.get(errorCode);
+    }
+}
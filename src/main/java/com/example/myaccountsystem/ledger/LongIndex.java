@@ -0,0 +1,91 @@
+package com.example.myaccountsystem.ledger;
+
+import java.util.Arrays;
+
+/**
+ * long → long 오픈 어드레싱 해시 맵. 거래 ID 마다 Long 박싱과 엔트리 객체를 만들지 않도록 배열 두 개만 쓴다.
+ * 키 0 은 빈 칸으로 쓰므로 넣을 수 없다. 동기화는 호출하는 쪽에서 한다.
+ */
+final class LongIndex {
+    static final long MISSING = -1L;
+
+    private static final float LOAD_FACTOR = 0.5f;
+
+    private long[] keys;
+    private long[] values;
+    private int size;
+    private int resizeAt;
+
+    LongIndex(int expectedSize) {
+        int capacity = Integer.highestOneBit(Math.max(16, (int) (expectedSize / LOAD_FACTOR)) - 1) << 1;
+        allocate(capacity);
+    }
+
+    int size() {
+        return size;
+    }
+
+    long get(long key) {
+        int mask = keys.length - 1;
+        for (int slot = slotOf(key, mask); ; slot = (slot + 1) & mask) {
+            long current = keys[slot];
+            if (current == key) {
+                return values[slot];
+            }
+            if (current == 0) {
+                return MISSING;
+            }
+        }
+    }
+
+    void put(long key, long value) {
+        if (key == 0) {
+            throw new IllegalArgumentException("Key 0 is reserved");
+        }
+        if (size >= resizeAt) {
+            rehash(keys.length << 1);
+        }
+        if (insert(keys, values, key, value)) {
+            size++;
+        }
+    }
+
+    private void rehash(int capacity) {
+        long[] oldKeys = keys;
+        long[] oldValues = values;
+        allocate(capacity);
+        for (int i = 0; i < oldKeys.length; i++) {
+            if (oldKeys[i] != 0) {
+                insert(keys, values, oldKeys[i], oldValues[i]);
+            }
+        }
+    }
+
+    private void allocate(int capacity) {
+        keys = new long[capacity];
+        values = new long[capacity];
+        Arrays.fill(values, MISSING);
+        resizeAt = (int) (capacity * LOAD_FACTOR);
+    }
+
+    private static boolean insert(long[] keys, long[] values, long key, long value) {
+        int mask = keys.length - 1;
+        for (int slot = slotOf(key, mask); ; slot = (slot + 1) & mask) {
+            if (keys[slot] == key) {
+                values[slot] = value;
+                return false;
+            }
+            if (keys[slot] == 0) {
+                keys[slot] = key;
+                values[slot] = value;
+                return true;
+            }
+        }
+    }
+
+    // 거래 ID 는 상위 비트에 샤드와 월이 모여 있어 하위 비트만 쓰면 몰리므로 곱셈 해시로 섞는다.
+    private static int slotOf(long key, int mask) {
+        long hash = key * 0x9E3779B97F4A7C15L;
+        return (int) (hash ^ (hash >>> 32)) & mask;
+    }
+}
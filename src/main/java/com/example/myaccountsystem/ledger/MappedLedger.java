@@ -0,0 +1,526 @@
+package com.example.myaccountsystem.ledger;
+
+import com.example.myaccountsystem.archive.TransactionRecord;
+import com.example.myaccountsystem.type.TransactionResultType;
+import com.example.myaccountsystem.type.TransactionType;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 고정 길이 거래 레코드를 덧붙이기만 하는 메모리 매핑 로그.
+ * 레코드는 매핑된 버퍼에 바로 쓰고, 거래 ID → 레코드 번호 인덱스와 계좌별 마지막 레코드만 힙에 둔다.
+ * 각 레코드는 같은 계좌의 이전 레코드 번호를 담고 있어 내역 조회는 그 체인을 거꾸로 따라간다.
+ * 재시작하면 세그먼트를 처음부터 훑어 인덱스를 다시 만든다.
+ * DB 트랜잭션 안에서 쓴 레코드는 대기 상태로 두었다가 커밋이 확인되면 {@link #commit} 으로 드러낸다.
+ */
+final class MappedLedger implements Closeable {
+    static final int RECORD_BYTES = 128;
+    static final int MAX_ACCOUNT_BYTES = 32;
+
+    private static final String SEGMENT_PREFIX = "ledger-";
+    private static final String SEGMENT_SUFFIX = ".dat";
+    private static final long NONE = -1L;
+
+    // 레코드 내 필드 위치
+    private static final int ID = 0;
+    private static final int PREVIOUS = 8;
+    private static final int AMOUNT = 16;
+    private static final int BALANCE_SNAPSHOT = 24;
+    private static final int EPOCH_SECOND = 32;
+    private static final int NANO = 40;
+    private static final int FLAGS = 44;
+    private static final int TRANSACTION_TYPE = 45;
+    private static final int RESULT_TYPE = 46;
+    private static final int ACCOUNT_LENGTH = 47;
+    private static final int LINKED_ID = 48;
+    private static final int CANCEL_ID = 56;
+    private static final int ACCOUNT = 64;
+
+    private static final byte HAS_AMOUNT = 1;
+    private static final byte HAS_BALANCE_SNAPSHOT = 1 << 1;
+    private static final byte HAS_LINKED_ID = 1 << 2;
+    private static final byte HAS_CANCEL_ID = 1 << 3;
+    // 롤백된 트랜잭션에서 쓰인 레코드. 로그에서 지우지 않고 조회에서 건너뛴다.
+    private static final byte VOID = 1 << 4;
+    // 커밋이 확인되기 전의 레코드. 조회에서 건너뛰고, 커밋되면 지우고 롤백되면 VOID 로 바꾼다.
+    private static final byte PENDING = 1 << 5;
+
+    // 열거형은 순서 번호 + 1 로 저장한다(0 은 null). 상수는 끝에만 추가해야 한다.
+    private static final TransactionType[] TRANSACTION_TYPES = TransactionType.values();
+    private static final TransactionResultType[] RESULT_TYPES = TransactionResultType.values();
+
+    private final Path directory;
+    private final int recordsPerSegment;
+    private final List<MappedByteBuffer> segments = new ArrayList<>();
+    private final LongIndex index = new LongIndex(1 << 16);
+    private final Map<String, Long> accountHeads = new HashMap<>();
+    private final Set<Long> pendingIds = new LinkedHashSet<>();
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private long nextRecord;
+    private long unforcedFrom;
+
+    private MappedLedger(Path directory, int recordsPerSegment) {
+        this.directory = directory;
+        this.recordsPerSegment = recordsPerSegment;
+    }
+
+    static MappedLedger open(Path directory, long segmentBytes) throws IOException {
+        if (segmentBytes < RECORD_BYTES) {
+            throw new IllegalArgumentException("Segment size must hold at least one record: " + segmentBytes);
+        }
+        Files.createDirectories(directory);
+
+        // 이미 있는 로그는 레코드 번호 계산이 어긋나지 않도록 처음 만든 세그먼트 크기를 따른다.
+        Path first = segmentPath(directory, 0);
+        long bytes = Files.exists(first) ? Files.size(first) : segmentBytes;
+        int recordsPerSegment = (int) Math.min(bytes / RECORD_BYTES, Integer.MAX_VALUE / RECORD_BYTES);
+
+        MappedLedger ledger = new MappedLedger(directory, recordsPerSegment);
+        ledger.recover();
+        return ledger;
+    }
+
+    long size() {
+        lock.readLock().lock();
+        try {
+            return nextRecord;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    int segmentCount() {
+        lock.readLock().lock();
+        try {
+            return segments.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 레코드를 로그 끝에 쓰고 레코드 번호를 돌려준다. ID 는 마지막에 써서, 쓰다 멈춘 레코드는 빈 칸으로 보이게 한다.
+     */
+    long append(TransactionRecord record) {
+        return append(record, false);
+    }
+
+    /**
+     * 레코드를 대기 상태로 쓴다. {@link #commit} 하기 전까지는 조회되지 않는다.
+     */
+    long appendPending(TransactionRecord record) {
+        return append(record, true);
+    }
+
+    private long append(TransactionRecord record, boolean pending) {
+        // 실패 거래는 FailedTransactionRecorder 가 테이블에 남기므로 원장에는 오류 코드 칸을 두지 않는다.
+        if (record.errorCode() != null) {
+            throw new IllegalArgumentException("Failed transactions are not kept in the ledger");
+        }
+        byte[] account = encodeAccount(record.accountNumber());
+
+        lock.writeLock().lock();
+        try {
+            if (index.get(record.transactionId()) != LongIndex.MISSING) {
+                throw new IllegalStateException("Duplicate transaction id " + record.transactionId());
+            }
+
+            long recordNo = nextRecord;
+            if (segmentOf(recordNo) == segments.size()) {
+                segments.add(map(segments.size()));
+            }
+            MappedByteBuffer buffer = bufferOf(recordNo);
+            int position = positionOf(recordNo);
+
+            Long previous = record.accountNumber() != null ? accountHeads.get(record.accountNumber()) : null;
+            byte flags = 0;
+            buffer.putLong(position + PREVIOUS, previous != null ? previous : NONE);
+            if (record.amount() != null) {
+                buffer.putLong(position + AMOUNT, record.amount());
+                flags |= HAS_AMOUNT;
+            }
+            if (record.balanceSnapshot() != null) {
+                buffer.putLong(position + BALANCE_SNAPSHOT, record.balanceSnapshot());
+                flags |= HAS_BALANCE_SNAPSHOT;
+            }
+            buffer.putLong(position + EPOCH_SECOND, record.transactedAt().toEpochSecond(ZoneOffset.UTC));
+            buffer.putInt(position + NANO, record.transactedAt().getNano());
+            buffer.put(position + TRANSACTION_TYPE, codeOf(record.transactionType()));
+            buffer.put(position + RESULT_TYPE, codeOf(record.transactionResultType()));
+            if (record.linkedTransactionId() != null) {
+                buffer.putLong(position + LINKED_ID, record.linkedTransactionId());
+                flags |= HAS_LINKED_ID;
+            }
+            if (record.cancelTransactionId() != null) {
+                buffer.putLong(position + CANCEL_ID, record.cancelTransactionId());
+                flags |= HAS_CANCEL_ID;
+            }
+            buffer.put(position + ACCOUNT_LENGTH, (byte) (account != null ? account.length : -1));
+            if (account != null) {
+                buffer.put(position + ACCOUNT, account);
+            }
+            if (pending) {
+                flags |= PENDING;
+                pendingIds.add(record.transactionId());
+            }
+            buffer.put(position + FLAGS, flags);
+            buffer.putLong(position + ID, record.transactionId());
+
+            index.put(record.transactionId(), recordNo);
+            if (record.accountNumber() != null) {
+                accountHeads.put(record.accountNumber(), recordNo);
+            }
+            nextRecord++;
+            return recordNo;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    Optional<TransactionRecord> findById(long transactionId) {
+        lock.readLock().lock();
+        try {
+            long recordNo = index.get(transactionId);
+            if (recordNo == LongIndex.MISSING || isHidden(recordNo)) {
+                return Optional.empty();
+            }
+            return Optional.of(read(recordNo));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 계좌의 [from, to] 구간 거래를 최신순으로 최대 limit 건 돌려준다.
+     * 한 계좌의 기록은 계좌 락 아래에서 시각 순으로 쌓이므로 from 보다 이른 레코드를 만나면 멈춘다.
+     */
+    List<TransactionRecord> history(String accountNumber, LocalDateTime from, LocalDateTime to, int limit) {
+        long fromSecond = from.toEpochSecond(ZoneOffset.UTC);
+        long toSecond = to.toEpochSecond(ZoneOffset.UTC);
+        List<TransactionRecord> records = new ArrayList<>();
+
+        lock.readLock().lock();
+        try {
+            Long head = accountHeads.get(accountNumber);
+            for (long recordNo = head != null ? head : NONE; recordNo != NONE && records.size() < limit; ) {
+                MappedByteBuffer buffer = bufferOf(recordNo);
+                int position = positionOf(recordNo);
+                long second = buffer.getLong(position + EPOCH_SECOND);
+                int nano = buffer.getInt(position + NANO);
+
+                if (compareTime(second, nano, fromSecond, from.getNano()) < 0) {
+                    break;
+                }
+                if (compareTime(second, nano, toSecond, to.getNano()) <= 0 && !isHidden(recordNo)) {
+                    records.add(read(recordNo));
+                }
+                recordNo = buffer.getLong(position + PREVIOUS);
+            }
+            return records;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    int markCanceled(long transactionId, long cancelTransactionId) {
+        lock.writeLock().lock();
+        try {
+            long recordNo = index.get(transactionId);
+            if (recordNo == LongIndex.MISSING || isHidden(recordNo) || hasFlag(recordNo, HAS_CANCEL_ID)) {
+                return 0;
+            }
+            bufferOf(recordNo).putLong(positionOf(recordNo) + CANCEL_ID, cancelTransactionId);
+            setFlag(recordNo, HAS_CANCEL_ID, true);
+            return 1;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // 취소 트랜잭션이 롤백되면 남긴 취소 링크를 되돌린다.
+    void clearCancel(long transactionId, long cancelTransactionId) {
+        lock.writeLock().lock();
+        try {
+            long recordNo = index.get(transactionId);
+            if (recordNo != LongIndex.MISSING && hasFlag(recordNo, HAS_CANCEL_ID)
+                    && bufferOf(recordNo).getLong(positionOf(recordNo) + CANCEL_ID) == cancelTransactionId) {
+                setFlag(recordNo, HAS_CANCEL_ID, false);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // 계좌 체인에서 cancelTransactionId 를 가리키는 취소 링크를 찾아 되돌린다. 재조정에서 취소 거래를 무효로 돌릴 때 쓴다.
+    void clearCancelLinksTo(String accountNumber, long cancelTransactionId) {
+        lock.writeLock().lock();
+        try {
+            Long head = accountHeads.get(accountNumber);
+            for (long recordNo = head != null ? head : NONE; recordNo != NONE; ) {
+                int position = positionOf(recordNo);
+                if (hasFlag(recordNo, HAS_CANCEL_ID)
+                        && bufferOf(recordNo).getLong(position + CANCEL_ID) == cancelTransactionId) {
+                    setFlag(recordNo, HAS_CANCEL_ID, false);
+                }
+                recordNo = bufferOf(recordNo).getLong(position + PREVIOUS);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    void voidRecord(long transactionId) {
+        lock.writeLock().lock();
+        try {
+            long recordNo = index.get(transactionId);
+            if (recordNo != LongIndex.MISSING) {
+                setFlag(recordNo, VOID, true);
+                setFlag(recordNo, PENDING, false);
+                pendingIds.remove(transactionId);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 대기 중인 레코드를 드러낸다. 이미 무효 처리된 레코드는 그대로 둔다.
+     */
+    void commit(long transactionId) {
+        lock.writeLock().lock();
+        try {
+            long recordNo = index.get(transactionId);
+            if (recordNo != LongIndex.MISSING && hasFlag(recordNo, PENDING)) {
+                setFlag(recordNo, PENDING, false);
+            }
+            pendingIds.remove(transactionId);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    List<Long> pendingIds() {
+        lock.readLock().lock();
+        try {
+            return List.copyOf(pendingIds);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    Optional<TransactionRecord> findPending(long transactionId) {
+        lock.readLock().lock();
+        try {
+            long recordNo = index.get(transactionId);
+            if (recordNo == LongIndex.MISSING || !hasFlag(recordNo, PENDING)) {
+                return Optional.empty();
+            }
+            return Optional.of(read(recordNo));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 같은 계좌에서 이 레코드 바로 다음에 쓰인 레코드를 상태와 상관없이 돌려준다.
+     */
+    Optional<TransactionRecord> nextInAccount(long transactionId) {
+        lock.readLock().lock();
+        try {
+            long target = index.get(transactionId);
+            if (target == LongIndex.MISSING) {
+                return Optional.empty();
+            }
+            String accountNumber = readAccount(bufferOf(target), positionOf(target));
+            Long head = accountNumber != null ? accountHeads.get(accountNumber) : null;
+            long next = NONE;
+            for (long recordNo = head != null ? head : NONE; recordNo != NONE && recordNo != target; ) {
+                next = recordNo;
+                recordNo = bufferOf(recordNo).getLong(positionOf(recordNo) + PREVIOUS);
+            }
+            return next != NONE ? Optional.of(read(next)) : Optional.empty();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 마지막으로 내린 뒤 쓰인 세그먼트만 디스크에 내린다.
+     */
+    void force() {
+        lock.writeLock().lock();
+        try {
+            int last = segmentOf(Math.max(nextRecord - 1, 0));
+            for (int segment = segmentOf(unforcedFrom); segment <= last && segment < segments.size(); segment++) {
+                segments.get(segment).force();
+            }
+            unforcedFrom = nextRecord;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void close() {
+        force();
+        lock.writeLock().lock();
+        try {
+            segments.clear();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void recover() {
+        for (int segment = 0; Files.exists(segmentPath(directory, segment)); segment++) {
+            segments.add(map(segment));
+        }
+
+        long capacity = (long) segments.size() * recordsPerSegment;
+        while (nextRecord < capacity) {
+            MappedByteBuffer buffer = bufferOf(nextRecord);
+            int position = positionOf(nextRecord);
+            long transactionId = buffer.getLong(position + ID);
+            if (transactionId == 0) {
+                break;
+            }
+
+            if (!hasFlag(nextRecord, VOID)) {
+                index.put(transactionId, nextRecord);
+            }
+            // 커밋 여부를 기록하기 전에 멈춘 레코드. 숨긴 채로 두고 저장소가 DB 와 맞춰 본다.
+            if (hasFlag(nextRecord, PENDING) && !hasFlag(nextRecord, VOID)) {
+                pendingIds.add(transactionId);
+            }
+            String accountNumber = readAccount(buffer, position);
+            if (accountNumber != null) {
+                accountHeads.put(accountNumber, nextRecord);
+            }
+            nextRecord++;
+        }
+        unforcedFrom = nextRecord;
+    }
+
+    private TransactionRecord read(long recordNo) {
+        MappedByteBuffer buffer = bufferOf(recordNo);
+        int position = positionOf(recordNo);
+        byte flags = buffer.get(position + FLAGS);
+
+        return new TransactionRecord(
+                buffer.getLong(position + ID),
+                readAccount(buffer, position),
+                valueOf(TRANSACTION_TYPES, buffer.get(position + TRANSACTION_TYPE)),
+                valueOf(RESULT_TYPES, buffer.get(position + RESULT_TYPE)),
+                (flags & HAS_AMOUNT) != 0 ? buffer.getLong(position + AMOUNT) : null,
+                (flags & HAS_BALANCE_SNAPSHOT) != 0 ? buffer.getLong(position + BALANCE_SNAPSHOT) : null,
+                LocalDateTime.ofEpochSecond(
+                        buffer.getLong(position + EPOCH_SECOND), buffer.getInt(position + NANO), ZoneOffset.UTC
+                ),
+                (flags & HAS_LINKED_ID) != 0 ? buffer.getLong(position + LINKED_ID) : null,
+                (flags & HAS_CANCEL_ID) != 0 ? visibleCancelId(buffer.getLong(position + CANCEL_ID)) : null,
+                null
+        );
+    }
+
+    // 아직 커밋되지 않았거나 롤백된 취소 거래를 가리키는 링크는 드러내지 않는다.
+    private Long visibleCancelId(long cancelTransactionId) {
+        long recordNo = index.get(cancelTransactionId);
+        return recordNo != LongIndex.MISSING && isHidden(recordNo) ? null : cancelTransactionId;
+    }
+
+    private boolean isHidden(long recordNo) {
+        return (bufferOf(recordNo).get(positionOf(recordNo) + FLAGS) & (VOID | PENDING)) != 0;
+    }
+
+    private boolean hasFlag(long recordNo, byte flag) {
+        return (bufferOf(recordNo).get(positionOf(recordNo) + FLAGS) & flag) != 0;
+    }
+
+    // 이미 쓰인 레코드를 고치므로 다음 force() 가 그 세그먼트도 내리도록 표시한다.
+    private void setFlag(long recordNo, byte flag, boolean value) {
+        unforcedFrom = Math.min(unforcedFrom, recordNo);
+        MappedByteBuffer buffer = bufferOf(recordNo);
+        int position = positionOf(recordNo) + FLAGS;
+        byte flags = buffer.get(position);
+        buffer.put(position, (byte) (value ? flags | flag : flags & ~flag));
+    }
+
+    private MappedByteBuffer bufferOf(long recordNo) {
+        return segments.get(segmentOf(recordNo));
+    }
+
+    private int segmentOf(long recordNo) {
+        return (int) (recordNo / recordsPerSegment);
+    }
+
+    private int positionOf(long recordNo) {
+        return (int) (recordNo % recordsPerSegment) * RECORD_BYTES;
+    }
+
+    private MappedByteBuffer map(int segment) {
+        Path path = segmentPath(directory, segment);
+        try (FileChannel channel = FileChannel.open(
+                path, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            return channel.map(FileChannel.MapMode.READ_WRITE, 0, (long) recordsPerSegment * RECORD_BYTES);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to map ledger segment " + path, e);
+        }
+    }
+
+    private static Path segmentPath(Path directory, int segment) {
+        return directory.resolve(String.format("%s%05d%s", SEGMENT_PREFIX, segment, SEGMENT_SUFFIX));
+    }
+
+    private static byte[] encodeAccount(String accountNumber) {
+        if (accountNumber == null) {
+            return null;
+        }
+        byte[] bytes = accountNumber.getBytes(StandardCharsets.UTF_8);
+        if (bytes.length > MAX_ACCOUNT_BYTES) {
+            throw new IllegalArgumentException("Account number too long for ledger record: " + accountNumber);
+        }
+        return bytes;
+    }
+
+    private static String readAccount(MappedByteBuffer buffer, int position) {
+        int length = buffer.get(position + ACCOUNT_LENGTH);
+        if (length < 0) {
+            return null;
+        }
+        byte[] bytes = new byte[length];
+        buffer.get(position + ACCOUNT, bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private static int compareTime(long second, int nano, long otherSecond, int otherNano) {
+        int bySecond = Long.compare(second, otherSecond);
+        return bySecond != 0 ? bySecond : Integer.compare(nano, otherNano);
+    }
+
+    private static byte codeOf(Enum<?> value) {
+        return (byte) (value != null ? value.ordinal() + 1 : 0);
+    }
+
+    private static <E extends Enum<E>> E valueOf(E[] values, byte code) {
+        return code > 0 ? values[code - 1] : null;
+    }
+}
@@ -0,0 +1,262 @@
+package com.example.myaccountsystem.ledger;
+
+import com.example.myaccountsystem.archive.TransactionRecord;
+import com.example.myaccountsystem.config.LedgerProperties;
+import com.example.myaccountsystem.entity.Account;
+import com.example.myaccountsystem.entity.Transaction;
+import com.example.myaccountsystem.repository.AccountRepository;
+import com.example.myaccountsystem.repository.BalanceAsOf;
+import com.example.myaccountsystem.repository.CancelTarget;
+import com.example.myaccountsystem.repository.TransactionRepository;
+import com.example.myaccountsystem.repository.TransactionStore;
+import com.example.myaccountsystem.sharding.ShardRouter;
+import com.example.myaccountsystem.sharding.ShardScope;
+import com.example.myaccountsystem.type.TransactionType;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 원장 전용 배포용 거래 저장소. 성공한 거래는 {@link MappedLedger} 에 쓰고, 계좌 잔액은 그대로 DB 에 둔다.
+ * 로그는 DB 트랜잭션에 묶이지 않으므로 레코드를 대기 상태로 쓰고 커밋된 뒤에 드러낸다.
+ * 롤백되면 무효 표시하고 남긴 취소 링크를 되돌린다. 커밋 여부를 모르는 레코드는 DB 잔액과 맞춰 본다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "account.ledger.backend", havingValue = "mapped")
+public class MappedTransactionStore implements TransactionStore {
+    private final LedgerProperties properties;
+    private final TransactionRepository transactionRepository;
+    private final AccountRepository accountRepository;
+    private final ShardRouter shardRouter;
+    private final MappedLedger ledger;
+    // 커밋 여부를 확인하지 못한 대기 레코드. 재시작 전에 남은 대기 레코드도 여기서 시작한다.
+    private final Set<Long> unresolved = ConcurrentHashMap.newKeySet();
+
+    public MappedTransactionStore(
+            LedgerProperties properties,
+            TransactionRepository transactionRepository,
+            AccountRepository accountRepository,
+            ShardRouter shardRouter
+    ) throws IOException {
+        this.properties = properties;
+        this.transactionRepository = transactionRepository;
+        this.accountRepository = accountRepository;
+        this.shardRouter = shardRouter;
+        this.ledger = MappedLedger.open(Path.of(properties.getDirectory()), properties.getSegmentSize().toBytes());
+        unresolved.addAll(ledger.pendingIds());
+        log.info("Opened mapped ledger at {} with {} records, {} pending",
+                properties.getDirectory(), ledger.size(), unresolved.size());
+    }
+
+    @PreDestroy
+    public void close() {
+        ledger.close();
+    }
+
+    @Override
+    public Transaction save(Transaction transaction) {
+        TransactionRecord record = toRecord(transaction);
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            ledger.append(record);
+            return transaction;
+        }
+
+        ledger.appendPending(record);
+        long transactionId = transaction.getTransactionId();
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                ledger.commit(transactionId);
+                if (properties.isForceOnCommit()) {
+                    ledger.force();
+                }
+            }
+
+            @Override
+            public void afterCompletion(int status) {
+                if (status == STATUS_ROLLED_BACK) {
+                    ledger.voidRecord(transactionId);
+                } else if (status == STATUS_UNKNOWN) {
+                    log.warn("Outcome of transaction {} is unknown, keeping its ledger record pending", transactionId);
+                    unresolved.add(transactionId);
+                }
+            }
+        });
+        return transaction;
+    }
+
+    // 실패 거래는 FailedTransactionRecorder 가 테이블에 쓰므로, 원장에 없는 ID 는 테이블에서 찾는다.
+    @Override
+    public Optional<Transaction> findByTransactionId(Long transactionId) {
+        Optional<TransactionRecord> record = ledger.findById(transactionId);
+        if (record.isPresent()) {
+            return record.map(MappedTransactionStore::toTransaction);
+        }
+        return transactionRepository.findByTransactionId(transactionId);
+    }
+
+    @Override
+    public Optional<CancelTarget> findCancelTarget(Long transactionId) {
+        Optional<TransactionRecord> record = ledger.findById(transactionId);
+        if (record.isPresent()) {
+            return record.map(found -> new CancelTarget(
+                    found.accountNumber(),
+                    found.amount(),
+                    found.transactionType(),
+                    found.transactionResultType(),
+                    found.cancelTransactionId()
+            ));
+        }
+        return transactionRepository.findCancelTarget(transactionId);
+    }
+
+    @Override
+    public int markCanceled(Long transactionId, Long cancelTransactionId) {
+        int updated = ledger.markCanceled(transactionId, cancelTransactionId);
+        if (updated > 0) {
+            onRollback(() -> ledger.clearCancel(transactionId, cancelTransactionId));
+        }
+        return updated;
+    }
+
+    @Override
+    public List<TransactionRecord> findHistory(
+            String accountNumber,
+            LocalDateTime from,
+            LocalDateTime to,
+            int limit
+    ) {
+        return ledger.history(accountNumber, from, to, limit);
+    }
+
+    // 계좌의 기록 사슬을 최신부터 거슬러 asOf 이전 첫 레코드에서 멈춘다. 원장에는 성공 거래만 있다.
+    @Override
+    public Map<BalanceAsOf, TransactionRecord> findLatestAsOf(List<BalanceAsOf> queries) {
+        Map<BalanceAsOf, TransactionRecord> latest = new HashMap<>();
+        for (BalanceAsOf query : queries) {
+            ledger.history(query.accountNumber(), LocalDateTime.MIN, query.asOf(), 1).stream()
+                    .findFirst()
+                    .ifPresent(record -> latest.put(query, record));
+        }
+        return latest;
+    }
+
+    /**
+     * 커밋 여부를 모르는 대기 레코드를 DB 와 맞춰 보고 드러내거나 무효로 돌린다.
+     * 기동 직후 한 번 돌고, 이후 STATUS_UNKNOWN 으로 끝난 트랜잭션을 주기적으로 처리한다.
+     */
+    @Scheduled(fixedDelayString = "${account.ledger.reconcile-interval-ms:10000}")
+    public void reconcilePending() {
+        for (Long transactionId : List.copyOf(unresolved)) {
+            try {
+                resolve(transactionId);
+                unresolved.remove(transactionId);
+            } catch (DataAccessException e) {
+                log.warn("Failed to reconcile pending ledger record {}", transactionId, e);
+            }
+        }
+    }
+
+    private void resolve(long transactionId) {
+        Optional<TransactionRecord> pending = ledger.findPending(transactionId);
+        if (pending.isEmpty()) {
+            return;
+        }
+
+        TransactionRecord record = pending.get();
+        if (committed(record)) {
+            ledger.commit(transactionId);
+            log.info("Reconciled pending ledger record {} as committed", transactionId);
+        } else {
+            ledger.voidRecord(transactionId);
+            if (record.transactionType() == TransactionType.CANCEL) {
+                ledger.clearCancelLinksTo(record.accountNumber(), transactionId);
+            }
+            log.info("Reconciled pending ledger record {} as rolled back", transactionId);
+        }
+    }
+
+    // 한 계좌의 거래는 계좌 행 잠금 아래에서 차례로 쓰이고 금액은 0 이 아니다.
+    // 그래서 다음 레코드가 읽은 잔액, 다음 레코드가 없으면 지금 DB 잔액이 이 레코드의 스냅샷과 같을 때만 커밋된 것이다.
+    private boolean committed(TransactionRecord record) {
+        if (record.accountNumber() == null || record.balanceSnapshot() == null) {
+            return false;
+        }
+        Long balanceAfter = ledger.nextInAccount(record.transactionId())
+                .filter(next -> next.balanceSnapshot() != null && next.amount() != null)
+                .map(next -> next.balanceSnapshot() - next.transactionType().balanceDelta(next.amount()))
+                .orElseGet(() -> currentBalance(record.accountNumber()));
+        return record.balanceSnapshot().equals(balanceAfter);
+    }
+
+    private Long currentBalance(String accountNumber) {
+        try (ShardScope shardScope = shardRouter.enterAccount(accountNumber)) {
+            return accountRepository.findById(accountNumber).map(Account::getBalance).orElse(null);
+        }
+    }
+
+    private void onRollback(Runnable undo) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                if (status == STATUS_ROLLED_BACK) {
+                    undo.run();
+                }
+            }
+        });
+    }
+
+    private static TransactionRecord toRecord(Transaction transaction) {
+        Account account = transaction.getAccount();
+        return new TransactionRecord(
+                transaction.getTransactionId(),
+                account != null ? account.getAccountNumber() : null,
+                transaction.getTransactionType(),
+                transaction.getTransactionResultType(),
+                transaction.getAmount(),
+                transaction.getBalanceSnapshot(),
+                transaction.getTransactedAt(),
+                transaction.getLinkedTransactionId(),
+                transaction.getCancelTransactionId(),
+                transaction.getErrorCode()
+        );
+    }
+
+    // 원장에는 계좌번호만 있으므로 계좌는 번호만 채운 참조로 돌려준다.
+    private static Transaction toTransaction(TransactionRecord record) {
+        return Transaction.builder()
+                .transactionId(record.transactionId())
+                .account(record.accountNumber() != null
+                        ? Account.builder().accountNumber(record.accountNumber()).build()
+                        : null)
+                .transactionType(record.transactionType())
+                .transactionResultType(record.transactionResultType())
+                .amount(record.amount())
+                .balanceSnapshot(record.balanceSnapshot())
+                .transactedAt(record.transactedAt())
+                .linkedTransactionId(record.linkedTransactionId())
+                .cancelTransactionId(record.cancelTransactionId())
+                .newEntity(false)
+                .build();
+    }
+}
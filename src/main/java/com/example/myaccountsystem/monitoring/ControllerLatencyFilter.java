@@ -0,0 +1,58 @@
+package com.example.myaccountsystem.monitoring;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 컨트롤러 메서드별 처리 시간을 LatencyRecorders 에 기록한다.
+ * 매핑된 핸들러 메서드 단위로 기록기를 캐시하여 요청마다 이름을 만들지 않는다.
+ */
+@RequiredArgsConstructor
+public class ControllerLatencyFilter extends OncePerRequestFilter {
+    private final LatencyRecorders latencyRecorders;
+    private final Map<Method, Optional<OperationLatency>> handlerLatencies = new ConcurrentHashMap<>();
+
+    @Override
+    protected void doFilterInternal(
+            HttpServletRequest request,
+            HttpServletResponse response,
+            FilterChain filterChain
+    ) throws ServletException, IOException {
+        long start = System.nanoTime();
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            if (request.getAttribute(HandlerMapping.BEST_MATCHING_HANDLER_ATTRIBUTE) instanceof HandlerMethod handler) {
+                Optional<OperationLatency> latency = handlerLatencies.get(handler.getMethod());
+                if (latency == null) {
+                    latency = handlerLatencies.computeIfAbsent(handler.getMethod(), method -> resolve(handler));
+                }
+                if (latency.isPresent()) {
+                    latency.get().recordNanos(System.nanoTime() - start);
+                }
+            }
+        }
+    }
+
+    // actuator 등 프레임워크 핸들러는 제외하고 애플리케이션 컨트롤러만 기록한다.
+    private Optional<OperationLatency> resolve(HandlerMethod handler) {
+        if (!handler.getBeanType().isAnnotationPresent(RestController.class)) {
+            return Optional.empty();
+        }
+        return Optional.of(latencyRecorders.operation(
+                "controller." + handler.getBeanType().getSimpleName() + "." + handler.getMethod().getName()));
+    }
+}
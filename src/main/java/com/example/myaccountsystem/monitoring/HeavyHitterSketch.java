@@ -0,0 +1,124 @@
+package com.example.myaccountsystem.monitoring;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Count-Min Sketch 로 빈도를 추정하고, Space-Saving 방식으로 상위 K 개 키만 추적한다.
+ * 카운터는 depth x width 고정 크기이고, 추적 키도 capacity 개를 넘지 않는다.
+ * 추정치는 실제보다 작아지지 않으며, 주기적인 decay 로 오래된 빈도의 비중을 줄인다.
+ */
+public class HeavyHitterSketch {
+    private final int depth;
+    private final int mask;
+    private final AtomicLongArray counters;
+    private final int capacity;
+    private final Map<String, Boolean> tracked = new ConcurrentHashMap<>();
+
+    // 추적 목록이 가득 찼을 때 새 키가 넘어야 하는 최소 추정치 (락 밖에서 빠르게 걸러내기 위한 값)
+    private volatile long admissionThreshold;
+
+    public HeavyHitterSketch(int width, int depth, int capacity) {
+        this.depth = depth;
+        this.mask = Integer.highestOneBit(Math.max(2, width - 1)) * 2 - 1;
+        this.counters = new AtomicLongArray(depth * (mask + 1));
+        this.capacity = capacity;
+    }
+
+    public void add(String key) {
+        long estimate = Long.MAX_VALUE;
+        int h1 = key.hashCode();
+        int h2 = mix(h1);
+        for (int row = 0; row < depth; row++) {
+            estimate = Math.min(estimate, counters.incrementAndGet(index(row, h1, h2)));
+        }
+
+        if (estimate > admissionThreshold && !tracked.containsKey(key)) {
+            admit(key, estimate);
+        }
+    }
+
+    public long estimate(String key) {
+        long estimate = Long.MAX_VALUE;
+        int h1 = key.hashCode();
+        int h2 = mix(h1);
+        for (int row = 0; row < depth; row++) {
+            estimate = Math.min(estimate, counters.get(index(row, h1, h2)));
+        }
+        return estimate;
+    }
+
+    public List<HotKey> top(int limit) {
+        List<HotKey> top = new ArrayList<>(tracked.size());
+        for (String key : tracked.keySet()) {
+            long estimate = estimate(key);
+            if (estimate > 0) {
+                top.add(new HotKey(key, estimate));
+            }
+        }
+        top.sort(Comparator.comparingLong(HotKey::estimatedCount).reversed());
+        // 음수 limit 은 빈 목록으로 답한다.
+        int size = Math.max(limit, 0);
+        return top.size() > size ? top.subList(0, size) : top;
+    }
+
+    /**
+     * 모든 카운터에 factor 를 곱한다. 0 이 된 추적 키는 목록에서 뺀다.
+     */
+    public synchronized void decay(double factor) {
+        for (int i = 0; i < counters.length(); i++) {
+            counters.getAndUpdate(i, count -> (long) (count * factor));
+        }
+        tracked.keySet().removeIf(key -> estimate(key) == 0);
+        admissionThreshold = tracked.size() < capacity ? 0 : minimum().estimatedCount();
+    }
+
+    // 가득 찼으면 추정치가 가장 작은 키를 내보낸다. (Space-Saving 의 교체 규칙)
+    private synchronized void admit(String key, long estimate) {
+        if (tracked.containsKey(key)) {
+            return;
+        }
+
+        if (tracked.size() >= capacity) {
+            HotKey minimum = minimum();
+            if (estimate <= minimum.estimatedCount()) {
+                admissionThreshold = minimum.estimatedCount();
+                return;
+            }
+            tracked.remove(minimum.key());
+        }
+
+        tracked.put(key, Boolean.TRUE);
+        admissionThreshold = tracked.size() < capacity ? 0 : minimum().estimatedCount();
+    }
+
+    private HotKey minimum() {
+        HotKey minimum = null;
+        for (String key : tracked.keySet()) {
+            long estimate = estimate(key);
+            if (minimum == null || estimate < minimum.estimatedCount()) {
+                minimum = new HotKey(key, estimate);
+            }
+        }
+        return minimum == null ? new HotKey("", 0) : minimum;
+    }
+
+    private int index(int row, int h1, int h2) {
+        return row * (mask + 1) + ((h1 + row * h2) & mask);
+    }
+
+    private static int mix(int hash) {
+        int h = hash * 0x9E3779B9;
+        h ^= h >>> 16;
+        h *= 0x85EBCA6B;
+        h ^= h >>> 13;
+        return h | 1;
+    }
+
+    public record HotKey(String key, long estimatedCount) {
+    }
+}
@@ -0,0 +1,36 @@
+package com.example.myaccountsystem.monitoring;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * /actuator/hotaccounts - 요청 수와 락 거절 수 기준 상위 계좌.
+ */
+@Component
+@Endpoint(id = "hotaccounts")
+@RequiredArgsConstructor
+public class HotAccountEndpoint {
+    private static final int DEFAULT_LIMIT = 20;
+
+    private final HotAccountTracker hotAccountTracker;
+
+    @ReadOperation
+    public HotAccounts hotAccounts(@Nullable Integer limit) {
+        int size = limit == null ? DEFAULT_LIMIT : limit;
+        return new HotAccounts(
+                hotAccountTracker.topOperations(size),
+                hotAccountTracker.topLockRejections(size)
+        );
+    }
+
+    public record HotAccounts(
+            List<HeavyHitterSketch.HotKey> operations,
+            List<HeavyHitterSketch.HotKey> lockRejections
+    ) {
+    }
+}
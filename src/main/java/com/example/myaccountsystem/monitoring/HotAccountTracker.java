@@ -0,0 +1,53 @@
+package com.example.myaccountsystem.monitoring;
+
+import com.example.myaccountsystem.config.HotAccountProperties;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * 거래 요청과 ACCOUNT_TRANSACTION_LOCK 거절이 몰리는 계좌를 고정 메모리로 추적한다.
+ */
+@Component
+public class HotAccountTracker {
+    private final HotAccountProperties properties;
+    private final HeavyHitterSketch operations;
+    private final HeavyHitterSketch lockRejections;
+
+    public HotAccountTracker(HotAccountProperties properties) {
+        this.properties = properties;
+        this.operations = new HeavyHitterSketch(
+                properties.getWidth(), properties.getDepth(), properties.getCapacity()
+        );
+        this.lockRejections = new HeavyHitterSketch(
+                properties.getWidth(), properties.getDepth(), properties.getCapacity()
+        );
+    }
+
+    public void recordOperation(String accountNumber) {
+        if (properties.isEnabled()) {
+            operations.add(accountNumber);
+        }
+    }
+
+    public void recordLockRejection(String accountNumber) {
+        if (properties.isEnabled()) {
+            lockRejections.add(accountNumber);
+        }
+    }
+
+    public List<HeavyHitterSketch.HotKey> topOperations(int limit) {
+        return operations.top(limit);
+    }
+
+    public List<HeavyHitterSketch.HotKey> topLockRejections(int limit) {
+        return lockRejections.top(limit);
+    }
+
+    @Scheduled(fixedRateString = "${account.hot-account.decay-interval-ms:60000}")
+    public void decay() {
+        operations.decay(properties.getDecayFactor());
+        lockRejections.decay(properties.getDecayFactor());
+    }
+}
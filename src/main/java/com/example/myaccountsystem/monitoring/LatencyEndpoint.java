@@ -0,0 +1,29 @@
+package com.example.myaccountsystem.monitoring;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Selector;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+
+/**
+ * /actuator/latency - 연산별 슬라이딩 윈도우 백분위 (마이크로초).
+ */
+@Component
+@Endpoint(id = "latency")
+@RequiredArgsConstructor
+public class LatencyEndpoint {
+    private final LatencyRecorders latencyRecorders;
+
+    @ReadOperation
+    public Map<String, Map<String, OperationLatency.WindowSnapshot>> latencies() {
+        return latencyRecorders.snapshot();
+    }
+
+    @ReadOperation
+    public Map<String, OperationLatency.WindowSnapshot> latency(@Selector String operation) {
+        return latencyRecorders.snapshot(operation);
+    }
+}
@@ -0,0 +1,116 @@
+package com.example.myaccountsystem.monitoring;
+
+import com.example.myaccountsystem.config.LatencyProperties;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.HistogramLogWriter;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.io.File;
+import java.io.FileNotFoundException;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 컨트롤러 메서드와 서비스 단계별 HdrHistogram 기록기 모음.
+ * 구간마다 히스토그램을 교체하고, 설정된 경우 HDR 로그 파일에 구간 히스토그램을 남긴다.
+ */
+@Slf4j
+@Component
+public class LatencyRecorders {
+    private final LatencyProperties properties;
+    private final long highestTrackableMicros;
+    private final int intervalsToKeep;
+    private final Map<String, OperationLatency> operations = new ConcurrentHashMap<>();
+
+    private HistogramLogWriter logWriter;
+
+    public LatencyRecorders(LatencyProperties properties) {
+        this.properties = properties;
+        this.highestTrackableMicros = properties.getHighestTrackableValue().toNanos() / 1_000;
+        this.intervalsToKeep = properties.intervalsToKeep();
+    }
+
+    @PostConstruct
+    public void openLog() {
+        if (properties.getLogFile() == null || properties.getLogFile().isBlank()) {
+            return;
+        }
+
+        try {
+            logWriter = new HistogramLogWriter(new File(properties.getLogFile()));
+            logWriter.outputLogFormatVersion();
+            logWriter.outputStartTime(System.currentTimeMillis());
+            logWriter.setBaseTime(System.currentTimeMillis());
+            logWriter.outputLegend();
+        } catch (FileNotFoundException e) {
+            log.warn("HDR latency log disabled, cannot open {}", properties.getLogFile(), e);
+        }
+    }
+
+    @PreDestroy
+    public synchronized void closeLog() {
+        if (logWriter != null) {
+            logWriter.close();
+            logWriter = null;
+        }
+    }
+
+    /**
+     * 연산별 기록기. 호출하는 쪽에서 필드 등에 보관해 두고 쓰면 조회 비용도 들지 않는다.
+     */
+    public OperationLatency operation(String name) {
+        OperationLatency latency = operations.get(name);
+        if (latency != null) {
+            return latency;
+        }
+        return operations.computeIfAbsent(name, key ->
+                new OperationLatency(key, highestTrackableMicros, properties.getSignificantDigits(), intervalsToKeep));
+    }
+
+    @Scheduled(fixedRateString = "${account.latency.interval-ms:10000}")
+    public synchronized void rollover() {
+        for (OperationLatency latency : operations.values()) {
+            Histogram interval = latency.rollover();
+            if (logWriter != null) {
+                logWriter.outputIntervalHistogram(interval);
+            }
+        }
+    }
+
+    public Map<String, Map<String, OperationLatency.WindowSnapshot>> snapshot() {
+        Map<String, Map<String, OperationLatency.WindowSnapshot>> snapshot = new TreeMap<>();
+        operations.forEach((name, latency) -> snapshot.put(name, windows(latency)));
+        return snapshot;
+    }
+
+    public Map<String, OperationLatency.WindowSnapshot> snapshot(String name) {
+        OperationLatency latency = operations.get(name);
+        return latency == null ? null : windows(latency);
+    }
+
+    private Map<String, OperationLatency.WindowSnapshot> windows(OperationLatency latency) {
+        Map<String, OperationLatency.WindowSnapshot> windows = new LinkedHashMap<>();
+        for (Duration window : properties.getWindows()) {
+            int intervalCount = (int) Math.max(1, window.toMillis() / properties.getIntervalMs());
+            windows.put(label(window), latency.window(intervalCount));
+        }
+        return windows;
+    }
+
+    private static String label(Duration window) {
+        if (window.toSeconds() % 3600 == 0) {
+            return window.toHours() + "h";
+        }
+        if (window.toSeconds() % 60 == 0) {
+            return window.toMinutes() + "m";
+        }
+        return window.toSeconds() + "s";
+    }
+}
@@ -0,0 +1,100 @@
+package com.example.myaccountsystem.monitoring;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 분산 락 연산별 지연시간/결과와 락 보유 시간을 기록한다.
+ * 태그는 연산과 결과만 사용하고 계좌번호는 넣지 않는다.
+ * 같은 구간을 JFR 이벤트와 HdrHistogram 으로도 남기며, 이벤트는 JFR 설정에서 켠 경우에만 기록된다.
+ */
+@Component
+public class LockMetrics {
+    public static final String SUCCESS = "success";
+    public static final String FAILURE = "failure";
+    public static final String ERROR = "error";
+
+    private final MeterRegistry meterRegistry;
+    private final Map<String, Timer> operationTimers = new ConcurrentHashMap<>();
+    private final Map<String, Timer> holdTimers = new ConcurrentHashMap<>();
+    private final Map<String, Long> acquiredAt = new ConcurrentHashMap<>();
+    private final LatencyRecorders latencyRecorders;
+    private final Map<String, OperationLatency> operationLatencies = new ConcurrentHashMap<>();
+
+    public LockMetrics(MeterRegistry meterRegistry, LatencyRecorders latencyRecorders) {
+        this.meterRegistry = meterRegistry;
+        this.latencyRecorders = latencyRecorders;
+        meterRegistry.gaugeMapSize("account.lock.held", Tags.empty(), acquiredAt);
+    }
+
+    public LockOperation start(String operation, String key) {
+        return new LockOperation(operation, key);
+    }
+
+    public void lockAcquired(String key) {
+        acquiredAt.put(key, System.nanoTime());
+    }
+
+    public void lockReleased(String key, String operation) {
+        Long acquiredNanos = acquiredAt.remove(key);
+        if (acquiredNanos == null) {
+            return;
+        }
+
+        holdTimers.computeIfAbsent(operation, name -> Timer.builder("account.lock.hold")
+                        .tag("operation", operation)
+                        .publishPercentileHistogram()
+                        .register(meterRegistry))
+                .record(System.nanoTime() - acquiredNanos, TimeUnit.NANOSECONDS);
+    }
+
+    private OperationLatency operationLatency(String operation) {
+        OperationLatency latency = operationLatencies.get(operation);
+        if (latency != null) {
+            return latency;
+        }
+        return operationLatencies.computeIfAbsent(operation, key -> latencyRecorders.operation("lock." + key));
+    }
+
+    private Timer operationTimer(String operation, String outcome) {
+        return operationTimers.computeIfAbsent(operation + ":" + outcome, key -> Timer.builder("account.lock.operation")
+                .tag("operation", operation)
+                .tag("outcome", outcome)
+                .publishPercentileHistogram()
+                .register(meterRegistry));
+    }
+
+    public final class LockOperation {
+        private final String operation;
+        private final String key;
+        private final long startNanos;
+        private final LockOperationEvent event = new LockOperationEvent();
+
+        private LockOperation(String operation, String key) {
+            this.operation = operation;
+            this.key = key;
+            this.startNanos = System.nanoTime();
+            event.begin();
+        }
+
+        public void finish(String outcome) {
+            long elapsed = System.nanoTime() - startNanos;
+            operationTimer(operation, outcome).record(elapsed, TimeUnit.NANOSECONDS);
+            operationLatency(operation).recordNanos(elapsed);
+
+            event.end();
+            if (event.shouldCommit()) {
+                event.operation = operation;
+                event.accountHash = key.hashCode();
+                event.outcome = outcome;
+                event.commit();
+            }
+        }
+    }
+}
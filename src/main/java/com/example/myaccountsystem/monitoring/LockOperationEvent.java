@@ -0,0 +1,19 @@
+package com.example.myaccountsystem.monitoring;
+
+import jdk.jfr.*;
+
+@Name("myaccountsystem.LockOperation")
+@Label("Redis Lock Operation")
+@Category({"My Account System", "Lock"})
+@Enabled(false)
+@StackTrace(false)
+class LockOperationEvent extends Event {
+    @Label("Operation")
+    String operation;
+
+    @Label("Account Hash")
+    int accountHash;
+
+    @Label("Outcome")
+    String outcome;
+}
@@ -0,0 +1,74 @@
+package com.example.myaccountsystem.monitoring;
+
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 연산 하나의 지연시간 분포 (마이크로초 단위).
+ * 기록은 Recorder 로 락/할당 없이 하고, 주기마다 구간 히스토그램을 떼어 링 버퍼에 보관한다.
+ */
+public final class OperationLatency {
+    private final String name;
+    private final long highestTrackableMicros;
+    private final int significantDigits;
+    private final Recorder recorder;
+    private final Histogram[] intervals;
+    private int head;
+    private Histogram recycled;
+
+    OperationLatency(String name, long highestTrackableMicros, int significantDigits, int intervalsToKeep) {
+        this.name = name;
+        this.highestTrackableMicros = highestTrackableMicros;
+        this.significantDigits = significantDigits;
+        this.recorder = new Recorder(highestTrackableMicros, significantDigits);
+        this.intervals = new Histogram[intervalsToKeep];
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public void recordNanos(long nanos) {
+        long micros = TimeUnit.NANOSECONDS.toMicros(nanos);
+        recorder.recordValue(Math.min(Math.max(micros, 0), highestTrackableMicros));
+    }
+
+    /**
+     * 현재 구간을 마감하고 링 버퍼에 넣는다. 밀려난 히스토그램은 다음 구간에 재사용한다.
+     */
+    synchronized Histogram rollover() {
+        Histogram interval = recorder.getIntervalHistogram(recycled);
+        interval.setTag(name);
+
+        head = (head + 1) % intervals.length;
+        recycled = intervals[head];
+        intervals[head] = interval;
+        return interval;
+    }
+
+    synchronized WindowSnapshot window(int intervalCount) {
+        Histogram window = new Histogram(highestTrackableMicros, significantDigits);
+        for (int i = 0; i < Math.min(intervalCount, intervals.length); i++) {
+            Histogram interval = intervals[Math.floorMod(head - i, intervals.length)];
+            if (interval != null) {
+                window.add(interval);
+            }
+        }
+        return WindowSnapshot.from(window);
+    }
+
+    public record WindowSnapshot(long count, long p50, long p90, long p99, long p999, long max) {
+        static WindowSnapshot from(Histogram histogram) {
+            return new WindowSnapshot(
+                    histogram.getTotalCount(),
+                    histogram.getValueAtPercentile(50),
+                    histogram.getValueAtPercentile(90),
+                    histogram.getValueAtPercentile(99),
+                    histogram.getValueAtPercentile(99.9),
+                    histogram.getMaxValue()
+            );
+        }
+    }
+}
@@ -0,0 +1,16 @@
+package com.example.myaccountsystem.monitoring;
+
+import jdk.jfr.*;
+
+@Name("myaccountsystem.RowLockFetch")
+@Label("Pessimistic Row Lock Fetch")
+@Category({"My Account System", "Database"})
+@Enabled(false)
+@StackTrace(false)
+class RowLockFetchEvent extends Event {
+    @Label("Account Hash")
+    int accountHash;
+
+    @Label("Outcome")
+    String outcome;
+}
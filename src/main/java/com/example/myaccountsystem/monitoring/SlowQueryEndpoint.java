@@ -0,0 +1,26 @@
+package com.example.myaccountsystem.monitoring;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * /actuator/slowqueries - 임계값을 넘은 문장별 횟수/누적/최대 시간과 마지막 실행 계획.
+ */
+@Component
+@Endpoint(id = "slowqueries")
+@RequiredArgsConstructor
+public class SlowQueryEndpoint {
+    private static final int DEFAULT_LIMIT = 20;
+
+    private final SlowQueryLog slowQueryLog;
+
+    @ReadOperation
+    public List<SlowQueryLog.StatementSnapshot> slowQueries(@Nullable Integer limit) {
+        return slowQueryLog.slowest(limit == null ? DEFAULT_LIMIT : limit);
+    }
+}
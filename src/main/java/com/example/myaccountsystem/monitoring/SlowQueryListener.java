@@ -0,0 +1,82 @@
+package com.example.myaccountsystem.monitoring;
+
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.listener.QueryExecutionListener;
+import org.springframework.beans.factory.ObjectProvider;
+
+import javax.sql.DataSource;
+import java.util.List;
+import java.util.Locale;
+import java.util.Optional;
+
+/**
+ * 문장 실행 시간을 임계값과 비교하고, 넘은 경우에만 호출 위치를 찾아 SlowQueryLog 에 넘긴다.
+ * 비관적 락 조회(for update)는 락 대기로 보고 더 낮은 임계값을 쓴다.
+ */
+public class SlowQueryListener implements QueryExecutionListener {
+    private static final String SERVICE_PACKAGE = "com.example.myaccountsystem.service.";
+    private static final StackWalker STACK_WALKER = StackWalker.getInstance();
+
+    private final ObjectProvider<SlowQueryLog> slowQueryLogProvider;
+    private final DataSource targetDataSource;
+    private volatile SlowQueryLog slowQueryLog;
+
+    public SlowQueryListener(ObjectProvider<SlowQueryLog> slowQueryLogProvider, DataSource targetDataSource) {
+        this.slowQueryLogProvider = slowQueryLogProvider;
+        this.targetDataSource = targetDataSource;
+    }
+
+    @Override
+    public void beforeQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+    }
+
+    @Override
+    public void afterQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+        SlowQueryLog log = slowQueryLog();
+        if (log == null) {
+            return;
+        }
+
+        long elapsedMs = execInfo.getElapsedTime();
+        for (QueryInfo queryInfo : queryInfoList) {
+            String sql = queryInfo.getQuery();
+            SlowQueryLog.Kind kind = isLockingRead(sql) ? SlowQueryLog.Kind.LOCK_WAIT : SlowQueryLog.Kind.QUERY;
+            if (!log.isSlow(kind, elapsedMs)) {
+                continue;
+            }
+
+            int bindCount = queryInfo.getParametersList().isEmpty() ? 0 : queryInfo.getParametersList().get(0).size();
+            log.record(new SlowQueryLog.SlowQuery(
+                    kind, sql, elapsedMs, bindCount, queryInfo.getParametersList().size(), callerMethod()
+            ));
+            if (log.shouldExplain()) {
+                log.explainAsync(targetDataSource, queryInfo);
+            }
+        }
+    }
+
+    private SlowQueryLog slowQueryLog() {
+        SlowQueryLog log = slowQueryLog;
+        if (log == null) {
+            log = slowQueryLogProvider.getIfAvailable();
+            slowQueryLog = log;
+        }
+        return log;
+    }
+
+    private static boolean isLockingRead(String sql) {
+        return sql.toLowerCase(Locale.ROOT).contains(" for update");
+    }
+
+    // 느린 문장에서만 호출되므로 스택 탐색 비용은 정상 경로에 들지 않는다.
+    private static String callerMethod() {
+        Optional<StackWalker.StackFrame> caller = STACK_WALKER.walk(frames -> frames
+                .filter(frame -> frame.getClassName().startsWith(SERVICE_PACKAGE))
+                .filter(frame -> !frame.getClassName().contains("$$"))
+                .findFirst());
+        return caller
+                .map(frame -> frame.getClassName().substring(SERVICE_PACKAGE.length()) + "." + frame.getMethodName())
+                .orElse("unknown");
+    }
+}
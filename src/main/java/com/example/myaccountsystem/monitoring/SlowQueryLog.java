@@ -0,0 +1,207 @@
+package com.example.myaccountsystem.monitoring;
+
+import com.example.myaccountsystem.config.SlowQueryProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.proxy.ParameterSetOperation;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 임계값을 넘은 SQL 문장을 기록하고 문장별 누적 통계를 유지한다.
+ * 샘플링된 문장은 별도 스레드에서 EXPLAIN 을 실행해 실행 계획을 함께 남긴다.
+ */
+@Slf4j
+@Component
+public class SlowQueryLog {
+    private static final int PLAN_QUEUE_CAPACITY = 16;
+
+    private final SlowQueryProperties properties;
+    private final Map<Kind, Counter> slowCounters = new EnumMap<>(Kind.class);
+    private final Counter droppedStatements;
+    private final Map<String, StatementStats> statements = new ConcurrentHashMap<>();
+    private final ThreadPoolExecutor explainExecutor;
+
+    public SlowQueryLog(SlowQueryProperties properties, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        for (Kind kind : Kind.values()) {
+            slowCounters.put(kind, meterRegistry.counter("account.db.slow-query", "kind", kind.tag));
+        }
+        this.droppedStatements = meterRegistry.counter("account.db.slow-query.untracked");
+
+        // 계획 수집이 밀리면 버린다. 요청 스레드를 기다리게 하지 않는다.
+        this.explainExecutor = new ThreadPoolExecutor(
+                1, 1, 0, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(PLAN_QUEUE_CAPACITY),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "slow-query-explain");
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.DiscardPolicy()
+        );
+    }
+
+    @PreDestroy
+    public void stop() {
+        explainExecutor.shutdownNow();
+    }
+
+    public boolean isSlow(Kind kind, long elapsedMs) {
+        long threshold = kind == Kind.LOCK_WAIT
+                ? properties.getLockWaitThreshold().toMillis()
+                : properties.getThreshold().toMillis();
+        return elapsedMs >= threshold;
+    }
+
+    public void record(SlowQuery query) {
+        slowCounters.get(query.kind()).increment();
+        log.warn("Slow {} {}ms caller={} binds={} batch={} sql={}",
+                query.kind().tag, query.elapsedMs(), query.caller(), query.bindCount(), query.batchSize(), query.sql());
+
+        StatementStats stats = statements.get(query.sql());
+        if (stats == null) {
+            if (statements.size() >= properties.getMaxStatements()) {
+                droppedStatements.increment();
+                return;
+            }
+            stats = statements.computeIfAbsent(query.sql(), sql -> new StatementStats(query.kind()));
+        }
+        stats.add(query);
+    }
+
+    public boolean shouldExplain() {
+        double rate = properties.getExplainSampleRate();
+        return rate > 0 && ThreadLocalRandom.current().nextDouble() < rate;
+    }
+
+    public void explainAsync(DataSource dataSource, QueryInfo queryInfo) {
+        String sql = queryInfo.getQuery();
+        if (!isExplainable(sql)) {
+            return;
+        }
+
+        List<ParameterSetOperation> parameters = queryInfo.getParametersList().isEmpty()
+                ? List.of()
+                : List.copyOf(queryInfo.getParametersList().get(0));
+        explainExecutor.execute(() -> {
+            try {
+                String plan = explain(dataSource, sql, parameters);
+                StatementStats stats = statements.get(sql);
+                if (stats != null) {
+                    stats.lastPlan = plan;
+                }
+                log.info("Plan for slow query sql={}\n{}", sql, plan);
+            } catch (SQLException | RuntimeException e) {
+                log.debug("EXPLAIN failed for sql={}", sql, e);
+            }
+        });
+    }
+
+    /**
+     * 느린 순서(최대 시간 기준)로 문장별 통계를 돌려준다.
+     */
+    public List<StatementSnapshot> slowest(int limit) {
+        return statements.entrySet().stream()
+                .map(entry -> entry.getValue().snapshot(entry.getKey()))
+                .sorted(Comparator.comparingLong(StatementSnapshot::maxMs).reversed())
+                .limit(limit)
+                .toList();
+    }
+
+    String explain(DataSource dataSource, String sql, List<ParameterSetOperation> parameters) throws SQLException {
+        try (Connection connection = dataSource.getConnection();
+             PreparedStatement statement = connection.prepareStatement("EXPLAIN " + sql)) {
+            for (ParameterSetOperation parameter : parameters) {
+                Object[] args = parameter.getArgs();
+                if (!(args[0] instanceof Integer index)) {
+                    continue;
+                }
+                if ("setNull".equals(parameter.getMethod().getName())) {
+                    statement.setNull(index, (Integer) args[1]);
+                } else {
+                    statement.setObject(index, args[1]);
+                }
+            }
+
+            StringBuilder plan = new StringBuilder();
+            try (ResultSet resultSet = statement.executeQuery()) {
+                while (resultSet.next()) {
+                    if (!plan.isEmpty()) {
+                        plan.append('\n');
+                    }
+                    plan.append(resultSet.getString(1));
+                }
+            }
+            return plan.toString();
+        }
+    }
+
+    private static boolean isExplainable(String sql) {
+        String head = sql.stripLeading().toLowerCase(Locale.ROOT);
+        return head.startsWith("select") || head.startsWith("update") || head.startsWith("delete");
+    }
+
+    public enum Kind {
+        QUERY("query"),
+        LOCK_WAIT("lock_wait");
+
+        private final String tag;
+
+        Kind(String tag) {
+            this.tag = tag;
+        }
+    }
+
+    public record SlowQuery(Kind kind, String sql, long elapsedMs, int bindCount, int batchSize, String caller) {
+    }
+
+    public record StatementSnapshot(
+            String sql, Kind kind, long count, long totalMs, long maxMs, String lastCaller, String lastPlan
+    ) {
+    }
+
+    private static final class StatementStats {
+        private final Kind kind;
+        private final LongAdder count = new LongAdder();
+        private final LongAdder totalMs = new LongAdder();
+        private final AtomicLong maxMs = new AtomicLong();
+        private volatile String lastCaller;
+        private volatile String lastPlan;
+
+        private StatementStats(Kind kind) {
+            this.kind = kind;
+        }
+
+        private void add(SlowQuery query) {
+            count.increment();
+            totalMs.add(query.elapsedMs());
+            maxMs.accumulateAndGet(query.elapsedMs(), Math::max);
+            lastCaller = query.caller();
+        }
+
+        private StatementSnapshot snapshot(String sql) {
+            return new StatementSnapshot(sql, kind, count.sum(), totalMs.sum(), maxMs.get(), lastCaller, lastPlan);
+        }
+    }
+}
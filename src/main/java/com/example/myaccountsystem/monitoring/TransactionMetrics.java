@@ -0,0 +1,166 @@
+package com.example.myaccountsystem.monitoring;
+
+import com.example.myaccountsystem.type.ErrorCode;
+import com.example.myaccountsystem.type.TransactionType;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * 비관적 락 대기 시간과 거래 결과(성공, ErrorCode 또는 error)를 기록한다.
+ * 서비스 호출, 비관적 락 조회, 거래 저장 구간은 JFR 이벤트와 HdrHistogram 으로도 남긴다.
+ */
+@Component
+public class TransactionMetrics {
+    private static final String SUCCESS = "SUCCESS";
+    private static final String ERROR = "error";
+
+    private final MeterRegistry meterRegistry;
+    private final Timer rowLockWait;
+    private final Map<String, Counter> outcomeCounters = new ConcurrentHashMap<>();
+    private final LatencyRecorders latencyRecorders;
+    private final OperationLatency rowLockLatency;
+    private final OperationLatency saveLatency;
+    private final Map<String, OperationLatency> serviceLatencies = new ConcurrentHashMap<>();
+
+    public TransactionMetrics(MeterRegistry meterRegistry, LatencyRecorders latencyRecorders) {
+        this.meterRegistry = meterRegistry;
+        this.rowLockWait = Timer.builder("account.db.row-lock.wait")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+        this.latencyRecorders = latencyRecorders;
+        this.rowLockLatency = latencyRecorders.operation("service.row-lock-fetch");
+        this.saveLatency = latencyRecorders.operation("service.save");
+    }
+
+    public ServiceCall startCall(String operation, String accountNumber) {
+        return new ServiceCall(operation, accountNumber);
+    }
+
+    public <T> T recordRowLockWait(String accountNumber, Supplier<T> lockedFetch) {
+        RowLockFetchEvent event = new RowLockFetchEvent();
+        event.begin();
+        long start = System.nanoTime();
+        String outcome = ERROR;
+        try {
+            T result = lockedFetch.get();
+            outcome = result instanceof Optional<?> optional && optional.isEmpty() ? "not_found" : "found";
+            return result;
+        } finally {
+            long elapsed = System.nanoTime() - start;
+            rowLockWait.record(elapsed, TimeUnit.NANOSECONDS);
+            rowLockLatency.recordNanos(elapsed);
+
+            event.end();
+            if (event.shouldCommit()) {
+                event.accountHash = accountNumber.hashCode();
+                event.outcome = outcome;
+                event.commit();
+            }
+        }
+    }
+
+    public <T> T recordSave(String accountNumber, TransactionType transactionType, Supplier<T> save) {
+        TransactionSaveEvent event = new TransactionSaveEvent();
+        event.begin();
+        long start = System.nanoTime();
+        String outcome = ERROR;
+        try {
+            T result = save.get();
+            outcome = SUCCESS;
+            return result;
+        } finally {
+            saveLatency.recordNanos(System.nanoTime() - start);
+
+            event.end();
+            if (event.shouldCommit()) {
+                event.transactionType = transactionType.name();
+                event.accountHash = accountNumber.hashCode();
+                event.outcome = outcome;
+                event.commit();
+            }
+        }
+    }
+
+    private OperationLatency serviceLatency(String operation) {
+        OperationLatency latency = serviceLatencies.get(operation);
+        if (latency != null) {
+            return latency;
+        }
+        return serviceLatencies.computeIfAbsent(operation, key -> latencyRecorders.operation("service." + key));
+    }
+
+    private Counter outcomeCounter(String operation, String outcome) {
+        return outcomeCounters.computeIfAbsent(operation + ":" + outcome, key -> meterRegistry.counter(
+                "account.transaction.outcomes",
+                "operation", operation,
+                "outcome", outcome
+        ));
+    }
+
+    public final class ServiceCall {
+        private final String operation;
+        private final String accountNumber;
+        private final long startNanos;
+        private final TransactionServiceEvent event = new TransactionServiceEvent();
+        private boolean finished;
+
+        private ServiceCall(String operation, String accountNumber) {
+            this.operation = operation;
+            this.accountNumber = accountNumber;
+            this.startNanos = System.nanoTime();
+            event.begin();
+        }
+
+        // 트랜잭션 안에서는 커밋이 끝난 뒤에 기록하여, 커밋에 실패한 호출이 성공으로 잡히지 않게 한다.
+        public void success() {
+            if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+                finish(SUCCESS);
+                return;
+            }
+
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    finish(status == STATUS_COMMITTED ? SUCCESS : ERROR);
+                }
+            });
+        }
+
+        public void failure(ErrorCode errorCode) {
+            finish(errorCode.name());
+        }
+
+        // ErrorCode 가 없는 예외(DB 오류, 락 시간 초과 등)
+        public void error() {
+            finish(ERROR);
+        }
+
+        private void finish(String outcome) {
+            if (finished) {
+                return;
+            }
+            finished = true;
+
+            outcomeCounter(operation, outcome).increment();
+            serviceLatency(operation).recordNanos(System.nanoTime() - startNanos);
+
+            event.end();
+            if (event.shouldCommit()) {
+                event.operation = operation;
+                event.accountHash = accountNumber.hashCode();
+                event.outcome = outcome;
+                event.commit();
+            }
+        }
+    }
+}
@@ -0,0 +1,19 @@
+package com.example.myaccountsystem.monitoring;
+
+import jdk.jfr.*;
+
+@Name("myaccountsystem.TransactionSave")
+@Label("Save Transaction")
+@Category({"My Account System", "Database"})
+@Enabled(false)
+@StackTrace(false)
+class TransactionSaveEvent extends Event {
+    @Label("Transaction Type")
+    String transactionType;
+
+    @Label("Account Hash")
+    int accountHash;
+
+    @Label("Outcome")
+    String outcome;
+}
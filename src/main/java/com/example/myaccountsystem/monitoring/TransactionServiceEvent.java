@@ -0,0 +1,19 @@
+package com.example.myaccountsystem.monitoring;
+
+import jdk.jfr.*;
+
+@Name("myaccountsystem.TransactionService")
+@Label("Transaction Service Call")
+@Category({"My Account System", "Service"})
+@Enabled(false)
+@StackTrace(false)
+class TransactionServiceEvent extends Event {
+    @Label("Operation")
+    String operation;
+
+    @Label("Account Hash")
+    int accountHash;
+
+    @Label("Outcome")
+    String outcome;
+}
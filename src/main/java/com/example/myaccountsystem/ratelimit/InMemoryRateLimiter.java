@@ -0,0 +1,70 @@
+package com.example.myaccountsystem.ratelimit;
+
+import com.example.myaccountsystem.config.RateLimitProperties.BucketPolicy;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * GCRA(Generic Cell Rate Algorithm) 방식의 토큰 버킷.
+ * 버킷마다 "이론적 도착 시각" 하나만 AtomicLong 으로 관리하여 락 없이 CAS 로 갱신한다.
+ */
+@Component
+@ConditionalOnProperty(name = "account.rate-limit.backend", havingValue = "in-memory", matchIfMissing = true)
+public class InMemoryRateLimiter implements RateLimiter {
+    private final Map<String, AtomicLong> buckets = new ConcurrentHashMap<>();
+    private final LongSupplier nanoClock;
+
+    public InMemoryRateLimiter() {
+        this(System::nanoTime);
+    }
+
+    InMemoryRateLimiter(LongSupplier nanoClock) {
+        this.nanoClock = nanoClock;
+    }
+
+    @Override
+    public boolean tryAcquire(String key, BucketPolicy policy) {
+        long emissionInterval = policy.emissionIntervalNanos();
+        long tolerance = emissionInterval * policy.getCapacity();
+        long now = nanoClock.getAsLong();
+        AtomicLong theoreticalArrival = buckets.computeIfAbsent(key, k -> new AtomicLong(now));
+
+        while (true) {
+            long current = theoreticalArrival.get();
+            long next = Math.max(current, now) + emissionInterval;
+
+            if (next - now > tolerance) {
+                return false;
+            }
+
+            if (theoreticalArrival.compareAndSet(current, next)) {
+                return true;
+            }
+        }
+    }
+
+    @Override
+    public void release(String key, BucketPolicy policy) {
+        AtomicLong theoreticalArrival = buckets.get(key);
+        if (theoreticalArrival != null) {
+            theoreticalArrival.addAndGet(-policy.emissionIntervalNanos());
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${account.rate-limit.eviction-interval-ms:60000}")
+    public void evictIdleBuckets() {
+        long now = nanoClock.getAsLong();
+        // 이론적 도착 시각이 지난 버킷은 가득 찬 상태와 같으므로 제거해도 결과가 달라지지 않는다.
+        buckets.values().removeIf(theoreticalArrival -> theoreticalArrival.get() - now <= 0);
+    }
+
+    int size() {
+        return buckets.size();
+    }
+}
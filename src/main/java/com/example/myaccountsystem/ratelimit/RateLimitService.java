@@ -0,0 +1,64 @@
+package com.example.myaccountsystem.ratelimit;
+
+import com.example.myaccountsystem.config.RateLimitProperties;
+import com.example.myaccountsystem.config.RateLimitProperties.BucketPolicy;
+import com.example.myaccountsystem.exception.AccountException;
+import com.example.myaccountsystem.type.ErrorCode;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+@Service
+@RequiredArgsConstructor
+public class RateLimitService {
+    private final RateLimiter rateLimiter;
+    private final RateLimitProperties properties;
+    private final MeterRegistry meterRegistry;
+
+    public void checkLimit(String endpoint, String userId, String accountNumber) {
+        if (!properties.isEnabled()) {
+            return;
+        }
+
+        RateLimitProperties.EndpointPolicy endpointPolicy = properties.getEndpoints().get(endpoint);
+        if (endpointPolicy == null) {
+            return;
+        }
+
+        boolean userCharged = check(endpoint, "user", userId, endpointPolicy.getUser());
+        try {
+            check(endpoint, "account", accountNumber, endpointPolicy.getAccount());
+        } catch (AccountException e) {
+            // 계좌 버킷에서 거절된 요청은 처리되지 않으므로 사용자 버킷에서 가져간 토큰을 돌려준다.
+            if (userCharged) {
+                rateLimiter.release(bucketKey(endpoint, "user", userId), endpointPolicy.getUser());
+            }
+            throw e;
+        }
+    }
+
+    // 토큰을 가져갔으면 true, 제한 대상이 아니면 false 를 돌려주고, 거절되면 예외를 던진다.
+    private boolean check(String endpoint, String keyType, String key, BucketPolicy policy) {
+        if (key == null || policy == null) {
+            return false;
+        }
+
+        boolean allowed = rateLimiter.tryAcquire(bucketKey(endpoint, keyType, key), policy);
+
+        meterRegistry.counter(
+                "account.ratelimit.requests",
+                "endpoint", endpoint,
+                "key", keyType,
+                "outcome", allowed ? "allowed" : "throttled"
+        ).increment();
+
+        if (!allowed) {
+            throw new AccountException(ErrorCode.TOO_MANY_REQUESTS);
+        }
+        return true;
+    }
+
+    private static String bucketKey(String endpoint, String keyType, String key) {
+        return endpoint + ":" + keyType + ":" + key;
+    }
+}
@@ -0,0 +1,10 @@
+package com.example.myaccountsystem.ratelimit;
+
+import com.example.myaccountsystem.config.RateLimitProperties.BucketPolicy;
+
+public interface RateLimiter {
+    boolean tryAcquire(String key, BucketPolicy policy);
+
+    // tryAcquire 로 가져간 토큰 하나를 되돌린다.
+    void release(String key, BucketPolicy policy);
+}
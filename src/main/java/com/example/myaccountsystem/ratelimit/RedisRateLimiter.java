@@ -0,0 +1,67 @@
+package com.example.myaccountsystem.ratelimit;
+
+import com.example.myaccountsystem.config.RateLimitProperties.BucketPolicy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "account.rate-limit.backend", havingValue = "redis")
+public class RedisRateLimiter implements RateLimiter {
+    private static final String KEY_PREFIX = "RATE_LIMIT:";
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final RedisScript<Long> tokenBucketScript;
+    private final RedisScript<Long> tokenRefundScript;
+
+    public RedisRateLimiter(StringRedisTemplate stringRedisTemplate) {
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.tokenBucketScript = script("scripts/token_bucket.lua");
+        this.tokenRefundScript = script("scripts/token_refund.lua");
+    }
+
+    @Override
+    public boolean tryAcquire(String key, BucketPolicy policy) {
+        try {
+            Long allowed = stringRedisTemplate.execute(
+                    tokenBucketScript,
+                    List.of(KEY_PREFIX + key),
+                    String.valueOf(policy.emissionIntervalNanos() / 1000),
+                    String.valueOf(policy.getCapacity())
+            );
+            return allowed == null || allowed == 1L;
+        } catch (Exception e) {
+            // Redis 장애가 전체 거래 중단으로 이어지지 않도록 제한 없이 통과시킨다.
+            log.error("Failed to evaluate rate limit for key: {}", key, e);
+            return true;
+        }
+    }
+
+    @Override
+    public void release(String key, BucketPolicy policy) {
+        try {
+            stringRedisTemplate.execute(
+                    tokenRefundScript,
+                    List.of(KEY_PREFIX + key),
+                    String.valueOf(policy.emissionIntervalNanos() / 1000)
+            );
+        } catch (Exception e) {
+            // 되돌리지 못하면 토큰 하나를 덜 쓰는 것뿐이므로 요청 흐름은 막지 않는다.
+            log.error("Failed to refund rate limit token for key: {}", key, e);
+        }
+    }
+
+    private static RedisScript<Long> script(String location) {
+        DefaultRedisScript<Long> script = new DefaultRedisScript<>();
+        script.setLocation(new ClassPathResource(location));
+        script.setResultType(Long.class);
+        return script;
+    }
+}
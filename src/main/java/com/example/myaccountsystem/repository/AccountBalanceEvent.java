@@ -0,0 +1,18 @@
+package com.example.myaccountsystem.repository;
+
+import com.example.myaccountsystem.type.TransactionType;
+
+/**
+ * 여러 계좌의 이벤트를 한 번에 읽을 때 쓰는 조회 결과. 어느 계좌의 이벤트인지 함께 담는다.
+ */
+public record AccountBalanceEvent(
+        String accountNumber,
+        Long eventSequence,
+        TransactionType transactionType,
+        Long amount,
+        Long balanceSnapshot
+) {
+    public BalanceEvent event() {
+        return new BalanceEvent(eventSequence, transactionType, amount, balanceSnapshot);
+    }
+}
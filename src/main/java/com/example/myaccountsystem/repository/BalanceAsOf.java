@@ -0,0 +1,12 @@
+package com.example.myaccountsystem.repository;
+
+import java.time.LocalDateTime;
+
+/**
+ * 시점 잔액 조회 하나. 계좌의 asOf 이전(같은 시각 포함) 마지막 성공 거래를 찾는다.
+ */
+public record BalanceAsOf(
+        String accountNumber,
+        LocalDateTime asOf
+) {
+}
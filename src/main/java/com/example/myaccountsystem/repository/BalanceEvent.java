@@ -0,0 +1,17 @@
+package com.example.myaccountsystem.repository;
+
+import com.example.myaccountsystem.type.TransactionType;
+
+/**
+ * 잔액을 다시 계산하는 데 필요한 거래 이벤트 컬럼만 담은 조회 결과.
+ */
+public record BalanceEvent(
+        Long eventSequence,
+        TransactionType transactionType,
+        Long amount,
+        Long balanceSnapshot
+) {
+    public long balanceDelta() {
+        return transactionType.balanceDelta(amount);
+    }
+}
@@ -0,0 +1,7 @@
+package com.example.myaccountsystem.repository;
+
+import com.example.myaccountsystem.entity.BalanceSnapshot;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface BalanceSnapshotRepository extends JpaRepository<BalanceSnapshot, String> {
+}
@@ -0,0 +1,19 @@
+package com.example.myaccountsystem.repository;
+
+import com.example.myaccountsystem.type.TransactionResultType;
+import com.example.myaccountsystem.type.TransactionType;
+
+/**
+ * 취소 검증에 필요한 거래 컬럼만 담은 조회 결과. 계좌와 사용자 엔티티를 읽지 않는다.
+ */
+public record CancelTarget(
+        String accountNumber,
+        Long amount,
+        TransactionType transactionType,
+        TransactionResultType transactionResultType,
+        Long cancelTransactionId
+) {
+    public boolean isCanceled() {
+        return cancelTransactionId != null;
+    }
+}
@@ -0,0 +1,86 @@
+package com.example.myaccountsystem.repository;
+
+import com.example.myaccountsystem.archive.TransactionRecord;
+import com.example.myaccountsystem.entity.Transaction;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "account.ledger.backend", havingValue = "jpa", matchIfMissing = true)
+public class JpaTransactionStore implements TransactionStore {
+    private static final String LATEST_AS_OF_VALUE = "(cast(? as int), cast(? as varchar), cast(? as timestamp))";
+
+    private final TransactionRepository transactionRepository;
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public Transaction save(Transaction transaction) {
+        return transactionRepository.save(transaction);
+    }
+
+    @Override
+    public Optional<Transaction> findByTransactionId(Long transactionId) {
+        return transactionRepository.findByTransactionId(transactionId);
+    }
+
+    @Override
+    public Optional<CancelTarget> findCancelTarget(Long transactionId) {
+        return transactionRepository.findCancelTarget(transactionId);
+    }
+
+    @Override
+    public int markCanceled(Long transactionId, Long cancelTransactionId) {
+        return transactionRepository.markCanceled(transactionId, cancelTransactionId);
+    }
+
+    @Override
+    public List<TransactionRecord> findHistory(
+            String accountNumber,
+            LocalDateTime from,
+            LocalDateTime to,
+            int limit
+    ) {
+        return transactionRepository.findHistory(accountNumber, from, to, PageRequest.of(0, limit));
+    }
+
+    /**
+     * 묶음 전체를 쿼리 하나로 푼다. 조회마다 (계좌, 거래 시각) 인덱스를 asOf 에서 거꾸로 한 번 찾는
+     * 상관 서브쿼리로 거래 ID 를 고르고, 그 거래의 행만 읽는다. 실패 거래는 잔액이 없어 건너뛴다.
+     */
+    @Override
+    public Map<BalanceAsOf, TransactionRecord> findLatestAsOf(List<BalanceAsOf> queries) {
+        String sql = "select q.query_index, t.* "
+                + "from (values " + String.join(", ", Collections.nCopies(queries.size(), LATEST_AS_OF_VALUE)) + ") "
+                + "as q(query_index, account_number, as_of) "
+                + "join transaction t on t.transaction_id = ("
+                + "select s.transaction_id from transaction s "
+                + "where s.account_account_number = q.account_number and s.transacted_at <= q.as_of "
+                + "and s.balance_snapshot is not null "
+                + "order by s.transacted_at desc, s.transaction_id desc fetch first 1 row only)";
+
+        Object[] parameters = new Object[queries.size() * 3];
+        for (int i = 0; i < queries.size(); i++) {
+            parameters[i * 3] = i;
+            parameters[i * 3 + 1] = queries.get(i).accountNumber();
+            parameters[i * 3 + 2] = Timestamp.valueOf(queries.get(i).asOf());
+        }
+
+        Map<BalanceAsOf, TransactionRecord> latest = new HashMap<>();
+        jdbcTemplate.query(sql, resultSet -> {
+            latest.put(queries.get(resultSet.getInt("query_index")), TransactionRecord.from(resultSet));
+        }, parameters);
+        return latest;
+    }
+}
@@ -1,12 +1,68 @@
 package com.example.myaccountsystem.repository;
 
+import com.example.myaccountsystem.archive.TransactionRecord;
 import com.example.myaccountsystem.entity.Transaction;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 @Repository
 public interface TransactionRepository extends JpaRepository<Transaction, Long> {
     Optional<Transaction> findByTransactionId(Long transactionId);
+
+    @Query("SELECT new com.example.myaccountsystem.repository.CancelTarget("
+            + "t.account.accountNumber, t.amount, t.transactionType, t.transactionResultType, t.cancelTransactionId) "
+            + "FROM Transaction t WHERE t.transactionId = :transactionId")
+    Optional<CancelTarget> findCancelTarget(@Param("transactionId") Long transactionId);
+
+    @Query("SELECT new com.example.myaccountsystem.archive.TransactionRecord("
+            + "t.transactionId, t.account.accountNumber, t.transactionType, t.transactionResultType, t.amount, "
+            + "t.balanceSnapshot, t.transactedAt, t.linkedTransactionId, t.cancelTransactionId, t.errorCode) "
+            + "FROM Transaction t WHERE t.account.accountNumber = :accountNumber "
+            + "AND t.transactedAt BETWEEN :from AND :to "
+            + "ORDER BY t.transactedAt DESC, t.transactionId DESC")
+    List<TransactionRecord> findHistory(
+            @Param("accountNumber") String accountNumber,
+            @Param("from") LocalDateTime from,
+            @Param("to") LocalDateTime to,
+            Pageable pageable
+    );
+
+    @Query("SELECT new com.example.myaccountsystem.repository.BalanceEvent("
+            + "t.eventSequence, t.transactionType, t.amount, t.balanceSnapshot) "
+            + "FROM Transaction t WHERE t.account.accountNumber = :accountNumber "
+            + "AND t.eventSequence > :afterSequence "
+            + "ORDER BY t.eventSequence")
+    List<BalanceEvent> findEventsAfter(
+            @Param("accountNumber") String accountNumber,
+            @Param("afterSequence") Long afterSequence
+    );
+
+    // 계좌마다 스냅샷 뒤의 이벤트만 한 번에 읽는다. 스냅샷이 없는 계좌는 처음부터 읽는다.
+    @Query("SELECT new com.example.myaccountsystem.repository.AccountBalanceEvent("
+            + "t.account.accountNumber, t.eventSequence, t.transactionType, t.amount, t.balanceSnapshot) "
+            + "FROM Transaction t LEFT JOIN BalanceSnapshot s ON s.accountNumber = t.account.accountNumber "
+            + "WHERE t.account.accountNumber IN :accountNumbers "
+            + "AND t.eventSequence > COALESCE(s.eventSequence, 0) "
+            + "ORDER BY t.account.accountNumber, t.eventSequence")
+    List<AccountBalanceEvent> findEventsAfterSnapshots(
+            @Param("accountNumbers") Collection<String> accountNumbers
+    );
+
+    // 이미 취소 링크가 있으면 0 을 반환하므로 동시에 들어온 취소 중 하나만 성공한다.
+    @Modifying
+    @Query("UPDATE Transaction t SET t.cancelTransactionId = :cancelTransactionId "
+            + "WHERE t.transactionId = :transactionId AND t.cancelTransactionId IS NULL")
+    int markCanceled(
+            @Param("transactionId") Long transactionId,
+            @Param("cancelTransactionId") Long cancelTransactionId
+    );
 }
@@ -0,0 +1,19 @@
+package com.example.myaccountsystem.repository;
+
+import com.example.myaccountsystem.entity.TransactionRollup;
+import com.example.myaccountsystem.type.RollupGranularity;
+import com.example.myaccountsystem.type.RollupScope;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface TransactionRollupRepository extends JpaRepository<TransactionRollup, TransactionRollup.Key> {
+    List<TransactionRollup> findByScopeAndOwnerKeyAndGranularityAndBucketStartBetweenOrderByBucketStart(
+            RollupScope scope,
+            String ownerKey,
+            RollupGranularity granularity,
+            LocalDateTime from,
+            LocalDateTime to
+    );
+}
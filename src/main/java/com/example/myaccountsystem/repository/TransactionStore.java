@@ -0,0 +1,30 @@
+package com.example.myaccountsystem.repository;
+
+import com.example.myaccountsystem.archive.TransactionRecord;
+import com.example.myaccountsystem.entity.Transaction;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * 거래 서비스가 쓰는 거래 저장 연산. 기본은 JPA 테이블이고, 원장 전용 배포에서는
+ * account.ledger.backend=mapped 로 메모리 매핑 로그를 쓴다.
+ */
+public interface TransactionStore {
+    Transaction save(Transaction transaction);
+
+    Optional<Transaction> findByTransactionId(Long transactionId);
+
+    Optional<CancelTarget> findCancelTarget(Long transactionId);
+
+    // 이미 취소 링크가 있으면 0 을 반환한다.
+    int markCanceled(Long transactionId, Long cancelTransactionId);
+
+    // 최신 거래부터 최대 limit 건
+    List<TransactionRecord> findHistory(String accountNumber, LocalDateTime from, LocalDateTime to, int limit);
+
+    // 조회마다 asOf 이전 마지막 성공 거래. 그런 거래가 없는 조회는 결과에 없다.
+    Map<BalanceAsOf, TransactionRecord> findLatestAsOf(List<BalanceAsOf> queries);
+}
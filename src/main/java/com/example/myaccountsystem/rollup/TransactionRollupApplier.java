@@ -0,0 +1,290 @@
+package com.example.myaccountsystem.rollup;
+
+import com.example.myaccountsystem.config.RollupProperties;
+import com.example.myaccountsystem.service.RedisLockService;
+import com.example.myaccountsystem.sharding.ShardRouter;
+import com.example.myaccountsystem.type.RollupGranularity;
+import com.example.myaccountsystem.type.RollupScope;
+import com.example.myaccountsystem.type.TransactionType;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 아웃박스에 쌓인 성공 거래를 모아 계좌·사용자별 시간·일 단위 집계 행에 증분으로 더한다.
+ * 아웃박스 행은 거래와 같은 트랜잭션에서 쓰이므로 커밋된 거래만 보이고, 집계에 더한 행은 같은 트랜잭션에서
+ * rolled_up_at 을 채운다. 그래서 실패하거나 멈춘 배치는 통째로 되돌아가고 다음 실행이 그 자리부터 다시 더한다.
+ * 배치 안에서 같은 행에 더할 거래는 하나로 합쳐 MERGE 한 번으로 반영한다.
+ * 사용자 행은 거래가 일어난 계좌의 샤드에 쌓이고, 읽을 때 샤드별 행을 합친다.
+ */
+@Slf4j
+@Component
+public class TransactionRollupApplier {
+    private static final String ROLLUP_LOCK_KEY = "TRANSACTION_ROLLUP";
+
+    private static final String SELECT_PENDING_SQL = "select o.id, o.account_number, a.user_user_id, "
+            + "o.transaction_type, o.amount, o.transacted_at "
+            + "from outbox_event o join account a on a.account_number = o.account_number "
+            + "where o.rolled_up_at is null order by o.id limit ?";
+    private static final String MARK_ROLLED_UP_SQL =
+            "update outbox_event set rolled_up_at = ? where rolled_up_at is null and id in (%s)";
+
+    private static final String MERGE_SQL = "merge into transaction_rollup r using (values ("
+            + "cast(? as varchar), cast(? as varchar), cast(? as varchar), cast(? as timestamp), "
+            + "cast(? as bigint), cast(? as bigint), cast(? as bigint), cast(? as bigint), "
+            + "cast(? as bigint), cast(? as bigint), cast(? as bigint), cast(? as bigint))) "
+            + "as d(scope, owner_key, granularity, bucket_start, use_count, use_amount, cancel_count, cancel_amount, "
+            + "transfer_out_count, transfer_out_amount, transfer_in_count, transfer_in_amount) "
+            + "on r.scope = d.scope and r.owner_key = d.owner_key "
+            + "and r.granularity = d.granularity and r.bucket_start = d.bucket_start "
+            + "when matched then update set "
+            + "use_count = r.use_count + d.use_count, use_amount = r.use_amount + d.use_amount, "
+            + "cancel_count = r.cancel_count + d.cancel_count, cancel_amount = r.cancel_amount + d.cancel_amount, "
+            + "transfer_out_count = r.transfer_out_count + d.transfer_out_count, "
+            + "transfer_out_amount = r.transfer_out_amount + d.transfer_out_amount, "
+            + "transfer_in_count = r.transfer_in_count + d.transfer_in_count, "
+            + "transfer_in_amount = r.transfer_in_amount + d.transfer_in_amount "
+            + "when not matched then insert (scope, owner_key, granularity, bucket_start, use_count, use_amount, "
+            + "cancel_count, cancel_amount, transfer_out_count, transfer_out_amount, transfer_in_count, transfer_in_amount) "
+            + "values (d.scope, d.owner_key, d.granularity, d.bucket_start, d.use_count, d.use_amount, "
+            + "d.cancel_count, d.cancel_amount, d.transfer_out_count, d.transfer_out_amount, "
+            + "d.transfer_in_count, d.transfer_in_amount)";
+
+    private static final RowMapper<PendingTransaction> PENDING_MAPPER = (resultSet, rowNum) -> new PendingTransaction(
+            resultSet.getLong("id"),
+            resultSet.getString("account_number"),
+            resultSet.getString("user_user_id"),
+            TransactionType.valueOf(resultSet.getString("transaction_type")),
+            resultSet.getLong("amount"),
+            resultSet.getTimestamp("transacted_at").toLocalDateTime()
+    );
+
+    private final RollupProperties properties;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final ShardRouter shardRouter;
+    private final RedisLockService redisLockService;
+    private final Counter applied;
+    private final Counter rows;
+    private final Counter conflicts;
+    private final Counter failures;
+
+    public TransactionRollupApplier(
+            RollupProperties properties,
+            JdbcTemplate jdbcTemplate,
+            TransactionTemplate transactionTemplate,
+            ShardRouter shardRouter,
+            RedisLockService redisLockService,
+            MeterRegistry meterRegistry
+    ) {
+        this.properties = properties;
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.shardRouter = shardRouter;
+        this.redisLockService = redisLockService;
+        this.applied = meterRegistry.counter("account.rollup.applied");
+        this.rows = meterRegistry.counter("account.rollup.rows");
+        this.conflicts = meterRegistry.counter("account.rollup.conflicts");
+        this.failures = meterRegistry.counter("account.rollup.failures");
+    }
+
+    @Scheduled(fixedDelayString = "${account.rollup.interval-ms:1000}")
+    public void apply() {
+        if (!properties.isEnabled()) {
+            return;
+        }
+
+        // 여러 노드가 같은 배치를 두고 다투지 않도록 한 노드만 반영한다. 락을 잃더라도 표시 갱신이 이중 반영을 막는다.
+        long lockTimeout = properties.getLockTimeout();
+        String token = redisLockService.acquireOwnedLock(ROLLUP_LOCK_KEY, lockTimeout);
+        if (token == null) {
+            return;
+        }
+
+        try {
+            long[] renewAt = {System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(lockTimeout / 2)};
+            // 아웃박스와 집계 행은 계좌와 같은 샤드에 있으므로 샤드마다 따로 반영한다.
+            shardRouter.forEachShard(shard -> {
+                int appliedInBatch;
+                do {
+                    if (System.nanoTime() - renewAt[0] >= 0) {
+                        if (!redisLockService.extendOwnedLock(ROLLUP_LOCK_KEY, token, lockTimeout)) {
+                            throw new RollupLockLostException();
+                        }
+                        renewAt[0] = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(lockTimeout / 2);
+                    }
+                    appliedInBatch = applyBatch();
+                } while (appliedInBatch == properties.getBatchSize());
+            });
+        } catch (RollupLockLostException e) {
+            log.warn("Rollup lock expired while applying; stopping until the next run");
+        } catch (Exception e) {
+            log.error("Failed to apply transactions to rollups", e);
+        } finally {
+            redisLockService.releaseOwnedLock(ROLLUP_LOCK_KEY, token);
+        }
+    }
+
+    /**
+     * 아직 더하지 않은 거래를 한 배치 읽어 집계와 표시를 한 트랜잭션으로 반영하고, 반영한 거래 수를 돌려준다.
+     * 다른 반영기와 겹치거나 같은 집계 행을 동시에 처음 만들어 키가 충돌하면 되돌리고 다시 읽는다.
+     * 그 밖의 실패는 0 을 돌려주고 남은 거래를 다음 실행에 맡긴다.
+     */
+    int applyBatch() {
+        for (int attempt = 0; ; attempt++) {
+            try {
+                BatchResult result = transactionTemplate.execute(status -> writeBatch());
+                if (result == null || result.transactions() == 0) {
+                    return 0;
+                }
+                applied.increment(result.transactions());
+                rows.increment(result.rows());
+                return result.transactions();
+            } catch (RollupConflictException | DuplicateKeyException e) {
+                conflicts.increment();
+                if (attempt >= properties.getConflictRetries()) {
+                    log.warn("Rollup batch kept conflicting with another writer; retrying on the next run");
+                    return 0;
+                }
+            } catch (DataAccessException e) {
+                log.error("Failed to apply a rollup batch; it will be retried on the next run", e);
+                failures.increment();
+                return 0;
+            }
+        }
+    }
+
+    private BatchResult writeBatch() {
+        List<PendingTransaction> batch =
+                jdbcTemplate.query(SELECT_PENDING_SQL, PENDING_MAPPER, properties.getBatchSize());
+        if (batch.isEmpty()) {
+            return new BatchResult(0, 0);
+        }
+
+        // 표시를 먼저 남겨 행을 잠근다. 그 사이 다른 반영기가 표시한 행이 있으면 이 배치는 되돌린다.
+        Object[] args = new Object[batch.size() + 1];
+        args[0] = Timestamp.valueOf(LocalDateTime.now());
+        for (int i = 0; i < batch.size(); i++) {
+            args[i + 1] = batch.get(i).id();
+        }
+        String markSql = String.format(MARK_ROLLED_UP_SQL, String.join(",", Collections.nCopies(batch.size(), "?")));
+        if (jdbcTemplate.update(markSql, args) != batch.size()) {
+            throw new RollupConflictException();
+        }
+
+        return new BatchResult(batch.size(), merge(batch));
+    }
+
+    private int merge(List<PendingTransaction> batch) {
+        // 거래 하나가 계좌·사용자 x 시간·일 네 행에 더해지므로, 같은 행에 더할 증감을 먼저 합친다.
+        Map<RollupKey, RollupDelta> deltas = new HashMap<>();
+        for (PendingTransaction transaction : batch) {
+            for (RollupGranularity granularity : RollupGranularity.values()) {
+                LocalDateTime bucketStart = granularity.bucketOf(transaction.transactedAt());
+                deltas.computeIfAbsent(
+                        new RollupKey(RollupScope.ACCOUNT, transaction.accountNumber(), granularity, bucketStart),
+                        key -> new RollupDelta()
+                ).add(transaction.transactionType(), transaction.amount());
+                deltas.computeIfAbsent(
+                        new RollupKey(RollupScope.USER, transaction.userId(), granularity, bucketStart),
+                        key -> new RollupDelta()
+                ).add(transaction.transactionType(), transaction.amount());
+            }
+        }
+
+        List<Map.Entry<RollupKey, RollupDelta>> entries = new ArrayList<>(deltas.entrySet());
+        jdbcTemplate.batchUpdate(MERGE_SQL, entries, entries.size(), (ps, entry) -> {
+            RollupKey key = entry.getKey();
+            RollupDelta delta = entry.getValue();
+            ps.setString(1, key.scope().name());
+            ps.setString(2, key.ownerKey());
+            ps.setString(3, key.granularity().name());
+            ps.setTimestamp(4, Timestamp.valueOf(key.bucketStart()));
+            ps.setLong(5, delta.useCount);
+            ps.setLong(6, delta.useAmount);
+            ps.setLong(7, delta.cancelCount);
+            ps.setLong(8, delta.cancelAmount);
+            ps.setLong(9, delta.transferOutCount);
+            ps.setLong(10, delta.transferOutAmount);
+            ps.setLong(11, delta.transferInCount);
+            ps.setLong(12, delta.transferInAmount);
+        });
+        return entries.size();
+    }
+
+    record PendingTransaction(
+            long id,
+            String accountNumber,
+            String userId,
+            TransactionType transactionType,
+            long amount,
+            LocalDateTime transactedAt
+    ) {
+    }
+
+    private record BatchResult(int transactions, int rows) {
+    }
+
+    private record RollupKey(RollupScope scope, String ownerKey, RollupGranularity granularity, LocalDateTime bucketStart) {
+    }
+
+    private static final class RollupDelta {
+        private long useCount;
+        private long useAmount;
+        private long cancelCount;
+        private long cancelAmount;
+        private long transferOutCount;
+        private long transferOutAmount;
+        private long transferInCount;
+        private long transferInAmount;
+
+        private void add(TransactionType transactionType, long amount) {
+            switch (transactionType) {
+                case USE -> {
+                    useCount++;
+                    useAmount += amount;
+                }
+                case CANCEL -> {
+                    cancelCount++;
+                    cancelAmount += amount;
+                }
+                case TRANSFER_OUT -> {
+                    transferOutCount++;
+                    transferOutAmount += amount;
+                }
+                case TRANSFER_IN -> {
+                    transferInCount++;
+                    transferInAmount += amount;
+                }
+            }
+        }
+    }
+
+    private static class RollupConflictException extends RuntimeException {
+        RollupConflictException() {
+            super(null, null, false, false);
+        }
+    }
+
+    private static class RollupLockLostException extends RuntimeException {
+        RollupLockLostException() {
+            super(null, null, false, false);
+        }
+    }
+}
@@ -1,23 +1,33 @@
 package com.example.myaccountsystem.service;
 
+import com.example.myaccountsystem.datasource.ReadYourWritesContext;
 import com.example.myaccountsystem.dto.CreateAccountRequest;
 import com.example.myaccountsystem.dto.CreateAccountResponse;
 import com.example.myaccountsystem.dto.UnregisterAccountRequest;
 import com.example.myaccountsystem.dto.UnregisterAccountResponse;
 import com.example.myaccountsystem.entity.Account;
 import com.example.myaccountsystem.entity.User;
+import com.example.myaccountsystem.event.AccountStatusChangedEvent;
+import com.example.myaccountsystem.eventsourcing.EventSourcedBalances;
 import com.example.myaccountsystem.exception.AccountException;
+import com.example.myaccountsystem.monitoring.TransactionMetrics;
 import com.example.myaccountsystem.repository.AccountRepository;
 import com.example.myaccountsystem.repository.UserRepository;
+import com.example.myaccountsystem.sharding.ShardRouter;
+import com.example.myaccountsystem.sharding.ShardScope;
+import com.example.myaccountsystem.support.SingleFlight;
 import com.example.myaccountsystem.type.AccountStatus;
 import com.example.myaccountsystem.type.ErrorCode;
 import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 
 import java.time.LocalDateTime;
+import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.Random;
 import java.util.stream.Collectors;
 
@@ -28,40 +38,56 @@ public class AccountService {
     private final UserRepository userRepository;
     private final AccountRepository accountRepository;
     private final RedisLockService redisLockService;
+    private final SingleFlight<String, List<Account>> accountListSingleFlight;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionMetrics transactionMetrics;
+    private final ShardRouter shardRouter;
+    private final EventSourcedBalances eventSourcedBalances;
 
     private static final long ACCOUNT_LOCK_TIMEOUT = 3000;
 
     @Transactional
     public CreateAccountResponse createAccount(CreateAccountRequest request) {
-        User user = userRepository.findById(request.getUserId())
-                .orElseThrow(() -> new AccountException(ErrorCode.USER_NOT_FOUND));
+        // 새 계좌가 놓일 샤드를 먼저 정해야 이 트랜잭션의 커넥션이 그 샤드로 열린다.
+        int shard = shardRouter.pickShard();
 
-        if (accountRepository.countByUser(user) >= 10) {
-            throw new AccountException(ErrorCode.MAX_ACCOUNT_PER_USER_10);
-        }
+        try (ShardScope shardScope = shardRouter.enter(shard)) {
+            User user = userRepository.findById(request.getUserId())
+                    .orElseThrow(() -> new AccountException(ErrorCode.USER_NOT_FOUND));
 
-        String accountNumber = generateUniqueAccountNumber();
+            int accountCount = shardRouter.scatter(target -> accountRepository.countByUser(user)).stream()
+                    .mapToInt(Integer::intValue)
+                    .sum();
+            if (accountCount >= 10) {
+                throw new AccountException(ErrorCode.MAX_ACCOUNT_PER_USER_10);
+            }
 
-        Account account = Account.builder()
-                .accountNumber(accountNumber)
-                .user(user)
-                .balance(request.getInitialBalance())
-                .accountStatus(AccountStatus.IN_USE)
-                .createdAt(LocalDateTime.now())
-                .build();
+            String accountNumber = generateUniqueAccountNumber(shard);
 
-        Account savedAccount = accountRepository.save(account);
+            Account account = Account.builder()
+                    .accountNumber(accountNumber)
+                    .user(user)
+                    .balance(request.getInitialBalance())
+                    .openingBalance(request.getInitialBalance())
+                    .accountStatus(AccountStatus.IN_USE)
+                    .createdAt(LocalDateTime.now())
+                    .build();
 
-        return CreateAccountResponse.builder()
-                .userId(user.getUserId())
-                .accountNumber(accountNumber)
-                .createdAt(savedAccount.getCreatedAt())
-                .build();
+            Account savedAccount = accountRepository.save(account);
+            publishStatusChanged(savedAccount);
+
+            return CreateAccountResponse.builder()
+                    .userId(user.getUserId())
+                    .accountNumber(accountNumber)
+                    .createdAt(savedAccount.getCreatedAt())
+                    .build();
+        }
     }
 
     @Transactional
     public UnregisterAccountResponse unregisterAccount(UnregisterAccountRequest request) {
         String accountNumber = request.getAccountNumber();
+        ShardScope shardScope = shardRouter.enterAccount(accountNumber);
         boolean isLockAcquired = false;
 
         try {
@@ -74,8 +100,10 @@ public class AccountService {
             User user = userRepository.findById(request.getUserId())
                     .orElseThrow(() -> new AccountException(ErrorCode.USER_NOT_FOUND));
 
-            Account account = accountRepository.findByAccountNumberWithPessimisticLock(accountNumber)
-                    .orElseThrow(() -> new AccountException(ErrorCode.ACCOUNT_NOT_FOUND));
+            Account account = transactionMetrics.recordRowLockWait(
+                    accountNumber,
+                    () -> accountRepository.findByAccountNumberWithPessimisticLock(accountNumber)
+            ).orElseThrow(() -> new AccountException(ErrorCode.ACCOUNT_NOT_FOUND));
 
             if (!account.getUser().getUserId().equals(user.getUserId())) {
                 throw new AccountException(ErrorCode.ACCOUNT_OWNER_MISMATCH);
@@ -85,7 +113,10 @@ public class AccountService {
                 throw new AccountException(ErrorCode.ACCOUNT_ALREADY_UNREGISTERED);
             }
 
-            if (account.getBalance() > 0) {
+            long balance = eventSourcedBalances.isEnabled()
+                    ? eventSourcedBalances.balanceOf(account)
+                    : account.getBalance();
+            if (balance > 0) {
                 throw new AccountException(ErrorCode.ACCOUNT_HAS_BALANCE);
             }
 
@@ -93,6 +124,7 @@ public class AccountService {
             account.setUnregisteredAt(LocalDateTime.now());
 
             Account savedAccount = accountRepository.save(account);
+            publishStatusChanged(savedAccount);
 
             return UnregisterAccountResponse.builder()
                     .userId(user.getUserId())
@@ -103,18 +135,67 @@ public class AccountService {
             if (isLockAcquired) {
                 redisLockService.releaseLock(accountNumber);
             }
+            shardScope.close();
         }
     }
 
-    @Transactional
     public List<Account> getAccountsByUserId(String userId) {
+        return getAccountsByUserId(userId, null);
+    }
+
+    /**
+     * version 을 알면 같은 버전에서 시작한 조회끼리만 합치고, 레플리카는 그 버전의 변경까지 따라잡았을 때만 읽는다.
+     * 이전 버전에서 시작한 조회의 결과가 새 버전의 ETag 로 나가지 않게 하기 위함이다.
+     */
+    public List<Account> getAccountsByUserId(String userId, AccountVersion version) {
+        // 트랜잭션 밖에서 합쳐야 대기 중인 호출이 DB 커넥션을 점유하지 않는다.
+        if (version == null) {
+            return accountListSingleFlight.execute(userId, () -> loadAccountsByUserId(userId));
+        }
+
+        return accountListSingleFlight.execute(userId + "@" + version.eTag(), () -> {
+            if (version.changedAt() > 0) {
+                ReadYourWritesContext.require(version.changedAt());
+            }
+            return loadAccountsByUserId(userId);
+        });
+    }
+
+    private List<Account> loadAccountsByUserId(String userId) {
         User user = userRepository.findById(userId)
                 .orElseThrow(() -> new AccountException(ErrorCode.USER_NOT_FOUND));
 
-        return accountRepository.findByUserAndAccountStatus(user, AccountStatus.IN_USE);
+        // 사용자의 계좌는 여러 샤드에 흩어져 있으므로 모든 샤드에 병렬로 조회해 합친다.
+        List<Account> accounts = shardRouter.scatter(shard -> {
+            List<Account> shardAccounts = accountRepository.findByUserAndAccountStatus(user, AccountStatus.IN_USE);
+            // 트랜잭션 밖에서 읽은 엔티티라 잔액을 바꿔도 계좌 행에는 반영되지 않는다.
+            // 샤드마다 스냅샷과 이벤트를 한 번씩만 읽어 계좌 수만큼 조회가 늘지 않게 한다.
+            if (eventSourcedBalances.isEnabled()) {
+                Map<String, Long> balances = eventSourcedBalances.balancesOf(shardAccounts);
+                shardAccounts.forEach(account -> account.setBalance(balances.get(account.getAccountNumber())));
+            }
+            return shardAccounts;
+        }).stream().flatMap(List::stream).toList();
+
+        return Collections.unmodifiableList(accounts);
+    }
+
+    private void publishStatusChanged(Account account) {
+        eventPublisher.publishEvent(AccountStatusChangedEvent.builder()
+                .userId(account.getUser().getUserId())
+                .accountNumber(account.getAccountNumber())
+                .accountStatus(account.getAccountStatus())
+                .balance(account.getBalance())
+                .changedAt(LocalDateTime.now())
+                .build());
+    }
+
+    String generateUniqueAccountNumber() {
+        return generateUniqueAccountNumber(0);
     }
 
-    private String generateUniqueAccountNumber() {
+    // 지정한 샤드로 해시되는 번호만 후보로 삼아, 중복 확인도 그 샤드 안에서 끝나게 한다.
+    String generateUniqueAccountNumber(int shard) {
         Random random = new Random();
         String accountNumber;
         do {
@@ -123,7 +204,8 @@ public class AccountService {
                 sb.append(random.nextInt(10));
             }
             accountNumber = sb.toString();
-        } while (accountRepository.existsByAccountNumber(accountNumber));
+        } while (shardRouter.shardOf(accountNumber) != shard
+                || accountRepository.existsByAccountNumber(accountNumber));
 
         return accountNumber;
     }
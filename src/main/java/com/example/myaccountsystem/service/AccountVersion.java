@@ -0,0 +1,8 @@
+package com.example.myaccountsystem.service;
+
+/**
+ * 사용자 계좌 목록의 버전. eTag 는 응답 ETag 로 쓰고, changedAt 은 이 버전까지의 변경이 모두 커밋된 뒤의 시각(ms)이다.
+ * 변경이 기록된 적 없으면 changedAt 은 0 이다.
+ */
+public record AccountVersion(String eTag, long changedAt) {
+}
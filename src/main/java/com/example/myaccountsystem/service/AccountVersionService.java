@@ -0,0 +1,80 @@
+package com.example.myaccountsystem.service;
+
+import com.example.myaccountsystem.event.AccountStatusChangedEvent;
+import com.example.myaccountsystem.event.BalanceChangedEvent;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.List;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class AccountVersionService {
+    private final StringRedisTemplate stringRedisTemplate;
+
+    private static final String VERSION_KEY_PREFIX = "ACCOUNT_VERSION:";
+    private static final String CHANGED_AT_KEY_PREFIX = "ACCOUNT_VERSION_AT:";
+    private static final RedisScript<Long> BUMP_SCRIPT = bumpScript();
+
+    public AccountVersion currentVersion(String userId) {
+        try {
+            String versionKey = VERSION_KEY_PREFIX + userId;
+            List<String> values = stringRedisTemplate.opsForValue()
+                    .multiGet(List.of(versionKey, CHANGED_AT_KEY_PREFIX + userId));
+            String version = values != null ? values.get(0) : null;
+
+            if (version == null) {
+                // 키가 유실된 뒤 버전이 다시 0부터 시작해 예전 ETag 와 겹치지 않도록 현재 시각으로 시작한다.
+                stringRedisTemplate.opsForValue().setIfAbsent(versionKey, String.valueOf(System.currentTimeMillis()));
+                version = stringRedisTemplate.opsForValue().get(versionKey);
+            }
+
+            if (version == null) {
+                return null;
+            }
+            String changedAt = values != null ? values.get(1) : null;
+            return new AccountVersion(version, changedAt != null ? Long.parseLong(changedAt) : 0L);
+        } catch (Exception e) {
+            log.error("Failed to read account version for user: {}", userId, e);
+            return null;
+        }
+    }
+
+    // 커밋 후에 불리므로 지금 시각은 이 변경의 커밋 이후다. 버전과 변경 시각을 한 번에 올린다.
+    public void bump(String userId) {
+        try {
+            stringRedisTemplate.execute(
+                    BUMP_SCRIPT,
+                    List.of(VERSION_KEY_PREFIX + userId, CHANGED_AT_KEY_PREFIX + userId),
+                    String.valueOf(System.currentTimeMillis())
+            );
+        } catch (Exception e) {
+            log.error("Failed to bump account version for user: {}", userId, e);
+        }
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onBalanceChanged(BalanceChangedEvent event) {
+        bump(event.getUserId());
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onAccountStatusChanged(AccountStatusChangedEvent event) {
+        bump(event.getUserId());
+    }
+
+    private static RedisScript<Long> bumpScript() {
+        DefaultRedisScript<Long> script = new DefaultRedisScript<>();
+        script.setLocation(new ClassPathResource("scripts/bump_account_version.lua"));
+        script.setResultType(Long.class);
+        return script;
+    }
+}
@@ -0,0 +1,132 @@
+package com.example.myaccountsystem.service;
+
+import com.example.myaccountsystem.dto.GetAggregatesResponse;
+import com.example.myaccountsystem.entity.TransactionRollup;
+import com.example.myaccountsystem.exception.AccountException;
+import com.example.myaccountsystem.repository.TransactionRollupRepository;
+import com.example.myaccountsystem.sharding.ShardRouter;
+import com.example.myaccountsystem.sharding.ShardScope;
+import com.example.myaccountsystem.type.ErrorCode;
+import com.example.myaccountsystem.type.RollupGranularity;
+import com.example.myaccountsystem.type.RollupScope;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * 미리 모아 둔 집계 행으로 계좌·사용자의 구간별 거래 통계를 답한다. 거래 테이블은 읽지 않는다.
+ */
+@Service
+@RequiredArgsConstructor
+public class AggregateService {
+    private final TransactionRollupRepository transactionRollupRepository;
+    private final ShardRouter shardRouter;
+
+    private static final long MAX_BUCKETS = 1000;
+
+    public GetAggregatesResponse getAccountAggregates(
+            String accountNumber,
+            RollupGranularity granularity,
+            LocalDateTime from,
+            LocalDateTime to
+    ) {
+        validateRange(granularity, from, to);
+
+        List<TransactionRollup> rollups;
+        try (ShardScope shardScope = shardRouter.enterAccount(accountNumber)) {
+            rollups = findRollups(RollupScope.ACCOUNT, accountNumber, granularity, from, to);
+        }
+
+        return toResponse(RollupScope.ACCOUNT, accountNumber, granularity, rollups);
+    }
+
+    // 사용자 행은 계좌가 있는 샤드마다 따로 쌓이므로 모든 샤드에서 읽어 구간별로 더한다.
+    public GetAggregatesResponse getUserAggregates(
+            String userId,
+            RollupGranularity granularity,
+            LocalDateTime from,
+            LocalDateTime to
+    ) {
+        validateRange(granularity, from, to);
+
+        List<TransactionRollup> rollups = shardRouter.scatter(
+                shard -> findRollups(RollupScope.USER, userId, granularity, from, to)
+        ).stream().flatMap(List::stream).toList();
+
+        return toResponse(RollupScope.USER, userId, granularity, rollups);
+    }
+
+    private List<TransactionRollup> findRollups(
+            RollupScope scope,
+            String ownerKey,
+            RollupGranularity granularity,
+            LocalDateTime from,
+            LocalDateTime to
+    ) {
+        return transactionRollupRepository.findByScopeAndOwnerKeyAndGranularityAndBucketStartBetweenOrderByBucketStart(
+                scope, ownerKey, granularity, granularity.bucketOf(from), granularity.bucketOf(to)
+        );
+    }
+
+    private static void validateRange(RollupGranularity granularity, LocalDateTime from, LocalDateTime to) {
+        if (from.isAfter(to) || granularity.bucketsBetween(from, to) > MAX_BUCKETS) {
+            throw new AccountException(ErrorCode.INVALID_REQUEST);
+        }
+    }
+
+    private static GetAggregatesResponse toResponse(
+            RollupScope scope,
+            String key,
+            RollupGranularity granularity,
+            List<TransactionRollup> rollups
+    ) {
+        Map<LocalDateTime, TransactionRollup> bucketsByStart = new TreeMap<>();
+        rollups.forEach(rollup -> bucketsByStart.merge(rollup.getBucketStart(), rollup, AggregateService::sum));
+
+        return GetAggregatesResponse.builder()
+                .scope(scope)
+                .key(key)
+                .granularity(granularity)
+                .buckets(bucketsByStart.values().stream()
+                        .map(AggregateService::toBucket)
+                        .toList())
+                .build();
+    }
+
+    private static TransactionRollup sum(TransactionRollup left, TransactionRollup right) {
+        return TransactionRollup.builder()
+                .scope(left.getScope())
+                .ownerKey(left.getOwnerKey())
+                .granularity(left.getGranularity())
+                .bucketStart(left.getBucketStart())
+                .useCount(left.getUseCount() + right.getUseCount())
+                .useAmount(left.getUseAmount() + right.getUseAmount())
+                .cancelCount(left.getCancelCount() + right.getCancelCount())
+                .cancelAmount(left.getCancelAmount() + right.getCancelAmount())
+                .transferOutCount(left.getTransferOutCount() + right.getTransferOutCount())
+                .transferOutAmount(left.getTransferOutAmount() + right.getTransferOutAmount())
+                .transferInCount(left.getTransferInCount() + right.getTransferInCount())
+                .transferInAmount(left.getTransferInAmount() + right.getTransferInAmount())
+                .build();
+    }
+
+    private static GetAggregatesResponse.BucketDto toBucket(TransactionRollup rollup) {
+        return GetAggregatesResponse.BucketDto.builder()
+                .bucketStart(rollup.getBucketStart())
+                .useCount(rollup.getUseCount())
+                .useAmount(rollup.getUseAmount())
+                .cancelCount(rollup.getCancelCount())
+                .cancelAmount(rollup.getCancelAmount())
+                .transferOutCount(rollup.getTransferOutCount())
+                .transferOutAmount(rollup.getTransferOutAmount())
+                .transferInCount(rollup.getTransferInCount())
+                .transferInAmount(rollup.getTransferInAmount())
+                .debitAmount(rollup.getUseAmount() + rollup.getTransferOutAmount())
+                .cancelRate(rollup.getUseCount() == 0 ? 0 : (double) rollup.getCancelCount() / rollup.getUseCount())
+                .build();
+    }
+}
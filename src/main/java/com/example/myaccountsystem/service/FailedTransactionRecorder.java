@@ -0,0 +1,199 @@
+package com.example.myaccountsystem.service;
+
+import com.example.myaccountsystem.config.FailedTransactionProperties;
+import com.example.myaccountsystem.config.FailedTransactionProperties.OverflowPolicy;
+import com.example.myaccountsystem.sharding.ShardRouter;
+import com.example.myaccountsystem.sharding.ShardScope;
+import com.example.myaccountsystem.sharding.TransactionIdAllocator;
+import com.example.myaccountsystem.type.ErrorCode;
+import com.example.myaccountsystem.type.TransactionResultType;
+import com.example.myaccountsystem.type.TransactionType;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+@Slf4j
+@Component
+public class FailedTransactionRecorder {
+    // 존재하지 않는 계좌에 대한 실패도 남길 수 있도록 계좌는 서브쿼리로 채운다. (없으면 NULL)
+    private static final String INSERT_SQL = "insert into transaction "
+            + "(transaction_id, account_account_number, transaction_type, transaction_result_type, amount, "
+            + "error_code, linked_transaction_id, transacted_at) "
+            + "values (?, (select a.account_number from account a where a.account_number = ?), ?, ?, ?, ?, ?, ?)";
+
+    private final FailedTransactionProperties properties;
+    private final JdbcTemplate jdbcTemplate;
+    private final ShardRouter shardRouter;
+    private final TransactionIdAllocator transactionIdAllocator;
+    private final BlockingQueue<FailedTransaction> queue;
+    private final Counter recorded;
+    private final Counter dropped;
+
+    private volatile boolean running;
+    private Thread writer;
+
+    public FailedTransactionRecorder(
+            FailedTransactionProperties properties,
+            JdbcTemplate jdbcTemplate,
+            ShardRouter shardRouter,
+            TransactionIdAllocator transactionIdAllocator,
+            MeterRegistry meterRegistry
+    ) {
+        this.properties = properties;
+        this.jdbcTemplate = jdbcTemplate;
+        this.shardRouter = shardRouter;
+        this.transactionIdAllocator = transactionIdAllocator;
+        this.queue = new ArrayBlockingQueue<>(properties.getQueueCapacity());
+        this.recorded = meterRegistry.counter("account.failed-transaction.recorded");
+        this.dropped = meterRegistry.counter("account.failed-transaction.dropped");
+        meterRegistry.gaugeCollectionSize("account.failed-transaction.queue", Tags.empty(), queue);
+    }
+
+    @PostConstruct
+    public void start() {
+        if (!properties.isEnabled()) {
+            return;
+        }
+
+        running = true;
+        writer = new Thread(this::runWriter, "failed-transaction-writer");
+        writer.setDaemon(true);
+        writer.start();
+    }
+
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        running = false;
+        if (writer != null) {
+            writer.join(properties.getFlushInterval().toMillis() * 10);
+        }
+    }
+
+    public void record(
+            String accountNumber,
+            TransactionType transactionType,
+            Long amount,
+            ErrorCode errorCode,
+            Long linkedTransactionId
+    ) {
+        if (!properties.isEnabled()) {
+            return;
+        }
+
+        FailedTransaction failedTransaction = new FailedTransaction(
+                accountNumber, transactionType, amount, errorCode, linkedTransactionId, LocalDateTime.now()
+        );
+
+        if (!enqueue(failedTransaction)) {
+            dropped.increment();
+        }
+    }
+
+    void flush() {
+        List<FailedTransaction> batch = new ArrayList<>(properties.getBatchSize());
+        queue.drainTo(batch, properties.getBatchSize());
+        if (!batch.isEmpty()) {
+            write(batch);
+        }
+    }
+
+    private boolean enqueue(FailedTransaction failedTransaction) {
+        if (properties.getOverflowPolicy() == OverflowPolicy.DROP) {
+            return queue.offer(failedTransaction);
+        }
+
+        try {
+            return queue.offer(failedTransaction, properties.getBlockTimeout().toMillis(), TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private void runWriter() {
+        while (running) {
+            try {
+                FailedTransaction first = queue.poll(properties.getFlushInterval().toMillis(), TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+
+                List<FailedTransaction> batch = new ArrayList<>(properties.getBatchSize());
+                batch.add(first);
+                queue.drainTo(batch, properties.getBatchSize() - 1);
+                write(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            }
+        }
+
+        while (!queue.isEmpty()) {
+            flush();
+        }
+    }
+
+    private void write(List<FailedTransaction> batch) {
+        if (shardRouter.getShardCount() == 1) {
+            writeShard(batch);
+            return;
+        }
+
+        // 계좌가 있는 샤드에 써야 서브쿼리로 계좌를 찾을 수 있다.
+        Map<Integer, List<FailedTransaction>> batchesByShard = batch.stream()
+                .collect(Collectors.groupingBy(failedTransaction -> shardRouter.shardOf(failedTransaction.accountNumber())));
+        batchesByShard.forEach((shard, shardBatch) -> {
+            try (ShardScope shardScope = shardRouter.enter(shard)) {
+                writeShard(shardBatch);
+            }
+        });
+    }
+
+    private void writeShard(List<FailedTransaction> batch) {
+        try {
+            jdbcTemplate.batchUpdate(INSERT_SQL, batch, batch.size(), (ps, failedTransaction) -> {
+                ps.setLong(1, transactionIdAllocator.next(
+                        failedTransaction.accountNumber(), failedTransaction.transactedAt()
+                ));
+                ps.setString(2, failedTransaction.accountNumber());
+                ps.setString(3, failedTransaction.transactionType().name());
+                ps.setString(4, TransactionResultType.FAIL.name());
+                ps.setObject(5, failedTransaction.amount(), Types.BIGINT);
+                ps.setString(6, failedTransaction.errorCode().name());
+                ps.setObject(7, failedTransaction.linkedTransactionId(), Types.BIGINT);
+                ps.setTimestamp(8, Timestamp.valueOf(failedTransaction.transactedAt()));
+            });
+            recorded.increment(batch.size());
+        } catch (DataAccessException e) {
+            log.error("Failed to record {} failed transactions", batch.size(), e);
+            dropped.increment(batch.size());
+        }
+    }
+
+    private record FailedTransaction(
+            String accountNumber,
+            TransactionType transactionType,
+            Long amount,
+            ErrorCode errorCode,
+            Long linkedTransactionId,
+            LocalDateTime transactedAt
+    ) {
+    }
+}
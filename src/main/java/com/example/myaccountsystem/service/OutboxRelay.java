@@ -0,0 +1,101 @@
+package com.example.myaccountsystem.service;
+
+import com.example.myaccountsystem.config.OutboxProperties;
+import com.example.myaccountsystem.entity.OutboxEvent;
+import com.example.myaccountsystem.event.LedgerEventPublisher;
+import com.example.myaccountsystem.repository.OutboxEventRepository;
+import com.example.myaccountsystem.sharding.ShardRouter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "account.outbox.relay.enabled", havingValue = "true", matchIfMissing = true)
+public class OutboxRelay {
+    private final OutboxEventRepository outboxEventRepository;
+    private final LedgerEventPublisher ledgerEventPublisher;
+    private final RedisLockService redisLockService;
+    private final OutboxProperties outboxProperties;
+    private final MeterRegistry meterRegistry;
+    private final ShardRouter shardRouter;
+
+    private static final String RELAY_LOCK_KEY = "OUTBOX_RELAY";
+
+    @Scheduled(fixedDelayString = "${account.outbox.relay-interval-ms:500}")
+    public void relay() {
+        // 단일 릴레이만 발행하도록 하여 계좌별 이벤트 순서를 보장한다.
+        long lockTimeout = outboxProperties.getRelayLockTimeout();
+        String token = redisLockService.acquireOwnedLock(RELAY_LOCK_KEY, lockTimeout);
+        if (token == null) {
+            return;
+        }
+
+        try {
+            // 만료 시간의 절반이 지날 때마다 연장하고, 락을 잃었으면 다른 노드가 이어받았을 수 있으므로 멈춘다.
+            long[] renewAt = {System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(lockTimeout / 2)};
+            // 아웃박스는 계좌와 같은 샤드에 쌓이므로 샤드마다 비운다.
+            shardRouter.forEachShard(shard -> {
+                int published;
+                do {
+                    if (System.nanoTime() - renewAt[0] >= 0) {
+                        if (!redisLockService.extendOwnedLock(RELAY_LOCK_KEY, token, lockTimeout)) {
+                            throw new RelayLockLostException();
+                        }
+                        renewAt[0] = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(lockTimeout / 2);
+                    }
+                    published = drainBatch();
+                } while (published == outboxProperties.getBatchSize());
+            });
+        } catch (RelayLockLostException e) {
+            log.warn("Outbox relay lock expired while draining; stopping until the next run");
+        } catch (Exception e) {
+            log.error("Failed to relay outbox events", e);
+        } finally {
+            redisLockService.releaseOwnedLock(RELAY_LOCK_KEY, token);
+        }
+    }
+
+    int drainBatch() {
+        List<OutboxEvent> batch = outboxEventRepository.findByPublishedAtIsNullOrderByIdAsc(
+                PageRequest.of(0, outboxProperties.getBatchSize())
+        );
+
+        if (batch.isEmpty()) {
+            return 0;
+        }
+
+        ledgerEventPublisher.publish(batch);
+
+        LocalDateTime publishedAt = LocalDateTime.now();
+        outboxEventRepository.markPublished(
+                batch.stream().map(OutboxEvent::getId).toList(),
+                publishedAt
+        );
+
+        Timer publishLag = meterRegistry.timer("account.outbox.publish.lag");
+        for (OutboxEvent event : batch) {
+            publishLag.record(Duration.between(event.getCreatedAt(), publishedAt));
+        }
+        meterRegistry.counter("account.outbox.published").increment(batch.size());
+
+        return batch.size();
+    }
+
+    private static class RelayLockLostException extends RuntimeException {
+        RelayLockLostException() {
+            super(null, null, false, false);
+        }
+    }
+}
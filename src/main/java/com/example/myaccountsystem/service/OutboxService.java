@@ -0,0 +1,31 @@
+package com.example.myaccountsystem.service;
+
+import com.example.myaccountsystem.entity.OutboxEvent;
+import com.example.myaccountsystem.entity.Transaction;
+import com.example.myaccountsystem.repository.OutboxEventRepository;
+import jakarta.transaction.Transactional;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+
+@Service
+@RequiredArgsConstructor
+public class OutboxService {
+    private final OutboxEventRepository outboxEventRepository;
+
+    @Transactional(Transactional.TxType.MANDATORY)
+    public OutboxEvent append(Transaction transaction) {
+        OutboxEvent outboxEvent = OutboxEvent.builder()
+                .transactionId(transaction.getTransactionId())
+                .accountNumber(transaction.getAccount().getAccountNumber())
+                .transactionType(transaction.getTransactionType())
+                .amount(transaction.getAmount())
+                .balanceSnapshot(transaction.getBalanceSnapshot())
+                .transactedAt(transaction.getTransactedAt())
+                .createdAt(LocalDateTime.now())
+                .build();
+
+        return outboxEventRepository.save(outboxEvent);
+    }
+}
@@ -1,70 +1,176 @@
 package com.example.myaccountsystem.service;
 
+import com.example.myaccountsystem.monitoring.LockMetrics;
+import com.example.myaccountsystem.monitoring.LockMetrics.LockOperation;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.io.ClassPathResource;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
 import org.springframework.stereotype.Service;
 
 import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+
+import static com.example.myaccountsystem.monitoring.LockMetrics.*;
 
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class RedisLockService {
     private final RedisTemplate<String, Object> redisTemplate;
+    private final LockMetrics lockMetrics;
 
     private static final String LOCK_KEY_PREFIX = "LOCK:";
+    private static final RedisScript<Long> RELEASE_OWNED_LOCK_SCRIPT = script("scripts/release_owned_lock.lua");
+    private static final RedisScript<Long> EXTEND_OWNED_LOCK_SCRIPT = script("scripts/extend_owned_lock.lua");
 
     public boolean acquireLock(String key, long timeout) {
+        LockOperation operation = lockMetrics.start("acquire", key);
         try {
             String lockKey = LOCK_KEY_PREFIX + key;
-            return Boolean.TRUE.equals(
+            boolean acquired = Boolean.TRUE.equals(
                     redisTemplate.opsForValue().setIfAbsent(lockKey, "LOCKED", Duration.ofMillis(timeout))
             );
+
+            if (acquired) {
+                lockMetrics.lockAcquired(key);
+            }
+            operation.finish(acquired ? SUCCESS : FAILURE);
+            return acquired;
         } catch (Exception e) {
+            operation.finish(ERROR);
             log.error("Failed to acquire Redis lock for key: {}", key, e);
             return false;
         }
     }
 
     public void releaseLock(String key) {
+        LockOperation operation = lockMetrics.start("release", key);
         try {
             String lockKey = LOCK_KEY_PREFIX + key;
             redisTemplate.delete(lockKey);
+            lockMetrics.lockReleased(key, "release");
+            operation.finish(SUCCESS);
         } catch (Exception e) {
+            operation.finish(ERROR);
             log.error("Failed to release Redis lock for key: {}", key, e);
         }
     }
 
     public boolean isLocked(String key) {
+        LockOperation operation = lockMetrics.start("check", key);
         try {
             String lockKey = LOCK_KEY_PREFIX + key;
-            return Boolean.TRUE.equals(redisTemplate.hasKey(lockKey));
+            boolean locked = Boolean.TRUE.equals(redisTemplate.hasKey(lockKey));
+            operation.finish(SUCCESS);
+            return locked;
         } catch (Exception e) {
+            operation.finish(ERROR);
             log.error("Failed to check Redis lock status for key: {}", key, e);
             return false;
         }
     }
 
     public boolean extendLock(String key, long timeout) {
+        LockOperation operation = lockMetrics.start("extend", key);
         try {
             String lockKey = LOCK_KEY_PREFIX + key;
-            return Boolean.TRUE.equals(
+            boolean extended = Boolean.TRUE.equals(
                     redisTemplate.expire(lockKey, Duration.ofMillis(timeout))
             );
+            operation.finish(extended ? SUCCESS : FAILURE);
+            return extended;
         } catch (Exception e) {
+            operation.finish(ERROR);
             log.error("Failed to extend Redis lock for key: {}", key, e);
             return false;
         }
     }
 
     public boolean forceReleaseLock(String key) {
+        LockOperation operation = lockMetrics.start("force_release", key);
         try {
             String lockKey = LOCK_KEY_PREFIX + key;
-            return Boolean.TRUE.equals(redisTemplate.delete(lockKey));
+            boolean released = Boolean.TRUE.equals(redisTemplate.delete(lockKey));
+            if (released) {
+                lockMetrics.lockReleased(key, "force_release");
+            }
+            operation.finish(released ? SUCCESS : FAILURE);
+            return released;
         } catch (Exception e) {
+            operation.finish(ERROR);
             log.error("Failed to force release Redis lock for key: {}", key, e);
             return false;
         }
     }
-}
\ No newline at end of file
+
+    /**
+     * 만료 시간보다 오래 걸릴 수 있는 작업용 락. 획득하면 소유 토큰을, 못 하면 null 을 돌려준다.
+     * 해제와 연장은 토큰이 같을 때만 되므로, 만료 뒤 다른 노드가 잡은 락을 건드리지 않는다.
+     */
+    public String acquireOwnedLock(String key, long timeout) {
+        String token = UUID.randomUUID().toString();
+        LockOperation operation = lockMetrics.start("acquire", key);
+        try {
+            boolean acquired = Boolean.TRUE.equals(
+                    redisTemplate.opsForValue().setIfAbsent(LOCK_KEY_PREFIX + key, token, Duration.ofMillis(timeout))
+            );
+
+            if (acquired) {
+                lockMetrics.lockAcquired(key);
+            }
+            operation.finish(acquired ? SUCCESS : FAILURE);
+            return acquired ? token : null;
+        } catch (Exception e) {
+            operation.finish(ERROR);
+            log.error("Failed to acquire Redis lock for key: {}", key, e);
+            return null;
+        }
+    }
+
+    public boolean releaseOwnedLock(String key, String token) {
+        LockOperation operation = lockMetrics.start("release", key);
+        try {
+            Long released = redisTemplate.execute(RELEASE_OWNED_LOCK_SCRIPT, List.of(LOCK_KEY_PREFIX + key), token);
+            lockMetrics.lockReleased(key, "release");
+            if (released == null || released == 0L) {
+                log.warn("Redis lock for key {} expired before release and may be held by another owner", key);
+                operation.finish(FAILURE);
+                return false;
+            }
+            operation.finish(SUCCESS);
+            return true;
+        } catch (Exception e) {
+            operation.finish(ERROR);
+            log.error("Failed to release Redis lock for key: {}", key, e);
+            return false;
+        }
+    }
+
+    // 아직 소유하고 있으면 만료 시간을 다시 timeout 으로 잡는다. false 면 락을 잃은 것이므로 작업을 멈춰야 한다.
+    public boolean extendOwnedLock(String key, String token, long timeout) {
+        LockOperation operation = lockMetrics.start("extend", key);
+        try {
+            Long extended = redisTemplate.execute(
+                    EXTEND_OWNED_LOCK_SCRIPT, List.of(LOCK_KEY_PREFIX + key), token, String.valueOf(timeout)
+            );
+            boolean owned = extended != null && extended == 1L;
+            operation.finish(owned ? SUCCESS : FAILURE);
+            return owned;
+        } catch (Exception e) {
+            operation.finish(ERROR);
+            log.error("Failed to extend Redis lock for key: {}", key, e);
+            return false;
+        }
+    }
+
+    private static RedisScript<Long> script(String location) {
+        DefaultRedisScript<Long> script = new DefaultRedisScript<>();
+        script.setLocation(new ClassPathResource(location));
+        script.setResultType(Long.class);
+        return script;
+    }
+}
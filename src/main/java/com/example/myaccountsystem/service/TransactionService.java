@@ -1,55 +1,91 @@
 package com.example.myaccountsystem.service;
 
+import com.example.myaccountsystem.archive.TransactionArchive;
+import com.example.myaccountsystem.archive.TransactionRecord;
 import com.example.myaccountsystem.dto.*;
 import com.example.myaccountsystem.entity.Account;
 import com.example.myaccountsystem.entity.Transaction;
 import com.example.myaccountsystem.entity.User;
+import com.example.myaccountsystem.event.BalanceChangedEvent;
+import com.example.myaccountsystem.eventsourcing.EventSourcedBalances;
 import com.example.myaccountsystem.exception.AccountException;
+import com.example.myaccountsystem.monitoring.HotAccountTracker;
+import com.example.myaccountsystem.monitoring.TransactionMetrics;
+import com.example.myaccountsystem.monitoring.TransactionMetrics.ServiceCall;
 import com.example.myaccountsystem.repository.AccountRepository;
-import com.example.myaccountsystem.repository.TransactionRepository;
+import com.example.myaccountsystem.repository.BalanceAsOf;
+import com.example.myaccountsystem.repository.CancelTarget;
+import com.example.myaccountsystem.repository.TransactionStore;
 import com.example.myaccountsystem.repository.UserRepository;
+import com.example.myaccountsystem.sharding.ShardRouter;
+import com.example.myaccountsystem.sharding.ShardScope;
+import com.example.myaccountsystem.sharding.TransactionIdAllocator;
+import com.example.myaccountsystem.state.AccountStateCache;
 import com.example.myaccountsystem.type.AccountStatus;
 import com.example.myaccountsystem.type.ErrorCode;
 import com.example.myaccountsystem.type.TransactionResultType;
 import com.example.myaccountsystem.type.TransactionType;
-import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
-import lombok.extern.slf4j.Slf4j;
 import org.hibernate.TransactionException;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.util.*;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
-@Slf4j
 @Service
 @RequiredArgsConstructor
 public class TransactionService {
     private final UserRepository userRepository;
     private final AccountRepository accountRepository;
-    private final TransactionRepository transactionRepository;
+    private final TransactionStore transactionStore;
     private final RedisLockService redisLockService;
+    private final OutboxService outboxService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final FailedTransactionRecorder failedTransactionRecorder;
+    private final TransactionMetrics transactionMetrics;
+    private final HotAccountTracker hotAccountTracker;
+    private final ShardRouter shardRouter;
+    private final TransactionIdAllocator transactionIdAllocator;
+    private final TransactionArchive transactionArchive;
+    private final AccountStateCache accountStateCache;
+    private final EventSourcedBalances eventSourcedBalances;
 
     private static final long MAX_TRANSACTION_AMOUNT = 1_000_000_000L;
     private static final long MIN_TRANSACTION_AMOUNT = 10L;
     private static final long ACCOUNT_LOCK_TIMEOUT = 3000;
+    private static final int MAX_HISTORY_LIMIT = 1000;
+    private static final int MAX_BALANCE_QUERIES = 1000;
+    private static final Comparator<TransactionRecord> HISTORY_ORDER = Comparator
+            .comparing(TransactionRecord::transactedAt)
+            .thenComparing(TransactionRecord::transactionId)
+            .reversed();
 
     @Transactional
     public UseBalanceResponse useBalance(UseBalanceRequest request) {
         String accountNumber = request.getAccountNumber();
+        ServiceCall call = transactionMetrics.startCall("use", accountNumber);
+        hotAccountTracker.recordOperation(accountNumber);
+        ShardScope shardScope = shardRouter.enterAccount(accountNumber);
         boolean isLockAcquired = false;
 
         try {
+            accountStateCache.rejectIfKnownInvalid(request.getUserId(), accountNumber);
+
             isLockAcquired = redisLockService.acquireLock(accountNumber, ACCOUNT_LOCK_TIMEOUT);
 
             if (!isLockAcquired) {
+                hotAccountTracker.recordLockRejection(accountNumber);
                 throw new AccountException(ErrorCode.ACCOUNT_TRANSACTION_LOCK);
             }
 
             User user = userRepository.findById(request.getUserId())
                     .orElseThrow(() -> new AccountException(ErrorCode.USER_NOT_FOUND));
 
-            Account account = accountRepository.findByAccountNumberWithPessimisticLock(accountNumber)
-                    .orElseThrow(() -> new AccountException(ErrorCode.ACCOUNT_NOT_FOUND));
+            Account account = findAccountForUpdate(accountNumber);
 
             if (!account.getUser().getUserId().equals(user.getUserId())) {
                 throw new AccountException(ErrorCode.ACCOUNT_OWNER_MISMATCH);
@@ -65,13 +101,16 @@ public class TransactionService {
                 throw new AccountException(ErrorCode.AMOUNT_EXCEED_BALANCE);
             }
 
+            // 거래의 balanceSnapshot 이 취소·이체와 같이 반영 후 잔액이 되도록 잔액을 먼저 바꾼다.
+            account.setBalance(account.getBalance() - request.getAmount());
+            saveBalance(account);
+
             Transaction transaction = saveTransaction(
                     account,
                     TransactionType.USE, request.getAmount()
             );
-
-            account.setBalance(account.getBalance() - request.getAmount());
-            accountRepository.save(account);
+            publishBalanceChanged(account, transaction);
+            call.success();
 
             return UseBalanceResponse.builder()
                     .accountNumber(account.getAccountNumber())
@@ -81,53 +120,75 @@ public class TransactionService {
                     .transactedAt(transaction.getTransactedAt())
                     .build();
         } catch (AccountException e) {
-            log.error("Failed to use balance: {}", e.getMessage());
+            call.failure(e.getErrorCode());
+            failedTransactionRecorder.record(
+                    accountNumber, TransactionType.USE, request.getAmount(), e.getErrorCode(), null
+            );
+            throw e;
+        } catch (RuntimeException | Error e) {
+            call.error();
             throw e;
         } finally {
             if (isLockAcquired) {
                 redisLockService.releaseLock(accountNumber);
             }
+            shardScope.close();
         }
     }
 
     @Transactional
     public CancelBalanceResponse cancelBalance(CancelBalanceRequest request) {
         String accountNumber = request.getAccountNumber();
+        ServiceCall call = transactionMetrics.startCall("cancel", accountNumber);
+        hotAccountTracker.recordOperation(accountNumber);
+        ShardScope shardScope = shardRouter.enterAccount(accountNumber);
         boolean isLockAcquired = false;
 
         try {
             isLockAcquired = redisLockService.acquireLock(accountNumber, ACCOUNT_LOCK_TIMEOUT);
 
             if (!isLockAcquired) {
+                hotAccountTracker.recordLockRejection(accountNumber);
                 throw new AccountException(ErrorCode.ACCOUNT_TRANSACTION_LOCK);
             }
 
-            Transaction transaction = transactionRepository.findByTransactionId(request.getTransactionId())
+            // 계좌·사용자 그래프 대신 검증에 필요한 컬럼만 읽고, 계좌 행 잠금 전에 잘못된 요청을 거른다.
+            // 계좌의 샤드에서 찾으므로 다른 샤드 접두사나 잘못된 ID 는 "거래 없음"으로 끝난다.
+            CancelTarget target = transactionStore.findCancelTarget(request.getTransactionId())
                     .orElseThrow(() -> new AccountException(ErrorCode.TRANSACTION_NOT_FOUND));
 
-            Account account = accountRepository.findByAccountNumberWithPessimisticLock(request.getAccountNumber())
-                    .orElseThrow(() -> new AccountException(ErrorCode.ACCOUNT_NOT_FOUND));
-
-            if (!transaction.getAccount().getAccountNumber().equals(account.getAccountNumber())) {
+            if (!target.accountNumber().equals(accountNumber)) {
                 throw new AccountException(ErrorCode.TRANSACTION_ACCOUNT_MISMATCH);
             }
 
-            if (!transaction.getAmount().equals(request.getAmount())) {
+            if (!target.amount().equals(request.getAmount())) {
                 throw new AccountException(ErrorCode.CANCEL_MUST_FULLY);
             }
 
-            if (transaction.getTransactionType() != TransactionType.USE) {
+            if (target.isCanceled() || target.transactionType() != TransactionType.USE) {
                 throw new AccountException(ErrorCode.TRANSACTION_ALREADY_CANCELED);
             }
 
-            account.setBalance(account.getBalance() + transaction.getAmount());
-            accountRepository.save(account);
+            if (target.transactionResultType() != TransactionResultType.SUCCESS) {
+                throw new AccountException(ErrorCode.FAILED_TRANSACTION_NOT_CANCELABLE);
+            }
+
+            Account account = findAccountForUpdate(accountNumber);
+
+            account.setBalance(account.getBalance() + target.amount());
+            saveBalance(account);
 
             Transaction cancelTransaction = saveTransaction(
                     account,
                     TransactionType.CANCEL,
-                    transaction.getAmount()
+                    target.amount()
             );
+            if (transactionStore.markCanceled(
+                    request.getTransactionId(), cancelTransaction.getTransactionId()) == 0) {
+                throw new AccountException(ErrorCode.TRANSACTION_ALREADY_CANCELED);
+            }
+            publishBalanceChanged(account, cancelTransaction);
+            call.success();
 
             return CancelBalanceResponse.builder()
                     .accountNumber(account.getAccountNumber())
@@ -137,29 +198,311 @@ public class TransactionService {
                     .transactedAt(cancelTransaction.getTransactedAt())
                     .build();
         } catch (AccountException e) {
-            log.error("Failed to cancel balance: {}", e.getMessage());
+            call.failure(e.getErrorCode());
+            failedTransactionRecorder.record(
+                    accountNumber, TransactionType.CANCEL, request.getAmount(), e.getErrorCode(),
+                    request.getTransactionId()
+            );
+            throw e;
+        } catch (RuntimeException | Error e) {
+            call.error();
             throw e;
         } finally {
             if (isLockAcquired) {
                 redisLockService.releaseLock(accountNumber);
             }
+            shardScope.close();
+        }
+    }
+
+    @Transactional
+    public TransferBalanceResponse transferBalance(TransferBalanceRequest request) {
+        String fromAccountNumber = request.getFromAccountNumber();
+        String toAccountNumber = request.getToAccountNumber();
+
+        // 두 계좌를 항상 계좌번호 순서로 잠가 교차 이체 간 교착 상태를 방지한다.
+        List<String> lockOrder = Stream.of(fromAccountNumber, toAccountNumber)
+                .sorted()
+                .toList();
+        Deque<String> acquiredLocks = new ArrayDeque<>();
+        ServiceCall call = transactionMetrics.startCall("transfer", fromAccountNumber);
+        hotAccountTracker.recordOperation(fromAccountNumber);
+        hotAccountTracker.recordOperation(toAccountNumber);
+        ShardScope shardScope = shardRouter.enterAccount(fromAccountNumber);
+
+        try {
+            if (fromAccountNumber.equals(toAccountNumber)) {
+                throw new AccountException(ErrorCode.TRANSFER_SAME_ACCOUNT);
+            }
+
+            // 샤드를 넘는 이체는 하나의 DB 트랜잭션으로 처리할 수 없다.
+            if (!shardRouter.sameShard(fromAccountNumber, toAccountNumber)) {
+                throw new AccountException(ErrorCode.TRANSFER_CROSS_SHARD);
+            }
+
+            for (String accountNumber : lockOrder) {
+                if (!redisLockService.acquireLock(accountNumber, ACCOUNT_LOCK_TIMEOUT)) {
+                    hotAccountTracker.recordLockRejection(accountNumber);
+                    throw new AccountException(ErrorCode.ACCOUNT_TRANSACTION_LOCK);
+                }
+                acquiredLocks.push(accountNumber);
+            }
+
+            User user = userRepository.findById(request.getUserId())
+                    .orElseThrow(() -> new AccountException(ErrorCode.USER_NOT_FOUND));
+
+            Map<String, Account> lockedAccounts = new HashMap<>();
+            for (String accountNumber : lockOrder) {
+                lockedAccounts.put(accountNumber, findAccountForUpdate(accountNumber));
+            }
+
+            Account fromAccount = lockedAccounts.get(fromAccountNumber);
+            Account toAccount = lockedAccounts.get(toAccountNumber);
+
+            if (!fromAccount.getUser().getUserId().equals(user.getUserId())) {
+                throw new AccountException(ErrorCode.ACCOUNT_OWNER_MISMATCH);
+            }
+
+            if (fromAccount.getAccountStatus() != AccountStatus.IN_USE
+                    || toAccount.getAccountStatus() != AccountStatus.IN_USE) {
+                throw new AccountException(ErrorCode.ACCOUNT_ALREADY_UNREGISTERED);
+            }
+
+            validateTransactionAmount(request.getAmount());
+
+            if (fromAccount.getBalance() < request.getAmount()) {
+                throw new AccountException(ErrorCode.AMOUNT_EXCEED_BALANCE);
+            }
+
+            fromAccount.setBalance(fromAccount.getBalance() - request.getAmount());
+            toAccount.setBalance(toAccount.getBalance() + request.getAmount());
+            saveBalance(fromAccount);
+            saveBalance(toAccount);
+
+            // 저장한 거래는 고치지 않도록 두 ID 를 먼저 받아 서로의 ID 를 담아 저장한다.
+            LocalDateTime transactedAt = LocalDateTime.now();
+            long withdrawTransactionId = transactionIdAllocator.next(fromAccountNumber, transactedAt);
+            long depositTransactionId = transactionIdAllocator.next(toAccountNumber, transactedAt);
+            Transaction withdrawTransaction = saveTransaction(
+                    fromAccount,
+                    TransactionType.TRANSFER_OUT,
+                    request.getAmount(),
+                    withdrawTransactionId, depositTransactionId, transactedAt
+            );
+            Transaction depositTransaction = saveTransaction(
+                    toAccount,
+                    TransactionType.TRANSFER_IN,
+                    request.getAmount(),
+                    depositTransactionId, withdrawTransactionId, transactedAt
+            );
+            publishBalanceChanged(fromAccount, withdrawTransaction);
+            publishBalanceChanged(toAccount, depositTransaction);
+            call.success();
+
+            return TransferBalanceResponse.builder()
+                    .fromAccountNumber(fromAccountNumber)
+                    .toAccountNumber(toAccountNumber)
+                    .transactionResult(TransactionResultType.SUCCESS)
+                    .withdrawTransactionId(withdrawTransaction.getTransactionId())
+                    .depositTransactionId(depositTransaction.getTransactionId())
+                    .amount(request.getAmount())
+                    .transactedAt(withdrawTransaction.getTransactedAt())
+                    .build();
+        } catch (AccountException e) {
+            call.failure(e.getErrorCode());
+            throw e;
+        } catch (RuntimeException | Error e) {
+            call.error();
+            throw e;
+        } finally {
+            while (!acquiredLocks.isEmpty()) {
+                redisLockService.releaseLock(acquiredLocks.pop());
+            }
+            shardScope.close();
         }
     }
 
+    @Transactional(readOnly = true)
     public GetTransactionResponse getTransaction(Long transactionId) {
-        Transaction transaction = transactionRepository.findByTransactionId(transactionId)
-                .orElseThrow(() -> new AccountException(ErrorCode.TRANSACTION_NOT_FOUND));
+        Optional<Transaction> transaction;
+        try (ShardScope shardScope = shardRouter.enterTransaction(transactionId)) {
+            transaction = transactionStore.findByTransactionId(transactionId);
+        }
+
+        if (transaction.isEmpty()) {
+            // 보존 기간이 지나 테이블에서 옮겨진 거래는 ID 의 월 파티션으로 세그먼트를 찾는다.
+            return transactionArchive.findById(transactionId)
+                    .map(TransactionService::toResponse)
+                    .orElseThrow(() -> new AccountException(ErrorCode.TRANSACTION_NOT_FOUND));
+        }
+
+        // 실패 거래는 존재하지 않는 계좌에 대해서도 기록되므로 계좌가 없을 수 있다.
+        Account account = transaction.get().getAccount();
 
         return GetTransactionResponse.builder()
-                .accountNumber(transaction.getAccount().getAccountNumber())
-                .transactionType(transaction.getTransactionType())
-                .transactionResult(transaction.getTransactionResultType())
-                .transactionId(transaction.getTransactionId())
-                .amount(transaction.getAmount())
-                .transactedAt(transaction.getTransactedAt())
+                .accountNumber(account != null ? account.getAccountNumber() : null)
+                .transactionType(transaction.get().getTransactionType())
+                .transactionResult(transaction.get().getTransactionResultType())
+                .transactionId(transaction.get().getTransactionId())
+                .amount(transaction.get().getAmount())
+                .transactedAt(transaction.get().getTransactedAt())
+                .errorCode(transaction.get().getErrorCode())
                 .build();
     }
 
+    @Transactional(readOnly = true)
+    public GetTransactionHistoryResponse getTransactionHistory(
+            String accountNumber,
+            LocalDateTime from,
+            LocalDateTime to,
+            int limit
+    ) {
+        if (from.isAfter(to) || limit < 1 || limit > MAX_HISTORY_LIMIT) {
+            throw new AccountException(ErrorCode.INVALID_REQUEST);
+        }
+
+        List<TransactionRecord> records;
+        try (ShardScope shardScope = shardRouter.enterAccount(accountNumber)) {
+            records = new ArrayList<>(transactionStore.findHistory(accountNumber, from, to, limit));
+        }
+        // 보존 기간이 지난 구간은 세그먼트에서 읽는다. 옮기는 도중에는 같은 거래가 양쪽에 있을 수 있어 ID 로 합친다.
+        records.addAll(transactionArchive.findByAccount(shardRouter.shardOf(accountNumber), accountNumber, from, to));
+
+        Map<Long, TransactionRecord> recordsById = new HashMap<>();
+        records.forEach(record -> recordsById.putIfAbsent(record.transactionId(), record));
+
+        return GetTransactionHistoryResponse.builder()
+                .accountNumber(accountNumber)
+                .transactions(recordsById.values().stream()
+                        .sorted(HISTORY_ORDER)
+                        .limit(limit)
+                        .map(TransactionService::toResponse)
+                        .toList())
+                .build();
+    }
+
+    public GetBalanceAsOfResponse getBalanceAsOf(String accountNumber, LocalDateTime asOf) {
+        return resolveBalancesAsOf(List.of(new BalanceAsOf(accountNumber, asOf))).get(0);
+    }
+
+    public GetBalancesAsOfResponse getBalancesAsOf(GetBalancesAsOfRequest request) {
+        return GetBalancesAsOfResponse.builder()
+                .balances(resolveBalancesAsOf(request.getQueries().stream()
+                        .map(query -> new BalanceAsOf(query.getAccountNumber(), query.getAsOf()))
+                        .toList()))
+                .build();
+    }
+
+    /**
+     * 각 시점 이전 마지막 성공 거래의 balanceSnapshot 으로 그때의 잔액을 답한다. 거래를 다시 더하지 않는다.
+     * 샤드마다 쿼리 하나로 풀고, 테이블에 없는 조회만 보관 세그먼트에서 찾는다.
+     * 그래도 거래가 없으면 계좌를 읽어, 개설 뒤 시점이면 개설 잔액으로, 개설 전 시점이면 계좌가 없었다고 답한다.
+     * 개설 잔액이 기록되지 않은 계좌는 잔액을 비우고 balanceKnown 을 false 로 둔다.
+     */
+    private List<GetBalanceAsOfResponse> resolveBalancesAsOf(List<BalanceAsOf> queries) {
+        if (queries.isEmpty() || queries.size() > MAX_BALANCE_QUERIES) {
+            throw new AccountException(ErrorCode.INVALID_REQUEST);
+        }
+
+        Map<Integer, List<BalanceAsOf>> queriesByShard = queries.stream()
+                .distinct()
+                .collect(Collectors.groupingBy(query -> shardRouter.shardOf(query.accountNumber())));
+
+        Map<BalanceAsOf, TransactionRecord> latest = new HashMap<>();
+        shardRouter.scatter(shard -> {
+            List<BalanceAsOf> shardQueries = queriesByShard.getOrDefault(shard, List.of());
+            return shardQueries.isEmpty()
+                    ? Map.<BalanceAsOf, TransactionRecord>of()
+                    : transactionStore.findLatestAsOf(shardQueries);
+        }).forEach(latest::putAll);
+
+        for (BalanceAsOf query : queries) {
+            latest.computeIfAbsent(query, missing -> transactionArchive
+                    .findLatestByAccount(shardRouter.shardOf(missing.accountNumber()),
+                            missing.accountNumber(), missing.asOf())
+                    .orElse(null));
+        }
+        Map<String, Account> accountsWithoutRecord = findAccounts(queries.stream()
+                .filter(query -> latest.get(query) == null)
+                .map(BalanceAsOf::accountNumber)
+                .collect(Collectors.toSet()));
+
+        return queries.stream()
+                .map(query -> {
+                    TransactionRecord record = latest.get(query);
+                    if (record != null) {
+                        return GetBalanceAsOfResponse.builder()
+                                .accountNumber(query.accountNumber())
+                                .asOf(query.asOf())
+                                .balance(record.balanceSnapshot())
+                                .accountExisted(true)
+                                .balanceKnown(true)
+                                .transactionId(record.transactionId())
+                                .transactedAt(record.transactedAt())
+                                .build();
+                    }
+
+                    Account account = accountsWithoutRecord.get(query.accountNumber());
+                    boolean existed = account != null
+                            && (account.getCreatedAt() == null || !query.asOf().isBefore(account.getCreatedAt()));
+                    // 개설 잔액 컬럼이 생기기 전에 만든 계좌는 값이 없으므로 잔액을 모른다고 답한다.
+                    Long openingBalance = existed ? account.getOpeningBalance() : null;
+                    return GetBalanceAsOfResponse.builder()
+                            .accountNumber(query.accountNumber())
+                            .asOf(query.asOf())
+                            .balance(openingBalance)
+                            .accountExisted(existed)
+                            .balanceKnown(openingBalance != null)
+                            .build();
+                })
+                .toList();
+    }
+
+    private Map<String, Account> findAccounts(Set<String> accountNumbers) {
+        if (accountNumbers.isEmpty()) {
+            return Map.of();
+        }
+
+        Map<Integer, List<String>> numbersByShard = accountNumbers.stream()
+                .collect(Collectors.groupingBy(shardRouter::shardOf));
+        Map<String, Account> accounts = new HashMap<>();
+        shardRouter.scatter(shard -> {
+            List<String> shardNumbers = numbersByShard.getOrDefault(shard, List.of());
+            return shardNumbers.isEmpty() ? List.<Account>of() : accountRepository.findAllById(shardNumbers);
+        }).forEach(shardAccounts -> shardAccounts.forEach(
+                account -> accounts.put(account.getAccountNumber(), account)));
+        return accounts;
+    }
+
+    private static GetTransactionResponse toResponse(TransactionRecord record) {
+        return GetTransactionResponse.builder()
+                .accountNumber(record.accountNumber())
+                .transactionType(record.transactionType())
+                .transactionResult(record.transactionResultType())
+                .transactionId(record.transactionId())
+                .amount(record.amount())
+                .transactedAt(record.transactedAt())
+                .errorCode(record.errorCode())
+                .build();
+    }
+
+    private Account findAccountForUpdate(String accountNumber) {
+        Account account = transactionMetrics.recordRowLockWait(
+                accountNumber,
+                () -> accountRepository.findByAccountNumberWithPessimisticLock(accountNumber)
+        ).orElseThrow(() -> new AccountException(ErrorCode.ACCOUNT_NOT_FOUND));
+        // 이벤트 소싱 모드에서는 행 잠금 아래에서 스냅샷과 그 뒤 이벤트로 잔액을 다시 계산한다.
+        eventSourcedBalances.materialize(account);
+        return account;
+    }
+
+    // 이벤트 소싱 모드에서는 잔액을 거래 이벤트로만 남기고 계좌 행은 고치지 않는다.
+    private void saveBalance(Account account) {
+        if (!eventSourcedBalances.isEnabled()) {
+            accountRepository.save(account);
+        }
+    }
+
     private void validateTransactionAmount(Long amount) {
         if (amount < MIN_TRANSACTION_AMOUNT) {
             throw new AccountException(ErrorCode.TOO_SMALL_AMOUNT);
@@ -170,19 +513,51 @@ public class TransactionService {
         }
     }
 
+    private void publishBalanceChanged(Account account, Transaction transaction) {
+        eventPublisher.publishEvent(BalanceChangedEvent.builder()
+                .userId(account.getUser().getUserId())
+                .accountNumber(account.getAccountNumber())
+                .balance(account.getBalance())
+                .transactionType(transaction.getTransactionType())
+                .transactionId(transaction.getTransactionId())
+                .amount(transaction.getAmount())
+                .changedAt(transaction.getTransactedAt())
+                .build());
+    }
+
     private Transaction saveTransaction(
             Account account,
             TransactionType transactionType, Long amount
+    ) {
+        LocalDateTime transactedAt = LocalDateTime.now();
+        return saveTransaction(
+                account, transactionType, amount,
+                transactionIdAllocator.next(account.getAccountNumber(), transactedAt), null, transactedAt
+        );
+    }
+
+    private Transaction saveTransaction(
+            Account account,
+            TransactionType transactionType, Long amount,
+            Long transactionId, Long linkedTransactionId, LocalDateTime transactedAt
     ) {
         Transaction transaction = Transaction.builder()
+                .transactionId(transactionId)
                 .transactionType(transactionType)
                 .transactionResultType(TransactionResultType.SUCCESS)
                 .account(account)
                 .amount(amount)
                 .balanceSnapshot(account.getBalance())
-                .transactedAt(LocalDateTime.now())
+                .transactedAt(transactedAt)
+                .linkedTransactionId(linkedTransactionId)
+                .eventSequence(eventSourcedBalances.nextSequence(account))
                 .build();
 
-        return transactionRepository.save(transaction);
+        return transactionMetrics.recordSave(account.getAccountNumber(), transactionType, () -> {
+            Transaction savedTransaction = transactionStore.save(transaction);
+            eventSourcedBalances.appended(savedTransaction);
+            outboxService.append(savedTransaction);
+            return savedTransaction;
+        });
     }
 }
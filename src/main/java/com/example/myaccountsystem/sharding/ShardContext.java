@@ -0,0 +1,23 @@
+package com.example.myaccountsystem.sharding;
+
+/**
+ * 현재 스레드가 사용할 샤드 번호. ShardRoutingDataSource 가 커넥션을 얻을 때 참조한다.
+ */
+final class ShardContext {
+    private static final ThreadLocal<Integer> CURRENT = new ThreadLocal<>();
+
+    private ShardContext() {
+    }
+
+    static Integer current() {
+        return CURRENT.get();
+    }
+
+    static void bind(Integer shard) {
+        if (shard == null) {
+            CURRENT.remove();
+        } else {
+            CURRENT.set(shard);
+        }
+    }
+}
@@ -0,0 +1,170 @@
+package com.example.myaccountsystem.sharding;
+
+import com.example.myaccountsystem.config.ShardingProperties;
+import jakarta.annotation.PreDestroy;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.IntConsumer;
+import java.util.function.IntFunction;
+
+/**
+ * 계좌번호 해시로 샤드를 고르고, 거래 ID 는 상위 비트에 담긴 샤드 번호(TransactionIds)로 찾아간다.
+ * 사용자 단위 조회처럼 샤드를 특정할 수 없는 조회는 모든 샤드에 병렬로 보내 결과를 모은다.
+ * 샤딩을 끄면 샤드는 하나이고 ShardContext 를 건드리지 않는다.
+ */
+@Component
+public class ShardRouter {
+    // scatter 안에서 다시 scatter 하면 같은 풀의 스레드를 기다리며 멈출 수 있어 막는다.
+    private static final ThreadLocal<Boolean> SCATTERING = new ThreadLocal<>();
+
+    private final int shardCount;
+    private final ExecutorService scatterExecutor;
+
+    public ShardRouter(ShardingProperties properties) {
+        this.shardCount = properties.isEnabled() ? Math.max(1, properties.getShards().size()) : 1;
+        if (shardCount > TransactionIds.MAX_SHARDS) {
+            throw new IllegalStateException("At most " + TransactionIds.MAX_SHARDS + " shards are supported");
+        }
+        if (properties.getScatterThreads() < 1) {
+            throw new IllegalStateException("account.sharding.scatter-threads must be at least 1");
+        }
+        this.scatterExecutor = shardCount > 1 ? newScatterExecutor(properties.getScatterThreads()) : null;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        if (scatterExecutor != null) {
+            scatterExecutor.shutdownNow();
+        }
+    }
+
+    public int getShardCount() {
+        return shardCount;
+    }
+
+    public int shardOf(String accountNumber) {
+        if (shardCount == 1) {
+            return 0;
+        }
+        return Math.floorMod(mix(accountNumber.hashCode()), shardCount);
+    }
+
+    public boolean sameShard(String accountNumber, String otherAccountNumber) {
+        return shardOf(accountNumber) == shardOf(otherAccountNumber);
+    }
+
+    // 잘못된 접두사를 가진 ID 는 0번 샤드에서 찾도록 하여 "거래 없음"으로 끝나게 한다.
+    public int shardOfTransaction(long transactionId) {
+        int shard = TransactionIds.shardOf(transactionId);
+        return shard < shardCount ? shard : 0;
+    }
+
+    public int pickShard() {
+        return shardCount == 1 ? 0 : ThreadLocalRandom.current().nextInt(shardCount);
+    }
+
+    public ShardScope enter(int shard) {
+        if (shardCount == 1) {
+            return ShardScope.NOOP;
+        }
+
+        Integer previous = ShardContext.current();
+        ShardContext.bind(shard);
+        return () -> ShardContext.bind(previous);
+    }
+
+    public ShardScope enterAccount(String accountNumber) {
+        return enter(shardOf(accountNumber));
+    }
+
+    public ShardScope enterTransaction(long transactionId) {
+        return enter(shardOfTransaction(transactionId));
+    }
+
+    public void forEachShard(IntConsumer action) {
+        for (int shard = 0; shard < shardCount; shard++) {
+            try (ShardScope scope = enter(shard)) {
+                action.accept(shard);
+            }
+        }
+    }
+
+    /**
+     * 샤드마다 perShard 를 병렬로 실행하고 샤드 번호 순서대로 결과를 돌려준다.
+     * 0번 샤드는 호출 스레드가 직접 실행하므로 풀이 붐벼도 한 샤드 몫은 바로 진행된다.
+     * 다만 호출 스레드에 트랜잭션이 걸려 있으면 이미 묶인 커넥션이 한 샤드의 것이라 0번 샤드도 풀에서 실행한다.
+     * perShard 안에서 다시 scatter 를 부르면 IllegalStateException 을 던진다.
+     */
+    public <T> List<T> scatter(IntFunction<T> perShard) {
+        if (SCATTERING.get() != null) {
+            throw new IllegalStateException("Nested scatter is not supported");
+        }
+        if (shardCount == 1) {
+            return List.of(runShard(0, perShard));
+        }
+
+        boolean callerRunsFirst = !TransactionSynchronizationManager.isActualTransactionActive();
+        List<CompletableFuture<T>> futures = new ArrayList<>(shardCount);
+        for (int shard = callerRunsFirst ? 1 : 0; shard < shardCount; shard++) {
+            int target = shard;
+            futures.add(CompletableFuture.supplyAsync(() -> runShard(target, perShard), scatterExecutor));
+        }
+
+        List<T> results = new ArrayList<>(shardCount);
+        if (callerRunsFirst) {
+            results.add(runShard(0, perShard));
+        }
+        for (CompletableFuture<T> future : futures) {
+            results.add(await(future));
+        }
+        return results;
+    }
+
+    private <T> T runShard(int shard, IntFunction<T> perShard) {
+        SCATTERING.set(Boolean.TRUE);
+        try (ShardScope scope = enter(shard)) {
+            return perShard.apply(shard);
+        } finally {
+            SCATTERING.remove();
+        }
+    }
+
+    private static <T> T await(CompletableFuture<T> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    private static int mix(int hash) {
+        int h = hash * 0x9E3779B9;
+        return h ^ (h >>> 16);
+    }
+
+    private static ExecutorService newScatterExecutor(int threads) {
+        AtomicInteger sequence = new AtomicInteger();
+        ThreadPoolExecutor executor = new ThreadPoolExecutor(
+                threads, threads, 60, TimeUnit.SECONDS, new LinkedBlockingQueue<>(), runnable -> {
+            Thread thread = new Thread(runnable, "shard-scatter-" + sequence.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        executor.allowCoreThreadTimeOut(true);
+        return executor;
+    }
+}
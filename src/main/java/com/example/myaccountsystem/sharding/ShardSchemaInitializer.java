@@ -0,0 +1,29 @@
+package com.example.myaccountsystem.sharding;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.SessionFactory;
+import org.hibernate.relational.SchemaManager;
+
+/**
+ * ddl-auto 는 0번 샤드에만 적용되므로 나머지 샤드에 같은 스키마를 만든다.
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class ShardSchemaInitializer {
+    private final EntityManagerFactory entityManagerFactory;
+    private final ShardRouter shardRouter;
+
+    @PostConstruct
+    public void initialize() {
+        SchemaManager schemaManager = entityManagerFactory.unwrap(SessionFactory.class).getSchemaManager();
+        shardRouter.forEachShard(shard -> {
+            if (shard > 0) {
+                schemaManager.exportMappedObjects(true);
+            }
+        });
+        log.info("Initialized schema on {} shards", shardRouter.getShardCount());
+    }
+}
@@ -0,0 +1,13 @@
+package com.example.myaccountsystem.sharding;
+
+/**
+ * ShardRouter.enter 로 지정한 샤드를 닫을 때 이전 샤드로 되돌린다.
+ */
+@FunctionalInterface
+public interface ShardScope extends AutoCloseable {
+    ShardScope NOOP = () -> {
+    };
+
+    @Override
+    void close();
+}
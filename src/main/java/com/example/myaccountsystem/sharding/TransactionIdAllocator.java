@@ -0,0 +1,62 @@
+package com.example.myaccountsystem.sharding;
+
+import jakarta.annotation.PostConstruct;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+
+/**
+ * 거래 ID 를 저장 전에 발급한다. 샤드마다 DB 시퀀스에서 BLOCK_SIZE 개씩 받아 메모리에서 나눠 주므로
+ * 시퀀스 왕복은 BLOCK_SIZE 건에 한 번이고, 여러 노드가 같은 샤드에 써도 ID 가 겹치지 않는다.
+ */
+@Component
+public class TransactionIdAllocator {
+    static final String SEQUENCE_NAME = "transaction_id_seq";
+    static final int BLOCK_SIZE = 50;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ShardRouter shardRouter;
+    private final Block[] blocks;
+
+    public TransactionIdAllocator(JdbcTemplate jdbcTemplate, ShardRouter shardRouter) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.shardRouter = shardRouter;
+        this.blocks = new Block[shardRouter.getShardCount()];
+        for (int shard = 0; shard < blocks.length; shard++) {
+            blocks[shard] = new Block();
+        }
+    }
+
+    @PostConstruct
+    public void createSequence() {
+        shardRouter.forEachShard(shard -> jdbcTemplate.execute(
+                "create sequence if not exists " + SEQUENCE_NAME + " start with 1 increment by " + BLOCK_SIZE
+        ));
+    }
+
+    public long next(String accountNumber, LocalDateTime transactedAt) {
+        int shard = shardRouter.shardOf(accountNumber);
+        return TransactionIds.compose(shard, TransactionIds.partitionOf(transactedAt), nextSequence(shard));
+    }
+
+    private long nextSequence(int shard) {
+        Block block = blocks[shard];
+        synchronized (block) {
+            if (block.next == block.limit) {
+                long start;
+                try (ShardScope shardScope = shardRouter.enter(shard)) {
+                    start = jdbcTemplate.queryForObject("select next value for " + SEQUENCE_NAME, Long.class);
+                }
+                block.next = start;
+                block.limit = start + BLOCK_SIZE;
+            }
+            return block.next++;
+        }
+    }
+
+    private static final class Block {
+        private long next;
+        private long limit;
+    }
+}
@@ -0,0 +1,53 @@
+package com.example.myaccountsystem.sharding;
+
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.time.temporal.ChronoUnit;
+
+/**
+ * 거래 ID 의 비트 배치. 상위부터 샤드(7비트), 월 파티션(16비트), 샤드별 시퀀스(40비트)를 담는다.
+ * ID 만으로 거래가 저장된 샤드와 월 파티션을 알 수 있어 별도의 조회 없이 찾아갈 수 있다.
+ */
+public final class TransactionIds {
+    private static final int SEQUENCE_BITS = 40;
+    private static final int PARTITION_BITS = 16;
+    private static final int SHARD_SHIFT = SEQUENCE_BITS + PARTITION_BITS;
+
+    public static final int MAX_SHARDS = 1 << (Long.SIZE - 1 - SHARD_SHIFT);
+    public static final long MAX_SEQUENCE = (1L << SEQUENCE_BITS) - 1;
+
+    private static final long PARTITION_MASK = (1L << PARTITION_BITS) - 1;
+    private static final YearMonth PARTITION_EPOCH = YearMonth.of(2000, 1);
+
+    private TransactionIds() {
+    }
+
+    public static long compose(int shard, int partition, long sequence) {
+        if (shard < 0 || shard >= MAX_SHARDS) {
+            throw new IllegalArgumentException("shard out of range: " + shard);
+        }
+        if (partition < 0 || partition > PARTITION_MASK) {
+            throw new IllegalArgumentException("partition out of range: " + partition);
+        }
+        if (sequence < 0 || sequence > MAX_SEQUENCE) {
+            throw new IllegalStateException("transaction sequence exhausted: " + sequence);
+        }
+        return ((long) shard << SHARD_SHIFT) | ((long) partition << SEQUENCE_BITS) | sequence;
+    }
+
+    public static int shardOf(long transactionId) {
+        return (int) (transactionId >>> SHARD_SHIFT);
+    }
+
+    public static int partitionOf(long transactionId) {
+        return (int) ((transactionId >>> SEQUENCE_BITS) & PARTITION_MASK);
+    }
+
+    public static int partitionOf(LocalDateTime transactedAt) {
+        return (int) PARTITION_EPOCH.until(YearMonth.from(transactedAt), ChronoUnit.MONTHS);
+    }
+
+    public static YearMonth monthOf(int partition) {
+        return PARTITION_EPOCH.plusMonths(partition);
+    }
+}
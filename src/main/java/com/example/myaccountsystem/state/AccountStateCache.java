@@ -0,0 +1,118 @@
+package com.example.myaccountsystem.state;
+
+import com.example.myaccountsystem.config.AccountStateProperties;
+import com.example.myaccountsystem.event.AccountStatusChangedEvent;
+import com.example.myaccountsystem.exception.AccountException;
+import com.example.myaccountsystem.sharding.ShardRouter;
+import com.example.myaccountsystem.type.AccountStatus;
+import com.example.myaccountsystem.type.ErrorCode;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 모든 계좌의 상태를 엔티티 대신 {@link AccountStateStore} 에 올려 두고, 커밋된 변경 이벤트로 따라간다.
+ * 소유자는 바뀌지 않고 해지는 되돌릴 수 없으므로, 알고 있는 계좌의 이 두 조건은 락과 DB 조회 전에 판정해도 결과가 같다.
+ */
+@Slf4j
+@Component
+public class AccountStateCache implements SmartInitializingSingleton {
+    private static final String SELECT_ACCOUNTS_SQL =
+            "select account_number, user_user_id, account_status from account";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ShardRouter shardRouter;
+    private final AccountStateStore store;
+    private final Map<String, Integer> owners = new ConcurrentHashMap<>();
+    private final AtomicInteger lastOwner = new AtomicInteger();
+
+    public AccountStateCache(AccountStateProperties properties, JdbcTemplate jdbcTemplate, ShardRouter shardRouter) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.shardRouter = shardRouter;
+        this.store = properties.isEnabled() ? new AccountStateStore(properties.getExpectedAccounts()) : null;
+    }
+
+    // 웹 서버가 요청을 받기 전에 적재하도록 싱글턴 생성 직후에 읽는다. 엔티티 없이 행을 하나씩 넣는다.
+    @Override
+    public void afterSingletonsInstantiated() {
+        if (store == null) {
+            return;
+        }
+
+        long started = System.nanoTime();
+        AtomicLong loaded = new AtomicLong();
+        shardRouter.forEachShard(shard -> jdbcTemplate.query(SELECT_ACCOUNTS_SQL, resultSet -> {
+            put(
+                    resultSet.getString("account_number"),
+                    resultSet.getString("user_user_id"),
+                    AccountStatus.valueOf(resultSet.getString("account_status"))
+            );
+            loaded.incrementAndGet();
+        }));
+        log.info("Loaded {} accounts into off-heap state ({} MB) in {} ms",
+                loaded.get(), store.offHeapBytes() >> 20, (System.nanoTime() - started) / 1_000_000);
+    }
+
+    public boolean isEnabled() {
+        return store != null;
+    }
+
+    /**
+     * 알고 있는 계좌가 다른 사용자 소유이거나 해지되었으면 DB 조회와 같은 오류로 거절한다.
+     * 모르는 계좌나 계좌가 없는 사용자는 DB 에서 판정하도록 그냥 넘긴다.
+     */
+    public void rejectIfKnownInvalid(String userId, String accountNumber) {
+        if (store == null) {
+            return;
+        }
+
+        int slot = slotOf(accountNumber);
+        Integer owner = owners.get(userId);
+        if (slot == AccountStateStore.NOT_FOUND || owner == null) {
+            return;
+        }
+
+        if (store.owner(slot) != owner) {
+            throw new AccountException(ErrorCode.ACCOUNT_OWNER_MISMATCH);
+        }
+
+        if (store.status(slot) != AccountStatus.IN_USE) {
+            throw new AccountException(ErrorCode.ACCOUNT_ALREADY_UNREGISTERED);
+        }
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onAccountStatusChanged(AccountStatusChangedEvent event) {
+        if (store == null) {
+            return;
+        }
+
+        int slot = slotOf(event.getAccountNumber());
+        if (slot != AccountStateStore.NOT_FOUND) {
+            store.setStatus(slot, event.getAccountStatus());
+        } else {
+            put(event.getAccountNumber(), event.getUserId(), event.getAccountStatus());
+        }
+    }
+
+    private void put(String accountNumber, String userId, AccountStatus accountStatus) {
+        long key = AccountStateStore.keyOf(accountNumber);
+        if (key != AccountStateStore.NO_KEY) {
+            int owner = owners.computeIfAbsent(userId, id -> lastOwner.incrementAndGet());
+            store.put(key, owner, accountStatus);
+        }
+    }
+
+    private int slotOf(String accountNumber) {
+        long key = AccountStateStore.keyOf(accountNumber);
+        return key != AccountStateStore.NO_KEY ? store.find(key) : AccountStateStore.NOT_FOUND;
+    }
+}
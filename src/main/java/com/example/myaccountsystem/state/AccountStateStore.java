@@ -0,0 +1,123 @@
+package com.example.myaccountsystem.state;
+
+import com.example.myaccountsystem.type.AccountStatus;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+
+/**
+ * 계좌 상태(상태, 소유자 번호)를 힙 밖 direct 버퍼에 담는 오픈 어드레싱 테이블.
+ * 계좌 객체 없이 슬롯당 16바이트만 쓰며, 키는 10자리 계좌번호를 long 으로 바꾼 값이다.
+ * 키 선점은 CAS 로 하고, 계좌는 지우지 않으므로 삭제 표시 없이 선형 탐사만 한다.
+ */
+final class AccountStateStore {
+    static final int SLOT_BYTES = 16;
+    static final long NO_KEY = -1L;
+    static final int NOT_FOUND = -1;
+
+    // 슬롯 내 위치. 키 0 은 빈 슬롯이라 계좌 키에 1 을 더해 저장한다.
+    private static final int KEY = 0;
+    private static final int OWNER = 8;
+    // 0 이면 아직 채우는 중인 슬롯. 다른 필드를 모두 쓴 뒤 release 로 기록한다.
+    private static final int STATUS = 12;
+
+    private static final VarHandle LONGS = MethodHandles.byteBufferViewVarHandle(long[].class, ByteOrder.nativeOrder());
+    private static final VarHandle INTS = MethodHandles.byteBufferViewVarHandle(int[].class, ByteOrder.nativeOrder());
+    private static final AccountStatus[] STATUSES = AccountStatus.values();
+
+    private final ByteBuffer slots;
+    private final int mask;
+
+    AccountStateStore(int expectedAccounts) {
+        // 적재율 0.75 이하가 되도록 2의 거듭제곱으로 잡는다.
+        long capacity = Long.highestOneBit(Math.max(16L, expectedAccounts * 4L / 3) - 1) << 1;
+        if (capacity * SLOT_BYTES + Long.BYTES > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Too many accounts for one region: " + expectedAccounts);
+        }
+        // VarHandle 의 원자 연산은 8바이트 정렬된 위치에서만 되므로 정렬된 구간을 잘라 쓴다.
+        this.slots = ByteBuffer.allocateDirect((int) capacity * SLOT_BYTES + Long.BYTES)
+                .alignedSlice(Long.BYTES)
+                .order(ByteOrder.nativeOrder());
+        this.mask = (int) capacity - 1;
+    }
+
+    int capacity() {
+        return mask + 1;
+    }
+
+    long offHeapBytes() {
+        return (long) capacity() * SLOT_BYTES;
+    }
+
+    /**
+     * 10자리 숫자 계좌번호를 키로 바꾼다. 형식이 다르면 {@link #NO_KEY}.
+     */
+    static long keyOf(String accountNumber) {
+        if (accountNumber == null || accountNumber.length() != 10) {
+            return NO_KEY;
+        }
+        long key = 0;
+        for (int i = 0; i < accountNumber.length(); i++) {
+            char digit = accountNumber.charAt(i);
+            if (digit < '0' || digit > '9') {
+                return NO_KEY;
+            }
+            key = key * 10 + (digit - '0');
+        }
+        return key;
+    }
+
+    /**
+     * 계좌를 넣거나 덮어쓰고 슬롯 번호를 돌려준다.
+     */
+    int put(long key, int owner, AccountStatus status) {
+        long stored = key + 1;
+        for (int slot = slotOf(stored), probes = 0; probes <= mask; slot = (slot + 1) & mask, probes++) {
+            int offset = slot * SLOT_BYTES;
+            long current = (long) LONGS.getVolatile(slots, offset + KEY);
+            if (current == 0 && LONGS.compareAndSet(slots, offset + KEY, 0L, stored)) {
+                current = stored;
+            }
+            if (current == stored) {
+                INTS.setVolatile(slots, offset + OWNER, owner);
+                INTS.setRelease(slots, offset + STATUS, status.ordinal() + 1);
+                return slot;
+            }
+        }
+        throw new IllegalStateException("Account state store is full: " + capacity());
+    }
+
+    int find(long key) {
+        long stored = key + 1;
+        for (int slot = slotOf(stored), probes = 0; probes <= mask; slot = (slot + 1) & mask, probes++) {
+            int offset = slot * SLOT_BYTES;
+            long current = (long) LONGS.getVolatile(slots, offset + KEY);
+            if (current == stored) {
+                return (int) INTS.getAcquire(slots, offset + STATUS) != 0 ? slot : NOT_FOUND;
+            }
+            if (current == 0) {
+                return NOT_FOUND;
+            }
+        }
+        return NOT_FOUND;
+    }
+
+    int owner(int slot) {
+        return (int) INTS.getVolatile(slots, slot * SLOT_BYTES + OWNER);
+    }
+
+    AccountStatus status(int slot) {
+        return STATUSES[(int) INTS.getAcquire(slots, slot * SLOT_BYTES + STATUS) - 1];
+    }
+
+    void setStatus(int slot, AccountStatus status) {
+        INTS.setRelease(slots, slot * SLOT_BYTES + STATUS, status.ordinal() + 1);
+    }
+
+    private int slotOf(long stored) {
+        long hash = stored * 0x9E3779B97F4A7C15L;
+        return (int) (hash ^ (hash >>> 32)) & mask;
+    }
+}
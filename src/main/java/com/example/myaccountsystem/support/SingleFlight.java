@@ -0,0 +1,58 @@
+package com.example.myaccountsystem.support;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * 같은 키에 대한 동시 조회를 하나의 진행 중 작업으로 합친다.
+ * 먼저 도착한 호출(leader)만 loader 를 실행하고, 그동안 도착한 호출(follower)은 같은 결과를 공유한다.
+ * 결과를 보관하지 않으므로 캐시를 둘 경우 캐시 미스 시의 loader 로 감싸서 사용한다.
+ */
+public class SingleFlight<K, V> {
+    private final ConcurrentHashMap<K, CompletableFuture<V>> inFlight = new ConcurrentHashMap<>();
+    private final Counter leaderCalls;
+    private final Counter followerCalls;
+
+    public SingleFlight(MeterRegistry meterRegistry, String name) {
+        this.leaderCalls = meterRegistry.counter(name + ".coalescing.calls", "role", "leader");
+        this.followerCalls = meterRegistry.counter(name + ".coalescing.calls", "role", "follower");
+    }
+
+    public V execute(K key, Supplier<V> loader) {
+        CompletableFuture<V> flight = new CompletableFuture<>();
+        CompletableFuture<V> existing = inFlight.putIfAbsent(key, flight);
+
+        if (existing != null) {
+            followerCalls.increment();
+            return await(existing);
+        }
+
+        leaderCalls.increment();
+        try {
+            V value = loader.get();
+            flight.complete(value);
+            return value;
+        } catch (RuntimeException | Error e) {
+            flight.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, flight);
+        }
+    }
+
+    private V await(CompletableFuture<V> flight) {
+        try {
+            return flight.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+}
@@ -21,7 +21,13 @@ public enum ErrorCode {
     CANCEL_MUST_FULLY("부분 취소는 허용되지 않습니다."),
     TOO_SMALL_AMOUNT("거래금액이 너무 작습니다."),
     TOO_LARGE_AMOUNT("거래금액이 너무 큽니다."),
-    TRANSACTION_ALREADY_CANCELED("이미 취소된 거래입니다.");
+    TRANSACTION_ALREADY_CANCELED("이미 취소된 거래입니다."),
+    FAILED_TRANSACTION_NOT_CANCELABLE("실패한 거래는 취소할 수 없습니다."),
+    TRANSFER_SAME_ACCOUNT("같은 계좌로는 이체할 수 없습니다."),
+    TRANSFER_CROSS_SHARD("서로 다른 샤드의 계좌 간에는 이체할 수 없습니다."),
+    TOO_MANY_REQUESTS("요청이 너무 많습니다. 잠시 후 다시 시도해 주세요."),
+    ACCOUNT_QUEUE_FULL("해당 계좌에 처리 대기 중인 요청이 너무 많습니다."),
+    SERVER_OVERLOADED("서버가 혼잡합니다. 잠시 후 다시 시도해 주세요.");
 
     private final String description;
 }
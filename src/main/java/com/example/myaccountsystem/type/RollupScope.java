@@ -0,0 +1,5 @@
+package com.example.myaccountsystem.type;
+
+public enum RollupScope {
+    ACCOUNT, USER
+}
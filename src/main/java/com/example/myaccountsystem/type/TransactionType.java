@@ -1,5 +1,13 @@
 package com.example.myaccountsystem.type;
 
 public enum TransactionType {
-    USE, CANCEL
+    USE, CANCEL, TRANSFER_OUT, TRANSFER_IN;
+
+    // 이 거래가 계좌 잔액에 더하는 값
+    public long balanceDelta(long amount) {
+        return switch (this) {
+            case USE, TRANSFER_OUT -> -amount;
+            case CANCEL, TRANSFER_IN -> amount;
+        };
+    }
 }
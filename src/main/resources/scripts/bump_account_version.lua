@@ -0,0 +1,7 @@
+-- Bump a user's account-list version: KEYS[1] = version key, KEYS[2] = changed-at key, ARGV[1] = change time (ms)
+local version = redis.call('INCR', KEYS[1])
+local changedAt = tonumber(redis.call('GET', KEYS[2]) or '0')
+if tonumber(ARGV[1]) > changedAt then
+    redis.call('SET', KEYS[2], ARGV[1])
+end
+return version
@@ -0,0 +1,18 @@
+-- GCRA token bucket: KEYS[1] = bucket key, ARGV[1] = emission interval (us), ARGV[2] = capacity
+local emission = tonumber(ARGV[1])
+local tolerance = emission * tonumber(ARGV[2])
+local time = redis.call('TIME')
+local now = tonumber(time[1]) * 1000000 + tonumber(time[2])
+
+local tat = tonumber(redis.call('GET', KEYS[1]))
+if tat == nil or tat < now then
+    tat = now
+end
+
+local next_tat = tat + emission
+if next_tat - now > tolerance then
+    return 0
+end
+
+redis.call('SET', KEYS[1], next_tat, 'PX', math.ceil((next_tat - now) / 1000) + 1)
+return 1
@@ -0,0 +1,15 @@
+-- GCRA token refund: KEYS[1] = bucket key, ARGV[1] = emission interval (us)
+local tat = tonumber(redis.call('GET', KEYS[1]))
+if tat == nil then
+    return 0
+end
+
+local time = redis.call('TIME')
+local now = tonumber(time[1]) * 1000000 + tonumber(time[2])
+local refunded = tat - tonumber(ARGV[1])
+if refunded <= now then
+    redis.call('DEL', KEYS[1])
+else
+    redis.call('SET', KEYS[1], refunded, 'PX', math.ceil((refunded - now) / 1000) + 1)
+end
+return 1
@@ -0,0 +1,147 @@
+package com.example.myaccountsystem.admission;
+
+import com.example.myaccountsystem.config.AdmissionProperties;
+import com.example.myaccountsystem.exception.AccountException;
+import com.example.myaccountsystem.type.ErrorCode;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AdmissionControlServiceTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private AdmissionProperties properties;
+
+    private AdmissionControlService admissionControlService;
+
+    @BeforeEach
+    void setUp() {
+        properties = new AdmissionProperties();
+        properties.setMaxQueueDepthPerAccount(1);
+        properties.setInitialLimit(10);
+        properties.setMinLimit(2);
+        properties.setMaxLimit(20);
+        properties.setLatencyThreshold(Duration.ofSeconds(10));
+        admissionControlService = new AdmissionControlService(properties, meterRegistry);
+    }
+
+    @Test
+    @DisplayName("대기열이 비어 있으면 요청 처리")
+    void execute_Success() {
+        String result = admissionControlService.execute("1234567890", () -> "done");
+
+        assertEquals("done", result);
+        assertEquals(0, admissionControlService.inFlight("1234567890"));
+    }
+
+    @Test
+    @DisplayName("계좌 대기열 깊이 초과 시 즉시 거절")
+    void execute_AccountQueueFull() throws Exception {
+        // given
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        CountDownLatch entered = new CountDownLatch(2);
+        CountDownLatch release = new CountDownLatch(1);
+
+        for (int i = 0; i < 2; i++) {
+            executor.submit(() -> admissionControlService.execute("1234567890", () -> {
+                entered.countDown();
+                await(release);
+                return null;
+            }));
+        }
+        assertTrue(entered.await(5, TimeUnit.SECONDS));
+
+        // when
+        AccountException exception = assertThrows(
+                AccountException.class,
+                () -> admissionControlService.execute("1234567890", () -> "rejected")
+        );
+
+        // then
+        assertEquals(ErrorCode.ACCOUNT_QUEUE_FULL, exception.getErrorCode());
+        assertEquals("other", admissionControlService.execute("9876543210", () -> "other"));
+
+        release.countDown();
+        executor.shutdown();
+        assertTrue(executor.awaitTermination(5, TimeUnit.SECONDS));
+        assertEquals(0, admissionControlService.inFlight("1234567890"));
+        assertEquals(1.0, meterRegistry.counter("account.admission.rejected", "reason", "account_queue").count());
+    }
+
+    @Test
+    @DisplayName("이체는 두 계좌의 대기열을 모두 점유")
+    void execute_MultipleAccounts() {
+        admissionControlService.execute(List.of("1111111111", "2222222222"), () -> {
+            assertEquals(1, admissionControlService.inFlight("1111111111"));
+            assertEquals(1, admissionControlService.inFlight("2222222222"));
+            return null;
+        });
+
+        assertEquals(0, admissionControlService.inFlight("1111111111"));
+        assertEquals(0, admissionControlService.inFlight("2222222222"));
+    }
+
+    @Test
+    @DisplayName("락 경합으로 처리되지 못하면 전역 한도 감소")
+    void execute_LockContention_DecreasesLimit() {
+        assertThrows(AccountException.class, () -> admissionControlService.execute("1234567890", () -> {
+            throw new AccountException(ErrorCode.ACCOUNT_TRANSACTION_LOCK);
+        }));
+
+        assertEquals(9, admissionControlService.currentLimit());
+    }
+
+    @Test
+    @DisplayName("전역 한도 초과 시 즉시 거절")
+    void execute_GlobalLimitExceeded() {
+        // given
+        properties.setMaxQueueDepthPerAccount(10);
+        properties.setInitialLimit(1);
+        properties.setMinLimit(1);
+        admissionControlService = new AdmissionControlService(properties, meterRegistry);
+
+        // when
+        AccountException exception = admissionControlService.execute("1111111111", () -> assertThrows(
+                AccountException.class,
+                () -> admissionControlService.execute("2222222222", () -> "rejected")
+        ));
+
+        // then
+        assertEquals(ErrorCode.SERVER_OVERLOADED, exception.getErrorCode());
+        assertEquals(0, admissionControlService.inFlight("2222222222"));
+    }
+
+    @Test
+    @DisplayName("작업이 Error 로 끝나도 전역 한도 허가를 반납")
+    void execute_ErrorReleasesGlobalPermit() {
+        // given
+        properties.setInitialLimit(1);
+        properties.setMinLimit(1);
+        admissionControlService = new AdmissionControlService(properties, meterRegistry);
+
+        // when
+        assertThrows(OutOfMemoryError.class, () -> admissionControlService.execute("1234567890", () -> {
+            throw new OutOfMemoryError();
+        }));
+
+        // then
+        assertEquals("done", admissionControlService.execute("1234567890", () -> "done"));
+        assertEquals(0, admissionControlService.inFlight("1234567890"));
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,150 @@
+package com.example.myaccountsystem.archive;
+
+import com.example.myaccountsystem.config.ArchiveProperties;
+import com.example.myaccountsystem.sharding.TransactionIds;
+import com.example.myaccountsystem.type.ErrorCode;
+import com.example.myaccountsystem.type.TransactionResultType;
+import com.example.myaccountsystem.type.TransactionType;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TransactionArchiveTest {
+
+    private static final LocalDateTime MONTH_START = LocalDateTime.of(2024, 3, 1, 0, 0);
+    private static final int PARTITION = TransactionIds.partitionOf(MONTH_START);
+
+    @TempDir
+    Path directory;
+
+    private ArchiveProperties properties;
+    private TransactionArchive archive;
+
+    @BeforeEach
+    void setUp() {
+        properties = new ArchiveProperties();
+        properties.setDirectory(directory.toString());
+        properties.setBlockSize(4);
+        archive = new TransactionArchive(properties);
+    }
+
+    @AfterEach
+    void tearDown() {
+        archive.close();
+    }
+
+    @Test
+    @DisplayName("아카이브 - 계좌와 기간으로 필요한 블록만 읽어 조회")
+    void findByAccount_ReadsMatchingRange() throws IOException {
+        // given
+        List<TransactionRecord> records = sortedRecords();
+        archive.write(0, PARTITION, sink -> {
+            for (TransactionRecord record : records) {
+                sink.append(record);
+            }
+        });
+
+        // when
+        List<TransactionRecord> found = archive.findByAccount(
+                0, "2000000000", MONTH_START.plusDays(2), MONTH_START.plusDays(5)
+        );
+
+        // then
+        assertEquals(4, found.size());
+        assertTrue(found.stream().allMatch(record -> record.accountNumber().equals("2000000000")));
+        assertEquals(MONTH_START.plusDays(2), found.get(0).transactedAt());
+        assertEquals(MONTH_START.plusDays(5), found.get(3).transactedAt());
+        assertEquals(records.get(12), found.get(0));
+    }
+
+    @Test
+    @DisplayName("아카이브 - ID 로 단건 조회")
+    void findById_UsesPartitionFromId() throws IOException {
+        // given
+        List<TransactionRecord> records = sortedRecords();
+        archive.write(0, PARTITION, sink -> {
+            for (TransactionRecord record : records) {
+                sink.append(record);
+            }
+        });
+        TransactionRecord target = records.get(17);
+
+        // when & then
+        assertEquals(target, archive.findById(target.transactionId()).orElseThrow());
+        assertTrue(archive.findById(TransactionIds.compose(0, PARTITION + 1, 1)).isEmpty());
+    }
+
+    @Test
+    @DisplayName("아카이브 - 재시작 시 디렉터리에서 세그먼트 목록을 복원")
+    void loadCatalog_RestoresSegments() throws IOException {
+        // given
+        archive.write(0, PARTITION, sink -> {
+            for (TransactionRecord record : sortedRecords()) {
+                sink.append(record);
+            }
+        });
+        archive.close();
+
+        // when
+        TransactionArchive reopened = new TransactionArchive(properties);
+        reopened.loadCatalog();
+
+        // then
+        assertTrue(reopened.isArchived(0, PARTITION));
+        assertEquals(30, reopened.rowCount(0, PARTITION));
+        reopened.close();
+    }
+
+    @Test
+    @DisplayName("아카이브 - 정렬되지 않은 입력은 거부하고 세그먼트를 남기지 않음")
+    void write_RejectsUnsortedRecords() {
+        // given
+        List<TransactionRecord> records = new ArrayList<>(sortedRecords());
+        records.add(records.get(0));
+
+        // when
+        assertThrows(IllegalArgumentException.class, () -> archive.write(0, PARTITION, sink -> {
+            for (TransactionRecord record : records) {
+                sink.append(record);
+            }
+        }));
+
+        // then
+        assertFalse(archive.isArchived(0, PARTITION));
+        assertFalse(Files.exists(directory.resolve("shard-0").resolve("2024-03.seg")));
+    }
+
+    // 계좌 3개 x 10일, (계좌번호, 시각) 순서
+    private static List<TransactionRecord> sortedRecords() {
+        List<TransactionRecord> records = new ArrayList<>();
+        long sequence = 0;
+        for (String accountNumber : List.of("1000000000", "2000000000", "3000000000")) {
+            for (int day = 0; day < 10; day++) {
+                records.add(new TransactionRecord(
+                        TransactionIds.compose(0, PARTITION, ++sequence),
+                        accountNumber,
+                        day % 2 == 0 ? TransactionType.USE : TransactionType.CANCEL,
+                        day == 9 ? TransactionResultType.FAIL : TransactionResultType.SUCCESS,
+                        1000L + day,
+                        day == 9 ? null : 50_000L - day,
+                        MONTH_START.plusDays(day),
+                        null,
+                        day == 0 ? sequence + 1 : null,
+                        day == 9 ? ErrorCode.AMOUNT_EXCEED_BALANCE : null
+                ));
+            }
+        }
+        return records;
+    }
+}
@@ -0,0 +1,114 @@
+package com.example.myaccountsystem.archive;
+
+import com.example.myaccountsystem.config.ArchiveProperties;
+import com.example.myaccountsystem.config.ShardingProperties;
+import com.example.myaccountsystem.eventsourcing.EventSourcedBalances;
+import com.example.myaccountsystem.service.RedisLockService;
+import com.example.myaccountsystem.sharding.ShardRouter;
+import com.example.myaccountsystem.sharding.TransactionIds;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class TransactionArchiverTest {
+
+    private static final String SELECT_OLDEST_SQL = "select min(transaction_id) from transaction";
+
+    @Mock
+    private TransactionArchive transactionArchive;
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    @Mock
+    private RedisLockService redisLockService;
+
+    @Mock
+    private EventSourcedBalances eventSourcedBalances;
+
+    private final ArchiveProperties properties = new ArchiveProperties();
+
+    private TransactionArchiver transactionArchiver;
+
+    @BeforeEach
+    void setUp() {
+        transactionArchiver = new TransactionArchiver(
+                properties, transactionArchive, jdbcTemplate, transactionTemplate,
+                new ShardRouter(new ShardingProperties()), redisLockService, new SimpleMeterRegistry(),
+                eventSourcedBalances
+        );
+    }
+
+    @Test
+    @DisplayName("거래 아카이브 - 다른 노드가 락을 잡고 있으면 실행하지 않음")
+    void archive_SkipsWhenLockHeldElsewhere() {
+        // given
+        given(redisLockService.acquireOwnedLock(eq("TRANSACTION_ARCHIVER"), anyLong())).willReturn(null);
+
+        // when
+        transactionArchiver.archiveExpiredPartitions();
+
+        // then
+        verifyNoInteractions(jdbcTemplate, transactionArchive);
+        verify(redisLockService, never()).releaseOwnedLock(anyString(), anyString());
+    }
+
+    @Test
+    @DisplayName("거래 아카이브 - 연장 시점에 락을 잃으면 다음 파티션을 옮기지 않고 멈춤")
+    void archive_StopsWhenLockLostBeforePartition() throws Exception {
+        // given
+        properties.setLockTimeout(0);
+        given(redisLockService.acquireOwnedLock("TRANSACTION_ARCHIVER", 0)).willReturn("token");
+        given(jdbcTemplate.queryForObject(SELECT_OLDEST_SQL, Long.class)).willReturn(expiredTransactionId());
+        given(redisLockService.extendOwnedLock("TRANSACTION_ARCHIVER", "token", 0)).willReturn(false);
+
+        // when
+        transactionArchiver.archiveExpiredPartitions();
+
+        // then
+        verify(transactionArchive, never()).write(anyInt(), anyInt(), any());
+        verify(transactionTemplate, never()).execute(any());
+        verify(redisLockService).releaseOwnedLock("TRANSACTION_ARCHIVER", "token");
+    }
+
+    @Test
+    @DisplayName("거래 아카이브 - 세그먼트를 쓰는 동안 락을 잃으면 행을 지우지 않음")
+    void archive_KeepsRowsWhenLockLostDuringSegmentWrite() throws Exception {
+        // given
+        long expiredId = expiredTransactionId();
+        given(redisLockService.acquireOwnedLock(eq("TRANSACTION_ARCHIVER"), anyLong())).willReturn("token");
+        given(jdbcTemplate.queryForObject(SELECT_OLDEST_SQL, Long.class)).willReturn(expiredId);
+        given(jdbcTemplate.queryForObject(startsWith("select count(*)"), eq(Long.class), any(), any()))
+                .willReturn(3L);
+        given(transactionArchive.write(eq(0), eq(TransactionIds.partitionOf(expiredId)), any())).willReturn(3L);
+        given(redisLockService.extendOwnedLock(eq("TRANSACTION_ARCHIVER"), eq("token"), anyLong()))
+                .willReturn(false);
+
+        // when
+        transactionArchiver.archiveExpiredPartitions();
+
+        // then
+        verify(transactionTemplate, never()).execute(any());
+        verify(redisLockService).releaseOwnedLock("TRANSACTION_ARCHIVER", "token");
+    }
+
+    private long expiredTransactionId() {
+        return TransactionIds.compose(0, TransactionIds.partitionOf(LocalDateTime.now().minusYears(3)), 1);
+    }
+}
@@ -1,9 +1,14 @@
 package com.example.myaccountsystem.controller;
 
+import com.example.myaccountsystem.dto.GetBalanceAsOfResponse;
+import com.example.myaccountsystem.dto.GetBalancesAsOfRequest;
 import com.example.myaccountsystem.entity.Account;
 import com.example.myaccountsystem.entity.User;
 import com.example.myaccountsystem.exception.AccountException;
 import com.example.myaccountsystem.service.AccountService;
+import com.example.myaccountsystem.service.AccountVersion;
+import com.example.myaccountsystem.service.AccountVersionService;
+import com.example.myaccountsystem.service.TransactionService;
 import com.example.myaccountsystem.type.AccountStatus;
 import com.example.myaccountsystem.type.ErrorCode;
 import com.fasterxml.jackson.databind.ObjectMapper;
@@ -12,6 +17,7 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
 
@@ -21,9 +27,14 @@ import java.util.Collections;
 import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
@@ -33,6 +44,12 @@ class AccountControllerTest {
     @MockBean
     private AccountService accountService;
 
+    @MockBean
+    private AccountVersionService accountVersionService;
+
+    @MockBean
+    private TransactionService transactionService;
+
     @Autowired
     private MockMvc mockMvc;
 
@@ -67,7 +84,7 @@ class AccountControllerTest {
                         .build()
         );
 
-        given(accountService.getAccountsByUserId(anyString()))
+        given(accountService.getAccountsByUserId(anyString(), any()))
                 .willReturn(accounts);
 
         // when, then
@@ -89,7 +106,7 @@ class AccountControllerTest {
         // given
         String userId = "testUser";
 
-        given(accountService.getAccountsByUserId(anyString()))
+        given(accountService.getAccountsByUserId(anyString(), any()))
                 .willReturn(Collections.emptyList());
 
         // when, then
@@ -107,7 +124,7 @@ class AccountControllerTest {
         // given
         String userId = "nonExistingUser";
 
-        given(accountService.getAccountsByUserId(anyString()))
+        given(accountService.getAccountsByUserId(anyString(), any()))
                 .willThrow(new AccountException(ErrorCode.USER_NOT_FOUND));
 
         // when, then
@@ -117,4 +134,77 @@ class AccountControllerTest {
                 .andExpect(jsonPath("$.errorCode").value("USER_NOT_FOUND"))
                 .andExpect(jsonPath("$.errorMessage").value("사용자가 없습니다."));
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("계좌 목록 조회 - ETag 응답")
+    void getAccounts_ETag() throws Exception {
+        // given
+        String userId = "testUser";
+
+        given(accountVersionService.currentVersion(userId))
+                .willReturn(new AccountVersion("5", 0L));
+        given(accountService.getAccountsByUserId(anyString(), any()))
+                .willReturn(Collections.emptyList());
+
+        // when, then
+        mockMvc.perform(get("/api/account/{userId}", userId)
+                        .contentType(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"5\""))
+                .andExpect(header().string(HttpHeaders.CACHE_CONTROL, "no-cache"));
+    }
+
+    @Test
+    @DisplayName("계좌 목록 조회 - 버전이 같으면 304")
+    void getAccounts_NotModified() throws Exception {
+        // given
+        String userId = "testUser";
+
+        given(accountVersionService.currentVersion(userId))
+                .willReturn(new AccountVersion("5", 0L));
+
+        // when, then
+        mockMvc.perform(get("/api/account/{userId}", userId)
+                        .header(HttpHeaders.IF_NONE_MATCH, "\"5\"")
+                        .contentType(MediaType.APPLICATION_JSON))
+                .andExpect(status().isNotModified());
+
+        verify(accountService, never()).getAccountsByUserId(anyString(), any());
+    }
+
+    @Test
+    @DisplayName("시점 잔액 조회 성공")
+    void getBalanceAsOf_Success() throws Exception {
+        // given
+        LocalDateTime asOf = LocalDateTime.of(2025, 6, 1, 12, 0);
+
+        given(transactionService.getBalanceAsOf("1234567890", asOf))
+                .willReturn(GetBalanceAsOfResponse.builder()
+                        .accountNumber("1234567890")
+                        .asOf(asOf)
+                        .balance(9000L)
+                        .transactionId(3L)
+                        .transactedAt(asOf.minusHours(1))
+                        .build());
+
+        // when, then
+        mockMvc.perform(get("/api/account/{accountNumber}/balance", "1234567890")
+                        .param("asOf", "2025-06-01T12:00:00"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.accountNumber").value("1234567890"))
+                .andExpect(jsonPath("$.balance").value(9000))
+                .andExpect(jsonPath("$.transactionId").value(3));
+    }
+
+    @Test
+    @DisplayName("시점 잔액 일괄 조회 실패 - 빈 조회 목록")
+    void getBalancesAsOf_EmptyQueries() throws Exception {
+        // when, then
+        mockMvc.perform(post("/api/account/balances")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new GetBalancesAsOfRequest(List.of()))))
+                .andExpect(status().isBadRequest());
+
+        verify(transactionService, never()).getBalancesAsOf(any());
+    }
+}
@@ -1,7 +1,11 @@
 package com.example.myaccountsystem.controller;
 
+import com.example.myaccountsystem.admission.AdmissionControlService;
+import com.example.myaccountsystem.dto.GetTransactionHistoryResponse;
 import com.example.myaccountsystem.dto.GetTransactionResponse;
+import com.example.myaccountsystem.dto.UseBalanceRequest;
 import com.example.myaccountsystem.exception.AccountException;
+import com.example.myaccountsystem.ratelimit.RateLimitService;
 import com.example.myaccountsystem.service.TransactionService;
 import com.example.myaccountsystem.type.ErrorCode;
 import com.example.myaccountsystem.type.TransactionResultType;
@@ -12,15 +16,22 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
 
 import java.time.LocalDateTime;
+import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.*;
-import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
@@ -30,6 +41,12 @@ class TransactionControllerTest {
     @MockBean
     private TransactionService transactionService;
 
+    @MockBean
+    private RateLimitService rateLimitService;
+
+    @MockBean
+    private AdmissionControlService admissionControlService;
+
     @Autowired
     private MockMvc mockMvc;
 
@@ -77,4 +94,69 @@ class TransactionControllerTest {
                 .andExpect(jsonPath("$.errorCode").value("TRANSACTION_NOT_FOUND"))
                 .andExpect(jsonPath("$.errorMessage").value("해당 거래가 존재하지 않습니다."));
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("거래 내역 조회 성공")
+    void getTransactionHistory_Success() throws Exception {
+        // given
+        given(transactionService.getTransactionHistory(
+                eq("1234567890"), any(LocalDateTime.class), any(LocalDateTime.class), eq(100)
+        )).willReturn(
+                GetTransactionHistoryResponse.builder()
+                        .accountNumber("1234567890")
+                        .transactions(List.of(
+                                GetTransactionResponse.builder()
+                                        .accountNumber("1234567890")
+                                        .transactionType(TransactionType.USE)
+                                        .transactionResult(TransactionResultType.SUCCESS)
+                                        .transactionId(2L)
+                                        .amount(1000L)
+                                        .transactedAt(LocalDateTime.now())
+                                        .build()
+                        ))
+                        .build()
+        );
+
+        // when, then
+        mockMvc.perform(get("/api/transaction/history")
+                        .param("accountNumber", "1234567890")
+                        .param("from", "2024-01-01T00:00:00")
+                        .param("to", "2024-12-31T23:59:59"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.accountNumber").value("1234567890"))
+                .andExpect(jsonPath("$.transactions.length()").value(1))
+                .andExpect(jsonPath("$.transactions[0].transactionId").value(2L));
+    }
+
+    @Test
+    @DisplayName("잔액 사용 실패 - 요청 한도 초과")
+    void useBalance_TooManyRequests() throws Exception {
+        // given
+        willThrow(new AccountException(ErrorCode.TOO_MANY_REQUESTS))
+                .given(rateLimitService).checkLimit(eq("use"), anyString(), anyString());
+
+        // when, then
+        mockMvc.perform(post("/api/transaction/use")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(
+                                new UseBalanceRequest("testUser", "1234567890", 1000L)
+                        )))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.errorCode").value("TOO_MANY_REQUESTS"));
+
+        verify(transactionService, never()).useBalance(any(UseBalanceRequest.class));
+    }
+
+    @Test
+    @DisplayName("거래 조회 - 캐시된 거래는 304")
+    void getTransaction_NotModified() throws Exception {
+        // when, then
+        mockMvc.perform(get("/api/transaction/{transactionId}", 1L)
+                        .header(HttpHeaders.IF_NONE_MATCH, "\"1\"")
+                        .contentType(MediaType.APPLICATION_JSON))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"1\""));
+
+        verify(transactionService, never()).getTransaction(anyLong());
+    }
+}
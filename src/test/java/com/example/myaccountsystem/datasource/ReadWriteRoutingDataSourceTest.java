@@ -0,0 +1,138 @@
+package com.example.myaccountsystem.datasource;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ReadWriteRoutingDataSourceTest {
+
+    private final AtomicLong clock = new AtomicLong(1_000_000L);
+
+    private JdbcTemplate primaryJdbc;
+    private JdbcTemplate replicaJdbc;
+    private ReplicaLagMonitor replicaLagMonitor;
+    private DataSource dataSource;
+
+    @BeforeEach
+    void setUp() {
+        // 레플리카 대역으로 별도의 H2 인스턴스를 쓴다.
+        primaryJdbc = new JdbcTemplate(database("routing-primary", "primary"));
+        replicaJdbc = new JdbcTemplate(database("routing-replica", "replica"));
+        replicaJdbc.execute("create table replica_heartbeat (id int primary key, beat_at bigint not null)");
+
+        replicaLagMonitor = new ReplicaLagMonitor(
+                primaryJdbc, replicaJdbc, Duration.ofSeconds(2), new SimpleMeterRegistry(), clock::get
+        );
+        replicaLagMonitor.createHeartbeatTable();
+
+        ReadWriteRoutingDataSource routingDataSource = new ReadWriteRoutingDataSource(
+                primaryJdbc.getDataSource(), replicaJdbc.getDataSource(), replicaLagMonitor, new SimpleMeterRegistry()
+        );
+        routingDataSource.afterPropertiesSet();
+        dataSource = new LazyConnectionDataSourceProxy(routingDataSource);
+    }
+
+    @AfterEach
+    void tearDown() {
+        ReadYourWritesContext.clear();
+        primaryJdbc.execute("drop all objects");
+        replicaJdbc.execute("drop all objects");
+    }
+
+    @Test
+    @DisplayName("라우팅 - 읽기 전용 트랜잭션은 레플리카, 쓰기 트랜잭션은 프라이머리")
+    void route_ReadOnlyToReplica() {
+        // given
+        replicate(clock.get());
+
+        // when
+        String readOnlyTarget = answeredBy(true);
+        String writeTarget = answeredBy(false);
+
+        // then
+        assertEquals("replica", readOnlyTarget);
+        assertEquals("primary", writeTarget);
+    }
+
+    @Test
+    @DisplayName("라우팅 - 복제 지연이 크면 읽기도 프라이머리")
+    void route_ReplicaLagFallsBackToPrimary() {
+        // given
+        replicate(clock.get());
+        clock.addAndGet(Duration.ofSeconds(5).toMillis());
+
+        // when
+        String target = answeredBy(true);
+
+        // then
+        assertFalse(replicaLagMonitor.isReplicaUsable());
+        assertEquals("primary", target);
+    }
+
+    @Test
+    @DisplayName("라우팅 - 레플리카 하트비트를 읽지 못하면 프라이머리")
+    void route_MissingHeartbeatFallsBackToPrimary() {
+        // given
+        replicaJdbc.execute("drop table replica_heartbeat");
+        replicaLagMonitor.heartbeat();
+
+        // when
+        String target = answeredBy(true);
+
+        // then
+        assertEquals("primary", target);
+    }
+
+    @Test
+    @DisplayName("라우팅 - read-your-writes 토큰이 레플리카보다 새로우면 프라이머리")
+    void route_ReadYourWritesPinsToPrimary() {
+        // given
+        long replicatedAt = clock.get();
+        replicate(replicatedAt);
+        ReadYourWritesContext.require(replicatedAt + 100);
+
+        // when
+        String beforeCatchUp = answeredBy(true);
+        clock.addAndGet(200);
+        replicate(clock.get());
+        String afterCatchUp = answeredBy(true);
+
+        // then
+        assertEquals("primary", beforeCatchUp);
+        assertEquals("replica", afterCatchUp);
+    }
+
+    private void replicate(long beatAt) {
+        replicaJdbc.update("merge into replica_heartbeat key (id) values (1, ?)", beatAt);
+        replicaLagMonitor.heartbeat();
+    }
+
+    private String answeredBy(boolean readOnly) {
+        TransactionTemplate transactionTemplate = new TransactionTemplate(new DataSourceTransactionManager(dataSource));
+        transactionTemplate.setReadOnly(readOnly);
+        return transactionTemplate.execute(status ->
+                new JdbcTemplate(dataSource).queryForObject("select name from db_role", String.class));
+    }
+
+    private static DataSource database(String name, String role) {
+        DriverManagerDataSource dataSource =
+                new DriverManagerDataSource("jdbc:h2:mem:" + name + ";DB_CLOSE_DELAY=-1", "sa", "");
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.execute("create table db_role (name varchar(10))");
+        jdbcTemplate.update("insert into db_role (name) values (?)", role);
+        return dataSource;
+    }
+}
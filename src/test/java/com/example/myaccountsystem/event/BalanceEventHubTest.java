@@ -0,0 +1,195 @@
+package com.example.myaccountsystem.event;
+
+import com.example.myaccountsystem.config.BalanceStreamProperties;
+import com.example.myaccountsystem.type.TransactionType;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BalanceEventHubTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private final BalanceStreamProperties properties = new BalanceStreamProperties();
+
+    private BalanceEventHub hub;
+
+    @AfterEach
+    void tearDown() {
+        if (hub != null) {
+            hub.shutdown();
+        }
+    }
+
+    @Test
+    @DisplayName("잔액 스트림 - 같은 사용자의 모든 구독자에게만 전달")
+    void dispatch_FansOutToUserSubscribers() throws Exception {
+        // given
+        hub = new BalanceEventHub(properties, meterRegistry);
+        RecordingEmitter first = new RecordingEmitter(1);
+        RecordingEmitter second = new RecordingEmitter(1);
+        RecordingEmitter other = new RecordingEmitter(1);
+        hub.subscribe("user1", first);
+        hub.subscribe("user1", second);
+        hub.subscribe("user2", other);
+
+        // when
+        BalanceChangedEvent event = balanceChanged("user1", 1L);
+        hub.dispatch(event);
+
+        // then
+        assertTrue(first.received.await(5, TimeUnit.SECONDS));
+        assertTrue(second.received.await(5, TimeUnit.SECONDS));
+        assertEquals(List.of(event), first.events);
+        assertEquals(List.of(event), second.events);
+        assertTrue(other.events.isEmpty());
+        assertEquals(2, hub.subscriberCount("user1"));
+    }
+
+    @Test
+    @DisplayName("잔액 스트림 - 버퍼가 가득 차면 가장 오래된 이벤트를 버림")
+    void dispatch_DropsOldestWhenBufferFull() throws Exception {
+        // given
+        properties.setBufferSize(2);
+        properties.setDispatchThreads(1);
+        hub = new BalanceEventHub(properties, meterRegistry);
+        RecordingEmitter emitter = new RecordingEmitter(3);
+        emitter.block();
+        hub.subscribe("user1", emitter);
+
+        hub.dispatch(balanceChanged("user1", 1L));
+        assertTrue(emitter.sending.await(5, TimeUnit.SECONDS));
+
+        // when
+        for (long transactionId = 2; transactionId <= 4; transactionId++) {
+            hub.dispatch(balanceChanged("user1", transactionId));
+        }
+        emitter.unblock();
+
+        // then
+        assertTrue(emitter.received.await(5, TimeUnit.SECONDS));
+        assertEquals(List.of(1L, 3L, 4L), emitter.events.stream().map(BalanceChangedEvent::getTransactionId).toList());
+        assertEquals(1.0, meterRegistry.counter("account.balance-stream.dropped").count());
+    }
+
+    @Test
+    @DisplayName("잔액 스트림 - 완료·오류 콜백이 오면 구독 해제")
+    void subscribe_RemovedOnCompletionAndError() {
+        // given
+        hub = new BalanceEventHub(properties, meterRegistry);
+        RecordingEmitter completed = new RecordingEmitter(1);
+        RecordingEmitter failed = new RecordingEmitter(1);
+        hub.subscribe("user1", completed);
+        hub.subscribe("user1", failed);
+
+        // when
+        completed.completionCallback.run();
+        assertEquals(1, hub.subscriberCount("user1"));
+        failed.errorCallback.accept(new IOException("Broken pipe"));
+
+        // then
+        assertEquals(0, hub.subscriberCount("user1"));
+        assertEquals(0.0, meterRegistry.get("account.balance-stream.users").gauge().value());
+    }
+
+    @Test
+    @DisplayName("잔액 스트림 - 전송 실패한 구독자는 해제")
+    void dispatch_UnsubscribesOnSendFailure() {
+        // given
+        hub = new BalanceEventHub(properties, meterRegistry);
+        RecordingEmitter emitter = new RecordingEmitter(1);
+        emitter.failSends();
+        hub.subscribe("user1", emitter);
+
+        // when
+        hub.dispatch(balanceChanged("user1", 1L));
+
+        // then
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (hub.subscriberCount("user1") > 0 && System.nanoTime() < deadline) {
+            Thread.onSpinWait();
+        }
+        assertEquals(0, hub.subscriberCount("user1"));
+    }
+
+    private static BalanceChangedEvent balanceChanged(String userId, long transactionId) {
+        return BalanceChangedEvent.builder()
+                .userId(userId)
+                .accountNumber("1234567890")
+                .balance(9_000L)
+                .transactionType(TransactionType.USE)
+                .transactionId(transactionId)
+                .amount(1_000L)
+                .changedAt(LocalDateTime.now())
+                .build();
+    }
+
+    // 서블릿 응답 없이 보낸 이벤트와 등록된 콜백을 기록한다.
+    private static class RecordingEmitter extends SseEmitter {
+        private final List<BalanceChangedEvent> events = new CopyOnWriteArrayList<>();
+        private final CountDownLatch received;
+        private final CountDownLatch sending = new CountDownLatch(1);
+        private volatile CountDownLatch gate = new CountDownLatch(0);
+        private volatile boolean failing;
+        private Runnable completionCallback;
+        private Consumer<Throwable> errorCallback;
+
+        private RecordingEmitter(int expectedEvents) {
+            this.received = new CountDownLatch(expectedEvents);
+        }
+
+        private void block() {
+            gate = new CountDownLatch(1);
+        }
+
+        private void unblock() {
+            gate.countDown();
+        }
+
+        private void failSends() {
+            failing = true;
+        }
+
+        @Override
+        public void send(SseEventBuilder builder) throws IOException {
+            sending.countDown();
+            if (failing) {
+                throw new IOException("Broken pipe");
+            }
+            try {
+                gate.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IOException(e);
+            }
+            builder.build().stream()
+                    .map(DataWithMediaType::getData)
+                    .filter(BalanceChangedEvent.class::isInstance)
+                    .map(BalanceChangedEvent.class::cast)
+                    .forEach(events::add);
+            received.countDown();
+        }
+
+        @Override
+        public synchronized void onCompletion(Runnable callback) {
+            this.completionCallback = callback;
+        }
+
+        @Override
+        public synchronized void onError(Consumer<Throwable> callback) {
+            this.errorCallback = callback;
+        }
+    }
+}
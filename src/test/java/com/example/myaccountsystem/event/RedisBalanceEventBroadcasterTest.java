@@ -0,0 +1,116 @@
+package com.example.myaccountsystem.event;
+
+import com.example.myaccountsystem.config.BalanceStreamProperties;
+import com.example.myaccountsystem.type.TransactionType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class RedisBalanceEventBroadcasterTest {
+
+    @Mock
+    private StringRedisTemplate stringRedisTemplate;
+
+    @Mock
+    private BalanceEventHub balanceEventHub;
+
+    private final ObjectMapper objectMapper = JsonMapper.builder().findAndAddModules().build();
+
+    private RedisBalanceEventBroadcaster broadcaster;
+
+    @BeforeEach
+    void setUp() {
+        broadcaster = new RedisBalanceEventBroadcaster(
+                stringRedisTemplate, objectMapper, balanceEventHub, new BalanceStreamProperties()
+        );
+    }
+
+    @Test
+    @DisplayName("Redis 브리지 - 이벤트를 채널로 발행하고 직접 전달하지 않음")
+    void broadcast_PublishesToChannel() throws Exception {
+        // given
+        BalanceChangedEvent event = balanceChanged();
+
+        // when
+        broadcaster.broadcast(event);
+
+        // then
+        ArgumentCaptor<String> payload = ArgumentCaptor.forClass(String.class);
+        verify(stringRedisTemplate).convertAndSend(eq("balance-events"), payload.capture());
+        assertEquals(9_000L, objectMapper.readValue(payload.getValue(), BalanceChangedEvent.class).getBalance());
+        verifyNoInteractions(balanceEventHub);
+    }
+
+    @Test
+    @DisplayName("Redis 브리지 - 발행 실패 시 현재 노드 구독자에게 직접 전달")
+    void broadcast_FallsBackToLocalDispatch() {
+        // given
+        BalanceChangedEvent event = balanceChanged();
+        given(stringRedisTemplate.convertAndSend(anyString(), anyString()))
+                .willThrow(new RedisConnectionFailureException("Connection refused"));
+
+        // when
+        broadcaster.broadcast(event);
+
+        // then
+        verify(balanceEventHub).dispatch(event);
+    }
+
+    @Test
+    @DisplayName("Redis 브리지 - 채널에서 받은 이벤트를 허브로 전달")
+    void onMessage_DispatchesToHub() throws Exception {
+        // given
+        byte[] body = objectMapper.writeValueAsBytes(balanceChanged());
+
+        // when
+        broadcaster.onMessage(new DefaultMessage("balance-events".getBytes(StandardCharsets.UTF_8), body), null);
+
+        // then
+        ArgumentCaptor<BalanceChangedEvent> dispatched = ArgumentCaptor.forClass(BalanceChangedEvent.class);
+        verify(balanceEventHub).dispatch(dispatched.capture());
+        assertEquals("user1", dispatched.getValue().getUserId());
+        assertEquals(42L, dispatched.getValue().getTransactionId());
+    }
+
+    @Test
+    @DisplayName("Redis 브리지 - 읽을 수 없는 메시지는 버림")
+    void onMessage_IgnoresMalformedPayload() {
+        // when
+        broadcaster.onMessage(new DefaultMessage(
+                "balance-events".getBytes(StandardCharsets.UTF_8), "not-json".getBytes(StandardCharsets.UTF_8)
+        ), null);
+
+        // then
+        verify(balanceEventHub, never()).dispatch(any());
+    }
+
+    private static BalanceChangedEvent balanceChanged() {
+        return BalanceChangedEvent.builder()
+                .userId("user1")
+                .accountNumber("1234567890")
+                .balance(9_000L)
+                .transactionType(TransactionType.USE)
+                .transactionId(42L)
+                .amount(1_000L)
+                .changedAt(LocalDateTime.now())
+                .build();
+    }
+}
@@ -0,0 +1,241 @@
+package com.example.myaccountsystem.eventsourcing;
+
+import com.example.myaccountsystem.config.EventSourcingProperties;
+import com.example.myaccountsystem.config.LedgerProperties;
+import com.example.myaccountsystem.config.ShardingProperties;
+import com.example.myaccountsystem.entity.Account;
+import com.example.myaccountsystem.entity.BalanceSnapshot;
+import com.example.myaccountsystem.entity.Transaction;
+import com.example.myaccountsystem.repository.AccountBalanceEvent;
+import com.example.myaccountsystem.repository.BalanceEvent;
+import com.example.myaccountsystem.repository.BalanceSnapshotRepository;
+import com.example.myaccountsystem.repository.TransactionRepository;
+import com.example.myaccountsystem.sharding.ShardRouter;
+import com.example.myaccountsystem.type.TransactionType;
+import jakarta.persistence.EntityManager;
+import org.hibernate.Session;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+
+import java.sql.ResultSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willAnswer;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class EventSourcedBalancesTest {
+
+    @Mock
+    private BalanceSnapshotRepository balanceSnapshotRepository;
+
+    @Mock
+    private TransactionRepository transactionRepository;
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @Mock
+    private EntityManager entityManager;
+
+    @Mock
+    private Session session;
+
+    private EventSourcingProperties properties;
+    private EventSourcedBalances eventSourcedBalances;
+
+    @BeforeEach
+    void setUp() {
+        properties = new EventSourcingProperties();
+        properties.setEnabled(true);
+        properties.setSnapshotInterval(3);
+        eventSourcedBalances = newBalances(properties, new LedgerProperties());
+    }
+
+    @Test
+    @DisplayName("이벤트 소싱 - 스냅샷에 그 뒤 이벤트를 더해 잔액을 만들고 계좌 행은 읽기 전용으로 둔다")
+    void materialize_SnapshotPlusTail() {
+        // given
+        Account account = account(10_000L);
+        given(entityManager.unwrap(Session.class)).willReturn(session);
+        given(balanceSnapshotRepository.findById("1234567890")).willReturn(Optional.of(
+                BalanceSnapshot.builder().accountNumber("1234567890").balance(5_000L).eventSequence(6L).build()
+        ));
+        given(transactionRepository.findEventsAfter("1234567890", 6L)).willReturn(List.of(
+                new BalanceEvent(7L, TransactionType.USE, 1_000L, 4_000L),
+                new BalanceEvent(8L, TransactionType.CANCEL, 1_000L, 5_000L),
+                new BalanceEvent(9L, TransactionType.TRANSFER_IN, 500L, 5_500L)
+        ));
+
+        // when
+        eventSourcedBalances.materialize(account);
+
+        // then
+        assertEquals(5_500L, account.getBalance());
+        assertEquals(9L, account.getEventSequence());
+        verify(session, times(1)).setReadOnly(account, true);
+    }
+
+    @Test
+    @DisplayName("이벤트 소싱 - 스냅샷이 없으면 계좌 행의 잔액에서 시작")
+    void balanceOf_WithoutSnapshot() {
+        // given
+        given(balanceSnapshotRepository.findById("1234567890")).willReturn(Optional.empty());
+        given(transactionRepository.findEventsAfter("1234567890", 0L)).willReturn(List.of(
+                new BalanceEvent(1L, TransactionType.TRANSFER_OUT, 300L, 9_700L)
+        ));
+
+        // when
+        long balance = eventSourcedBalances.balanceOf(account(10_000L));
+
+        // then
+        assertEquals(9_700L, balance);
+    }
+
+    @Test
+    @DisplayName("이벤트 소싱 - 여러 계좌의 잔액을 스냅샷 조회와 이벤트 조회 한 번씩으로 계산")
+    void balancesOf_OneQueryEach() {
+        // given
+        Account withSnapshot = account(10_000L);
+        Account withoutSnapshot = Account.builder().accountNumber("0987654321").balance(2_000L).build();
+        given(transactionRepository.findEventsAfterSnapshots(List.of("1234567890", "0987654321"))).willReturn(List.of(
+                new AccountBalanceEvent("0987654321", 1L, TransactionType.USE, 500L, 1_500L),
+                new AccountBalanceEvent("1234567890", 6L, TransactionType.USE, 1_000L, 5_000L),
+                new AccountBalanceEvent("1234567890", 7L, TransactionType.TRANSFER_IN, 300L, 5_300L)
+        ));
+        // 이벤트를 읽은 뒤 6번까지 담은 스냅샷이 새로 찍힌 경우
+        given(balanceSnapshotRepository.findAllById(List.of("1234567890", "0987654321"))).willReturn(List.of(
+                BalanceSnapshot.builder().accountNumber("1234567890").balance(5_000L).eventSequence(6L).build()
+        ));
+
+        // when
+        Map<String, Long> balances = eventSourcedBalances.balancesOf(List.of(withSnapshot, withoutSnapshot));
+
+        // then
+        assertEquals(Map.of("1234567890", 5_300L, "0987654321", 1_500L), balances);
+        verify(balanceSnapshotRepository, never()).findById(any());
+        verify(transactionRepository, never()).findEventsAfter(any(), any());
+    }
+
+    @Test
+    @DisplayName("이벤트 소싱 - 다시 계산한 잔액이 이벤트의 반영 후 잔액과 다르면 이벤트 쪽을 따라 이어 계산")
+    void balanceOf_MismatchFollowsEventSnapshot() {
+        // given
+        given(balanceSnapshotRepository.findById("1234567890")).willReturn(Optional.empty());
+        given(transactionRepository.findEventsAfter("1234567890", 0L)).willReturn(List.of(
+                new BalanceEvent(1L, TransactionType.USE, 1_000L, 8_500L),
+                new BalanceEvent(2L, TransactionType.CANCEL, 1_000L, 9_500L),
+                new BalanceEvent(3L, TransactionType.USE, 200L, null)
+        ));
+
+        // when
+        long balance = eventSourcedBalances.balanceOf(account(10_000L));
+
+        // then
+        assertEquals(9_300L, balance);
+    }
+
+    @Test
+    @DisplayName("이벤트 소싱 - 기동 시 불일치가 있으면 이벤트 쪽 잔액으로 스냅샷을 남김")
+    void recovery_MismatchSnapshotsEventBalance() throws Exception {
+        // given
+        ResultSet resultSet = mock(ResultSet.class);
+        given(resultSet.getString("account_number")).willReturn("1234567890");
+        given(resultSet.getLong("balance")).willReturn(10_000L);
+        willAnswer(invocation -> {
+            RowCallbackHandler handler = invocation.getArgument(1);
+            handler.processRow(resultSet);
+            return null;
+        }).given(jdbcTemplate).query(anyString(), any(RowCallbackHandler.class));
+        given(balanceSnapshotRepository.findById("1234567890")).willReturn(Optional.empty());
+        given(transactionRepository.findEventsAfter("1234567890", 0L)).willReturn(List.of(
+                new BalanceEvent(1L, TransactionType.USE, 1_000L, 8_500L)
+        ));
+        ArgumentCaptor<BalanceSnapshot> snapshotCaptor = ArgumentCaptor.forClass(BalanceSnapshot.class);
+
+        // when
+        eventSourcedBalances.afterSingletonsInstantiated();
+
+        // then
+        verify(balanceSnapshotRepository).save(snapshotCaptor.capture());
+        assertEquals(8_500L, snapshotCaptor.getValue().getBalance());
+        assertEquals(1L, snapshotCaptor.getValue().getEventSequence());
+    }
+
+    @Test
+    @DisplayName("이벤트 소싱 - 순번이 간격의 배수일 때만 스냅샷을 남김")
+    void appended_SnapshotsEveryInterval() {
+        // given
+        Account account = account(10_000L);
+        account.setEventSequence(2L);
+        given(balanceSnapshotRepository.findById("1234567890")).willReturn(Optional.empty());
+        ArgumentCaptor<BalanceSnapshot> snapshotCaptor = ArgumentCaptor.forClass(BalanceSnapshot.class);
+
+        // when
+        Long third = eventSourcedBalances.nextSequence(account);
+        eventSourcedBalances.appended(event(account, third, 9_000L));
+        Long fourth = eventSourcedBalances.nextSequence(account);
+        eventSourcedBalances.appended(event(account, fourth, 8_000L));
+
+        // then
+        assertEquals(3L, third);
+        assertEquals(4L, fourth);
+        verify(balanceSnapshotRepository, times(1)).save(snapshotCaptor.capture());
+        assertEquals(9_000L, snapshotCaptor.getValue().getBalance());
+        assertEquals(3L, snapshotCaptor.getValue().getEventSequence());
+    }
+
+    @Test
+    @DisplayName("이벤트 소싱 - 꺼져 있으면 순번을 매기지 않고, 파일 원장과는 함께 켤 수 없음")
+    void disabledAndMappedBackend() {
+        // given
+        EventSourcedBalances disabled = newBalances(new EventSourcingProperties(), new LedgerProperties());
+        Account account = account(10_000L);
+        LedgerProperties mapped = new LedgerProperties();
+        mapped.setBackend("mapped");
+
+        // when
+        disabled.materialize(account);
+
+        // then
+        assertNull(disabled.nextSequence(account));
+        assertEquals(10_000L, account.getBalance());
+        verify(balanceSnapshotRepository, never()).findById(any());
+        assertThrows(IllegalStateException.class, () -> newBalances(properties, mapped));
+    }
+
+    private EventSourcedBalances newBalances(EventSourcingProperties properties, LedgerProperties ledgerProperties) {
+        return new EventSourcedBalances(
+                properties, ledgerProperties, balanceSnapshotRepository, transactionRepository,
+                jdbcTemplate, new ShardRouter(new ShardingProperties()), entityManager
+        );
+    }
+
+    private static Account account(long balance) {
+        return Account.builder()
+                .accountNumber("1234567890")
+                .balance(balance)
+                .build();
+    }
+
+    private static Transaction event(Account account, Long eventSequence, long balanceSnapshot) {
+        return Transaction.builder()
+                .account(account)
+                .eventSequence(eventSequence)
+                .balanceSnapshot(balanceSnapshot)
+                .build();
+    }
+}
@@ -0,0 +1,65 @@
+package com.example.myaccountsystem.exception;
+
+import com.example.myaccountsystem.dto.ErrorResponse;
+import com.example.myaccountsystem.type.ErrorCode;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class GlobalExceptionHandlerTest {
+
+    @AfterEach
+    void tearDown() {
+        AccountException.setStackTraceEnabled(false);
+    }
+
+    @Test
+    @DisplayName("업무 예외 처리 - 에러 코드별 응답 재사용")
+    void handleAccountException_ReusesResponse() {
+        // given
+        GlobalExceptionHandler handler = new GlobalExceptionHandler(false, 100);
+
+        // when
+        ResponseEntity<ErrorResponse> first =
+                handler.handleAccountException(new AccountException(ErrorCode.AMOUNT_EXCEED_BALANCE));
+        ResponseEntity<ErrorResponse> second =
+                handler.handleAccountException(new AccountException(ErrorCode.AMOUNT_EXCEED_BALANCE));
+
+        // then
+        assertSame(first, second);
+        assertEquals(HttpStatus.BAD_REQUEST, first.getStatusCode());
+        assertEquals("AMOUNT_EXCEED_BALANCE", first.getBody().getErrorCode());
+        assertEquals(ErrorCode.AMOUNT_EXCEED_BALANCE.getDescription(), first.getBody().getErrorMessage());
+    }
+
+    @Test
+    @DisplayName("업무 예외 - 기본적으로 스택 트레이스 미수집")
+    void accountException_StacklessByDefault() {
+        // given
+        new GlobalExceptionHandler(false, 100);
+
+        // when
+        AccountException exception = new AccountException(ErrorCode.ACCOUNT_TRANSACTION_LOCK);
+
+        // then
+        assertEquals(0, exception.getStackTrace().length);
+        assertEquals(ErrorCode.ACCOUNT_TRANSACTION_LOCK.getDescription(), exception.getMessage());
+    }
+
+    @Test
+    @DisplayName("업무 예외 - 디버그 모드에서 스택 트레이스 수집")
+    void accountException_StackTraceWhenEnabled() {
+        // given
+        new GlobalExceptionHandler(true, 100);
+
+        // when
+        AccountException exception = new AccountException(ErrorCode.ACCOUNT_TRANSACTION_LOCK);
+
+        // then
+        assertTrue(exception.getStackTrace().length > 0);
+    }
+}
@@ -0,0 +1,202 @@
+package com.example.myaccountsystem.ledger;
+
+import com.example.myaccountsystem.archive.TransactionRecord;
+import com.example.myaccountsystem.type.TransactionResultType;
+import com.example.myaccountsystem.type.TransactionType;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MappedLedgerTest {
+
+    // 세그먼트 하나에 레코드 4건
+    private static final long SEGMENT_BYTES = 4L * MappedLedger.RECORD_BYTES;
+    private static final LocalDateTime START = LocalDateTime.of(2024, 3, 1, 9, 0, 0, 123_456_000);
+
+    @TempDir
+    Path directory;
+
+    private MappedLedger ledger;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        ledger = MappedLedger.open(directory, SEGMENT_BYTES);
+    }
+
+    @AfterEach
+    void tearDown() {
+        ledger.close();
+    }
+
+    @Test
+    @DisplayName("원장 - ID 로 조회하면 저장한 레코드를 그대로 돌려줌")
+    void findById_ReturnsAppendedRecord() {
+        // given
+        TransactionRecord transferOut = new TransactionRecord(
+                7L, "1000000000", TransactionType.TRANSFER_OUT, TransactionResultType.SUCCESS,
+                3000L, 7000L, START, 8L, null, null
+        );
+        ledger.append(record(1L, "2000000000", 0));
+        ledger.append(transferOut);
+
+        // when & then
+        assertEquals(transferOut, ledger.findById(7L).orElseThrow());
+        assertTrue(ledger.findById(99L).isEmpty());
+    }
+
+    @Test
+    @DisplayName("원장 - 계좌 체인을 따라 기간 내 거래를 최신순으로 조회")
+    void history_WalksAccountChain() {
+        // given
+        for (int i = 0; i < 10; i++) {
+            ledger.append(record(i + 1, i % 2 == 0 ? "1000000000" : "2000000000", i));
+        }
+
+        // when
+        List<TransactionRecord> history = ledger.history(
+                "1000000000", START.plusMinutes(2), START.plusMinutes(8), 10
+        );
+        List<TransactionRecord> limited = ledger.history(
+                "1000000000", START, START.plusMinutes(10), 2
+        );
+
+        // then
+        assertEquals(List.of(9L, 7L, 5L, 3L), history.stream().map(TransactionRecord::transactionId).toList());
+        assertEquals(List.of(9L, 7L), limited.stream().map(TransactionRecord::transactionId).toList());
+        assertEquals(3, ledger.segmentCount());
+    }
+
+    @Test
+    @DisplayName("원장 - 취소 링크는 한 번만 기록되고 롤백 시 되돌림")
+    void markCanceled_OnlyOnce() {
+        // given
+        ledger.append(record(1L, "1000000000", 0));
+
+        // when & then
+        assertEquals(1, ledger.markCanceled(1L, 2L));
+        assertEquals(0, ledger.markCanceled(1L, 3L));
+        assertEquals(2L, ledger.findById(1L).orElseThrow().cancelTransactionId());
+
+        ledger.clearCancel(1L, 2L);
+        assertNull(ledger.findById(1L).orElseThrow().cancelTransactionId());
+        assertEquals(1, ledger.markCanceled(1L, 3L));
+    }
+
+    @Test
+    @DisplayName("원장 - 무효 처리된 레코드는 조회에서 제외")
+    void voidRecord_HidesRecord() {
+        // given
+        ledger.append(record(1L, "1000000000", 0));
+        ledger.append(record(2L, "1000000000", 1));
+
+        // when
+        ledger.voidRecord(2L);
+
+        // then
+        assertTrue(ledger.findById(2L).isEmpty());
+        assertEquals(0, ledger.markCanceled(2L, 3L));
+        assertEquals(
+                List.of(1L),
+                ledger.history("1000000000", START, START.plusMinutes(1), 10).stream()
+                        .map(TransactionRecord::transactionId)
+                        .toList()
+        );
+    }
+
+    @Test
+    @DisplayName("원장 - 다시 열면 세그먼트를 훑어 인덱스와 계좌 체인을 복원")
+    void open_RecoversIndex() throws IOException {
+        // given
+        for (int i = 0; i < 6; i++) {
+            ledger.append(record(i + 1, "1000000000", i));
+        }
+        ledger.voidRecord(6L);
+        ledger.markCanceled(2L, 5L);
+        ledger.close();
+
+        // when
+        ledger = MappedLedger.open(directory, 1024 * SEGMENT_BYTES);
+        ledger.append(record(7L, "1000000000", 7));
+
+        // then
+        assertEquals(7, ledger.size());
+        assertEquals(2, ledger.segmentCount());
+        assertEquals(5L, ledger.findById(2L).orElseThrow().cancelTransactionId());
+        assertTrue(ledger.findById(6L).isEmpty());
+        assertEquals(
+                List.of(7L, 5L, 4L, 3L, 2L, 1L),
+                ledger.history("1000000000", START, START.plusMinutes(10), 10).stream()
+                        .map(TransactionRecord::transactionId)
+                        .toList()
+        );
+    }
+
+    @Test
+    @DisplayName("원장 - 대기 레코드는 커밋하기 전까지 조회되지 않음")
+    void appendPending_HiddenUntilCommit() {
+        // given
+        ledger.append(record(1L, "1000000000", 0));
+        ledger.markCanceled(1L, 2L);
+        ledger.appendPending(record(2L, "1000000000", 1));
+
+        // when & then
+        assertTrue(ledger.findById(2L).isEmpty());
+        assertNull(ledger.findById(1L).orElseThrow().cancelTransactionId());
+        assertEquals(0, ledger.markCanceled(2L, 3L));
+        assertEquals(1, ledger.history("1000000000", START, START.plusMinutes(10), 10).size());
+        assertEquals(List.of(2L), ledger.pendingIds());
+
+        ledger.commit(2L);
+        assertEquals(2L, ledger.findById(2L).orElseThrow().transactionId());
+        assertEquals(2L, ledger.findById(1L).orElseThrow().cancelTransactionId());
+        assertTrue(ledger.pendingIds().isEmpty());
+    }
+
+    @Test
+    @DisplayName("원장 - 커밋 전에 멈춘 대기 레코드는 다시 열어도 숨긴 채 대기 목록에 남음")
+    void open_KeepsPendingHidden() throws IOException {
+        // given
+        ledger.append(record(1L, "1000000000", 0));
+        ledger.appendPending(record(2L, "1000000000", 1));
+        ledger.appendPending(record(3L, "1000000000", 2));
+        ledger.voidRecord(3L);
+        ledger.close();
+
+        // when
+        ledger = MappedLedger.open(directory, SEGMENT_BYTES);
+
+        // then
+        assertEquals(List.of(2L), ledger.pendingIds());
+        assertTrue(ledger.findById(2L).isEmpty());
+        assertEquals(2L, ledger.findPending(2L).orElseThrow().transactionId());
+        assertEquals(3L, ledger.nextInAccount(2L).orElseThrow().transactionId());
+        assertTrue(ledger.nextInAccount(3L).isEmpty());
+    }
+
+    @Test
+    @DisplayName("원장 - 같은 ID 는 두 번 쓸 수 없음")
+    void append_RejectsDuplicateId() {
+        // given
+        ledger.append(record(1L, "1000000000", 0));
+
+        // when & then
+        assertThrows(IllegalStateException.class, () -> ledger.append(record(1L, "1000000000", 1)));
+        assertEquals(1, ledger.size());
+    }
+
+    private static TransactionRecord record(long transactionId, String accountNumber, int minute) {
+        return new TransactionRecord(
+                transactionId, accountNumber, TransactionType.USE, TransactionResultType.SUCCESS,
+                1000L, 50_000L - transactionId, START.plusMinutes(minute), null, null, null
+        );
+    }
+}
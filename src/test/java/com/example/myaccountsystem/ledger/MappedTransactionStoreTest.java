@@ -0,0 +1,198 @@
+package com.example.myaccountsystem.ledger;
+
+import com.example.myaccountsystem.config.LedgerProperties;
+import com.example.myaccountsystem.config.ShardingProperties;
+import com.example.myaccountsystem.entity.Account;
+import com.example.myaccountsystem.entity.Transaction;
+import com.example.myaccountsystem.repository.AccountRepository;
+import com.example.myaccountsystem.repository.TransactionRepository;
+import com.example.myaccountsystem.sharding.ShardRouter;
+import com.example.myaccountsystem.type.TransactionResultType;
+import com.example.myaccountsystem.type.TransactionType;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.util.unit.DataSize;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.BDDMockito.given;
+
+@ExtendWith(MockitoExtension.class)
+class MappedTransactionStoreTest {
+
+    private static final String ACCOUNT_NUMBER = "1000000000";
+
+    @TempDir
+    Path directory;
+
+    @Mock
+    private TransactionRepository transactionRepository;
+
+    @Mock
+    private AccountRepository accountRepository;
+
+    private MappedTransactionStore store;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        store = open();
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+        store.close();
+    }
+
+    @Test
+    @DisplayName("원장 저장소 - 트랜잭션 안에서 쓴 거래는 커밋된 뒤에만 조회됨")
+    void save_VisibleOnlyAfterCommit() {
+        // given
+        TransactionSynchronizationManager.initSynchronization();
+        store.save(transaction(1L, 9_000L));
+
+        // when
+        Optional<Transaction> beforeCommit = store.findByTransactionId(1L);
+        complete(TransactionSynchronization.STATUS_COMMITTED);
+
+        // then
+        assertTrue(beforeCommit.isEmpty());
+        assertEquals(9_000L, store.findByTransactionId(1L).orElseThrow().getBalanceSnapshot());
+    }
+
+    @Test
+    @DisplayName("원장 저장소 - 롤백된 거래와 취소 링크는 끝내 조회되지 않음")
+    void save_RolledBackNeverVisible() {
+        // given
+        store.save(transaction(1L, 9_000L));
+        TransactionSynchronizationManager.initSynchronization();
+        store.save(cancel(2L, 10_000L));
+        store.markCanceled(1L, 2L);
+
+        // when
+        complete(TransactionSynchronization.STATUS_ROLLED_BACK);
+
+        // then
+        assertTrue(store.findByTransactionId(2L).isEmpty());
+        assertNull(store.findCancelTarget(1L).orElseThrow().cancelTransactionId());
+        assertEquals(1, store.markCanceled(1L, 3L));
+    }
+
+    @Test
+    @DisplayName("원장 저장소 - 커밋 전에 멈춘 거래는 재시작 후 DB 잔액과 맞춰 무효 처리")
+    void reconcile_CrashBeforeCommitVoidsRecord() throws IOException {
+        // given
+        store.save(transaction(1L, 9_000L));
+        TransactionSynchronizationManager.initSynchronization();
+        store.save(transaction(2L, 8_000L));
+        crash();
+        given(accountRepository.findById(ACCOUNT_NUMBER)).willReturn(Optional.of(account(9_000L)));
+
+        // when
+        Optional<Transaction> beforeReconcile = store.findByTransactionId(2L);
+        store.reconcilePending();
+
+        // then
+        assertTrue(beforeReconcile.isEmpty());
+        assertTrue(store.findByTransactionId(2L).isEmpty());
+        assertEquals(9_000L, store.findByTransactionId(1L).orElseThrow().getBalanceSnapshot());
+    }
+
+    @Test
+    @DisplayName("원장 저장소 - DB 커밋 뒤 드러내기 전에 멈춘 거래는 재시작 후 커밋으로 복구")
+    void reconcile_CrashAfterCommitRestoresRecord() throws IOException {
+        // given
+        TransactionSynchronizationManager.initSynchronization();
+        store.save(transaction(1L, 9_000L));
+        crash();
+        given(accountRepository.findById(ACCOUNT_NUMBER)).willReturn(Optional.of(account(9_000L)));
+
+        // when
+        store.reconcilePending();
+
+        // then
+        assertEquals(9_000L, store.findByTransactionId(1L).orElseThrow().getBalanceSnapshot());
+    }
+
+    @Test
+    @DisplayName("원장 저장소 - 커밋 여부를 모르면 숨긴 채 두었다가 다음 거래가 읽은 잔액으로 판단")
+    void reconcile_UnknownOutcomeUsesNextRecord() {
+        // given
+        TransactionSynchronizationManager.initSynchronization();
+        store.save(transaction(1L, 9_000L));
+        complete(TransactionSynchronization.STATUS_UNKNOWN);
+        store.save(transaction(2L, 8_000L));
+
+        // when
+        Optional<Transaction> beforeReconcile = store.findByTransactionId(1L);
+        store.reconcilePending();
+
+        // then
+        assertTrue(beforeReconcile.isEmpty());
+        assertEquals(9_000L, store.findByTransactionId(1L).orElseThrow().getBalanceSnapshot());
+    }
+
+    private void complete(int status) {
+        List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+        TransactionSynchronizationManager.clearSynchronization();
+        if (status == TransactionSynchronization.STATUS_COMMITTED) {
+            synchronizations.forEach(TransactionSynchronization::afterCommit);
+        }
+        synchronizations.forEach(synchronization -> synchronization.afterCompletion(status));
+    }
+
+    // 트랜잭션 완료 콜백 없이 프로세스가 멈춘 상황
+    private void crash() throws IOException {
+        TransactionSynchronizationManager.clearSynchronization();
+        store.close();
+        store = open();
+    }
+
+    private MappedTransactionStore open() throws IOException {
+        LedgerProperties properties = new LedgerProperties();
+        properties.setDirectory(directory.toString());
+        properties.setSegmentSize(DataSize.ofKilobytes(64));
+        return new MappedTransactionStore(
+                properties, transactionRepository, accountRepository, new ShardRouter(new ShardingProperties())
+        );
+    }
+
+    private static Transaction transaction(long transactionId, long balanceSnapshot) {
+        return record(transactionId, TransactionType.USE, balanceSnapshot);
+    }
+
+    private static Transaction cancel(long transactionId, long balanceSnapshot) {
+        return record(transactionId, TransactionType.CANCEL, balanceSnapshot);
+    }
+
+    private static Transaction record(long transactionId, TransactionType transactionType, long balanceSnapshot) {
+        return Transaction.builder()
+                .transactionId(transactionId)
+                .account(Account.builder().accountNumber(ACCOUNT_NUMBER).build())
+                .transactionType(transactionType)
+                .transactionResultType(TransactionResultType.SUCCESS)
+                .amount(1_000L)
+                .balanceSnapshot(balanceSnapshot)
+                .transactedAt(LocalDateTime.of(2024, 3, 1, 9, 0).plusMinutes(transactionId))
+                .build();
+    }
+
+    private static Account account(long balance) {
+        return Account.builder().accountNumber(ACCOUNT_NUMBER).balance(balance).build();
+    }
+}
@@ -0,0 +1,67 @@
+package com.example.myaccountsystem.monitoring;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class HeavyHitterSketchTest {
+
+    @Test
+    @DisplayName("상위 계좌 추적 - 빈번한 키만 고정 개수로 유지")
+    void top_TracksHeavyHittersWithinCapacity() {
+        // given
+        HeavyHitterSketch sketch = new HeavyHitterSketch(1024, 4, 5);
+
+        // when
+        for (int round = 0; round < 100; round++) {
+            sketch.add("hot-1");
+            if (round % 2 == 0) {
+                sketch.add("hot-2");
+            }
+            for (int i = 0; i < 20; i++) {
+                sketch.add("cold-" + (round * 20 + i));
+            }
+        }
+
+        // then
+        List<HeavyHitterSketch.HotKey> top = sketch.top(2);
+        assertEquals(2, top.size());
+        assertEquals("hot-1", top.get(0).key());
+        assertEquals("hot-2", top.get(1).key());
+        assertTrue(top.get(0).estimatedCount() >= 100);
+        assertTrue(top.get(1).estimatedCount() >= 50);
+        assertTrue(sketch.top(100).size() <= 5);
+    }
+
+    @Test
+    @DisplayName("상위 계좌 추적 - 음수 개수를 요청하면 빈 목록")
+    void top_NegativeLimitReturnsEmpty() {
+        // given
+        HeavyHitterSketch sketch = new HeavyHitterSketch(1024, 4, 5);
+        sketch.add("1234567890");
+
+        // when & then
+        assertEquals(List.of(), sketch.top(-1));
+    }
+
+    @Test
+    @DisplayName("상위 계좌 추적 - decay 로 오래된 빈도 감소")
+    void decay_ReducesOldCounts() {
+        // given
+        HeavyHitterSketch sketch = new HeavyHitterSketch(1024, 4, 5);
+        for (int i = 0; i < 8; i++) {
+            sketch.add("1234567890");
+        }
+        sketch.add("9999999999");
+
+        // when
+        sketch.decay(0.5);
+
+        // then
+        assertEquals(4, sketch.estimate("1234567890"));
+        assertEquals(List.of(new HeavyHitterSketch.HotKey("1234567890", 4)), sketch.top(10));
+    }
+}
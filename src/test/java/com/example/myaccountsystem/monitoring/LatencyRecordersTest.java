@@ -0,0 +1,94 @@
+package com.example.myaccountsystem.monitoring;
+
+import com.example.myaccountsystem.config.LatencyProperties;
+import org.HdrHistogram.EncodableHistogram;
+import org.HdrHistogram.HistogramLogReader;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LatencyRecordersTest {
+
+    @Test
+    @DisplayName("지연시간 백분위 - 윈도우별 집계")
+    void snapshot_AggregatesWindows() {
+        // given
+        LatencyProperties properties = new LatencyProperties();
+        properties.setIntervalMs(1_000);
+        properties.setWindows(List.of(Duration.ofSeconds(1), Duration.ofSeconds(3)));
+        LatencyRecorders latencyRecorders = new LatencyRecorders(properties);
+        OperationLatency latency = latencyRecorders.operation("service.use");
+
+        for (int i = 1; i <= 100; i++) {
+            latency.recordNanos(TimeUnit.MILLISECONDS.toNanos(i));
+        }
+        latencyRecorders.rollover();
+        latency.recordNanos(TimeUnit.MILLISECONDS.toNanos(500));
+        latencyRecorders.rollover();
+
+        // when
+        Map<String, OperationLatency.WindowSnapshot> windows = latencyRecorders.snapshot("service.use");
+
+        // then
+        assertEquals(1, windows.get("1s").count());
+        assertEquals(500_000, windows.get("1s").max(), 500);
+        assertEquals(101, windows.get("3s").count());
+        assertEquals(51_000, windows.get("3s").p50(), 100);
+        assertEquals(500_000, windows.get("3s").max(), 500);
+        assertNull(latencyRecorders.snapshot("service.unknown"));
+    }
+
+    @Test
+    @DisplayName("지연시간 백분위 - 범위를 넘는 값은 최대값으로 기록")
+    void recordNanos_ClampsToHighestTrackableValue() {
+        // given
+        LatencyProperties properties = new LatencyProperties();
+        properties.setHighestTrackableValue(Duration.ofSeconds(1));
+        LatencyRecorders latencyRecorders = new LatencyRecorders(properties);
+        OperationLatency latency = latencyRecorders.operation("lock.acquire");
+
+        // when
+        latency.recordNanos(TimeUnit.SECONDS.toNanos(30));
+        latency.recordNanos(-1);
+        latencyRecorders.rollover();
+
+        // then
+        OperationLatency.WindowSnapshot window = latencyRecorders.snapshot("lock.acquire").get("1m");
+        assertEquals(2, window.count());
+        assertEquals(1_000_000, window.max(), 1_000);
+    }
+
+    @Test
+    @DisplayName("지연시간 백분위 - HDR 로그 파일 기록")
+    void rollover_WritesHdrLog() throws Exception {
+        // given
+        Path logFile = Files.createTempFile("latency", ".hlog");
+        LatencyProperties properties = new LatencyProperties();
+        properties.setLogFile(logFile.toString());
+        LatencyRecorders latencyRecorders = new LatencyRecorders(properties);
+        latencyRecorders.openLog();
+        latencyRecorders.operation("service.save").recordNanos(TimeUnit.MILLISECONDS.toNanos(3));
+
+        // when
+        latencyRecorders.rollover();
+        latencyRecorders.closeLog();
+
+        // then
+        HistogramLogReader reader = new HistogramLogReader(logFile.toFile());
+        EncodableHistogram histogram = reader.nextIntervalHistogram();
+        reader.close();
+        Files.deleteIfExists(logFile);
+
+        assertNotNull(histogram);
+        assertEquals("service.save", histogram.getTag());
+        assertEquals(3_000, histogram.getMaxValueAsDouble(), 10);
+    }
+}
@@ -0,0 +1,93 @@
+package com.example.myaccountsystem.monitoring;
+
+import com.example.myaccountsystem.config.SlowQueryProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import net.ttddyy.dsproxy.proxy.ParameterSetOperation;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import java.sql.PreparedStatement;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SlowQueryLogTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Test
+    @DisplayName("느린 쿼리 기록 - 임계값 판단과 문장별 통계")
+    void record_AggregatesPerStatement() {
+        // given
+        SlowQueryProperties properties = new SlowQueryProperties();
+        SlowQueryLog slowQueryLog = new SlowQueryLog(properties, meterRegistry);
+        String lockSql = "select * from account where account_number=? for update";
+        String listSql = "select * from transaction where account_account_number=?";
+
+        // when
+        slowQueryLog.record(new SlowQueryLog.SlowQuery(
+                SlowQueryLog.Kind.LOCK_WAIT, lockSql, 80, 1, 1, "TransactionService.useBalance"));
+        slowQueryLog.record(new SlowQueryLog.SlowQuery(
+                SlowQueryLog.Kind.LOCK_WAIT, lockSql, 300, 1, 1, "TransactionService.cancelBalance"));
+        slowQueryLog.record(new SlowQueryLog.SlowQuery(
+                SlowQueryLog.Kind.QUERY, listSql, 250, 1, 1, "AccountService.getAccountsByUserId"));
+
+        // then
+        assertTrue(slowQueryLog.isSlow(SlowQueryLog.Kind.LOCK_WAIT, 50));
+        assertFalse(slowQueryLog.isSlow(SlowQueryLog.Kind.QUERY, 50));
+
+        List<SlowQueryLog.StatementSnapshot> slowest = slowQueryLog.slowest(10);
+        assertEquals(2, slowest.size());
+        assertEquals(lockSql, slowest.get(0).sql());
+        assertEquals(2, slowest.get(0).count());
+        assertEquals(380, slowest.get(0).totalMs());
+        assertEquals(300, slowest.get(0).maxMs());
+        assertEquals("TransactionService.cancelBalance", slowest.get(0).lastCaller());
+        assertEquals(2.0, meterRegistry.get("account.db.slow-query").tag("kind", "lock_wait").counter().count());
+        assertEquals(1.0, meterRegistry.get("account.db.slow-query").tag("kind", "query").counter().count());
+    }
+
+    @Test
+    @DisplayName("느린 쿼리 기록 - 추적 문장 수 제한")
+    void record_LimitsTrackedStatements() {
+        // given
+        SlowQueryProperties properties = new SlowQueryProperties();
+        properties.setMaxStatements(1);
+        SlowQueryLog slowQueryLog = new SlowQueryLog(properties, meterRegistry);
+
+        // when
+        slowQueryLog.record(new SlowQueryLog.SlowQuery(SlowQueryLog.Kind.QUERY, "select 1", 300, 0, 1, "unknown"));
+        slowQueryLog.record(new SlowQueryLog.SlowQuery(SlowQueryLog.Kind.QUERY, "select 2", 300, 0, 1, "unknown"));
+
+        // then
+        assertEquals(1, slowQueryLog.slowest(10).size());
+        assertEquals(1.0, meterRegistry.get("account.db.slow-query.untracked").counter().count());
+    }
+
+    @Test
+    @DisplayName("느린 쿼리 기록 - 바인드 값으로 EXPLAIN 실행")
+    void explain_CapturesPlan() throws Exception {
+        // given
+        DriverManagerDataSource dataSource = new DriverManagerDataSource("jdbc:h2:mem:slow-query-log", "sa", "");
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.execute("create table if not exists account (account_number varchar(10) primary key, balance bigint)");
+        SlowQueryLog slowQueryLog = new SlowQueryLog(new SlowQueryProperties(), meterRegistry);
+        ParameterSetOperation parameter = new ParameterSetOperation(
+                PreparedStatement.class.getMethod("setString", int.class, String.class),
+                new Object[]{1, "1234567890"}
+        );
+
+        // when
+        String plan = slowQueryLog.explain(
+                dataSource,
+                "select balance from account where account_number = ?",
+                List.of(parameter)
+        );
+
+        // then
+        assertTrue(plan.toUpperCase().contains("ACCOUNT"));
+        slowQueryLog.stop();
+    }
+}
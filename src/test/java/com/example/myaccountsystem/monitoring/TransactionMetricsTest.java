@@ -0,0 +1,123 @@
+package com.example.myaccountsystem.monitoring;
+
+import com.example.myaccountsystem.config.LatencyProperties;
+import com.example.myaccountsystem.type.ErrorCode;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TransactionMetricsTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private final TransactionMetrics transactionMetrics = new TransactionMetrics(
+            meterRegistry,
+            new LatencyRecorders(new LatencyProperties())
+    );
+
+    @Test
+    @DisplayName("거래 지표 - 결과별 카운터")
+    void serviceCall_CountsOutcomes() {
+        // when
+        transactionMetrics.startCall("use", "1234567890").success();
+        transactionMetrics.startCall("use", "1234567890").failure(ErrorCode.AMOUNT_EXCEED_BALANCE);
+
+        // then
+        assertEquals(1.0, meterRegistry.get("account.transaction.outcomes")
+                .tags("operation", "use", "outcome", "SUCCESS").counter().count());
+        assertEquals(1.0, meterRegistry.get("account.transaction.outcomes")
+                .tags("operation", "use", "outcome", "AMOUNT_EXCEED_BALANCE").counter().count());
+    }
+
+    @Test
+    @DisplayName("거래 지표 - 트랜잭션 안의 성공은 커밋 결과에 따라 기록")
+    void serviceCall_SuccessRecordedAfterCompletion() {
+        // given
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            transactionMetrics.startCall("use", "1234567890").success();
+            transactionMetrics.startCall("cancel", "1234567890").success();
+            List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+            assertNull(meterRegistry.find("account.transaction.outcomes").counter());
+
+            // when
+            synchronizations.get(0).afterCompletion(TransactionSynchronization.STATUS_COMMITTED);
+            synchronizations.get(1).afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK);
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        // then
+        assertEquals(1.0, meterRegistry.get("account.transaction.outcomes")
+                .tags("operation", "use", "outcome", "SUCCESS").counter().count());
+        assertEquals(1.0, meterRegistry.get("account.transaction.outcomes")
+                .tags("operation", "cancel", "outcome", "error").counter().count());
+        assertNull(meterRegistry.find("account.transaction.outcomes")
+                .tags("operation", "cancel", "outcome", "SUCCESS").counter());
+    }
+
+    @Test
+    @DisplayName("거래 지표 - 예외 결과는 한 번만 기록")
+    void serviceCall_ErrorRecordedOnce() {
+        // when
+        TransactionMetrics.ServiceCall call = transactionMetrics.startCall("transfer", "1234567890");
+        call.error();
+        call.error();
+
+        // then
+        assertEquals(1.0, meterRegistry.get("account.transaction.outcomes")
+                .tags("operation", "transfer", "outcome", "error").counter().count());
+    }
+
+    @Test
+    @DisplayName("거래 지표 - JFR 이벤트 기록")
+    void serviceCall_EmitsJfrEvents() throws Exception {
+        // given
+        Path file = Files.createTempFile("transaction-metrics", ".jfr");
+
+        try (Recording recording = new Recording()) {
+            recording.enable("myaccountsystem.TransactionService").withThreshold(Duration.ZERO);
+            recording.enable("myaccountsystem.RowLockFetch").withThreshold(Duration.ZERO);
+            recording.start();
+
+            // when
+            transactionMetrics.recordRowLockWait("1234567890", Optional::empty);
+            transactionMetrics.startCall("use", "1234567890").failure(ErrorCode.ACCOUNT_NOT_FOUND);
+
+            recording.stop();
+            recording.dump(file);
+        }
+
+        // then
+        List<RecordedEvent> events = RecordingFile.readAllEvents(file);
+        Files.deleteIfExists(file);
+
+        RecordedEvent serviceEvent = findEvent(events, "myaccountsystem.TransactionService");
+        assertEquals("use", serviceEvent.getString("operation"));
+        assertEquals("ACCOUNT_NOT_FOUND", serviceEvent.getString("outcome"));
+        assertEquals("1234567890".hashCode(), serviceEvent.getInt("accountHash"));
+
+        RecordedEvent rowLockEvent = findEvent(events, "myaccountsystem.RowLockFetch");
+        assertEquals("not_found", rowLockEvent.getString("outcome"));
+    }
+
+    private static RecordedEvent findEvent(List<RecordedEvent> events, String name) {
+        return events.stream()
+                .filter(event -> event.getEventType().getName().equals(name))
+                .findFirst()
+                .orElseThrow(() -> new AssertionError("JFR event not recorded: " + name));
+    }
+}
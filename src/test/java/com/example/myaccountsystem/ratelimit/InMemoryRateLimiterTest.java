@@ -0,0 +1,114 @@
+package com.example.myaccountsystem.ratelimit;
+
+import com.example.myaccountsystem.config.RateLimitProperties.BucketPolicy;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class InMemoryRateLimiterTest {
+
+    private final AtomicLong clock = new AtomicLong(1_000_000_000L);
+
+    private InMemoryRateLimiter rateLimiter;
+
+    private BucketPolicy policy;
+
+    @BeforeEach
+    void setUp() {
+        rateLimiter = new InMemoryRateLimiter(clock::get);
+        policy = new BucketPolicy();
+        policy.setCapacity(3);
+        policy.setRefillPerSecond(10);
+    }
+
+    @Test
+    @DisplayName("버킷 용량만큼 즉시 허용하고 초과 요청은 거절")
+    void tryAcquire_BurstUpToCapacity() {
+        assertTrue(rateLimiter.tryAcquire("user:testUser", policy));
+        assertTrue(rateLimiter.tryAcquire("user:testUser", policy));
+        assertTrue(rateLimiter.tryAcquire("user:testUser", policy));
+        assertFalse(rateLimiter.tryAcquire("user:testUser", policy));
+    }
+
+    @Test
+    @DisplayName("시간이 지나면 토큰이 다시 채워짐")
+    void tryAcquire_Refill() {
+        for (int i = 0; i < 3; i++) {
+            assertTrue(rateLimiter.tryAcquire("user:testUser", policy));
+        }
+        assertFalse(rateLimiter.tryAcquire("user:testUser", policy));
+
+        clock.addAndGet(TimeUnit.MILLISECONDS.toNanos(100));
+
+        assertTrue(rateLimiter.tryAcquire("user:testUser", policy));
+        assertFalse(rateLimiter.tryAcquire("user:testUser", policy));
+    }
+
+    @Test
+    @DisplayName("돌려받은 토큰은 다시 사용할 수 있음")
+    void release_ReturnsToken() {
+        for (int i = 0; i < 3; i++) {
+            assertTrue(rateLimiter.tryAcquire("user:testUser", policy));
+        }
+        assertFalse(rateLimiter.tryAcquire("user:testUser", policy));
+
+        rateLimiter.release("user:testUser", policy);
+
+        assertTrue(rateLimiter.tryAcquire("user:testUser", policy));
+        assertFalse(rateLimiter.tryAcquire("user:testUser", policy));
+    }
+
+    @Test
+    @DisplayName("키마다 독립된 버킷 사용")
+    void tryAcquire_IndependentKeys() {
+        for (int i = 0; i < 3; i++) {
+            assertTrue(rateLimiter.tryAcquire("account:1234567890", policy));
+        }
+
+        assertFalse(rateLimiter.tryAcquire("account:1234567890", policy));
+        assertTrue(rateLimiter.tryAcquire("account:9876543210", policy));
+    }
+
+    @Test
+    @DisplayName("가득 찬 버킷은 정리 대상")
+    void evictIdleBuckets() {
+        rateLimiter.tryAcquire("user:testUser", policy);
+        assertEquals(1, rateLimiter.size());
+
+        clock.addAndGet(TimeUnit.SECONDS.toNanos(1));
+        rateLimiter.evictIdleBuckets();
+
+        assertEquals(0, rateLimiter.size());
+    }
+
+    @Test
+    @DisplayName("동시 요청에도 용량을 초과해 허용하지 않음")
+    void tryAcquire_Concurrent() throws Exception {
+        // given
+        policy.setCapacity(100);
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        AtomicInteger allowed = new AtomicInteger();
+        CountDownLatch done = new CountDownLatch(1000);
+
+        // when
+        for (int i = 0; i < 1000; i++) {
+            executor.execute(() -> {
+                if (rateLimiter.tryAcquire("user:testUser", policy)) {
+                    allowed.incrementAndGet();
+                }
+                done.countDown();
+            });
+        }
+
+        // then
+        assertTrue(done.await(10, TimeUnit.SECONDS));
+        executor.shutdown();
+        assertEquals(100, allowed.get());
+    }
+}
@@ -0,0 +1,76 @@
+package com.example.myaccountsystem.ratelimit;
+
+import com.example.myaccountsystem.config.RateLimitProperties;
+import com.example.myaccountsystem.config.RateLimitProperties.BucketPolicy;
+import com.example.myaccountsystem.exception.AccountException;
+import com.example.myaccountsystem.type.ErrorCode;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RateLimitServiceTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private RateLimitService rateLimitService;
+
+    @BeforeEach
+    void setUp() {
+        RateLimitProperties.EndpointPolicy endpointPolicy = new RateLimitProperties.EndpointPolicy();
+        endpointPolicy.setUser(policy(2));
+        endpointPolicy.setAccount(policy(1));
+
+        RateLimitProperties properties = new RateLimitProperties();
+        properties.getEndpoints().put("use", endpointPolicy);
+
+        // 시계를 멈춰 두어 테스트 중에는 토큰이 다시 채워지지 않는다.
+        rateLimitService = new RateLimitService(new InMemoryRateLimiter(() -> 0L), properties, meterRegistry);
+    }
+
+    @Test
+    @DisplayName("계좌 버킷에서 거절되면 사용자 버킷의 토큰을 돌려줌")
+    void checkLimit_AccountThrottledRefundsUserToken() {
+        // given
+        rateLimitService.checkLimit("use", "testUser", "1234567890");
+
+        // when
+        AccountException exception = assertThrows(
+                AccountException.class,
+                () -> rateLimitService.checkLimit("use", "testUser", "1234567890")
+        );
+
+        // then
+        assertEquals(ErrorCode.TOO_MANY_REQUESTS, exception.getErrorCode());
+        assertDoesNotThrow(() -> rateLimitService.checkLimit("use", "testUser", "9876543210"));
+        assertThrows(AccountException.class,
+                () -> rateLimitService.checkLimit("use", "testUser", "5555555555"));
+    }
+
+    @Test
+    @DisplayName("사용자 버킷에서 거절되면 계좌 버킷은 확인하지 않음")
+    void checkLimit_UserThrottled() {
+        // given
+        rateLimitService.checkLimit("use", "testUser", "1111111111");
+        rateLimitService.checkLimit("use", "testUser", "2222222222");
+
+        // when
+        AccountException exception = assertThrows(
+                AccountException.class,
+                () -> rateLimitService.checkLimit("use", "testUser", "3333333333")
+        );
+
+        // then
+        assertEquals(ErrorCode.TOO_MANY_REQUESTS, exception.getErrorCode());
+        assertDoesNotThrow(() -> rateLimitService.checkLimit("use", "otherUser", "3333333333"));
+    }
+
+    private static BucketPolicy policy(int capacity) {
+        BucketPolicy policy = new BucketPolicy();
+        policy.setCapacity(capacity);
+        policy.setRefillPerSecond(1);
+        return policy;
+    }
+}
@@ -0,0 +1,178 @@
+package com.example.myaccountsystem.rollup;
+
+import com.example.myaccountsystem.config.RollupProperties;
+import com.example.myaccountsystem.config.ShardingProperties;
+import com.example.myaccountsystem.rollup.TransactionRollupApplier.PendingTransaction;
+import com.example.myaccountsystem.service.RedisLockService;
+import com.example.myaccountsystem.sharding.ShardRouter;
+import com.example.myaccountsystem.type.TransactionType;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.ParameterizedPreparedStatementSetter;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class TransactionRollupApplierTest {
+
+    private static final LocalDateTime TRANSACTED_AT = LocalDateTime.of(2024, 3, 1, 10, 15);
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    @Mock
+    private RedisLockService redisLockService;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private final RollupProperties properties = new RollupProperties();
+
+    private TransactionRollupApplier applier;
+
+    @BeforeEach
+    void setUp() {
+        applier = new TransactionRollupApplier(
+                properties, jdbcTemplate, transactionTemplate, new ShardRouter(new ShardingProperties()),
+                redisLockService, meterRegistry
+        );
+    }
+
+    @Test
+    @DisplayName("집계 반영 - 같은 계좌·사용자·구간의 거래는 행 하나로 합쳐 표시와 함께 반영")
+    void apply_CoalescesRowsAndMarksOutbox() {
+        // given
+        givenPending(List.of(
+                pending(1L, TransactionType.USE, 1_000L, TRANSACTED_AT),
+                pending(2L, TransactionType.CANCEL, 1_000L, TRANSACTED_AT.plusMinutes(5)),
+                pending(3L, TransactionType.USE, 500L, TRANSACTED_AT.plusHours(1))
+        ));
+        given(jdbcTemplate.update(startsWith("update outbox_event"), any(Object[].class))).willReturn(3);
+
+        // when
+        applier.apply();
+
+        // then
+        // 계좌·사용자 x (시간 구간 2개 + 일 구간 1개)
+        verify(jdbcTemplate, times(1))
+                .batchUpdate(anyString(), batchOfSize(6), eq(6), any(ParameterizedPreparedStatementSetter.class));
+        assertEquals(3.0, meterRegistry.counter("account.rollup.applied").count());
+        assertEquals(6.0, meterRegistry.counter("account.rollup.rows").count());
+        verify(redisLockService).releaseOwnedLock("TRANSACTION_ROLLUP", "token");
+    }
+
+    @Test
+    @DisplayName("집계 반영 - 다른 반영기가 먼저 표시한 거래가 있으면 되돌리고 다시 읽어 반영")
+    void apply_RetriesWhenAnotherWriterMarkedFirst() {
+        // given
+        givenPending(List.of(
+                pending(1L, TransactionType.USE, 1_000L, TRANSACTED_AT),
+                pending(2L, TransactionType.USE, 1_000L, TRANSACTED_AT)
+        ), List.of(
+                pending(2L, TransactionType.USE, 1_000L, TRANSACTED_AT)
+        ));
+        given(jdbcTemplate.update(startsWith("update outbox_event"), any(Object[].class))).willReturn(1, 1);
+
+        // when
+        applier.apply();
+
+        // then
+        assertEquals(1.0, meterRegistry.counter("account.rollup.conflicts").count());
+        assertEquals(1.0, meterRegistry.counter("account.rollup.applied").count());
+        verify(jdbcTemplate, times(1))
+                .batchUpdate(anyString(), batchOfSize(4), eq(4), any(ParameterizedPreparedStatementSetter.class));
+    }
+
+    @Test
+    @DisplayName("집계 반영 - 집계 행 키가 충돌하면 버리지 않고 다시 시도")
+    void apply_RetriesOnDuplicateKey() {
+        // given
+        givenPending(List.of(pending(1L, TransactionType.USE, 1_000L, TRANSACTED_AT)));
+        given(jdbcTemplate.update(startsWith("update outbox_event"), any(Object[].class))).willReturn(1);
+        given(jdbcTemplate.batchUpdate(anyString(), anyList(), anyInt(), any(ParameterizedPreparedStatementSetter.class)))
+                .willThrow(new DuplicateKeyException("duplicate rollup row"))
+                .willReturn(new int[][]{{1, 1, 1, 1}});
+
+        // when
+        applier.apply();
+
+        // then
+        assertEquals(1.0, meterRegistry.counter("account.rollup.conflicts").count());
+        assertEquals(1.0, meterRegistry.counter("account.rollup.applied").count());
+    }
+
+    @Test
+    @DisplayName("집계 반영 - 저장에 실패한 배치는 되돌려 다음 실행에 다시 반영")
+    void apply_KeepsBatchOnWriteFailure() {
+        // given
+        givenPending(List.of(pending(1L, TransactionType.USE, 1_000L, TRANSACTED_AT)));
+        given(jdbcTemplate.update(startsWith("update outbox_event"), any(Object[].class))).willReturn(1);
+        given(jdbcTemplate.batchUpdate(anyString(), anyList(), anyInt(), any(ParameterizedPreparedStatementSetter.class)))
+                .willThrow(new QueryTimeoutException("timeout"));
+
+        // when
+        applier.apply();
+
+        // then
+        assertEquals(1.0, meterRegistry.counter("account.rollup.failures").count());
+        assertEquals(0.0, meterRegistry.counter("account.rollup.applied").count());
+        verify(transactionTemplate, times(1)).execute(any());
+    }
+
+    @Test
+    @DisplayName("집계 반영 - 다른 노드가 락을 잡고 있으면 반영하지 않음")
+    void apply_SkipsWhenLockHeldElsewhere() {
+        // given
+        given(redisLockService.acquireOwnedLock(eq("TRANSACTION_ROLLUP"), anyLong())).willReturn(null);
+
+        // when
+        applier.apply();
+
+        // then
+        verifyNoInteractions(jdbcTemplate, transactionTemplate);
+    }
+
+    @SafeVarargs
+    @SuppressWarnings("unchecked")
+    private void givenPending(List<PendingTransaction> first, List<PendingTransaction>... next) {
+        given(redisLockService.acquireOwnedLock(eq("TRANSACTION_ROLLUP"), anyLong())).willReturn("token");
+        // 트랜잭션 템플릿은 콜백을 그대로 실행하고, 콜백이 던진 예외는 롤백 후 그대로 올린다.
+        given(transactionTemplate.execute(any())).willAnswer(invocation -> {
+            TransactionCallback<?> callback = invocation.getArgument(0);
+            return callback.doInTransaction(new SimpleTransactionStatus());
+        });
+        given(jdbcTemplate.query(startsWith("select o.id"), any(RowMapper.class), eq(properties.getBatchSize())))
+                .willReturn(first, next);
+    }
+
+    private static PendingTransaction pending(
+            long id, TransactionType transactionType, long amount, LocalDateTime transactedAt
+    ) {
+        return new PendingTransaction(id, "1234567890", "owner", transactionType, amount, transactedAt);
+    }
+
+    private static <T> Collection<T> batchOfSize(int size) {
+        return argThat(batch -> batch.size() == size);
+    }
+}
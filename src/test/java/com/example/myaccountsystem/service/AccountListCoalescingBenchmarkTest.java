@@ -0,0 +1,106 @@
+package com.example.myaccountsystem.service;
+
+import com.example.myaccountsystem.config.LatencyProperties;
+import com.example.myaccountsystem.config.ShardingProperties;
+import com.example.myaccountsystem.entity.Account;
+import com.example.myaccountsystem.entity.User;
+import com.example.myaccountsystem.eventsourcing.EventSourcedBalances;
+import com.example.myaccountsystem.monitoring.LatencyRecorders;
+import com.example.myaccountsystem.monitoring.TransactionMetrics;
+import com.example.myaccountsystem.repository.AccountRepository;
+import com.example.myaccountsystem.repository.UserRepository;
+import com.example.myaccountsystem.sharding.ShardRouter;
+import com.example.myaccountsystem.support.SingleFlight;
+import com.example.myaccountsystem.type.AccountStatus;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.ApplicationEventPublisher;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+
+@Slf4j
+class AccountListCoalescingBenchmarkTest {
+
+    private static final int BURSTS = 20;
+    private static final int CALLS_PER_BURST = 50;
+    private static final long QUERY_LATENCY_MILLIS = 5;
+
+    @Test
+    @DisplayName("버스트 조회 시 계좌 목록 DB 조회 횟수 감소")
+    void burstyReads_CoalesceDatabaseQueries() throws Exception {
+        // given
+        UserRepository userRepository = mock(UserRepository.class);
+        AccountRepository accountRepository = mock(AccountRepository.class);
+        AtomicInteger queries = new AtomicInteger();
+        User user = User.builder().userId("user1").build();
+        List<Account> accounts = List.of(Account.builder()
+                .accountNumber("1234567890")
+                .user(user)
+                .balance(1000L)
+                .accountStatus(AccountStatus.IN_USE)
+                .build());
+
+        given(userRepository.findById(anyString())).willAnswer(invocation -> {
+            queries.incrementAndGet();
+            Thread.sleep(QUERY_LATENCY_MILLIS);
+            return Optional.of(user);
+        });
+        given(accountRepository.findByUserAndAccountStatus(any(User.class), any(AccountStatus.class))).willAnswer(invocation -> {
+            queries.incrementAndGet();
+            Thread.sleep(QUERY_LATENCY_MILLIS);
+            return accounts;
+        });
+
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        AccountService accountService = new AccountService(
+                userRepository, accountRepository, mock(RedisLockService.class),
+                new SingleFlight<>(meterRegistry, "account.list"),
+                mock(ApplicationEventPublisher.class),
+                new TransactionMetrics(meterRegistry, new LatencyRecorders(new LatencyProperties())),
+                new ShardRouter(new ShardingProperties()),
+                mock(EventSourcedBalances.class)
+        );
+        ExecutorService executor = Executors.newFixedThreadPool(CALLS_PER_BURST);
+
+        // when
+        long startedAt = System.nanoTime();
+        for (int burst = 0; burst < BURSTS; burst++) {
+            CountDownLatch start = new CountDownLatch(1);
+            List<Future<List<Account>>> futures = new ArrayList<>();
+            for (int i = 0; i < CALLS_PER_BURST; i++) {
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    return accountService.getAccountsByUserId("user1");
+                }));
+            }
+            start.countDown();
+            for (Future<List<Account>> future : futures) {
+                assertEquals(1, future.get(10, TimeUnit.SECONDS).size());
+            }
+        }
+        long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt);
+        executor.shutdown();
+
+        // then
+        int calls = BURSTS * CALLS_PER_BURST;
+        double followers = meterRegistry.counter("account.list.coalescing.calls", "role", "follower").count();
+        log.info("calls={}, dbQueries={} (uncoalesced={}), coalescingRatio={}, elapsed={}ms",
+                calls, queries.get(), calls * 2, String.format("%.2f", followers / calls), elapsedMillis);
+
+        assertTrue(queries.get() < calls * 2 / 4,
+                "expected coalescing to remove most queries but ran " + queries.get());
+    }
+}
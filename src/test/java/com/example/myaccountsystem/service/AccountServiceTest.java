@@ -1,28 +1,44 @@
 package com.example.myaccountsystem.service;
 
+import com.example.myaccountsystem.config.LatencyProperties;
+import com.example.myaccountsystem.config.ShardingProperties;
 import com.example.myaccountsystem.dto.CreateAccountRequest;
 import com.example.myaccountsystem.dto.CreateAccountResponse;
 import com.example.myaccountsystem.dto.UnregisterAccountRequest;
 import com.example.myaccountsystem.dto.UnregisterAccountResponse;
 import com.example.myaccountsystem.entity.Account;
 import com.example.myaccountsystem.entity.User;
+import com.example.myaccountsystem.eventsourcing.EventSourcedBalances;
 import com.example.myaccountsystem.exception.AccountException;
+import com.example.myaccountsystem.monitoring.LatencyRecorders;
+import com.example.myaccountsystem.monitoring.TransactionMetrics;
 import com.example.myaccountsystem.repository.AccountRepository;
 import com.example.myaccountsystem.repository.UserRepository;
+import com.example.myaccountsystem.sharding.ShardRouter;
+import com.example.myaccountsystem.support.SingleFlight;
 import com.example.myaccountsystem.type.AccountStatus;
 import com.example.myaccountsystem.type.ErrorCode;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 
 import java.time.LocalDateTime;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.*;
@@ -41,6 +57,25 @@ class AccountServiceTest {
     @Mock
     private RedisLockService redisLockService;
 
+    @Spy
+    private SingleFlight<String, List<Account>> accountListSingleFlight =
+            new SingleFlight<>(new SimpleMeterRegistry(), "account.list");
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Spy
+    private TransactionMetrics transactionMetrics = new TransactionMetrics(
+            new SimpleMeterRegistry(),
+            new LatencyRecorders(new LatencyProperties())
+    );
+
+    @Spy
+    private ShardRouter shardRouter = new ShardRouter(new ShardingProperties());
+
+    @Mock
+    private EventSourcedBalances eventSourcedBalances;
+
     @InjectMocks
     private AccountService accountService;
 
@@ -434,6 +469,88 @@ class AccountServiceTest {
         assertEquals("0987654321", result.get(1).getAccountNumber());
     }
 
+    @Test
+    @DisplayName("사용자 계좌 목록 조회 - 이벤트 소싱 모드에서는 샤드마다 잔액을 한 번에 계산")
+    void getAccountsByUserId_EventSourcedBalancesInOneBatch() {
+        // given
+        User user = User.builder()
+                .userId("testUser")
+                .name("Test User")
+                .build();
+        List<Account> accounts = Arrays.asList(
+                Account.builder().accountNumber("1234567890").user(user).balance(1000L)
+                        .accountStatus(AccountStatus.IN_USE).build(),
+                Account.builder().accountNumber("0987654321").user(user).balance(2000L)
+                        .accountStatus(AccountStatus.IN_USE).build()
+        );
+        given(userRepository.findById(anyString())).willReturn(Optional.of(user));
+        given(accountRepository.findByUserAndAccountStatus(any(User.class), any(AccountStatus.class)))
+                .willReturn(accounts);
+        given(eventSourcedBalances.isEnabled()).willReturn(true);
+        given(eventSourcedBalances.balancesOf(accounts))
+                .willReturn(Map.of("1234567890", 700L, "0987654321", 2500L));
+
+        // when
+        List<Account> result = accountService.getAccountsByUserId("testUser");
+
+        // then
+        assertEquals(700L, result.get(0).getBalance());
+        assertEquals(2500L, result.get(1).getBalance());
+        verify(eventSourcedBalances, times(1)).balancesOf(accounts);
+        verify(eventSourcedBalances, never()).balanceOf(any());
+    }
+
+    @Test
+    @DisplayName("사용자 계좌 목록 조회 - 진행 중인 조회 뒤에 커밋된 변경은 새 버전 요청이 따로 읽음")
+    void getAccountsByUserId_CommitDuringCoalescedLoad() throws Exception {
+        // given
+        User user = User.builder()
+                .userId("testUser")
+                .name("Test User")
+                .build();
+        Account before = Account.builder()
+                .accountNumber("1234567890")
+                .user(user)
+                .balance(1000L)
+                .accountStatus(AccountStatus.IN_USE)
+                .build();
+        Account after = Account.builder()
+                .accountNumber("1234567890")
+                .user(user)
+                .balance(500L)
+                .accountStatus(AccountStatus.IN_USE)
+                .build();
+        CountDownLatch staleLoadStarted = new CountDownLatch(1);
+        CountDownLatch releaseStaleLoad = new CountDownLatch(1);
+
+        given(userRepository.findById("testUser"))
+                .willReturn(Optional.of(user));
+        given(accountRepository.findByUserAndAccountStatus(any(User.class), any(AccountStatus.class)))
+                .willAnswer(invocation -> {
+                    staleLoadStarted.countDown();
+                    releaseStaleLoad.await(5, TimeUnit.SECONDS);
+                    return List.of(before);
+                })
+                .willReturn(List.of(after));
+
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        Future<List<Account>> staleLoad = executor.submit(
+                () -> accountService.getAccountsByUserId("testUser", new AccountVersion("5", 0L))
+        );
+        assertTrue(staleLoadStarted.await(5, TimeUnit.SECONDS));
+
+        // when
+        // 버전 5 의 조회가 도는 동안 변경이 커밋되어 버전이 6 이 되었다.
+        List<Account> fresh = accountService.getAccountsByUserId("testUser", new AccountVersion("6", 0L));
+        releaseStaleLoad.countDown();
+
+        // then
+        assertEquals(500L, fresh.get(0).getBalance());
+        assertEquals(1000L, staleLoad.get(5, TimeUnit.SECONDS).get(0).getBalance());
+        verify(accountRepository, times(2)).findByUserAndAccountStatus(any(User.class), any(AccountStatus.class));
+        executor.shutdown();
+    }
+
     @Test
     @DisplayName("사용자 계좌 목록 조회 실패 - 사용자 없음")
     void getAccountsByUserId_UserNotFound() {
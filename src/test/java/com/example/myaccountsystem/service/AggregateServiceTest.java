@@ -0,0 +1,82 @@
+package com.example.myaccountsystem.service;
+
+import com.example.myaccountsystem.config.ShardingProperties;
+import com.example.myaccountsystem.dto.GetAggregatesResponse;
+import com.example.myaccountsystem.entity.TransactionRollup;
+import com.example.myaccountsystem.exception.AccountException;
+import com.example.myaccountsystem.repository.TransactionRollupRepository;
+import com.example.myaccountsystem.sharding.ShardRouter;
+import com.example.myaccountsystem.type.ErrorCode;
+import com.example.myaccountsystem.type.RollupGranularity;
+import com.example.myaccountsystem.type.RollupScope;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+@ExtendWith(MockitoExtension.class)
+class AggregateServiceTest {
+
+    @Mock
+    private TransactionRollupRepository transactionRollupRepository;
+
+    private final ShardRouter shardRouter = new ShardRouter(new ShardingProperties());
+
+    @Test
+    @DisplayName("집계 조회 - 일 단위 행에서 출금 합계와 취소율 계산")
+    void getAccountAggregates_Success() {
+        // given
+        AggregateService aggregateService = new AggregateService(transactionRollupRepository, shardRouter);
+        LocalDateTime day = LocalDateTime.of(2024, 3, 1, 0, 0);
+        given(transactionRollupRepository.findByScopeAndOwnerKeyAndGranularityAndBucketStartBetweenOrderByBucketStart(
+                RollupScope.ACCOUNT, "1234567890", RollupGranularity.DAY, day, day.plusDays(1)
+        )).willReturn(List.of(TransactionRollup.builder()
+                .scope(RollupScope.ACCOUNT)
+                .ownerKey("1234567890")
+                .granularity(RollupGranularity.DAY)
+                .bucketStart(day)
+                .useCount(4)
+                .useAmount(4_000L)
+                .cancelCount(1)
+                .cancelAmount(1_000L)
+                .transferOutCount(1)
+                .transferOutAmount(500L)
+                .build()));
+
+        // when
+        GetAggregatesResponse response = aggregateService.getAccountAggregates(
+                "1234567890", RollupGranularity.DAY, day.plusHours(9), day.plusDays(1).plusHours(9)
+        );
+
+        // then
+        assertEquals(1, response.getBuckets().size());
+        GetAggregatesResponse.BucketDto bucket = response.getBuckets().get(0);
+        assertEquals(day, bucket.getBucketStart());
+        assertEquals(4_500L, bucket.getDebitAmount());
+        assertEquals(0.25, bucket.getCancelRate());
+    }
+
+    @Test
+    @DisplayName("집계 조회 - 구간이 너무 많으면 실패")
+    void getUserAggregates_TooManyBuckets() {
+        // given
+        AggregateService aggregateService = new AggregateService(transactionRollupRepository, shardRouter);
+        LocalDateTime from = LocalDateTime.of(2024, 1, 1, 0, 0);
+
+        // when
+        AccountException exception = assertThrows(AccountException.class,
+                () -> aggregateService.getUserAggregates("user1", RollupGranularity.HOUR, from, from.plusDays(60)));
+
+        // then
+        assertEquals(ErrorCode.INVALID_REQUEST, exception.getErrorCode());
+        verifyNoInteractions(transactionRollupRepository);
+    }
+}
@@ -0,0 +1,109 @@
+package com.example.myaccountsystem.service;
+
+import com.example.myaccountsystem.config.FailedTransactionProperties;
+import com.example.myaccountsystem.config.ShardingProperties;
+import com.example.myaccountsystem.sharding.ShardRouter;
+import com.example.myaccountsystem.sharding.TransactionIdAllocator;
+import com.example.myaccountsystem.type.ErrorCode;
+import com.example.myaccountsystem.type.TransactionType;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.ParameterizedPreparedStatementSetter;
+
+import java.util.Collection;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class FailedTransactionRecorderTest {
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @Mock
+    private TransactionIdAllocator transactionIdAllocator;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private final FailedTransactionProperties properties = new FailedTransactionProperties();
+
+    @Test
+    @DisplayName("실패 거래 기록 - 배치 크기 단위로 저장")
+    void flush_WritesInBatches() {
+        // given
+        properties.setBatchSize(2);
+        FailedTransactionRecorder recorder = new FailedTransactionRecorder(
+                properties, jdbcTemplate, new ShardRouter(new ShardingProperties()),
+                transactionIdAllocator, meterRegistry
+        );
+
+        for (int i = 0; i < 3; i++) {
+            recorder.record("1234567890", TransactionType.USE, 1000L, ErrorCode.AMOUNT_EXCEED_BALANCE, null);
+        }
+
+        // when
+        recorder.flush();
+        recorder.flush();
+
+        // then
+        verify(jdbcTemplate, times(1))
+                .batchUpdate(anyString(), batchOfSize(2), eq(2), any(ParameterizedPreparedStatementSetter.class));
+        verify(jdbcTemplate, times(1))
+                .batchUpdate(anyString(), batchOfSize(1), eq(1), any(ParameterizedPreparedStatementSetter.class));
+        assertEquals(3.0, meterRegistry.counter("account.failed-transaction.recorded").count());
+    }
+
+    @Test
+    @DisplayName("실패 거래 기록 - 큐가 가득 차면 버림")
+    void record_DropsWhenQueueFull() {
+        // given
+        properties.setQueueCapacity(1);
+        properties.setOverflowPolicy(FailedTransactionProperties.OverflowPolicy.DROP);
+        FailedTransactionRecorder recorder = new FailedTransactionRecorder(
+                properties, jdbcTemplate, new ShardRouter(new ShardingProperties()),
+                transactionIdAllocator, meterRegistry
+        );
+
+        // when
+        recorder.record("1234567890", TransactionType.USE, 1000L, ErrorCode.AMOUNT_EXCEED_BALANCE, null);
+        recorder.record("1234567890", TransactionType.CANCEL, 1000L, ErrorCode.CANCEL_MUST_FULLY, 1L);
+
+        // then
+        assertEquals(1.0, meterRegistry.counter("account.failed-transaction.dropped").count());
+        verifyNoInteractions(jdbcTemplate);
+    }
+
+    @Test
+    @DisplayName("실패 거래 기록 - 저장 실패 시 버림으로 집계")
+    void flush_CountsDroppedOnWriteFailure() {
+        // given
+        FailedTransactionRecorder recorder = new FailedTransactionRecorder(
+                properties, jdbcTemplate, new ShardRouter(new ShardingProperties()),
+                transactionIdAllocator, meterRegistry
+        );
+        recorder.record("1234567890", TransactionType.USE, 1000L, ErrorCode.ACCOUNT_NOT_FOUND, null);
+
+        given(jdbcTemplate.batchUpdate(anyString(), anyList(), anyInt(), any(ParameterizedPreparedStatementSetter.class)))
+                .willThrow(new QueryTimeoutException("timeout"));
+
+        // when
+        recorder.flush();
+
+        // then
+        assertEquals(1.0, meterRegistry.counter("account.failed-transaction.dropped").count());
+        assertEquals(0.0, meterRegistry.counter("account.failed-transaction.recorded").count());
+    }
+
+    private static <T> Collection<T> batchOfSize(int size) {
+        return argThat(batch -> batch.size() == size);
+    }
+}
@@ -0,0 +1,163 @@
+package com.example.myaccountsystem.service;
+
+import com.example.myaccountsystem.config.OutboxProperties;
+import com.example.myaccountsystem.config.ShardingProperties;
+import com.example.myaccountsystem.entity.OutboxEvent;
+import com.example.myaccountsystem.event.InMemoryLedgerEventPublisher;
+import com.example.myaccountsystem.event.LedgerEventPublisher;
+import com.example.myaccountsystem.repository.OutboxEventRepository;
+import com.example.myaccountsystem.sharding.ShardRouter;
+import com.example.myaccountsystem.type.TransactionType;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Pageable;
+
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class OutboxRelayTest {
+
+    @Mock
+    private OutboxEventRepository outboxEventRepository;
+
+    @Mock
+    private RedisLockService redisLockService;
+
+    private final InMemoryLedgerEventPublisher ledgerEventPublisher = new InMemoryLedgerEventPublisher();
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private final OutboxProperties outboxProperties = new OutboxProperties();
+
+    private OutboxRelay outboxRelay;
+
+    @BeforeEach
+    void setUp() {
+        outboxProperties.setBatchSize(2);
+        outboxRelay = new OutboxRelay(
+                outboxEventRepository, ledgerEventPublisher, redisLockService, outboxProperties, meterRegistry,
+                new ShardRouter(new ShardingProperties())
+        );
+    }
+
+    @Test
+    @DisplayName("아웃박스 릴레이 - 배치 단위로 순서대로 발행")
+    void relay_PublishesBatchesInOrder() {
+        // given
+        OutboxEvent first = outboxEvent(1L, "1234567890");
+        OutboxEvent second = outboxEvent(2L, "1234567890");
+        OutboxEvent third = outboxEvent(3L, "9876543210");
+
+        given(redisLockService.acquireOwnedLock(eq("OUTBOX_RELAY"), anyLong()))
+                .willReturn("token");
+
+        given(outboxEventRepository.findByPublishedAtIsNullOrderByIdAsc(any(Pageable.class)))
+                .willReturn(List.of(first, second))
+                .willReturn(List.of(third));
+
+        // when
+        outboxRelay.relay();
+
+        // then
+        assertEquals(List.of(first, second, third), ledgerEventPublisher.getPublishedEvents());
+        verify(outboxEventRepository).markPublished(eq(List.of(1L, 2L)), any(LocalDateTime.class));
+        verify(outboxEventRepository).markPublished(eq(List.of(3L)), any(LocalDateTime.class));
+        verify(redisLockService, times(1)).releaseOwnedLock("OUTBOX_RELAY", "token");
+        assertEquals(3, meterRegistry.timer("account.outbox.publish.lag").count());
+    }
+
+    @Test
+    @DisplayName("아웃박스 릴레이 - 발행 실패 시 발행 완료 처리하지 않음")
+    void relay_PublishFailure_DoesNotMarkPublished() {
+        // given
+        LedgerEventPublisher failingPublisher = mock(LedgerEventPublisher.class);
+        outboxRelay = new OutboxRelay(
+                outboxEventRepository, failingPublisher, redisLockService, outboxProperties, meterRegistry,
+                new ShardRouter(new ShardingProperties())
+        );
+
+        given(redisLockService.acquireOwnedLock(eq("OUTBOX_RELAY"), anyLong()))
+                .willReturn("token");
+
+        given(outboxEventRepository.findByPublishedAtIsNullOrderByIdAsc(any(Pageable.class)))
+                .willReturn(List.of(outboxEvent(1L, "1234567890")));
+
+        willThrow(new RuntimeException("Redis connection error"))
+                .given(failingPublisher).publish(anyList());
+
+        // when
+        outboxRelay.relay();
+
+        // then
+        verify(outboxEventRepository, never()).markPublished(anyCollection(), any(LocalDateTime.class));
+        verify(redisLockService, times(1)).releaseOwnedLock("OUTBOX_RELAY", "token");
+    }
+
+    @Test
+    @DisplayName("아웃박스 릴레이 - 다른 노드가 릴레이 중이면 건너뜀")
+    void relay_LockNotAcquired() {
+        // given
+        given(redisLockService.acquireOwnedLock(eq("OUTBOX_RELAY"), anyLong()))
+                .willReturn(null);
+
+        // when
+        outboxRelay.relay();
+
+        // then
+        verify(outboxEventRepository, never()).findByPublishedAtIsNullOrderByIdAsc(any(Pageable.class));
+        verify(redisLockService, never()).releaseOwnedLock(anyString(), anyString());
+        assertEquals(Collections.emptyList(), ledgerEventPublisher.getPublishedEvents());
+    }
+
+    @Test
+    @DisplayName("아웃박스 릴레이 - 비우는 도중 락을 잃으면 더 발행하지 않음")
+    void relay_StopsWhenLockLost() {
+        // given
+        outboxProperties.setRelayLockTimeout(0);
+        OutboxEvent first = outboxEvent(1L, "1234567890");
+        OutboxEvent second = outboxEvent(2L, "1234567890");
+
+        given(redisLockService.acquireOwnedLock(eq("OUTBOX_RELAY"), anyLong()))
+                .willReturn("token");
+        given(redisLockService.extendOwnedLock(eq("OUTBOX_RELAY"), eq("token"), anyLong()))
+                .willReturn(true)
+                .willReturn(false);
+
+        given(outboxEventRepository.findByPublishedAtIsNullOrderByIdAsc(any(Pageable.class)))
+                .willReturn(List.of(first, second));
+
+        // when
+        outboxRelay.relay();
+
+        // then
+        assertEquals(List.of(first, second), ledgerEventPublisher.getPublishedEvents());
+        verify(outboxEventRepository, times(1)).findByPublishedAtIsNullOrderByIdAsc(any(Pageable.class));
+        verify(redisLockService, times(1)).releaseOwnedLock("OUTBOX_RELAY", "token");
+    }
+
+    private OutboxEvent outboxEvent(Long id, String accountNumber) {
+        return OutboxEvent.builder()
+                .id(id)
+                .transactionId(id)
+                .accountNumber(accountNumber)
+                .transactionType(TransactionType.USE)
+                .amount(1000L)
+                .balanceSnapshot(9000L)
+                .transactedAt(LocalDateTime.now())
+                .createdAt(LocalDateTime.now())
+                .build();
+    }
+}
@@ -1,19 +1,27 @@
 package com.example.myaccountsystem.service;
 
+import com.example.myaccountsystem.config.LatencyProperties;
+import com.example.myaccountsystem.monitoring.LatencyRecorders;
+import com.example.myaccountsystem.monitoring.LockMetrics;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.core.script.RedisScript;
 
 import java.time.Duration;
+import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -26,6 +34,14 @@ class RedisLockServiceTest {
     @Mock
     private ValueOperations<String, Object> valueOperations;
 
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Spy
+    private LockMetrics lockMetrics = new LockMetrics(
+            meterRegistry,
+            new LatencyRecorders(new LatencyProperties())
+    );
+
     @InjectMocks
     private RedisLockService redisLockService;
 
@@ -198,4 +214,62 @@ class RedisLockServiceTest {
 
         assertFalse(result);
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("소유 토큰 락 - 획득 시 토큰을 값으로 저장하고 돌려줌")
+    void acquireOwnedLock_ReturnsToken() {
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        when(valueOperations.setIfAbsent(anyString(), anyString(), any(Duration.class))).thenReturn(true);
+
+        String token = redisLockService.acquireOwnedLock("OUTBOX_RELAY", 1000L);
+
+        assertNotNull(token);
+        verify(valueOperations).setIfAbsent(eq("LOCK:OUTBOX_RELAY"), eq(token), eq(Duration.ofMillis(1000L)));
+    }
+
+    @Test
+    @DisplayName("소유 토큰 락 - 다른 소유자의 락은 해제·연장하지 않음")
+    @SuppressWarnings("unchecked")
+    void ownedLock_OtherOwner() {
+        when(redisTemplate.execute(any(RedisScript.class), anyList(), any()))
+                .thenReturn(0L);
+        when(redisTemplate.execute(any(RedisScript.class), anyList(), any(), any()))
+                .thenReturn(0L);
+
+        assertFalse(redisLockService.releaseOwnedLock("OUTBOX_RELAY", "stale-token"));
+        assertFalse(redisLockService.extendOwnedLock("OUTBOX_RELAY", "stale-token", 1000L));
+        verify(redisTemplate).execute(any(RedisScript.class), eq(List.of("LOCK:OUTBOX_RELAY")), eq("stale-token"));
+        verify(redisTemplate, never()).delete(anyString());
+    }
+
+    @Test
+    @DisplayName("소유 토큰 락 - 토큰이 같으면 해제")
+    @SuppressWarnings("unchecked")
+    void releaseOwnedLock_Success() {
+        when(redisTemplate.execute(any(RedisScript.class), anyList(), any()))
+                .thenReturn(1L);
+
+        assertTrue(redisLockService.releaseOwnedLock("OUTBOX_RELAY", "token"));
+    }
+
+    @Test
+    @DisplayName("Redis 락 지표 - 연산 결과와 보유 시간 기록")
+    void lockMetrics_RecordOperationsAndHoldTime() {
+        String testKey = "testKey";
+
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        when(valueOperations.setIfAbsent(anyString(), anyString(), any(Duration.class)))
+                .thenReturn(true, false);
+
+        redisLockService.acquireLock(testKey, 1000L);
+        redisLockService.acquireLock(testKey, 1000L);
+        redisLockService.releaseLock(testKey);
+
+        assertEquals(1, meterRegistry.get("account.lock.operation")
+                .tags("operation", "acquire", "outcome", "success").timer().count());
+        assertEquals(1, meterRegistry.get("account.lock.operation")
+                .tags("operation", "acquire", "outcome", "failure").timer().count());
+        assertEquals(1, meterRegistry.get("account.lock.hold")
+                .tags("operation", "release").timer().count());
+    }
+}
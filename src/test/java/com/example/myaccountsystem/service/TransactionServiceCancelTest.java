@@ -1,25 +1,41 @@
 package com.example.myaccountsystem.service;
 
+import com.example.myaccountsystem.archive.TransactionArchive;
+import com.example.myaccountsystem.config.LatencyProperties;
+import com.example.myaccountsystem.config.ShardingProperties;
 import com.example.myaccountsystem.dto.CancelBalanceRequest;
 import com.example.myaccountsystem.dto.CancelBalanceResponse;
 import com.example.myaccountsystem.entity.Account;
 import com.example.myaccountsystem.entity.Transaction;
 import com.example.myaccountsystem.entity.User;
+import com.example.myaccountsystem.event.BalanceChangedEvent;
+import com.example.myaccountsystem.eventsourcing.EventSourcedBalances;
 import com.example.myaccountsystem.exception.AccountException;
+import com.example.myaccountsystem.monitoring.HotAccountTracker;
+import com.example.myaccountsystem.monitoring.LatencyRecorders;
+import com.example.myaccountsystem.monitoring.TransactionMetrics;
 import com.example.myaccountsystem.repository.AccountRepository;
-import com.example.myaccountsystem.repository.TransactionRepository;
+import com.example.myaccountsystem.repository.CancelTarget;
+import com.example.myaccountsystem.repository.TransactionStore;
 import com.example.myaccountsystem.repository.UserRepository;
+import com.example.myaccountsystem.sharding.ShardRouter;
+import com.example.myaccountsystem.sharding.TransactionIdAllocator;
+import com.example.myaccountsystem.sharding.TransactionIds;
+import com.example.myaccountsystem.state.AccountStateCache;
 import com.example.myaccountsystem.type.AccountStatus;
 import com.example.myaccountsystem.type.ErrorCode;
 import com.example.myaccountsystem.type.TransactionResultType;
 import com.example.myaccountsystem.type.TransactionType;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 
 import java.time.LocalDateTime;
 import java.util.Optional;
@@ -40,11 +56,44 @@ public class TransactionServiceCancelTest {
     private AccountRepository accountRepository;
 
     @Mock
-    private TransactionRepository transactionRepository;
+    private TransactionStore transactionStore;
 
     @Mock
     private RedisLockService redisLockService;
 
+    @Mock
+    private OutboxService outboxService;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private FailedTransactionRecorder failedTransactionRecorder;
+
+    @Mock
+    private HotAccountTracker hotAccountTracker;
+
+    @Spy
+    private TransactionMetrics transactionMetrics = new TransactionMetrics(
+            new SimpleMeterRegistry(),
+            new LatencyRecorders(new LatencyProperties())
+    );
+
+    @Spy
+    private ShardRouter shardRouter = new ShardRouter(new ShardingProperties());
+
+    @Mock
+    private TransactionIdAllocator transactionIdAllocator;
+
+    @Mock
+    private TransactionArchive transactionArchive;
+
+    @Mock
+    private AccountStateCache accountStateCache;
+
+    @Mock
+    private EventSourcedBalances eventSourcedBalances;
+
     @InjectMocks
     private TransactionService transactionService;
 
@@ -64,15 +113,9 @@ public class TransactionServiceCancelTest {
                 .accountStatus(AccountStatus.IN_USE)
                 .build();
 
-        Transaction transaction = Transaction.builder()
-                .transactionId(1L)
-                .transactionType(TransactionType.USE)
-                .transactionResultType(TransactionResultType.SUCCESS)
-                .account(account)
-                .amount(1000L)
-                .balanceSnapshot(10000L)
-                .transactedAt(LocalDateTime.now())
-                .build();
+        CancelTarget target = new CancelTarget(
+                account.getAccountNumber(), 1000L, TransactionType.USE, TransactionResultType.SUCCESS, null
+        );
 
         given(redisLockService.acquireLock(anyString(), anyLong()))
                 .willReturn(true);
@@ -80,8 +123,8 @@ public class TransactionServiceCancelTest {
         given(accountRepository.findByAccountNumberWithPessimisticLock(anyString()))
                 .willReturn(Optional.of(account));
 
-        given(transactionRepository.findByTransactionId(anyLong()))
-                .willReturn(Optional.of(transaction));
+        given(transactionStore.findCancelTarget(anyLong()))
+                .willReturn(Optional.of(target));
 
         Transaction cancelTransaction = Transaction.builder()
                 .transactionId(2L)
@@ -93,9 +136,12 @@ public class TransactionServiceCancelTest {
                 .transactedAt(LocalDateTime.now())
                 .build();
 
-        given(transactionRepository.save(any(Transaction.class)))
+        given(transactionStore.save(any(Transaction.class)))
                 .willReturn(cancelTransaction);
 
+        given(transactionStore.markCanceled(1L, 2L))
+                .willReturn(1);
+
         ArgumentCaptor<Transaction> transactionCaptor = ArgumentCaptor.forClass(Transaction.class);
         ArgumentCaptor<Account> accountCaptor = ArgumentCaptor.forClass(Account.class);
 
@@ -105,10 +151,11 @@ public class TransactionServiceCancelTest {
         );
 
         // then
-        verify(transactionRepository, times(1)).save(transactionCaptor.capture());
+        verify(transactionStore, times(1)).save(transactionCaptor.capture());
         verify(accountRepository, times(1)).save(accountCaptor.capture());
         verify(redisLockService, times(1)).acquireLock(eq("1234567890"), anyLong());
         verify(redisLockService, times(1)).releaseLock(eq("1234567890"));
+        verify(transactionStore, times(1)).markCanceled(1L, 2L);
 
         assertEquals(TransactionResultType.SUCCESS, response.getTransactionResult());
         assertEquals("1234567890", response.getAccountNumber());
@@ -131,7 +178,7 @@ public class TransactionServiceCancelTest {
         given(redisLockService.acquireLock(anyString(), anyLong()))
                 .willReturn(true);
 
-        given(transactionRepository.findByTransactionId(anyLong()))
+        given(transactionStore.findCancelTarget(anyLong()))
                 .willReturn(Optional.empty());
 
         // when
@@ -148,6 +195,34 @@ public class TransactionServiceCancelTest {
         verify(accountRepository, never()).findByAccountNumberWithPessimisticLock(anyString());
     }
 
+    @Test
+    @DisplayName("잔액 사용 취소 실패 - 다른 샤드 접두사의 거래 ID 도 트랜잭션 없음")
+    void cancelBalance_OtherShardTransactionIdNotFound() {
+        // given
+        long transactionId = TransactionIds.compose(0, 0, 1L);
+
+        doReturn(1).when(shardRouter).shardOf("1234567890");
+
+        given(redisLockService.acquireLock(anyString(), anyLong()))
+                .willReturn(true);
+
+        given(transactionStore.findCancelTarget(transactionId))
+                .willReturn(Optional.empty());
+
+        // when
+        AccountException exception = assertThrows(
+                AccountException.class,
+                () -> transactionService.cancelBalance(
+                        new CancelBalanceRequest(transactionId, "1234567890", 1000L)
+                )
+        );
+
+        // then
+        assertEquals(ErrorCode.TRANSACTION_NOT_FOUND, exception.getErrorCode());
+        verify(redisLockService, times(1)).releaseLock(anyString());
+        verify(accountRepository, never()).findByAccountNumberWithPessimisticLock(anyString());
+    }
+
     @Test
     @DisplayName("잔액 사용 취소 실패 - 계좌 없음")
     void cancelBalance_AccountNotFound() {
@@ -164,21 +239,15 @@ public class TransactionServiceCancelTest {
                 .accountStatus(AccountStatus.IN_USE)
                 .build();
 
-        Transaction transaction = Transaction.builder()
-                .transactionId(1L)
-                .transactionType(TransactionType.USE)
-                .transactionResultType(TransactionResultType.SUCCESS)
-                .account(account)
-                .amount(1000L)
-                .balanceSnapshot(10000L)
-                .transactedAt(LocalDateTime.now())
-                .build();
+        CancelTarget target = new CancelTarget(
+                account.getAccountNumber(), 1000L, TransactionType.USE, TransactionResultType.SUCCESS, null
+        );
 
         given(redisLockService.acquireLock(anyString(), anyLong()))
                 .willReturn(true);
 
-        given(transactionRepository.findByTransactionId(anyLong()))
-                .willReturn(Optional.of(transaction));
+        given(transactionStore.findCancelTarget(anyLong()))
+                .willReturn(Optional.of(target));
 
         given(accountRepository.findByAccountNumberWithPessimisticLock(anyString()))
                 .willReturn(Optional.empty());
@@ -194,7 +263,7 @@ public class TransactionServiceCancelTest {
         // then
         assertEquals(ErrorCode.ACCOUNT_NOT_FOUND, exception.getErrorCode());
         verify(redisLockService, times(1)).releaseLock(anyString());
-        verify(transactionRepository, never()).save(any(Transaction.class));
+        verify(transactionStore, never()).save(any(Transaction.class));
         verify(accountRepository, never()).save(any(Account.class));
     }
 
@@ -214,31 +283,15 @@ public class TransactionServiceCancelTest {
                 .accountStatus(AccountStatus.IN_USE)
                 .build();
 
-        Account account2 = Account.builder()
-                .accountNumber("0987654321")
-                .user(user)
-                .balance(5000L)
-                .accountStatus(AccountStatus.IN_USE)
-                .build();
-
-        Transaction transaction = Transaction.builder()
-                .transactionId(1L)
-                .transactionType(TransactionType.USE)
-                .transactionResultType(TransactionResultType.SUCCESS)
-                .account(account1)
-                .amount(1000L)
-                .balanceSnapshot(10000L)
-                .transactedAt(LocalDateTime.now())
-                .build();
+        CancelTarget target = new CancelTarget(
+                account1.getAccountNumber(), 1000L, TransactionType.USE, TransactionResultType.SUCCESS, null
+        );
 
         given(redisLockService.acquireLock(anyString(), anyLong()))
                 .willReturn(true);
 
-        given(transactionRepository.findByTransactionId(anyLong()))
-                .willReturn(Optional.of(transaction));
-
-        given(accountRepository.findByAccountNumberWithPessimisticLock("0987654321"))
-                .willReturn(Optional.of(account2));
+        given(transactionStore.findCancelTarget(anyLong()))
+                .willReturn(Optional.of(target));
 
         // when
         AccountException exception = assertThrows(
@@ -250,8 +303,9 @@ public class TransactionServiceCancelTest {
 
         // then
         assertEquals(ErrorCode.TRANSACTION_ACCOUNT_MISMATCH, exception.getErrorCode());
+        verify(accountRepository, never()).findByAccountNumberWithPessimisticLock(anyString());
         verify(redisLockService, times(1)).releaseLock(anyString());
-        verify(transactionRepository, never()).save(any(Transaction.class));
+        verify(transactionStore, never()).save(any(Transaction.class));
         verify(accountRepository, never()).save(any(Account.class));
     }
 
@@ -271,24 +325,15 @@ public class TransactionServiceCancelTest {
                 .accountStatus(AccountStatus.IN_USE)
                 .build();
 
-        Transaction transaction = Transaction.builder()
-                .transactionId(1L)
-                .transactionType(TransactionType.USE)
-                .transactionResultType(TransactionResultType.SUCCESS)
-                .account(account)
-                .amount(1000L)
-                .balanceSnapshot(10000L)
-                .transactedAt(LocalDateTime.now())
-                .build();
+        CancelTarget target = new CancelTarget(
+                account.getAccountNumber(), 1000L, TransactionType.USE, TransactionResultType.SUCCESS, null
+        );
 
         given(redisLockService.acquireLock(anyString(), anyLong()))
                 .willReturn(true);
 
-        given(transactionRepository.findByTransactionId(anyLong()))
-                .willReturn(Optional.of(transaction));
-
-        given(accountRepository.findByAccountNumberWithPessimisticLock(anyString()))
-                .willReturn(Optional.of(account));
+        given(transactionStore.findCancelTarget(anyLong()))
+                .willReturn(Optional.of(target));
 
         // when
         AccountException exception = assertThrows(
@@ -300,13 +345,14 @@ public class TransactionServiceCancelTest {
 
         // then
         assertEquals(ErrorCode.CANCEL_MUST_FULLY, exception.getErrorCode());
+        verify(accountRepository, never()).findByAccountNumberWithPessimisticLock(anyString());
         verify(redisLockService, times(1)).releaseLock(anyString());
-        verify(transactionRepository, never()).save(any(Transaction.class));
+        verify(transactionStore, never()).save(any(Transaction.class));
         verify(accountRepository, never()).save(any(Account.class));
     }
 
     @Test
-    @DisplayName("잔액 사용 취소 실패 - 이미 취소된 계좌")
+    @DisplayName("잔액 사용 취소 실패 - 이미 취소된 거래")
     void cancelBalance_AlreadyCanceled() {
         // given
         User user = User.builder()
@@ -321,37 +367,123 @@ public class TransactionServiceCancelTest {
                 .accountStatus(AccountStatus.IN_USE)
                 .build();
 
-        Transaction transaction = Transaction.builder()
-                .transactionId(1L)
-                .transactionType(TransactionType.CANCEL)
-                .transactionResultType(TransactionResultType.SUCCESS)
-                .account(account)
-                .amount(1000L)
-                .balanceSnapshot(9000L)
-                .transactedAt(LocalDateTime.now())
+        CancelTarget target = new CancelTarget(
+                account.getAccountNumber(), 1000L, TransactionType.USE, TransactionResultType.SUCCESS, 2L
+        );
+
+        given(redisLockService.acquireLock(anyString(), anyLong()))
+                .willReturn(true);
+
+        given(transactionStore.findCancelTarget(anyLong()))
+                .willReturn(Optional.of(target));
+
+        // when
+        AccountException exception = assertThrows(
+                AccountException.class,
+                () -> transactionService.cancelBalance(
+                        new CancelBalanceRequest(1L, "1234567890", 1000L)
+                ));
+
+        // then
+        assertEquals(ErrorCode.TRANSACTION_ALREADY_CANCELED, exception.getErrorCode());
+        verify(accountRepository, never()).findByAccountNumberWithPessimisticLock(anyString());
+        verify(redisLockService, times(1)).releaseLock(anyString());
+        verify(transactionStore, never()).save(any(Transaction.class));
+        verify(accountRepository, never()).save(any(Account.class));
+    }
+
+    @Test
+    @DisplayName("잔액 사용 취소 실패 - 동시에 다른 취소가 먼저 연결됨")
+    void cancelBalance_ConcurrentCancelLosesLink() {
+        // given
+        User user = User.builder()
+                .userId("testUser")
+                .name("Test User")
                 .build();
 
+        Account account = Account.builder()
+                .accountNumber("1234567890")
+                .user(user)
+                .balance(9000L)
+                .accountStatus(AccountStatus.IN_USE)
+                .build();
+
+        CancelTarget target = new CancelTarget(
+                account.getAccountNumber(), 1000L, TransactionType.USE, TransactionResultType.SUCCESS, null
+        );
+
         given(redisLockService.acquireLock(anyString(), anyLong()))
                 .willReturn(true);
 
-        given(transactionRepository.findByTransactionId(anyLong()))
-                .willReturn(Optional.of(transaction));
+        given(transactionStore.findCancelTarget(anyLong()))
+                .willReturn(Optional.of(target));
 
         given(accountRepository.findByAccountNumberWithPessimisticLock(anyString()))
                 .willReturn(Optional.of(account));
 
+        given(transactionStore.save(any(Transaction.class)))
+                .willAnswer(invocation -> {
+                    Transaction transaction = invocation.getArgument(0);
+                    transaction.setTransactionId(3L);
+                    return transaction;
+                });
+
+        given(transactionStore.markCanceled(1L, 3L))
+                .willReturn(0);
+
         // when
         AccountException exception = assertThrows(
                 AccountException.class,
                 () -> transactionService.cancelBalance(
-                        new CancelBalanceRequest(1L, "1234567890", 1000L
-                        )
+                        new CancelBalanceRequest(1L, "1234567890", 1000L)
                 ));
 
         // then
         assertEquals(ErrorCode.TRANSACTION_ALREADY_CANCELED, exception.getErrorCode());
         verify(redisLockService, times(1)).releaseLock(anyString());
-        verify(transactionRepository, never()).save(any(Transaction.class));
+        verify(eventPublisher, never()).publishEvent(any(BalanceChangedEvent.class));
+    }
+
+    @Test
+    @DisplayName("잔액 사용 취소 실패 - 실패한 거래")
+    void cancelBalance_FailedTransaction() {
+        // given
+        User user = User.builder()
+                .userId("testUser")
+                .name("Test User")
+                .build();
+
+        Account account = Account.builder()
+                .accountNumber("1234567890")
+                .user(user)
+                .balance(500L)
+                .accountStatus(AccountStatus.IN_USE)
+                .build();
+
+        CancelTarget target = new CancelTarget(
+                account.getAccountNumber(), 1000L, TransactionType.USE, TransactionResultType.FAIL, null
+        );
+
+        given(redisLockService.acquireLock(anyString(), anyLong()))
+                .willReturn(true);
+
+        given(transactionStore.findCancelTarget(anyLong()))
+                .willReturn(Optional.of(target));
+
+        // when
+        AccountException exception = assertThrows(
+                AccountException.class,
+                () -> transactionService.cancelBalance(
+                        new CancelBalanceRequest(1L, "1234567890", 1000L)
+                ));
+
+        // then
+        assertEquals(ErrorCode.FAILED_TRANSACTION_NOT_CANCELABLE, exception.getErrorCode());
+        verify(accountRepository, never()).findByAccountNumberWithPessimisticLock(anyString());
+        verify(transactionStore, never()).save(any(Transaction.class));
         verify(accountRepository, never()).save(any(Account.class));
+        verify(failedTransactionRecorder, times(1)).record(
+                "1234567890", TransactionType.CANCEL, 1000L, ErrorCode.FAILED_TRANSACTION_NOT_CANCELABLE, 1L
+        );
     }
 }
@@ -1,33 +1,57 @@
 package com.example.myaccountsystem.service;
 
+import com.example.myaccountsystem.archive.TransactionArchive;
+import com.example.myaccountsystem.archive.TransactionRecord;
+import com.example.myaccountsystem.config.LatencyProperties;
+import com.example.myaccountsystem.config.ShardingProperties;
+import com.example.myaccountsystem.dto.GetBalanceAsOfResponse;
+import com.example.myaccountsystem.dto.GetBalancesAsOfRequest;
+import com.example.myaccountsystem.dto.GetBalancesAsOfResponse;
+import com.example.myaccountsystem.dto.GetTransactionHistoryResponse;
 import com.example.myaccountsystem.dto.GetTransactionResponse;
 import com.example.myaccountsystem.dto.UseBalanceRequest;
 import com.example.myaccountsystem.dto.UseBalanceResponse;
 import com.example.myaccountsystem.entity.Account;
 import com.example.myaccountsystem.entity.Transaction;
 import com.example.myaccountsystem.entity.User;
+import com.example.myaccountsystem.event.BalanceChangedEvent;
+import com.example.myaccountsystem.eventsourcing.EventSourcedBalances;
 import com.example.myaccountsystem.exception.AccountException;
+import com.example.myaccountsystem.monitoring.HotAccountTracker;
+import com.example.myaccountsystem.monitoring.LatencyRecorders;
+import com.example.myaccountsystem.monitoring.TransactionMetrics;
 import com.example.myaccountsystem.repository.AccountRepository;
-import com.example.myaccountsystem.repository.TransactionRepository;
+import com.example.myaccountsystem.repository.BalanceAsOf;
+import com.example.myaccountsystem.repository.TransactionStore;
 import com.example.myaccountsystem.repository.UserRepository;
+import com.example.myaccountsystem.sharding.ShardRouter;
+import com.example.myaccountsystem.sharding.TransactionIdAllocator;
+import com.example.myaccountsystem.state.AccountStateCache;
 import com.example.myaccountsystem.type.AccountStatus;
 import com.example.myaccountsystem.type.ErrorCode;
 import com.example.myaccountsystem.type.TransactionResultType;
 import com.example.myaccountsystem.type.TransactionType;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.QueryTimeoutException;
 
 import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willThrow;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -40,11 +64,46 @@ class TransactionServiceTest {
     private AccountRepository accountRepository;
 
     @Mock
-    private TransactionRepository transactionRepository;
+    private TransactionStore transactionStore;
 
     @Mock
     private RedisLockService redisLockService;
 
+    @Mock
+    private OutboxService outboxService;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private FailedTransactionRecorder failedTransactionRecorder;
+
+    @Mock
+    private HotAccountTracker hotAccountTracker;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Spy
+    private TransactionMetrics transactionMetrics = new TransactionMetrics(
+            meterRegistry,
+            new LatencyRecorders(new LatencyProperties())
+    );
+
+    @Spy
+    private ShardRouter shardRouter = new ShardRouter(new ShardingProperties());
+
+    @Mock
+    private TransactionIdAllocator transactionIdAllocator;
+
+    @Mock
+    private TransactionArchive transactionArchive;
+
+    @Mock
+    private AccountStateCache accountStateCache;
+
+    @Mock
+    private EventSourcedBalances eventSourcedBalances;
+
     @InjectMocks
     private TransactionService transactionService;
 
@@ -83,7 +142,7 @@ class TransactionServiceTest {
                 .transactedAt(LocalDateTime.now())
                 .build();
 
-        given(transactionRepository.save(any(Transaction.class)))
+        given(transactionStore.save(any(Transaction.class)))
                 .willReturn(transaction);
 
         ArgumentCaptor<Transaction> transactionCaptor = ArgumentCaptor.forClass(Transaction.class);
@@ -95,7 +154,9 @@ class TransactionServiceTest {
         );
 
         // then
-        verify(transactionRepository, times(1)).save(transactionCaptor.capture());
+        verify(transactionStore, times(1)).save(transactionCaptor.capture());
+        verify(outboxService, times(1)).append(transaction);
+        verify(eventPublisher, times(1)).publishEvent(any(BalanceChangedEvent.class));
         verify(accountRepository, times(1)).save(accountCaptor.capture());
         verify(redisLockService, times(1)).acquireLock(eq("1234567890"), anyLong());
         verify(redisLockService, times(1)).releaseLock(eq("1234567890"));
@@ -108,12 +169,35 @@ class TransactionServiceTest {
         assertEquals(TransactionType.USE, savedTransaction.getTransactionType());
         assertEquals(TransactionResultType.SUCCESS, savedTransaction.getTransactionResultType());
         assertEquals(1000L, savedTransaction.getAmount());
-        assertEquals(10000L, savedTransaction.getBalanceSnapshot());
+        assertEquals(9000L, savedTransaction.getBalanceSnapshot());
 
         Account savedAccount = accountCaptor.getValue();
         assertEquals(9000L, savedAccount.getBalance());
     }
 
+    @Test
+    @DisplayName("잔액 사용 실패 - ErrorCode 없는 예외도 결과와 지연을 기록")
+    void useBalance_UnexpectedError() {
+        // given
+        given(redisLockService.acquireLock(anyString(), anyLong()))
+                .willReturn(true);
+
+        given(userRepository.findById(anyString()))
+                .willThrow(new QueryTimeoutException("timeout"));
+
+        // when
+        assertThrows(
+                QueryTimeoutException.class,
+                () -> transactionService.useBalance(new UseBalanceRequest("testUser", "1234567890", 1000L))
+        );
+
+        // then
+        assertEquals(1.0, meterRegistry.get("account.transaction.outcomes")
+                .tags("operation", "use", "outcome", "error").counter().count());
+        verify(redisLockService, times(1)).releaseLock("1234567890");
+        verify(failedTransactionRecorder, never()).record(any(), any(), any(), any(), any());
+    }
+
     @Test
     @DisplayName("잔액 사용 실패 - 락 획득 실패")
     void useBalance_FailToAcquireLock() {
@@ -131,10 +215,85 @@ class TransactionServiceTest {
 
         // then
         assertEquals(ErrorCode.ACCOUNT_TRANSACTION_LOCK, exception.getErrorCode());
+        verify(hotAccountTracker).recordOperation("1234567890");
+        verify(hotAccountTracker).recordLockRejection("1234567890");
         verify(redisLockService, never()).releaseLock(anyString());
         verify(userRepository, never()).findById(anyString());
         verify(accountRepository, never()).findByAccountNumberWithPessimisticLock(anyString());
-        verify(transactionRepository, never()).save(any(Transaction.class));
+        verify(transactionStore, never()).save(any(Transaction.class));
+    }
+
+    @Test
+    @DisplayName("잔액 사용 실패 - 계좌 상태 캐시로 락 없이 해지 계좌 거절")
+    void useBalance_RejectedByAccountState() {
+        // given
+        willThrow(new AccountException(ErrorCode.ACCOUNT_ALREADY_UNREGISTERED))
+                .given(accountStateCache).rejectIfKnownInvalid("testUser", "1234567890");
+
+        // when
+        AccountException exception = assertThrows(
+                AccountException.class,
+                () -> transactionService.useBalance(
+                        new UseBalanceRequest("testUser", "1234567890", 1000L)
+                )
+        );
+
+        // then
+        assertEquals(ErrorCode.ACCOUNT_ALREADY_UNREGISTERED, exception.getErrorCode());
+        verify(redisLockService, never()).acquireLock(anyString(), anyLong());
+        verify(accountRepository, never()).findByAccountNumberWithPessimisticLock(anyString());
+        verify(failedTransactionRecorder, times(1)).record(
+                "1234567890", TransactionType.USE, 1000L, ErrorCode.ACCOUNT_ALREADY_UNREGISTERED, null
+        );
+    }
+
+    @Test
+    @DisplayName("잔액 사용 성공 - 이벤트 소싱 모드는 계좌 행을 고치지 않고 이벤트만 추가")
+    void useBalance_EventSourced() {
+        // given
+        User user = User.builder()
+                .userId("testUser")
+                .build();
+
+        Account account = Account.builder()
+                .accountNumber("1234567890")
+                .user(user)
+                .balance(10000L)
+                .accountStatus(AccountStatus.IN_USE)
+                .build();
+
+        given(redisLockService.acquireLock(anyString(), anyLong()))
+                .willReturn(true);
+
+        given(userRepository.findById(anyString()))
+                .willReturn(Optional.of(user));
+
+        given(accountRepository.findByAccountNumberWithPessimisticLock(anyString()))
+                .willReturn(Optional.of(account));
+
+        given(eventSourcedBalances.isEnabled())
+                .willReturn(true);
+
+        given(eventSourcedBalances.nextSequence(account))
+                .willReturn(8L);
+
+        given(transactionStore.save(any(Transaction.class)))
+                .willAnswer(invocation -> invocation.getArgument(0));
+
+        ArgumentCaptor<Transaction> transactionCaptor = ArgumentCaptor.forClass(Transaction.class);
+
+        // when
+        transactionService.useBalance(new UseBalanceRequest("testUser", "1234567890", 1000L));
+
+        // then
+        verify(eventSourcedBalances, times(1)).materialize(account);
+        verify(transactionStore, times(1)).save(transactionCaptor.capture());
+        verify(eventSourcedBalances, times(1)).appended(transactionCaptor.getValue());
+        verify(accountRepository, never()).save(any(Account.class));
+
+        Transaction savedTransaction = transactionCaptor.getValue();
+        assertEquals(8L, savedTransaction.getEventSequence());
+        assertEquals(9000L, savedTransaction.getBalanceSnapshot());
     }
 
     @Test
@@ -159,7 +318,10 @@ class TransactionServiceTest {
         assertEquals(ErrorCode.USER_NOT_FOUND, exception.getErrorCode());
         verify(redisLockService, times(1)).releaseLock(anyString());
         verify(accountRepository, never()).findByAccountNumberWithPessimisticLock(anyString());
-        verify(transactionRepository, never()).save(any(Transaction.class));
+        verify(transactionStore, never()).save(any(Transaction.class));
+        verify(failedTransactionRecorder, times(1)).record(
+                "1234567890", TransactionType.USE, 1000L, ErrorCode.USER_NOT_FOUND, null
+        );
     }
 
     @Test
@@ -191,7 +353,7 @@ class TransactionServiceTest {
         // then
         assertEquals(ErrorCode.ACCOUNT_NOT_FOUND, exception.getErrorCode());
         verify(redisLockService, times(1)).releaseLock(anyString());
-        verify(transactionRepository, never()).save(any(Transaction.class));
+        verify(transactionStore, never()).save(any(Transaction.class));
     }
 
     @Test
@@ -235,7 +397,7 @@ class TransactionServiceTest {
         // then
         assertEquals(ErrorCode.ACCOUNT_OWNER_MISMATCH, exception.getErrorCode());
         verify(redisLockService, times(1)).releaseLock(anyString());
-        verify(transactionRepository, never()).save(any(Transaction.class));
+        verify(transactionStore, never()).save(any(Transaction.class));
         verify(accountRepository, never()).save(any(Account.class));
     }
 
@@ -275,7 +437,7 @@ class TransactionServiceTest {
         // then
         assertEquals(ErrorCode.ACCOUNT_ALREADY_UNREGISTERED, exception.getErrorCode());
         verify(redisLockService, times(1)).releaseLock(anyString());
-        verify(transactionRepository, never()).save(any(Transaction.class));
+        verify(transactionStore, never()).save(any(Transaction.class));
         verify(accountRepository, never()).save(any(Account.class));
     }
 
@@ -315,7 +477,7 @@ class TransactionServiceTest {
         // then
         assertEquals(ErrorCode.TOO_SMALL_AMOUNT, exception.getErrorCode());
         verify(redisLockService, times(1)).releaseLock(anyString());
-        verify(transactionRepository, never()).save(any(Transaction.class));
+        verify(transactionStore, never()).save(any(Transaction.class));
         verify(accountRepository, never()).save(any(Account.class));
     }
 
@@ -355,7 +517,7 @@ class TransactionServiceTest {
         // then
         assertEquals(ErrorCode.TOO_LARGE_AMOUNT, exception.getErrorCode());
         verify(redisLockService, times(1)).releaseLock(anyString());
-        verify(transactionRepository, never()).save(any(Transaction.class));
+        verify(transactionStore, never()).save(any(Transaction.class));
         verify(accountRepository, never()).save(any(Account.class));
     }
 
@@ -395,7 +557,7 @@ class TransactionServiceTest {
         // then
         assertEquals(ErrorCode.AMOUNT_EXCEED_BALANCE, exception.getErrorCode());
         verify(redisLockService, times(1)).releaseLock(anyString());
-        verify(transactionRepository, never()).save(any(Transaction.class));
+        verify(transactionStore, never()).save(any(Transaction.class));
         verify(accountRepository, never()).save(any(Account.class));
     }
 
@@ -425,7 +587,7 @@ class TransactionServiceTest {
                 .transactedAt(LocalDateTime.now())
                 .build();
 
-        given(transactionRepository.findByTransactionId(anyLong()))
+        given(transactionStore.findByTransactionId(anyLong()))
                 .willReturn(Optional.of(transaction));
 
         // when
@@ -444,7 +606,7 @@ class TransactionServiceTest {
     @DisplayName("거래 조회 실패 - 거래 없음")
     void getTransaction_TransactionNotFound() {
         // given
-        given(transactionRepository.findByTransactionId(anyLong()))
+        given(transactionStore.findByTransactionId(anyLong()))
                 .willReturn(Optional.empty());
 
         // when
@@ -456,4 +618,180 @@ class TransactionServiceTest {
         // then
         assertEquals(ErrorCode.TRANSACTION_NOT_FOUND, exception.getErrorCode());
     }
+
+    @Test
+    @DisplayName("거래 조회 성공 - 아카이브된 거래")
+    void getTransaction_FromArchive() {
+        // given
+        TransactionRecord archived = record(7L, LocalDateTime.of(2024, 1, 15, 10, 0));
+
+        given(transactionStore.findByTransactionId(7L))
+                .willReturn(Optional.empty());
+
+        given(transactionArchive.findById(7L))
+                .willReturn(Optional.of(archived));
+
+        // when
+        GetTransactionResponse response = transactionService.getTransaction(7L);
+
+        // then
+        assertEquals("1234567890", response.getAccountNumber());
+        assertEquals(7L, response.getTransactionId());
+        assertEquals(archived.transactedAt(), response.getTransactedAt());
+    }
+
+    @Test
+    @DisplayName("거래 내역 조회 - 테이블과 아카이브를 합쳐 최신순으로 반환")
+    void getTransactionHistory_MergesHotAndArchived() {
+        // given
+        LocalDateTime from = LocalDateTime.of(2024, 1, 1, 0, 0);
+        LocalDateTime to = LocalDateTime.of(2025, 12, 31, 0, 0);
+        TransactionRecord hot = record(3L, LocalDateTime.of(2025, 6, 1, 0, 0));
+        TransactionRecord moving = record(2L, LocalDateTime.of(2024, 6, 1, 0, 0));
+        TransactionRecord archived = record(1L, LocalDateTime.of(2024, 2, 1, 0, 0));
+
+        given(transactionStore.findHistory(eq("1234567890"), eq(from), eq(to), anyInt()))
+                .willReturn(List.of(hot, moving));
+
+        given(transactionArchive.findByAccount(0, "1234567890", from, to))
+                .willReturn(List.of(moving, archived));
+
+        // when
+        GetTransactionHistoryResponse response =
+                transactionService.getTransactionHistory("1234567890", from, to, 10);
+
+        // then
+        assertEquals(
+                List.of(3L, 2L, 1L),
+                response.getTransactions().stream().map(GetTransactionResponse::getTransactionId).toList()
+        );
+    }
+
+    @Test
+    @DisplayName("거래 내역 조회 실패 - 잘못된 기간")
+    void getTransactionHistory_InvalidRange() {
+        // when
+        AccountException exception = assertThrows(
+                AccountException.class,
+                () -> transactionService.getTransactionHistory(
+                        "1234567890", LocalDateTime.now(), LocalDateTime.now().minusDays(1), 10
+                )
+        );
+
+        // then
+        assertEquals(ErrorCode.INVALID_REQUEST, exception.getErrorCode());
+        verifyNoInteractions(transactionArchive);
+    }
+
+    @Test
+    @DisplayName("시점 잔액 조회 - 테이블에서 한 번에 찾고, 없는 조회만 보관 세그먼트에서 찾음")
+    void getBalancesAsOf_TableThenArchive() {
+        // given
+        LocalDateTime recent = LocalDateTime.of(2025, 6, 1, 12, 0);
+        LocalDateTime old = LocalDateTime.of(2023, 1, 1, 0, 0);
+        LocalDateTime beforeFirst = LocalDateTime.of(2020, 1, 1, 0, 0);
+        BalanceAsOf recentQuery = new BalanceAsOf("1234567890", recent);
+        TransactionRecord hot = record(3L, recent.minusDays(1));
+        TransactionRecord archived = record(1L, old.minusDays(3));
+
+        given(transactionStore.findLatestAsOf(anyList()))
+                .willReturn(Map.of(recentQuery, hot));
+
+        given(transactionArchive.findLatestByAccount(0, "1234567890", old))
+                .willReturn(Optional.of(archived));
+
+        given(transactionArchive.findLatestByAccount(0, "1234567890", beforeFirst))
+                .willReturn(Optional.empty());
+
+        // when
+        GetBalancesAsOfResponse response = transactionService.getBalancesAsOf(new GetBalancesAsOfRequest(List.of(
+                new GetBalancesAsOfRequest.Query("1234567890", recent),
+                new GetBalancesAsOfRequest.Query("1234567890", old),
+                new GetBalancesAsOfRequest.Query("1234567890", beforeFirst)
+        )));
+
+        // then
+        verify(transactionStore, times(1)).findLatestAsOf(anyList());
+        verify(transactionArchive, never()).findLatestByAccount(0, "1234567890", recent);
+
+        List<GetBalanceAsOfResponse> balances = response.getBalances();
+        assertEquals(3L, balances.get(0).getTransactionId());
+        assertEquals(9000L, balances.get(0).getBalance());
+        assertEquals(1L, balances.get(1).getTransactionId());
+        assertEquals(old, balances.get(1).getAsOf());
+        assertTrue(balances.get(0).isAccountExisted());
+        assertNull(balances.get(2).getBalance());
+        assertNull(balances.get(2).getTransactionId());
+        assertFalse(balances.get(2).isAccountExisted());
+    }
+
+    @Test
+    @DisplayName("시점 잔액 조회 - 첫 거래 전 시점은 개설 잔액, 개설 전 시점은 계좌가 없었다고 답함")
+    void getBalancesAsOf_OpeningBalanceBeforeFirstTransaction() {
+        // given
+        LocalDateTime createdAt = LocalDateTime.of(2024, 1, 1, 9, 0);
+        LocalDateTime afterOpening = createdAt.plusHours(1);
+        LocalDateTime beforeOpening = createdAt.minusDays(1);
+        Account account = Account.builder()
+                .accountNumber("1234567890")
+                .balance(3000L)
+                .openingBalance(10000L)
+                .createdAt(createdAt)
+                .build();
+
+        given(transactionStore.findLatestAsOf(anyList())).willReturn(Map.of());
+        given(transactionArchive.findLatestByAccount(eq(0), eq("1234567890"), any(LocalDateTime.class)))
+                .willReturn(Optional.empty());
+        given(accountRepository.findAllById(List.of("1234567890"))).willReturn(List.of(account));
+
+        // when
+        GetBalancesAsOfResponse response = transactionService.getBalancesAsOf(new GetBalancesAsOfRequest(List.of(
+                new GetBalancesAsOfRequest.Query("1234567890", afterOpening),
+                new GetBalancesAsOfRequest.Query("1234567890", beforeOpening)
+        )));
+
+        // then
+        List<GetBalanceAsOfResponse> balances = response.getBalances();
+        assertEquals(10000L, balances.get(0).getBalance());
+        assertTrue(balances.get(0).isAccountExisted());
+        assertTrue(balances.get(0).isBalanceKnown());
+        assertNull(balances.get(0).getTransactionId());
+        assertNull(balances.get(1).getBalance());
+        assertFalse(balances.get(1).isAccountExisted());
+        verify(accountRepository, times(1)).findAllById(anyList());
+    }
+
+    @Test
+    @DisplayName("시점 잔액 조회 - 개설 잔액이 없는 기존 계좌의 첫 거래 전 시점은 잔액을 모른다고 답함")
+    void getBalancesAsOf_LegacyAccountWithoutOpeningBalance() {
+        // given
+        LocalDateTime createdAt = LocalDateTime.of(2024, 1, 1, 9, 0);
+        LocalDateTime afterOpening = createdAt.plusHours(1);
+        Account account = Account.builder()
+                .accountNumber("1234567890")
+                .balance(3000L)
+                .createdAt(createdAt)
+                .build();
+
+        given(transactionStore.findLatestAsOf(anyList())).willReturn(Map.of());
+        given(transactionArchive.findLatestByAccount(0, "1234567890", afterOpening))
+                .willReturn(Optional.empty());
+        given(accountRepository.findAllById(List.of("1234567890"))).willReturn(List.of(account));
+
+        // when
+        GetBalanceAsOfResponse response = transactionService.getBalanceAsOf("1234567890", afterOpening);
+
+        // then
+        assertTrue(response.isAccountExisted());
+        assertFalse(response.isBalanceKnown());
+        assertNull(response.getBalance());
+        assertNull(response.getTransactionId());
+    }
+
+    private static TransactionRecord record(long transactionId, LocalDateTime transactedAt) {
+        return new TransactionRecord(
+                transactionId, "1234567890", TransactionType.USE, TransactionResultType.SUCCESS,
+                1000L, 9000L, transactedAt, null, null, null
+        );
+    }
 }
\ No newline at end of file
@@ -0,0 +1,293 @@
+package com.example.myaccountsystem.service;
+
+import com.example.myaccountsystem.archive.TransactionArchive;
+import com.example.myaccountsystem.config.LatencyProperties;
+import com.example.myaccountsystem.config.ShardingProperties;
+import com.example.myaccountsystem.dto.TransferBalanceRequest;
+import com.example.myaccountsystem.dto.TransferBalanceResponse;
+import com.example.myaccountsystem.entity.Account;
+import com.example.myaccountsystem.entity.Transaction;
+import com.example.myaccountsystem.entity.User;
+import com.example.myaccountsystem.eventsourcing.EventSourcedBalances;
+import com.example.myaccountsystem.exception.AccountException;
+import com.example.myaccountsystem.monitoring.HotAccountTracker;
+import com.example.myaccountsystem.monitoring.LatencyRecorders;
+import com.example.myaccountsystem.monitoring.TransactionMetrics;
+import com.example.myaccountsystem.repository.AccountRepository;
+import com.example.myaccountsystem.repository.TransactionStore;
+import com.example.myaccountsystem.repository.UserRepository;
+import com.example.myaccountsystem.sharding.ShardRouter;
+import com.example.myaccountsystem.sharding.TransactionIdAllocator;
+import com.example.myaccountsystem.state.AccountStateCache;
+import com.example.myaccountsystem.type.AccountStatus;
+import com.example.myaccountsystem.type.ErrorCode;
+import com.example.myaccountsystem.type.TransactionResultType;
+import com.example.myaccountsystem.type.TransactionType;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class TransactionServiceTransferTest {
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private AccountRepository accountRepository;
+
+    @Mock
+    private TransactionStore transactionStore;
+
+    @Mock
+    private RedisLockService redisLockService;
+
+    @Mock
+    private OutboxService outboxService;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private FailedTransactionRecorder failedTransactionRecorder;
+
+    @Mock
+    private HotAccountTracker hotAccountTracker;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Spy
+    private TransactionMetrics transactionMetrics = new TransactionMetrics(
+            meterRegistry,
+            new LatencyRecorders(new LatencyProperties())
+    );
+
+    @Spy
+    private ShardRouter shardRouter = new ShardRouter(new ShardingProperties());
+
+    @Mock
+    private TransactionIdAllocator transactionIdAllocator;
+
+    @Mock
+    private TransactionArchive transactionArchive;
+
+    @Mock
+    private AccountStateCache accountStateCache;
+
+    @Mock
+    private EventSourcedBalances eventSourcedBalances;
+
+    @InjectMocks
+    private TransactionService transactionService;
+
+    @Test
+    @DisplayName("계좌 이체 성공")
+    void transferBalance_Success() {
+        // given
+        User user = User.builder()
+                .userId("testUser")
+                .name("Test User")
+                .build();
+
+        Account fromAccount = Account.builder()
+                .accountNumber("2000000000")
+                .user(user)
+                .balance(10000L)
+                .accountStatus(AccountStatus.IN_USE)
+                .build();
+
+        Account toAccount = Account.builder()
+                .accountNumber("1000000000")
+                .user(User.builder().userId("anotherUser").build())
+                .balance(500L)
+                .accountStatus(AccountStatus.IN_USE)
+                .build();
+
+        given(redisLockService.acquireLock(anyString(), anyLong()))
+                .willReturn(true);
+
+        given(userRepository.findById("testUser"))
+                .willReturn(Optional.of(user));
+
+        given(accountRepository.findByAccountNumberWithPessimisticLock("2000000000"))
+                .willReturn(Optional.of(fromAccount));
+
+        given(accountRepository.findByAccountNumberWithPessimisticLock("1000000000"))
+                .willReturn(Optional.of(toAccount));
+
+        AtomicLong sequence = new AtomicLong();
+        given(transactionIdAllocator.next(anyString(), any(LocalDateTime.class)))
+                .willAnswer(invocation -> sequence.incrementAndGet());
+
+        given(transactionStore.save(any(Transaction.class)))
+                .willAnswer(invocation -> invocation.getArgument(0));
+
+        ArgumentCaptor<Transaction> transactionCaptor = ArgumentCaptor.forClass(Transaction.class);
+
+        // when
+        TransferBalanceResponse response = transactionService.transferBalance(
+                new TransferBalanceRequest("testUser", "2000000000", "1000000000", 3000L)
+        );
+
+        // then
+        InOrder lockOrder = inOrder(redisLockService, accountRepository);
+        lockOrder.verify(redisLockService).acquireLock(eq("1000000000"), anyLong());
+        lockOrder.verify(redisLockService).acquireLock(eq("2000000000"), anyLong());
+        lockOrder.verify(accountRepository).findByAccountNumberWithPessimisticLock("1000000000");
+        lockOrder.verify(accountRepository).findByAccountNumberWithPessimisticLock("2000000000");
+        verify(redisLockService, times(1)).releaseLock("1000000000");
+        verify(redisLockService, times(1)).releaseLock("2000000000");
+        verify(transactionStore, times(2)).save(transactionCaptor.capture());
+
+        assertEquals(7000L, fromAccount.getBalance());
+        assertEquals(3500L, toAccount.getBalance());
+
+        List<Transaction> savedTransactions = transactionCaptor.getAllValues();
+        Transaction withdrawTransaction = savedTransactions.get(0);
+        Transaction depositTransaction = savedTransactions.get(1);
+        assertEquals(TransactionType.TRANSFER_OUT, withdrawTransaction.getTransactionType());
+        assertEquals(TransactionType.TRANSFER_IN, depositTransaction.getTransactionType());
+        assertEquals(depositTransaction.getTransactionId(), withdrawTransaction.getLinkedTransactionId());
+        assertEquals(withdrawTransaction.getTransactionId(), depositTransaction.getLinkedTransactionId());
+
+        assertEquals(TransactionResultType.SUCCESS, response.getTransactionResult());
+        assertEquals(withdrawTransaction.getTransactionId(), response.getWithdrawTransactionId());
+        assertEquals(depositTransaction.getTransactionId(), response.getDepositTransactionId());
+        assertEquals(3000L, response.getAmount());
+    }
+
+    @Test
+    @DisplayName("계좌 이체 실패 - 같은 계좌")
+    void transferBalance_SameAccount() {
+        // when
+        AccountException exception = assertThrows(
+                AccountException.class,
+                () -> transactionService.transferBalance(
+                        new TransferBalanceRequest("testUser", "1234567890", "1234567890", 1000L)
+                )
+        );
+
+        // then
+        assertEquals(ErrorCode.TRANSFER_SAME_ACCOUNT, exception.getErrorCode());
+        verify(redisLockService, never()).acquireLock(anyString(), anyLong());
+        assertEquals(1.0, meterRegistry.get("account.transaction.outcomes")
+                .tags("operation", "transfer", "outcome", "TRANSFER_SAME_ACCOUNT").counter().count());
+    }
+
+    @Test
+    @DisplayName("계좌 이체 실패 - 서로 다른 샤드")
+    void transferBalance_CrossShard() {
+        // given
+        doReturn(false).when(shardRouter).sameShard("1000000000", "2000000000");
+
+        // when
+        AccountException exception = assertThrows(
+                AccountException.class,
+                () -> transactionService.transferBalance(
+                        new TransferBalanceRequest("testUser", "1000000000", "2000000000", 1000L)
+                )
+        );
+
+        // then
+        assertEquals(ErrorCode.TRANSFER_CROSS_SHARD, exception.getErrorCode());
+        verify(redisLockService, never()).acquireLock(anyString(), anyLong());
+        verify(accountRepository, never()).findByAccountNumberWithPessimisticLock(anyString());
+    }
+
+    @Test
+    @DisplayName("계좌 이체 실패 - 두 번째 락 획득 실패 시 첫 번째 락 해제")
+    void transferBalance_FailToAcquireSecondLock() {
+        // given
+        given(redisLockService.acquireLock(eq("1000000000"), anyLong()))
+                .willReturn(true);
+
+        given(redisLockService.acquireLock(eq("2000000000"), anyLong()))
+                .willReturn(false);
+
+        // when
+        AccountException exception = assertThrows(
+                AccountException.class,
+                () -> transactionService.transferBalance(
+                        new TransferBalanceRequest("testUser", "2000000000", "1000000000", 1000L)
+                )
+        );
+
+        // then
+        assertEquals(ErrorCode.ACCOUNT_TRANSACTION_LOCK, exception.getErrorCode());
+        verify(hotAccountTracker).recordLockRejection("2000000000");
+        verify(hotAccountTracker, never()).recordLockRejection("1000000000");
+        verify(redisLockService, times(1)).releaseLock("1000000000");
+        verify(redisLockService, never()).releaseLock("2000000000");
+        verify(accountRepository, never()).findByAccountNumberWithPessimisticLock(anyString());
+    }
+
+    @Test
+    @DisplayName("계좌 이체 실패 - 잔액 부족")
+    void transferBalance_AmountExceedBalance() {
+        // given
+        User user = User.builder()
+                .userId("testUser")
+                .name("Test User")
+                .build();
+
+        Account fromAccount = Account.builder()
+                .accountNumber("1000000000")
+                .user(user)
+                .balance(100L)
+                .accountStatus(AccountStatus.IN_USE)
+                .build();
+
+        Account toAccount = Account.builder()
+                .accountNumber("2000000000")
+                .user(user)
+                .balance(0L)
+                .accountStatus(AccountStatus.IN_USE)
+                .build();
+
+        given(redisLockService.acquireLock(anyString(), anyLong()))
+                .willReturn(true);
+
+        given(userRepository.findById("testUser"))
+                .willReturn(Optional.of(user));
+
+        given(accountRepository.findByAccountNumberWithPessimisticLock("1000000000"))
+                .willReturn(Optional.of(fromAccount));
+
+        given(accountRepository.findByAccountNumberWithPessimisticLock("2000000000"))
+                .willReturn(Optional.of(toAccount));
+
+        // when
+        AccountException exception = assertThrows(
+                AccountException.class,
+                () -> transactionService.transferBalance(
+                        new TransferBalanceRequest("testUser", "1000000000", "2000000000", 1000L)
+                )
+        );
+
+        // then
+        assertEquals(ErrorCode.AMOUNT_EXCEED_BALANCE, exception.getErrorCode());
+        assertEquals(100L, fromAccount.getBalance());
+        assertEquals(0L, toAccount.getBalance());
+        verify(transactionStore, never()).save(any(Transaction.class));
+        verify(redisLockService, times(2)).releaseLock(anyString());
+    }
+}
@@ -0,0 +1,141 @@
+package com.example.myaccountsystem.service;
+
+import com.example.myaccountsystem.dto.TransferBalanceRequest;
+import com.example.myaccountsystem.entity.Account;
+import com.example.myaccountsystem.entity.User;
+import com.example.myaccountsystem.exception.AccountException;
+import com.example.myaccountsystem.repository.AccountRepository;
+import com.example.myaccountsystem.repository.UserRepository;
+import com.example.myaccountsystem.type.AccountStatus;
+import com.example.myaccountsystem.type.ErrorCode;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.given;
+
+@Slf4j
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:transfer-benchmark;LOCK_TIMEOUT=10000",
+        "spring.jpa.show-sql=false",
+        "account.outbox.relay.enabled=false"
+})
+class TransferContentionBenchmarkTest {
+
+    private static final int ACCOUNT_COUNT = 8;
+    private static final int THREAD_COUNT = 16;
+    private static final int TRANSFERS_PER_THREAD = 100;
+    private static final long INITIAL_BALANCE = 1_000_000L;
+
+    @Autowired
+    private TransactionService transactionService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private AccountRepository accountRepository;
+
+    @MockBean
+    private RedisLockService redisLockService;
+
+    @MockBean
+    private AccountVersionService accountVersionService;
+
+    private final List<String> accountNumbers = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        // Redis 락은 항상 획득되도록 하여 DB 비관적 락의 순서만으로 교착 여부를 검증한다.
+        given(redisLockService.acquireLock(anyString(), anyLong()))
+                .willReturn(true);
+
+        User user = userRepository.save(User.builder()
+                .userId("benchmarkUser")
+                .name("Benchmark User")
+                .createdAt(LocalDateTime.now())
+                .build());
+
+        for (int i = 0; i < ACCOUNT_COUNT; i++) {
+            String accountNumber = String.format("90000000%02d", i);
+            accountRepository.save(Account.builder()
+                    .accountNumber(accountNumber)
+                    .user(user)
+                    .balance(INITIAL_BALANCE)
+                    .accountStatus(AccountStatus.IN_USE)
+                    .createdAt(LocalDateTime.now())
+                    .build());
+            accountNumbers.add(accountNumber);
+        }
+    }
+
+    @Test
+    @DisplayName("무작위 계좌 쌍 간 고경합 이체 - 교착 없이 잔액 총합 보존")
+    void transferBetweenRandomPairs_NoDeadlock() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(THREAD_COUNT);
+        CountDownLatch startLatch = new CountDownLatch(1);
+        AtomicLong succeeded = new AtomicLong();
+        AtomicLong rejected = new AtomicLong();
+        List<Future<?>> futures = new ArrayList<>();
+
+        for (int t = 0; t < THREAD_COUNT; t++) {
+            futures.add(executor.submit(() -> {
+                ThreadLocalRandom random = ThreadLocalRandom.current();
+                startLatch.await();
+                for (int i = 0; i < TRANSFERS_PER_THREAD; i++) {
+                    int from = random.nextInt(ACCOUNT_COUNT);
+                    int to = (from + 1 + random.nextInt(ACCOUNT_COUNT - 1)) % ACCOUNT_COUNT;
+                    try {
+                        transactionService.transferBalance(new TransferBalanceRequest(
+                                "benchmarkUser",
+                                accountNumbers.get(from),
+                                accountNumbers.get(to),
+                                10L + random.nextInt(1000)
+                        ));
+                        succeeded.incrementAndGet();
+                    } catch (AccountException e) {
+                        assertEquals(ErrorCode.AMOUNT_EXCEED_BALANCE, e.getErrorCode());
+                        rejected.incrementAndGet();
+                    }
+                }
+                return null;
+            }));
+        }
+
+        long startedAt = System.nanoTime();
+        startLatch.countDown();
+        for (Future<?> future : futures) {
+            future.get(60, TimeUnit.SECONDS);
+        }
+        long elapsedNanos = System.nanoTime() - startedAt;
+        executor.shutdown();
+
+        long totalTransfers = (long) THREAD_COUNT * TRANSFERS_PER_THREAD;
+        log.info("transfers={}, succeeded={}, rejected={}, elapsed={}ms, throughput={} ops/s",
+                totalTransfers, succeeded.get(), rejected.get(),
+                TimeUnit.NANOSECONDS.toMillis(elapsedNanos),
+                String.format("%.1f", totalTransfers * 1_000_000_000.0 / elapsedNanos));
+
+        assertEquals(totalTransfers, succeeded.get() + rejected.get());
+        assertTrue(executor.awaitTermination(10, TimeUnit.SECONDS));
+
+        long totalBalance = accountRepository.findAllById(accountNumbers).stream()
+                .mapToLong(Account::getBalance)
+                .sum();
+        assertEquals(INITIAL_BALANCE * ACCOUNT_COUNT, totalBalance);
+    }
+}
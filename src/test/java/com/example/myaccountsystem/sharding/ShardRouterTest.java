@@ -0,0 +1,205 @@
+package com.example.myaccountsystem.sharding;
+
+import com.example.myaccountsystem.config.ShardingProperties;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ShardRouterTest {
+
+    private static final int SHARD_COUNT = 3;
+
+    private final List<JdbcTemplate> shardJdbcs = new ArrayList<>();
+
+    private ShardRouter shardRouter;
+    private DataSource dataSource;
+
+    @BeforeEach
+    void setUp() {
+        ShardingProperties properties = new ShardingProperties();
+        properties.setEnabled(true);
+        for (int shard = 0; shard < SHARD_COUNT; shard++) {
+            properties.getShards().add(new ShardingProperties.Shard());
+            shardJdbcs.add(new JdbcTemplate(database("shard-" + shard, shard)));
+        }
+        shardRouter = new ShardRouter(properties);
+
+        ShardRoutingDataSource routingDataSource = new ShardRoutingDataSource(
+                shardJdbcs.stream().map(JdbcTemplate::getDataSource).toList()
+        );
+        routingDataSource.afterPropertiesSet();
+        dataSource = new LazyConnectionDataSourceProxy(routingDataSource);
+    }
+
+    @AfterEach
+    void tearDown() {
+        shardRouter.shutdown();
+        shardJdbcs.forEach(jdbcTemplate -> jdbcTemplate.execute("drop all objects"));
+    }
+
+    @Test
+    @DisplayName("샤드 라우팅 - 트랜잭션 시작 후 지정한 샤드로 커넥션이 열림")
+    void route_TransactionUsesEnteredShard() {
+        // given
+        String accountNumber = "1234567890";
+        int expectedShard = shardRouter.shardOf(accountNumber);
+        TransactionTemplate transactionTemplate =
+                new TransactionTemplate(new DataSourceTransactionManager(dataSource));
+
+        // when
+        Integer answeredBy = transactionTemplate.execute(status -> {
+            try (ShardScope shardScope = shardRouter.enterAccount(accountNumber)) {
+                return shardIdOfCurrentConnection();
+            }
+        });
+
+        // then
+        assertEquals(expectedShard, answeredBy);
+        assertNull(ShardContext.current());
+    }
+
+    @Test
+    @DisplayName("샤드 라우팅 - 거래 ID 접두사로 샤드를 찾음")
+    void shardOfTransaction_UsesIdPrefix() {
+        // when & then
+        assertEquals(0, shardRouter.shardOfTransaction(1L));
+        assertEquals(2, shardRouter.shardOfTransaction(TransactionIds.compose(2, 310, 41)));
+        assertEquals(0, shardRouter.shardOfTransaction(TransactionIds.compose(SHARD_COUNT, 310, 1)));
+    }
+
+    @Test
+    @DisplayName("샤드 라우팅 - scatter 는 모든 샤드의 결과를 샤드 순서대로 반환")
+    void scatter_QueriesEveryShard() {
+        // when
+        List<Integer> answeredBy = shardRouter.scatter(shard -> shardIdOfCurrentConnection());
+
+        // then
+        assertEquals(List.of(0, 1, 2), answeredBy);
+    }
+
+    @Test
+    @DisplayName("샤드 라우팅 - 다른 샤드에 커넥션이 묶인 트랜잭션 안에서도 scatter 는 모든 샤드를 조회")
+    void scatter_InsideTransactionBoundToOtherShard() {
+        // given
+        TransactionTemplate transactionTemplate =
+                new TransactionTemplate(new DataSourceTransactionManager(dataSource));
+
+        // when
+        List<Integer> answeredBy = transactionTemplate.execute(status -> {
+            try (ShardScope shardScope = shardRouter.enter(2)) {
+                assertEquals(2, shardIdOfCurrentConnection());
+                return shardRouter.scatter(shard -> shardIdOfCurrentConnection());
+            }
+        });
+
+        // then
+        assertEquals(List.of(0, 1, 2), answeredBy);
+    }
+
+    @Test
+    @DisplayName("샤드 라우팅 - scatter 안에서 다시 scatter 하면 거절")
+    void scatter_RejectsNestedScatter() {
+        // when
+        IllegalStateException exception = assertThrows(IllegalStateException.class,
+                () -> shardRouter.scatter(shard -> shardRouter.scatter(inner -> inner)));
+
+        // then
+        assertEquals("Nested scatter is not supported", exception.getMessage());
+        assertEquals(List.of(0, 1, 2), shardRouter.scatter(shard -> shard));
+    }
+
+    @Test
+    @DisplayName("샤드 라우팅 - scatter 스레드 수는 샤드 수와 무관하게 설정값을 따름")
+    void scatter_PoolSizedFromConfig() throws Exception {
+        // given
+        ShardingProperties properties = new ShardingProperties();
+        properties.setEnabled(true);
+        properties.setScatterThreads(1);
+        for (int shard = 0; shard < SHARD_COUNT; shard++) {
+            properties.getShards().add(new ShardingProperties.Shard());
+        }
+        ShardRouter narrowRouter = new ShardRouter(properties);
+        ExecutorService callers = Executors.newFixedThreadPool(4);
+
+        try {
+            // when
+            List<Future<List<String>>> results = new ArrayList<>();
+            for (int i = 0; i < 4; i++) {
+                results.add(callers.submit(() -> narrowRouter.scatter(shard -> Thread.currentThread().getName())));
+            }
+
+            // then
+            for (Future<List<String>> result : results) {
+                List<String> threads = result.get(5, TimeUnit.SECONDS);
+                assertFalse(threads.get(0).startsWith("shard-scatter-"));
+                assertEquals("shard-scatter-1", threads.get(1));
+                assertEquals("shard-scatter-1", threads.get(2));
+            }
+        } finally {
+            callers.shutdownNow();
+            narrowRouter.shutdown();
+        }
+    }
+
+    @Test
+    @DisplayName("샤드 라우팅 - 샤딩을 끄면 모든 계좌가 0번 샤드")
+    void disabled_SingleShard() {
+        // given
+        ShardRouter singleShardRouter = new ShardRouter(new ShardingProperties());
+
+        // when
+        ShardScope shardScope = singleShardRouter.enterAccount("1234567890");
+
+        // then
+        assertEquals(1, singleShardRouter.getShardCount());
+        assertEquals(0, singleShardRouter.shardOf("1234567890"));
+        assertSame(ShardScope.NOOP, shardScope);
+        assertNull(ShardContext.current());
+    }
+
+    @Test
+    @DisplayName("샤드 라우팅 - 계좌번호가 샤드에 고르게 분산됨")
+    void shardOf_SpreadsAccounts() {
+        // given
+        int[] counts = new int[SHARD_COUNT];
+
+        // when
+        for (int i = 0; i < 30_000; i++) {
+            counts[shardRouter.shardOf(String.format("%010d", 1_000_000_000L + i))]++;
+        }
+
+        // then
+        for (int count : counts) {
+            assertTrue(count > 9_000 && count < 11_000, "shard count: " + count);
+        }
+    }
+
+    private Integer shardIdOfCurrentConnection() {
+        return new JdbcTemplate(dataSource).queryForObject("select id from shard_id", Integer.class);
+    }
+
+    private static DataSource database(String name, int shard) {
+        DriverManagerDataSource dataSource =
+                new DriverManagerDataSource("jdbc:h2:mem:" + name + ";DB_CLOSE_DELAY=-1", "sa", "");
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.execute("create table shard_id (id int)");
+        jdbcTemplate.update("insert into shard_id (id) values (?)", shard);
+        return dataSource;
+    }
+}
@@ -0,0 +1,80 @@
+package com.example.myaccountsystem.sharding;
+
+import com.example.myaccountsystem.config.ShardingProperties;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.HashSet;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TransactionIdAllocatorTest {
+
+    private JdbcTemplate jdbcTemplate;
+    private TransactionIdAllocator allocator;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate = new JdbcTemplate(
+                new DriverManagerDataSource("jdbc:h2:mem:transaction-id;DB_CLOSE_DELAY=-1", "sa", "")
+        );
+        allocator = new TransactionIdAllocator(jdbcTemplate, new ShardRouter(new ShardingProperties()));
+        allocator.createSequence();
+    }
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.execute("drop all objects");
+    }
+
+    @Test
+    @DisplayName("거래 ID 발급 - 샤드와 월 파티션이 ID 에 담김")
+    void next_EncodesShardAndPartition() {
+        // given
+        LocalDateTime transactedAt = LocalDateTime.of(2025, 10, 19, 12, 0);
+
+        // when
+        long transactionId = allocator.next("1234567890", transactedAt);
+
+        // then
+        assertTrue(transactionId > 0);
+        assertEquals(0, TransactionIds.shardOf(transactionId));
+        assertEquals(YearMonth.of(2025, 10), TransactionIds.monthOf(TransactionIds.partitionOf(transactionId)));
+    }
+
+    @Test
+    @DisplayName("거래 ID 발급 - 시퀀스는 블록 단위로만 조회")
+    void next_AllocatesInBlocks() {
+        // given
+        LocalDateTime transactedAt = LocalDateTime.now();
+        Set<Long> transactionIds = new HashSet<>();
+
+        // when
+        for (int i = 0; i < TransactionIdAllocator.BLOCK_SIZE * 2 + 1; i++) {
+            transactionIds.add(allocator.next("1234567890", transactedAt));
+        }
+
+        // then
+        assertEquals(TransactionIdAllocator.BLOCK_SIZE * 2 + 1, transactionIds.size());
+        long sequenceCalls = jdbcTemplate.queryForObject(
+                "select current value for " + TransactionIdAllocator.SEQUENCE_NAME, Long.class
+        ) / TransactionIdAllocator.BLOCK_SIZE + 1;
+        assertEquals(3, sequenceCalls);
+    }
+
+    @Test
+    @DisplayName("거래 ID 구성 - 범위를 넘는 샤드는 거부")
+    void compose_RejectsShardOutOfRange() {
+        // when & then
+        assertThrows(IllegalArgumentException.class,
+                () -> TransactionIds.compose(TransactionIds.MAX_SHARDS, 0, 1));
+        assertEquals(7, TransactionIds.shardOf(TransactionIds.compose(7, 301, TransactionIds.MAX_SEQUENCE)));
+    }
+}
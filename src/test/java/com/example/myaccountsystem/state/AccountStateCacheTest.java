@@ -0,0 +1,95 @@
+package com.example.myaccountsystem.state;
+
+import com.example.myaccountsystem.config.AccountStateProperties;
+import com.example.myaccountsystem.config.ShardingProperties;
+import com.example.myaccountsystem.event.AccountStatusChangedEvent;
+import com.example.myaccountsystem.exception.AccountException;
+import com.example.myaccountsystem.sharding.ShardRouter;
+import com.example.myaccountsystem.type.AccountStatus;
+import com.example.myaccountsystem.type.ErrorCode;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AccountStateCacheTest {
+
+    private AccountStateCache cache;
+
+    @BeforeEach
+    void setUp() {
+        AccountStateProperties properties = new AccountStateProperties();
+        properties.setEnabled(true);
+        properties.setExpectedAccounts(100);
+        cache = new AccountStateCache(properties, null, new ShardRouter(new ShardingProperties()));
+
+        cache.onAccountStatusChanged(statusChanged("owner", "1234567890", AccountStatus.IN_USE));
+        cache.onAccountStatusChanged(statusChanged("other", "2222222222", AccountStatus.IN_USE));
+    }
+
+    @Test
+    @DisplayName("계좌 상태 캐시 - 다른 사용자의 계좌는 소유주 불일치로 거절")
+    void rejectIfKnownInvalid_OwnerMismatch() {
+        AccountException exception = assertThrows(
+                AccountException.class,
+                () -> cache.rejectIfKnownInvalid("other", "1234567890")
+        );
+
+        assertEquals(ErrorCode.ACCOUNT_OWNER_MISMATCH, exception.getErrorCode());
+        assertDoesNotThrow(() -> cache.rejectIfKnownInvalid("owner", "1234567890"));
+    }
+
+    @Test
+    @DisplayName("계좌 상태 캐시 - 해지된 계좌는 거절")
+    void rejectIfKnownInvalid_Unregistered() {
+        // given
+        cache.onAccountStatusChanged(statusChanged("other", "2222222222", AccountStatus.UNREGISTERED));
+
+        // when
+        AccountException exception = assertThrows(
+                AccountException.class,
+                () -> cache.rejectIfKnownInvalid("other", "2222222222")
+        );
+
+        // then
+        assertEquals(ErrorCode.ACCOUNT_ALREADY_UNREGISTERED, exception.getErrorCode());
+    }
+
+    @Test
+    @DisplayName("계좌 상태 캐시 - 모르는 계좌나 사용자는 DB 판정에 맡김")
+    void rejectIfKnownInvalid_UnknownPassesThrough() {
+        assertDoesNotThrow(() -> cache.rejectIfKnownInvalid("owner", "9999999999"));
+        assertDoesNotThrow(() -> cache.rejectIfKnownInvalid("stranger", "1234567890"));
+    }
+
+    @Test
+    @DisplayName("계좌 상태 캐시 - 비활성화 시 아무것도 하지 않음")
+    void disabled_DoesNothing() {
+        // given
+        AccountStateCache disabled = new AccountStateCache(
+                new AccountStateProperties(), null, new ShardRouter(new ShardingProperties())
+        );
+
+        // when
+        disabled.onAccountStatusChanged(statusChanged("owner", "1234567890", AccountStatus.UNREGISTERED));
+        disabled.afterSingletonsInstantiated();
+
+        // then
+        assertFalse(disabled.isEnabled());
+        assertDoesNotThrow(() -> disabled.rejectIfKnownInvalid("other", "1234567890"));
+    }
+
+    private static AccountStatusChangedEvent statusChanged(
+            String userId, String accountNumber, AccountStatus accountStatus
+    ) {
+        return AccountStatusChangedEvent.builder()
+                .userId(userId)
+                .accountNumber(accountNumber)
+                .accountStatus(accountStatus)
+                .changedAt(LocalDateTime.now())
+                .build();
+    }
+}
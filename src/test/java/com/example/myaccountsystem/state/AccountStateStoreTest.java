@@ -0,0 +1,54 @@
+package com.example.myaccountsystem.state;
+
+import com.example.myaccountsystem.type.AccountStatus;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AccountStateStoreTest {
+
+    @Test
+    @DisplayName("계좌 상태 - 10자리 숫자 계좌번호만 키로 변환")
+    void keyOf_PacksTenDigits() {
+        assertEquals(1234567890L, AccountStateStore.keyOf("1234567890"));
+        assertEquals(0L, AccountStateStore.keyOf("0000000000"));
+        assertEquals(AccountStateStore.NO_KEY, AccountStateStore.keyOf("123456789"));
+        assertEquals(AccountStateStore.NO_KEY, AccountStateStore.keyOf("12345678a0"));
+        assertEquals(AccountStateStore.NO_KEY, AccountStateStore.keyOf(null));
+    }
+
+    @Test
+    @DisplayName("계좌 상태 - 넣은 계좌를 찾고 같은 키는 덮어씀")
+    void put_ThenFind() {
+        // given
+        AccountStateStore store = new AccountStateStore(100);
+
+        // when
+        int slot = store.put(0L, 1, AccountStatus.IN_USE);
+        store.put(1234567890L, 2, AccountStatus.IN_USE);
+        int overwritten = store.put(1234567890L, 2, AccountStatus.UNREGISTERED);
+
+        // then
+        assertEquals(slot, store.find(0L));
+        assertEquals(1, store.owner(slot));
+        assertEquals(overwritten, store.find(1234567890L));
+        assertEquals(2, store.owner(overwritten));
+        assertEquals(AccountStatus.UNREGISTERED, store.status(overwritten));
+        assertEquals(AccountStateStore.NOT_FOUND, store.find(999L));
+    }
+
+    @Test
+    @DisplayName("계좌 상태 - 용량을 넘기면 예외")
+    void put_FailsWhenFull() {
+        // given
+        AccountStateStore store = new AccountStateStore(1);
+        for (int i = 0; i < store.capacity(); i++) {
+            store.put(i, 1, AccountStatus.IN_USE);
+        }
+
+        // when & then
+        assertThrows(IllegalStateException.class, () -> store.put(store.capacity(), 1, AccountStatus.IN_USE));
+        assertNotEquals(AccountStateStore.NOT_FOUND, store.find(store.capacity() - 1));
+    }
+}
@@ -0,0 +1,81 @@
+package com.example.myaccountsystem.support;
+
+import com.example.myaccountsystem.config.LatencyProperties;
+import com.example.myaccountsystem.config.RedisConfig;
+import com.example.myaccountsystem.monitoring.LatencyRecorders;
+import com.example.myaccountsystem.monitoring.LockMetrics;
+import com.example.myaccountsystem.service.RedisLockService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.io.IOException;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class InProcessRedisServerTest {
+
+    private InProcessRedisServer redisServer;
+    private LettuceConnectionFactory connectionFactory;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        redisServer = InProcessRedisServer.start();
+        connectionFactory = new LettuceConnectionFactory(
+                new RedisStandaloneConfiguration(redisServer.getHost(), redisServer.getPort())
+        );
+        connectionFactory.afterPropertiesSet();
+        connectionFactory.start();
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        connectionFactory.destroy();
+        redisServer.close();
+    }
+
+    @Test
+    @DisplayName("인프로세스 Redis - 락 획득/해제")
+    void lock_AcquireAndRelease() {
+        // given
+        RedisTemplate<String, Object> redisTemplate = new RedisConfig().redisTemplate(connectionFactory);
+        redisTemplate.afterPropertiesSet();
+        RedisLockService redisLockService = new RedisLockService(
+                redisTemplate,
+                new LockMetrics(new SimpleMeterRegistry(), new LatencyRecorders(new LatencyProperties()))
+        );
+
+        // when, then
+        assertTrue(redisLockService.acquireLock("1234567890", 3000));
+        assertFalse(redisLockService.acquireLock("1234567890", 3000));
+        assertTrue(redisLockService.isLocked("1234567890"));
+        assertTrue(redisLockService.extendLock("1234567890", 5000));
+
+        redisLockService.releaseLock("1234567890");
+        assertFalse(redisLockService.isLocked("1234567890"));
+        assertTrue(redisLockService.acquireLock("1234567890", 3000));
+    }
+
+    @Test
+    @DisplayName("인프로세스 Redis - 문자열 명령")
+    void stringCommands() {
+        // given
+        StringRedisTemplate redisTemplate = new StringRedisTemplate(connectionFactory);
+
+        // when
+        redisTemplate.opsForValue().set("key", "value");
+        Long incremented = redisTemplate.opsForValue().increment("counter");
+
+        // then
+        assertEquals("value", redisTemplate.opsForValue().get("key"));
+        assertEquals(1L, incremented);
+        assertEquals(2L, redisTemplate.opsForValue().increment("counter"));
+        assertNull(redisTemplate.opsForValue().get("missing"));
+    }
+}
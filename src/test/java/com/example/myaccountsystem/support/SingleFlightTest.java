@@ -0,0 +1,112 @@
+package com.example.myaccountsystem.support;
+
+import com.example.myaccountsystem.exception.AccountException;
+import com.example.myaccountsystem.type.ErrorCode;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SingleFlightTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private final SingleFlight<String, String> singleFlight = new SingleFlight<>(meterRegistry, "test");
+
+    @Test
+    @DisplayName("동시 호출은 하나의 loader 실행 결과를 공유")
+    void execute_CoalescesConcurrentCalls() throws Exception {
+        // given
+        AtomicInteger loads = new AtomicInteger();
+        CountDownLatch leaderStarted = new CountDownLatch(1);
+        CountDownLatch releaseLeader = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(5);
+
+        Future<String> leader = executor.submit(() -> singleFlight.execute("user1", () -> {
+            loads.incrementAndGet();
+            leaderStarted.countDown();
+            awaitQuietly(releaseLeader);
+            return "accounts";
+        }));
+        assertTrue(leaderStarted.await(5, TimeUnit.SECONDS));
+
+        List<Future<String>> followers = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            followers.add(executor.submit(() -> singleFlight.execute("user1", () -> {
+                loads.incrementAndGet();
+                return "unexpected";
+            })));
+        }
+
+        // when
+        while (meterRegistry.counter("test.coalescing.calls", "role", "follower").count() < 4) {
+            Thread.onSpinWait();
+        }
+        releaseLeader.countDown();
+
+        // then
+        assertEquals("accounts", leader.get(5, TimeUnit.SECONDS));
+        for (Future<String> follower : followers) {
+            assertEquals("accounts", follower.get(5, TimeUnit.SECONDS));
+        }
+        assertEquals(1, loads.get());
+        executor.shutdown();
+    }
+
+    @Test
+    @DisplayName("완료된 뒤의 호출은 다시 loader 실행")
+    void execute_DoesNotCacheCompletedResult() {
+        AtomicInteger loads = new AtomicInteger();
+
+        singleFlight.execute("user1", () -> "first" + loads.incrementAndGet());
+        String result = singleFlight.execute("user1", () -> "second" + loads.incrementAndGet());
+
+        assertEquals("second2", result);
+        assertEquals(2.0, meterRegistry.counter("test.coalescing.calls", "role", "leader").count());
+    }
+
+    @Test
+    @DisplayName("loader 예외는 follower 에게도 원래 예외로 전달")
+    void execute_PropagatesExceptionToFollowers() throws Exception {
+        // given
+        CountDownLatch leaderStarted = new CountDownLatch(1);
+        CountDownLatch releaseLeader = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+
+        Future<String> leader = executor.submit(() -> singleFlight.execute("user1", () -> {
+            leaderStarted.countDown();
+            awaitQuietly(releaseLeader);
+            throw new AccountException(ErrorCode.USER_NOT_FOUND);
+        }));
+        assertTrue(leaderStarted.await(5, TimeUnit.SECONDS));
+        Future<String> follower = executor.submit(() -> singleFlight.execute("user1", () -> "unexpected"));
+
+        // when
+        while (meterRegistry.counter("test.coalescing.calls", "role", "follower").count() < 1) {
+            Thread.onSpinWait();
+        }
+        releaseLeader.countDown();
+
+        // then
+        ExecutionException leaderFailure = assertThrows(ExecutionException.class, () -> leader.get(5, TimeUnit.SECONDS));
+        ExecutionException followerFailure = assertThrows(ExecutionException.class, () -> follower.get(5, TimeUnit.SECONDS));
+        assertInstanceOf(AccountException.class, leaderFailure.getCause());
+        assertInstanceOf(AccountException.class, followerFailure.getCause());
+        assertEquals(ErrorCode.USER_NOT_FOUND, ((AccountException) followerFailure.getCause()).getErrorCode());
+        executor.shutdown();
+    }
+
+    private static void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
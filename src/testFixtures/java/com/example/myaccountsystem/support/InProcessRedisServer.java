@@ -0,0 +1,241 @@
+package com.example.myaccountsystem.support;
+
+import java.io.*;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 벤치마크/부하 테스트용 Redis 프로토콜(RESP2) 대역.
+ * 애플리케이션이 사용하는 문자열 명령(SET NX PX, GET, DEL, EXISTS, PEXPIRE, INCR 등)만 지원하며
+ * 스트림/채널 명령은 받기만 하고 저장하지 않는다.
+ */
+public class InProcessRedisServer implements Closeable {
+    private final ServerSocket serverSocket;
+    private final ExecutorService connectionExecutor;
+    private final Map<String, Entry> store = new ConcurrentHashMap<>();
+    private final AtomicLong streamSequence = new AtomicLong();
+
+    private volatile boolean running = true;
+
+    private InProcessRedisServer(ServerSocket serverSocket) {
+        this.serverSocket = serverSocket;
+        this.connectionExecutor = Executors.newCachedThreadPool(runnable -> {
+            Thread thread = new Thread(runnable, "in-process-redis");
+            thread.setDaemon(true);
+            return thread;
+        });
+        connectionExecutor.execute(this::acceptLoop);
+    }
+
+    public static InProcessRedisServer start() throws IOException {
+        return new InProcessRedisServer(new ServerSocket(0, 128, InetAddress.getLoopbackAddress()));
+    }
+
+    public int getPort() {
+        return serverSocket.getLocalPort();
+    }
+
+    public String getHost() {
+        return serverSocket.getInetAddress().getHostAddress();
+    }
+
+    @Override
+    public void close() throws IOException {
+        running = false;
+        serverSocket.close();
+        connectionExecutor.shutdownNow();
+    }
+
+    private void acceptLoop() {
+        while (running) {
+            try {
+                Socket socket = serverSocket.accept();
+                socket.setTcpNoDelay(true);
+                connectionExecutor.execute(() -> serve(socket));
+            } catch (IOException e) {
+                if (running) {
+                    throw new UncheckedIOException(e);
+                }
+            }
+        }
+    }
+
+    private void serve(Socket socket) {
+        try (socket;
+             InputStream in = new BufferedInputStream(socket.getInputStream());
+             OutputStream out = new BufferedOutputStream(socket.getOutputStream())) {
+            List<String> command;
+            while ((command = readCommand(in)) != null) {
+                out.write(execute(command).getBytes(StandardCharsets.UTF_8));
+                // 파이프라이닝된 명령은 모아서 한 번에 내보낸다.
+                if (in.available() == 0) {
+                    out.flush();
+                }
+            }
+        } catch (IOException e) {
+            // 클라이언트 연결 종료
+        }
+    }
+
+    private String execute(List<String> command) {
+        if (command.isEmpty()) {
+            return error("empty command");
+        }
+
+        String name = command.get(0).toUpperCase(Locale.ROOT);
+        return switch (name) {
+            case "PING" -> "+PONG\r\n";
+            case "CLIENT", "SELECT", "AUTH" -> "+OK\r\n";
+            case "FLUSHALL", "FLUSHDB" -> {
+                store.clear();
+                yield "+OK\r\n";
+            }
+            case "GET" -> get(command.get(1));
+            case "SET" -> set(command);
+            case "SETNX" -> integer(setIfAbsent(command.get(1), command.get(2), 0) ? 1 : 0);
+            case "DEL" -> integer(command.subList(1, command.size()).stream()
+                    .filter(key -> live(key) != null && store.remove(key) != null)
+                    .count());
+            case "EXISTS" -> integer(command.subList(1, command.size()).stream()
+                    .filter(key -> live(key) != null)
+                    .count());
+            case "PEXPIRE" -> expire(command.get(1), Long.parseLong(command.get(2)));
+            case "EXPIRE" -> expire(command.get(1), Long.parseLong(command.get(2)) * 1000);
+            case "INCR" -> increment(command.get(1));
+            case "PUBLISH" -> integer(0);
+            case "XADD" -> bulk(System.currentTimeMillis() + "-" + streamSequence.incrementAndGet());
+            default -> error("unknown command '" + command.get(0) + "'");
+        };
+    }
+
+    private String get(String key) {
+        Entry entry = live(key);
+        return entry == null ? "$-1\r\n" : bulk(entry.value());
+    }
+
+    private String set(List<String> command) {
+        String key = command.get(1);
+        String value = command.get(2);
+        boolean ifAbsent = false;
+        long ttlMillis = 0;
+
+        for (int i = 3; i < command.size(); i++) {
+            String option = command.get(i).toUpperCase(Locale.ROOT);
+            switch (option) {
+                case "NX" -> ifAbsent = true;
+                case "PX" -> ttlMillis = Long.parseLong(command.get(++i));
+                case "EX" -> ttlMillis = Long.parseLong(command.get(++i)) * 1000;
+                default -> {
+                    return error("unsupported SET option '" + option + "'");
+                }
+            }
+        }
+
+        if (ifAbsent) {
+            return setIfAbsent(key, value, ttlMillis) ? "+OK\r\n" : "$-1\r\n";
+        }
+
+        store.put(key, new Entry(value, expiresAt(ttlMillis)));
+        return "+OK\r\n";
+    }
+
+    private boolean setIfAbsent(String key, String value, long ttlMillis) {
+        Entry created = new Entry(value, expiresAt(ttlMillis));
+        Entry result = store.compute(key, (k, existing) ->
+                existing == null || existing.isExpired() ? created : existing);
+        return result == created;
+    }
+
+    private String expire(String key, long ttlMillis) {
+        Entry updated = store.computeIfPresent(key, (k, existing) ->
+                existing.isExpired() ? null : new Entry(existing.value(), expiresAt(ttlMillis)));
+        return integer(updated == null ? 0 : 1);
+    }
+
+    private String increment(String key) {
+        try {
+            Entry updated = store.compute(key, (k, existing) -> existing == null || existing.isExpired()
+                    ? new Entry("1", 0)
+                    : new Entry(String.valueOf(Long.parseLong(existing.value()) + 1), existing.expiresAt()));
+            return integer(Long.parseLong(updated.value()));
+        } catch (NumberFormatException e) {
+            return error("value is not an integer or out of range");
+        }
+    }
+
+    private Entry live(String key) {
+        Entry entry = store.get(key);
+        if (entry != null && entry.isExpired()) {
+            store.remove(key, entry);
+            return null;
+        }
+        return entry;
+    }
+
+    private static long expiresAt(long ttlMillis) {
+        return ttlMillis > 0 ? System.currentTimeMillis() + ttlMillis : 0;
+    }
+
+    private static List<String> readCommand(InputStream in) throws IOException {
+        String header = readLine(in);
+        if (header == null) {
+            return null;
+        }
+
+        if (header.charAt(0) != '*') {
+            return List.of(header.trim().split("\\s+"));
+        }
+
+        int count = Integer.parseInt(header.substring(1));
+        List<String> arguments = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            int length = Integer.parseInt(readLine(in).substring(1));
+            byte[] bytes = in.readNBytes(length);
+            in.readNBytes(2);
+            arguments.add(new String(bytes, StandardCharsets.UTF_8));
+        }
+        return arguments;
+    }
+
+    private static String readLine(InputStream in) throws IOException {
+        StringBuilder line = new StringBuilder();
+        int b;
+        while ((b = in.read()) != -1) {
+            if (b == '\r') {
+                in.read();
+                return line.toString();
+            }
+            line.append((char) b);
+        }
+        return line.isEmpty() ? null : line.toString();
+    }
+
+    private static String bulk(String value) {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        return "$" + bytes.length + "\r\n" + value + "\r\n";
+    }
+
+    private static String integer(long value) {
+        return ":" + value + "\r\n";
+    }
+
+    private static String error(String message) {
+        return "-ERR " + message + "\r\n";
+    }
+
+    private record Entry(String value, long expiresAt) {
+        private boolean isExpired() {
+            return expiresAt != 0 && expiresAt <= System.currentTimeMillis();
+        }
+    }
+}